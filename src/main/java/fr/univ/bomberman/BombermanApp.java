@@ -4,6 +4,8 @@ import fr.univ.bomberman.controller.GameModeController;
 import fr.univ.bomberman.controller.MenuController;
 import fr.univ.bomberman.model.*;
 import fr.univ.bomberman.view.GameRenderer;
+import fr.univ.bomberman.view.HudModel;
+import fr.univ.bomberman.view.ThemeLibrary;
 import fr.univ.bomberman.exceptions.BombermanException;
 import fr.univ.bomberman.utils.ProfileManager;
 
@@ -35,11 +37,15 @@ public class BombermanApp extends Application {
     private GameRenderer renderer;
     private Canvas canvas;
     private Text statusText;
+    private HudModel hud; // ✅ NOUVEAU: Texte de statut mis à jour seulement quand il change
     private long lastUpdateTime = 0;
     private static final long UPDATE_INTERVAL = 1_000_000_000; // 1 seconde en nanosecondes
     private AnimationTimer gameTimer;
     private long lastMoveTime = 0;
     private static final long MOVE_DELAY = 150_000_000;
+    // ✅ NOUVEAU: Taille maximale du canvas ; au-delà, la caméra ne montre qu'une partie du plateau
+    private static final int MAX_CANVAS_WIDTH = 1280;
+    private static final int MAX_CANVAS_HEIGHT = 720;
     private Set<KeyCode> pressedKeys = new HashSet<>();
     private ProfileManager profileManager = ProfileManager.getInstance();
     private PlayerProfile currentProfile; // Profil actuel sélectionné
@@ -55,6 +61,9 @@ public class BombermanApp extends Application {
     public void start(Stage primaryStage) {
         this.primaryStage = primaryStage;
 
+        // ✅ NOUVEAU: Décoder les thèmes en arrière-plan pendant que le menu s'affiche
+        ThemeLibrary.getInstance().preloadAll();
+
         // Démarrer avec le menu principal
         showMenu();
     }
@@ -245,9 +254,7 @@ public class BombermanApp extends Application {
             game = new Game(selectedLevelPath);
 
             // Créer le canvas
-            int canvasWidth = game.getBoard().getCols() * 40;
-            int canvasHeight = game.getBoard().getRows() * 40;
-            canvas = new Canvas(canvasWidth, canvasHeight);
+            canvas = createGameCanvas(game.getBoard());
 
             // Créer le renderer
             renderer = new GameRenderer(canvas);
@@ -266,13 +273,15 @@ public class BombermanApp extends Application {
 
             // Créer le texte de statut avec les noms personnalisés
             statusText = new Text("🎮 " + player1Name + " (ZQSD + ESPACE) VS " + player2Name + " (↑↓←→ + ENTRÉE) | T: Thème, ESC: Menu");
+            hud = new HudModel(GameMode.REAL_TIME);
+            hud.setListener(statusText::setText);
 
             // Layout
             VBox root = new VBox(10);
             root.getChildren().addAll(canvas, statusText);
 
             // Scène
-            Scene scene = new Scene(root, canvasWidth, canvasHeight + 120);
+            Scene scene = new Scene(root, canvas.getWidth(), canvas.getHeight() + 120);
 
             // Gestion des touches pressées et relâchées
             scene.setOnKeyPressed(event -> {
@@ -309,7 +318,7 @@ public class BombermanApp extends Application {
                     }
 
                     renderer.render(game);
-                    updateStatusTextWithNames(player1Name, player2Name);
+                    hud.update(game);
                 }
             };
             gameTimer.start();
@@ -329,59 +338,6 @@ public class BombermanApp extends Application {
         }
     }
 
-    /**
-     * Met à jour le texte de statut avec les noms des joueurs et l'état du jeu.
-     * @param player1Name nom du premier joueur
-     * @param player2Name nom du deuxième joueur
-     */
-    private void updateStatusTextWithNames(String player1Name, String player2Name) {
-        if (statusText == null) return;
-
-        if (game.isGameOver()) {
-            Player winner = game.getWinner();
-            if (winner != null) {
-                statusText.setText("🏆 " + winner.getName() + " A GAGNÉ ! Appuyez sur R pour rejouer, ESC pour le menu.");
-            } else {
-                statusText.setText("💥 ÉGALITÉ ! Tous éliminés ! Appuyez sur R pour rejouer, ESC pour le menu.");
-            }
-        } else {
-            int activeBombs = game.getActiveBombs().size();
-            int activeExplosions = game.getActiveExplosions().size();
-
-            // Afficher les statuts des joueurs avec cooldowns
-            java.util.List<Player> players = game.getPlayers();
-            StringBuilder statusBuilder = new StringBuilder();
-
-            if (!players.isEmpty()) {
-                Player p1 = players.get(0);
-                statusBuilder.append("🔵 ").append(p1.getName());
-                if (p1.isOnBombCooldown()) {
-                    long remaining = p1.getRemainingCooldown();
-                    statusBuilder.append(" ⏱️").append(String.format("%.1f", remaining / 1000.0)).append("s");
-                } else {
-                    statusBuilder.append(" ✅");
-                }
-            }
-
-            if (players.size() > 1) {
-                Player p2 = players.get(1);
-                statusBuilder.append(" VS 🟢 ").append(p2.getName());
-                if (p2.isOnBombCooldown()) {
-                    long remaining = p2.getRemainingCooldown();
-                    statusBuilder.append(" ⏱️").append(String.format("%.1f", remaining / 1000.0)).append("s");
-                } else {
-                    statusBuilder.append(" ✅");
-                }
-            }
-
-            statusText.setText(statusBuilder.toString() +
-                    " | 💣:" + activeBombs +
-                    " | 💥:" + activeExplosions +
-                    "\n💨 EXPLOSIONS: 1.5s puis disparition ! VOS BOMBES VOUS TUENT !" +
-                    "\nJ1: ZQSD+ESPACE | J2: ↑↓←→+ENTRÉE | T: Thème | R: Restart");
-        }
-    }
-
     /**
      * Gère les événements de touche pressée pendant le jeu.
      * @param keyCode le code de la touche pressée
@@ -406,6 +362,9 @@ public class BombermanApp extends Application {
             }
             return;
         }
+        if (handleOverlayKeys(keyCode)) { // ✅ NOUVEAU: F3, F4 et M dans tous les modes
+            return;
+        }
         switch (keyCode) {
             case SPACE:
                 try {
@@ -479,6 +438,68 @@ public class BombermanApp extends Application {
         alert.showAndWait();
     }
 
+    /**
+     * ✅ NOUVEAU: Crée le canvas d'une partie : 40 pixels par case, sans dépasser la taille maximale
+     * (la caméra fait défiler les plateaux plus grands), avec les contrôles de la caméra.
+     * @param board le plateau de la partie
+     * @return le canvas du jeu
+     */
+    private Canvas createGameCanvas(Board board) {
+        int canvasWidth = Math.min(board.getCols() * 40, MAX_CANVAS_WIDTH);
+        int canvasHeight = Math.min(board.getRows() * 40, MAX_CANVAS_HEIGHT);
+        Canvas gameCanvas = new Canvas(canvasWidth, canvasHeight);
+        installCameraControls(gameCanvas);
+        return gameCanvas;
+    }
+
+    /**
+     * ✅ NOUVEAU: Touches d'affichage communes à tous les modes de jeu.
+     * @param keyCode le code de la touche pressée
+     * @return true si la touche a été traitée
+     */
+    private boolean handleOverlayKeys(KeyCode keyCode) {
+        if (renderer == null) {
+            return false;
+        }
+        switch (keyCode) {
+            case F3: // Calque de performances
+                renderer.togglePerformanceOverlay();
+                return true;
+            case F4: // Mode de caméra (suivi, écran partagé, libre)
+                renderer.cycleCameraMode();
+                return true;
+            case M: // Minicarte
+                renderer.toggleMinimap();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * ✅ NOUVEAU: Molette pour zoomer, glisser-déposer pour déplacer la caméra libre.
+     * @param canvas le canvas du jeu
+     */
+    private void installCameraControls(Canvas canvas) {
+        final double[] lastDrag = new double[2];
+        canvas.setOnScroll(event -> {
+            if (renderer != null && event.getDeltaY() != 0) {
+                renderer.zoomCamera(event.getDeltaY() > 0 ? 1.1 : 1 / 1.1);
+            }
+        });
+        canvas.setOnMousePressed(event -> {
+            lastDrag[0] = event.getX();
+            lastDrag[1] = event.getY();
+        });
+        canvas.setOnMouseDragged(event -> {
+            if (renderer != null) {
+                renderer.panCamera(lastDrag[0] - event.getX(), lastDrag[1] - event.getY());
+            }
+            lastDrag[0] = event.getX();
+            lastDrag[1] = event.getY();
+        });
+    }
+
     /**
      * Affiche un retour visuel pour le cooldown des bombes.
      * @param playerIndex index du joueur concerné
@@ -529,22 +550,22 @@ public class BombermanApp extends Application {
             game = new Game(playerNames, selectedLevelPath);
 
             // Créer le canvas
-            int canvasWidth = game.getBoard().getCols() * 40;
-            int canvasHeight = game.getBoard().getRows() * 40;
-            canvas = new Canvas(canvasWidth, canvasHeight);
+            canvas = createGameCanvas(game.getBoard());
 
             // Créer le renderer
             renderer = new GameRenderer(canvas);
 
             // Texte de statut pour 4 joueurs
             statusText = new Text("🎮 BATAILLE ROYALE 4 JOUEURS - MOUVEMENT DISCRET ! 🎮");
+            hud = new HudModel(GameMode.BATTLE_ROYALE);
+            hud.setListener(statusText::setText);
 
             // Layout
             VBox root = new VBox(10);
             root.getChildren().addAll(canvas, statusText);
 
             // Scène
-            Scene scene = new Scene(root, canvasWidth, canvasHeight + 140);
+            Scene scene = new Scene(root, canvas.getWidth(), canvas.getHeight() + 140);
 
             // MODIFIÉ: Gestion simple des touches pressées (pas de mouvement continu)
             scene.setOnKeyPressed(event -> {
@@ -575,7 +596,7 @@ public class BombermanApp extends Application {
 
                     // Redessiner à chaque frame
                     renderer.render(game);
-                    updateStatusTextFourPlayers();
+                    hud.update(game);
                 }
             };
             gameTimer.start();
@@ -612,6 +633,9 @@ public class BombermanApp extends Application {
             return;
         }
 
+        if (handleOverlayKeys(keyCode)) { // ✅ NOUVEAU: F3, F4 et M dans tous les modes
+            return;
+        }
         try {
             switch (keyCode) {
                 // JOUEUR 1 - ZQSD (mouvement) + A (bombe)
@@ -733,52 +757,6 @@ public class BombermanApp extends Application {
         renderer.render(game);
     }
 
-    /**
-     * Met à jour le texte de statut pour le mode 4 joueurs.
-     */
-    private void updateStatusTextFourPlayers() {
-        if (statusText == null) return;
-
-        if (game.isGameOver()) {
-            Player winner = game.getWinner();
-            if (winner != null) {
-                statusText.setText("👑 " + winner.getName() + " REMPORTE LA BATAILLE ROYALE ! 👑 | R: Nouvelle bataille | ESC: Menu");
-            } else {
-                statusText.setText("💥 TOUS ÉLIMINÉS - AUCUN SURVIVANT ! 💥 | R: Nouvelle bataille | ESC: Menu");
-            }
-        } else {
-            int activeBombs = game.getActiveBombs().size();
-            int aliveCount = game.getAlivePlayerCount();
-
-            // Construire le statut avec cooldowns
-            StringBuilder playersStatus = new StringBuilder();
-            java.util.List<Player> players = game.getPlayers();
-            String[] emojis = {"🔴", "🔵", "🟡", "🟢"};
-
-            for (int i = 0; i < players.size(); i++) {
-                Player p = players.get(i);
-                if (i > 0) playersStatus.append(" ");
-
-                playersStatus.append(emojis[i]).append(p.getName());
-
-                if (p.isEliminated()) {
-                    playersStatus.append("💀");
-                } else if (p.isOnBombCooldown()) {
-                    long remaining = p.getRemainingCooldown();
-                    playersStatus.append("⏱️").append(String.format("%.1f", remaining / 1000.0)).append("s");
-                } else {
-                    playersStatus.append("✅");
-                }
-            }
-
-            statusText.setText("⚔️ BATAILLE EXPRESS: " + playersStatus.toString() +
-                    " | 💣:" + activeBombs +
-                    " | 👥:" + aliveCount + " survivants" +
-                    "\n💨 Explosions: 1.5s total ! Cooldown: 10s" +
-                    "\nR:Restart T:Thème");
-        }
-    }
-
     /**
      * Démarre une partie contre un bot.
      * @param playerName nom du joueur humain
@@ -801,9 +779,7 @@ public class BombermanApp extends Application {
             game = new Game(playerName, botDifficulty, selectedLevelPath);
 
             // Créer le canvas
-            int canvasWidth = game.getBoard().getCols() * 40;
-            int canvasHeight = game.getBoard().getRows() * 40;
-            canvas = new Canvas(canvasWidth, canvasHeight);
+            canvas = createGameCanvas(game.getBoard());
 
             // Créer le renderer
             renderer = new GameRenderer(canvas);
@@ -816,13 +792,15 @@ public class BombermanApp extends Application {
 
             // Créer le texte de statut
             statusText = new Text("🤖 " + humanName + " VS " + botName + " | ZQSD + ESPACE pour jouer | ESC: Menu");
+            hud = new HudModel(GameMode.BOT_GAME);
+            hud.setListener(statusText::setText);
 
             // Layout
             VBox root = new VBox(10);
             root.getChildren().addAll(canvas, statusText);
 
             // Scène
-            Scene scene = new Scene(root, canvasWidth, canvasHeight + 120);
+            Scene scene = new Scene(root, canvas.getWidth(), canvas.getHeight() + 120);
 
             // Gestion des touches (seulement pour le joueur humain)
             scene.setOnKeyPressed(event -> {
@@ -858,11 +836,14 @@ public class BombermanApp extends Application {
                         } catch (BombermanException e) {
                             showError("Erreur lors de la mise à jour", e.getMessage());
                         }
+                    } else {
+                        // ✅ NOUVEAU: Entre deux tours, les bots experts réfléchissent par tranches
+                        game.planBots();
                     }
 
                     // Redessiner à chaque frame
                     renderer.render(game);
-                    updateStatusTextBotMode();
+                    hud.update(game);
                 }
             };
             gameTimer.start();
@@ -903,6 +884,9 @@ public class BombermanApp extends Application {
             return;
         }
 
+        if (handleOverlayKeys(keyCode)) { // ✅ NOUVEAU: F3, F4 et M dans tous les modes
+            return;
+        }
         switch (keyCode) {
             case SPACE:
                 try {
@@ -982,74 +966,6 @@ public class BombermanApp extends Application {
         }
     }
 
-    /**
-     * Met à jour le texte de statut pour le mode bot.
-     */
-    private void updateStatusTextBotMode() {
-        if (statusText == null) return;
-
-        if (game.isGameOver()) {
-            Player winner = game.getWinner();
-            if (winner != null) {
-                if (winner instanceof BotPlayer) {
-                    statusText.setText("🤖 " + winner.getName() + " A GAGNÉ ! L'IA vous a battu ! R: Revanche | ESC: Menu");
-                } else {
-                    statusText.setText("🏆 " + winner.getName() + " A GAGNÉ ! Vous avez battu l'IA ! R: Rejouer | ESC: Menu");
-                }
-            } else {
-                statusText.setText("💥 ÉGALITÉ ! R: Rejouer | ESC: Menu");
-            }
-        } else {
-            int activeBombs = game.getActiveBombs().size();
-            int activeExplosions = game.getActiveExplosions().size();
-
-            Player human = game.getHumanPlayer();
-            BotPlayer bot = game.getBot();
-
-            StringBuilder statusBuilder = new StringBuilder();
-
-            if (human != null) {
-                statusBuilder.append("👤 ").append(human.getName());
-                if (human.isOnBombCooldown()) {
-                    long remaining = human.getRemainingCooldown();
-                    statusBuilder.append(" ⏱️").append(String.format("%.1f", remaining / 1000.0)).append("s");
-                } else {
-                    statusBuilder.append(" ✅");
-                }
-            }
-
-            if (bot != null) {
-                statusBuilder.append(" VS 🤖 ").append(bot.getName());
-                if (bot.isOnBombCooldown()) {
-                    long remaining = bot.getRemainingCooldown();
-                    statusBuilder.append(" ⏱️").append(String.format("%.1f", remaining / 1000.0)).append("s");
-                } else {
-                    statusBuilder.append(" ✅");
-                }
-            }
-
-            statusText.setText(statusBuilder.toString() +
-                    " | 💣:" + activeBombs +
-                    " | 💥:" + activeExplosions +
-                    "\n🤖 IA " + (bot != null ? getBotDifficultyText(bot.getDifficulty()) : "") +
-                    " | Vous: ZQSD+ESPACE | T: Thème | R: Restart");
-        }
-    }
-
-    /**
-     * Retourne le texte descriptif de la difficulté du bot.
-     * @param difficulty niveau de difficulté du bot
-     * @return une chaîne de caractères décrivant la difficulté
-     */
-    private String getBotDifficultyText(int difficulty) {
-        switch (difficulty) {
-            case 1: return "Facile 😊";
-            case 2: return "Moyen 😐";
-            case 3: return "Difficile 😈";
-            default: return "Moyen 😐";
-        }
-    }
-
     /**
      * Redémarre une partie à quatre joueurs avec les mêmes joueurs.
      */
@@ -1092,22 +1008,22 @@ public class BombermanApp extends Application {
             game = new Game(playerNames, GameMode.CAPTURE_THE_FLAG, selectedLevelPath);
 
             // Créer le canvas
-            int canvasWidth = game.getBoard().getCols() * 40;
-            int canvasHeight = game.getBoard().getRows() * 40;
-            canvas = new Canvas(canvasWidth, canvasHeight);
+            canvas = createGameCanvas(game.getBoard());
 
             // Créer le renderer
             renderer = new GameRenderer(canvas);
 
             // Texte de statut pour CTF
             statusText = new Text("🏁 CAPTURE THE FLAG - Phase de placement des drapeaux");
+            hud = new HudModel(GameMode.CAPTURE_THE_FLAG);
+            hud.setListener(statusText::setText);
 
             // Layout
             VBox root = new VBox(10);
             root.getChildren().addAll(canvas, statusText);
 
             // Scène
-            Scene scene = new Scene(root, canvasWidth, canvasHeight + 140);
+            Scene scene = new Scene(root, canvas.getWidth(), canvas.getHeight() + 140);
 
             // Gestion des touches pour CTF
             scene.setOnKeyPressed(event -> {
@@ -1138,7 +1054,7 @@ public class BombermanApp extends Application {
 
                     // Redessiner à chaque frame
                     renderer.render(game);
-                    updateStatusTextCTF();
+                    hud.update(game);
                 }
             };
             gameTimer.start();
@@ -1208,13 +1124,13 @@ public class BombermanApp extends Application {
                                 // Vérifier si tous les drapeaux sont placés
                                 if (!game.isInFlagSetupPhase()) {
                                     System.out.println("🎮 Tous les drapeaux placés ! Le jeu CTF commence !");
-                                    updateStatusTextCTF(); // Mettre à jour l'interface
+                                    hud.update(game); // Mettre à jour l'interface
                                 }
                             }
                         } catch (BombermanException e) {
                             System.out.println("❌ Impossible de placer le drapeau : " + e.getMessage());
                             // Afficher un message à l'utilisateur
-                            updateStatusTextCTF();
+                            hud.update(game);
                         }
                         break;
 
@@ -1256,6 +1172,10 @@ public class BombermanApp extends Application {
             return;
         }
 
+        if (handleOverlayKeys(keyCode)) { // ✅ NOUVEAU: F3, F4 et M dans tous les modes
+            return;
+        }
+
         // Gestion normale du jeu CTF (après placement des drapeaux)
         try {
             switch (keyCode) {
@@ -1384,80 +1304,6 @@ public class BombermanApp extends Application {
         renderer.render(game);
     }
 
-    /**
-     * Met à jour le texte de statut pour le mode CTF.
-     */
-    private void updateStatusTextCTF() {
-        if (statusText == null) return;
-
-        // Phase de placement des drapeaux
-        if (game.isInFlagSetupPhase()) {
-            Player currentPlayerSettingFlag = game.getCurrentPlayerSettingFlag();
-            if (currentPlayerSettingFlag != null) {
-                statusText.setText("🏁 PLACEMENT DES DRAPEAUX - " +
-                        currentPlayerSettingFlag.getName() +
-                        " : Déplacez-vous avec ZQSD/Flèches puis ESPACE/ENTRÉE pour placer votre drapeau");
-            } else {
-                statusText.setText("🏁 CAPTURE THE FLAG - Phase de placement des drapeaux");
-            }
-            return;
-        }
-
-        // Jeu terminé
-        if (game.isGameOver()) {
-            Player winner = game.getWinner();
-            if (winner != null) {
-                statusText.setText("🏆 " + winner.getName() + " REMPORTE LE CTF ! R: Nouvelle partie | ESC: Menu");
-            } else {
-                statusText.setText("💥 MATCH NUL CTF ! R: Nouvelle partie | ESC: Menu");
-            }
-            return;
-        }
-
-        // Jeu en cours
-        int activeBombs = game.getActiveBombs().size();
-        int activeFlags = 0;
-
-        // Compter les drapeaux en jeu
-        for (Flag flag : game.getFlags()) {
-            if (flag.isBeingCarried()) {
-                activeFlags++;
-            }
-        }
-
-        // Afficher le statut des joueurs avec leurs drapeaux capturés
-        StringBuilder playersStatus = new StringBuilder();
-        java.util.List<Player> players = game.getPlayers();
-        String[] emojis = {"🔴", "🔵", "🟡", "🟢"};
-
-        for (int i = 0; i < players.size(); i++) {
-            Player p = players.get(i);
-            if (i > 0) playersStatus.append(" ");
-
-            playersStatus.append(emojis[i]).append(p.getName());
-
-            if (p.isEliminated()) {
-                playersStatus.append("💀");
-            } else if (p.isOnBombCooldown()) {
-                long remaining = p.getRemainingCooldown();
-                playersStatus.append("⏱️").append(String.format("%.1f", remaining / 1000.0)).append("s");
-            } else {
-                playersStatus.append("✅");
-            }
-
-            // Afficher le nombre de drapeaux capturés
-            if (p.getCapturedFlagsCount() > 0) {
-                playersStatus.append("🏁").append(p.getCapturedFlagsCount());
-            }
-        }
-
-        statusText.setText("🏁 CAPTURE THE FLAG: " + playersStatus.toString() +
-                " | 💣:" + activeBombs +
-                " | 🏁 portés:" + activeFlags +
-                "\n🎯 Objectif: Capturez TOUS les drapeaux adverses pour gagner !" +
-                "\n💀 Joueurs éliminés peuvent encore bombarder | R:Restart T:Thème");
-    }
-
     /**
      * Estime le nombre de bombes posées par un joueur.
      * @param player le joueur concerné
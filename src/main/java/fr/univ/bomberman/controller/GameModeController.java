@@ -2,6 +2,7 @@
 package fr.univ.bomberman.controller;
 
 import fr.univ.bomberman.BombermanApp;
+import fr.univ.bomberman.model.BotPlayer;
 import fr.univ.bomberman.model.PlayerProfile;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -308,9 +309,10 @@ public class GameModeController {
             ButtonType easyButton = new ButtonType("😊 Facile - IA Débutante");
             ButtonType mediumButton = new ButtonType("😐 Moyen - IA Équilibrée");
             ButtonType hardButton = new ButtonType("😈 Difficile - IA Redoutable");
+            ButtonType expertButton = new ButtonType("🧠 Expert - IA Stratège");
             ButtonType cancelButton = new ButtonType("Annuler");
 
-            botAlert.getButtonTypes().setAll(easyButton, mediumButton, hardButton, cancelButton);
+            botAlert.getButtonTypes().setAll(easyButton, mediumButton, hardButton, expertButton, cancelButton);
 
             Optional<ButtonType> result = botAlert.showAndWait();
             if (!result.isPresent()) return;
@@ -327,6 +329,9 @@ public class GameModeController {
             } else if (result.get() == hardButton) {
                 difficulty = 3;
                 difficultyName = "Difficile";
+            } else if (result.get() == expertButton) {
+                difficulty = BotPlayer.DIFFICULTY_EXPERT;
+                difficultyName = "Expert";
             } else {
                 return; // Annulé
             }
@@ -396,6 +401,13 @@ public class GameModeController {
                         "• Réagit rapidement aux menaces\n" +
                         "• Défie même les experts !";
 
+            case 4:
+                return "🧠 IA Stratège:\n" +
+                        "• Simule des centaines de parties à chaque coup\n" +
+                        "• Anticipe les explosions et vos fuites\n" +
+                        "• Prépare des pièges sur plusieurs tours\n" +
+                        "• Pour les joueurs confirmés uniquement !";
+
             default:
                 return "IA de difficulté standard";
         }
@@ -192,16 +192,9 @@ public class MenuController {
             if (profiles.size() > 1) {
                 message.append("🏆 CLASSEMENT PAR TAUX DE VICTOIRE:\n");
 
-                // Charger et trier les profils par taux de victoire
-                profiles.stream()
-                        .map(name -> {
-                            try {
-                                return profileManager.loadProfile(name);
-                            } catch (BombermanException e) {
-                                return null;
-                            }
-                        })
-                        .filter(profile -> profile != null && profile.getTotalGamesPlayed() > 0)
+                // ✅ MODIFIÉ: Trier les résumés de l'index par taux de victoire, sans charger les profils
+                profileManager.listProfileSummaries().stream()
+                        .filter(profile -> profile.getGamesPlayed() > 0)
                         .sorted((p1, p2) -> Double.compare(p2.getWinRatio(), p1.getWinRatio()))
                         .limit(3)
                         .forEach(profile -> {
@@ -209,9 +202,9 @@ public class MenuController {
                             if (message.toString().contains("🥇")) rank = "🥈";
                             if (message.toString().contains("🥈")) rank = "🥉";
 
-                            message.append(rank).append(" ").append(profile.getPlayerName())
+                            message.append(rank).append(" ").append(profile.getName())
                                     .append(" - ").append(String.format("%.1f%%", profile.getWinRatio()))
-                                    .append(" (").append(profile.getTotalGamesPlayed()).append(" parties)\n");
+                                    .append(" (").append(profile.getGamesPlayed()).append(" parties)\n");
                         });
             }
 
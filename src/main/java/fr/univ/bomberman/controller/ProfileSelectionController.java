@@ -17,7 +17,6 @@ import javafx.stage.Modality;
 import javafx.stage.Stage;
 
 import java.io.File;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -75,6 +74,18 @@ public class ProfileSelectionController {
             this.lastPlay = profile.getFormattedLastPlayDate();
         }
 
+        /**
+         * ✅ NOUVEAU: Ligne construite depuis l'index ; le profil complet n'est chargé qu'à la demande
+         */
+        public ProfileData(ProfileManager.ProfileSummary summary) {
+            this.name = summary.getName();
+            this.rank = summary.getRank().getDisplayName();
+            this.gamesPlayed = summary.getGamesPlayed();
+            this.winRate = String.format("%.1f%%", summary.getWinRatio());
+            this.creationDate = summary.getFormattedCreationDate();
+            this.lastPlay = summary.getFormattedLastPlayDate();
+        }
+
         // Getters pour JavaFX
         public String getName() {
             return name;
@@ -101,6 +112,14 @@ public class ProfileSelectionController {
         }
 
         public PlayerProfile getPlayerProfile() {
+            if (playerProfile == null) {
+                try {
+                    playerProfile = ProfileManager.getInstance().loadProfile(name);
+                } catch (BombermanException e) {
+                    System.err.println("Erreur lors du chargement du profil " + name + ": " + e.getMessage());
+                    playerProfile = new PlayerProfile(name);
+                }
+            }
             return playerProfile;
         }
     }
@@ -169,16 +188,10 @@ public class ProfileSelectionController {
      */
     private void loadProfiles() {
         try {
-            List<String> profileNames = profileManager.listProfiles();
+            // ✅ MODIFIÉ: Une seule lecture de l'index au lieu d'un fichier par profil
             ObservableList<ProfileData> profileItems = FXCollections.observableArrayList();
-
-            for (String profileName : profileNames) {
-                try {
-                    PlayerProfile profile = profileManager.loadProfile(profileName);
-                    profileItems.add(new ProfileData(profile));
-                } catch (BombermanException e) {
-                    System.err.println("Erreur lors du chargement du profil " + profileName + ": " + e.getMessage());
-                }
+            for (ProfileManager.ProfileSummary summary : profileManager.listProfileSummaries()) {
+                profileItems.add(new ProfileData(summary));
             }
 
             profilesTable.setItems(profileItems);
@@ -0,0 +1,24 @@
+package fr.univ.bomberman.model;
+
+/**
+ * ✅ NOUVEAU: Bot capable de réfléchir par petites tranches entre deux coups.
+ *
+ * Le {@link BotPlanningScheduler} appelle {@link #think(Game, long)} à chaque tour (et à chaque
+ * image quand l'affichage le permet) ; la meilleure action trouvée jusque-là est toujours prête,
+ * si bien que {@link BotPlayer#decideAction(Game)} n'a plus qu'à la lire au moment de jouer.
+ */
+public interface AnytimePlanner {
+
+    /**
+     * Affine le plan sur l'état courant de la partie pendant au plus la durée indiquée.
+     * La partie ne doit pas être modifiée.
+     * @param game la partie
+     * @param sliceNanos durée de réflexion accordée, en nanosecondes
+     */
+    void think(Game game, long sliceNanos);
+
+    /**
+     * @return vrai si le planificateur a encore besoin de temps (faux une fois éliminé)
+     */
+    boolean wantsToThink();
+}
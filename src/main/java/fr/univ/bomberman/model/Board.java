@@ -6,6 +6,7 @@ import fr.univ.bomberman.utils.JsonUtils;
 
 import java.io.IOException;
 import java.util.Random;
+import java.util.function.IntConsumer;
 
 import org.json.JSONObject;
 
@@ -22,6 +23,10 @@ public class Board {
     private int rows;
     private Cell[][] cells;
     private String levelPath; // Chemin du fichier de niveau
+    private int revision; // Incrémenté à chaque modification effective d'une cellule
+    private long zobristHash; // ✅ NOUVEAU: Hash Zobrist des types de cases, tenu à jour par setCellType
+    private BrickIndex brickIndex; // ✅ NOUVEAU: Index des briques restantes, tenu à jour par setCellType
+    private final CellChangeLog changeLog = new CellChangeLog(); // ✅ NOUVEAU: Dernières cases modifiées
 
     /**
      * Crée un plateau de dimensions spécifiées et génère aléatoirement les briques destructibles.
@@ -49,13 +54,32 @@ public class Board {
             JSONObject levelData = JsonUtils.readLevelFile(levelPath);
             this.cols = levelData.getInt("width");
             this.rows = levelData.getInt("height");
-            this.cells = new Cell[rows][cols];
-            initializeBoard();
+            this.cells = JsonUtils.parseLevelGrid(levelData); // ✅ MODIFIÉ: Fichier lu et analysé une seule fois
+            indexCells();
         } catch (IOException e) {
             throw new BombermanException("Impossible de charger le niveau: " + e.getMessage());
         }
     }
 
+    /**
+     * ✅ NOUVEAU: Crée une copie d'un plateau déjà chargé (mêmes dimensions, mêmes cases, même niveau).
+     * Un tournoi charge ainsi son niveau une seule fois, puis en donne une copie à chaque partie.
+     *
+     * @param level plateau à copier, qui n'est pas modifié
+     */
+    public Board(Board level) {
+        this.cols = level.cols;
+        this.rows = level.rows;
+        this.levelPath = level.levelPath;
+        this.cells = new Cell[rows][cols];
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                cells[y][x] = new Cell(new Position(x, y), level.cells[y][x].getType());
+            }
+        }
+        indexCells();
+    }
+
     /**
      * Initialise le plateau en chargeant le niveau depuis le fichier JSON.
      * Si le chargement échoue, un plateau par défaut est généré.
@@ -73,6 +97,15 @@ public class Board {
             System.err.println("Erreur lors du chargement du niveau, utilisation du niveau par défaut: " + e.getMessage());
             initializeDefaultBoard();
         }
+        indexCells();
+    }
+
+    /**
+     * ✅ NOUVEAU: Calcule le hash Zobrist et l'index des briques d'une grille qui vient d'être remplie.
+     */
+    private void indexCells() {
+        this.zobristHash = computeZobristHash();
+        this.brickIndex = BrickIndex.of(this);
     }
 
     /**
@@ -145,7 +178,105 @@ public class Board {
         if (!isWithinBounds(pos)) {
             throw new BombermanException("Position hors plateau : " + pos);
         }
-        cells[pos.getY()][pos.getX()].setType(type);
+        Cell cell = cells[pos.getY()][pos.getX()];
+        if (cell.getType() != type) {
+            int index = pos.getY() * cols + pos.getX();
+            zobristHash ^= Zobrist.cell(index, cell.getType()) ^ Zobrist.cell(index, type);
+            if (cell.getType() == CellType.DESTRUCTIBLE_BRICK || type == CellType.DESTRUCTIBLE_BRICK) {
+                brickIndex.set(pos.getX(), pos.getY(), type == CellType.DESTRUCTIBLE_BRICK);
+            }
+            cell.setType(type);
+            revision++;
+            changeLog.record(index);
+        }
+    }
+
+    /**
+     * ✅ NOUVEAU: Retourne le hash Zobrist des types de cases, mis à jour à chaque modification.
+     *
+     * @return le hash courant du plateau
+     */
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    /**
+     * ✅ NOUVEAU: Retourne l'index des briques destructibles restantes.
+     *
+     * @return l'index des briques, toujours synchronisé avec les cases
+     */
+    public BrickIndex getBrickIndex() {
+        return brickIndex;
+    }
+
+    /**
+     * ✅ NOUVEAU: Journal des dernières cases modifiées, pour les mises à jour incrémentales
+     * (champs de flux des bots).
+     *
+     * @return le journal des modifications
+     */
+    CellChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    /**
+     * ✅ NOUVEAU: Numéro de séquence de la prochaine modification de case, à mémoriser par un
+     * lecteur qui tient sa propre copie des cases ({@link FrameState}) avant d'appeler {@link #forEachChangeSince}.
+     *
+     * @return le nombre de modifications enregistrées depuis la création du plateau
+     */
+    public long getChangeSequence() {
+        return changeLog.getCount();
+    }
+
+    /**
+     * ✅ NOUVEAU: Rejoue les cases modifiées par {@link #setCellType} depuis un numéro de séquence.
+     *
+     * @param since numéro de séquence mémorisé par le lecteur
+     * @param action reçoit l'index de chaque case modifiée (y * colonnes + x), dans l'ordre
+     * @return false si le journal ne remonte plus jusque-là : le lecteur doit alors tout relire
+     */
+    public boolean forEachChangeSince(long since, IntConsumer action) {
+        return changeLog.forEachSince(since, action);
+    }
+
+    /**
+     * Recalcule le hash Zobrist à partir de toutes les cases.
+     * Sert à l'initialisation et aux vérifications de cohérence (debug).
+     *
+     * @return le hash recalculé
+     */
+    long computeZobristHash() {
+        long hash = 0L;
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                hash ^= Zobrist.cell(y * cols + x, cells[y][x].getType());
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Retourne le numéro de révision du plateau.
+     * Il change à chaque fois que le type d'une cellule est modifié, ce qui permet
+     * aux caches (chemins des bots, etc.) de savoir s'ils sont encore valides.
+     *
+     * @return la révision courante du plateau
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Récupère le type d'une cellule sans créer de Position ni lever d'exception.
+     * Réservé aux boucles chaudes (pathfinding) qui ont déjà vérifié les bornes.
+     *
+     * @param x colonne
+     * @param y ligne
+     * @return le type de la cellule
+     */
+    CellType getCellTypeAt(int x, int y) {
+        return cells[y][x].getType();
     }
 
     /**
@@ -157,6 +288,15 @@ public class Board {
         return cols;
     }
 
+    /**
+     * ✅ NOUVEAU: Récupère le chemin du fichier de niveau dont vient le plateau.
+     *
+     * @return Le chemin du niveau
+     */
+    public String getLevelPath() {
+        return levelPath;
+    }
+
     /**
      * Récupère le nombre de lignes du plateau.
      *
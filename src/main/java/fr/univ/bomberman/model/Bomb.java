@@ -50,6 +50,14 @@ public class Bomb {
         return position;
     }
 
+    /**
+     * ✅ NOUVEAU: Retourne le joueur qui a posé la bombe
+     * @return le propriétaire de la bombe
+     */
+    public Player getOwner() {
+        return owner;
+    }
+
     /**
      * Décrémente le timer de la bombe et marque comme explosée si timer atteint 0.
      */
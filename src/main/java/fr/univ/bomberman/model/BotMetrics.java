@@ -0,0 +1,125 @@
+package fr.univ.bomberman.model;
+
+import fr.univ.bomberman.utils.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ✅ NOUVEAU: Mesures des décisions des bots : latence de {@code decideAction} par difficulté
+ * et par branche de décision, et nombre de fois où chaque {@link BotAction} a été choisie.
+ *
+ * Désactivé par défaut : {@link Game} ne crée une instance qu'avec {@link Game#enableBotMetrics()}
+ * ou la propriété système {@code -Dbomberman.botMetrics=true}. Sans instance, le coût se limite
+ * à un test de nullité par décision. Les mesures sont affichées en fin de partie.
+ */
+public class BotMetrics {
+
+    /**
+     * Branche de {@code decideAction} qui a produit l'action.
+     */
+    public enum Branch {
+        THROTTLED,  // Délai entre deux actions pas encore écoulé
+        ESCAPE,     // Fuite d'une zone d'explosion
+        ATTACK,     // Attaque agressive (bombe ou placement de piège)
+        HUNT,       // Poursuite du joueur
+        FALLBACK,   // Comportement par défaut (briques, exploration)
+        SEARCH      // Recherche MCTS du bot expert
+    }
+
+    private static final boolean ENABLED_BY_DEFAULT = Boolean.getBoolean("bomberman.botMetrics");
+    private static final Branch[] BRANCHES = Branch.values();
+    private static final BotAction[] ACTIONS = BotAction.values();
+    private static final int LEVELS = BotPlayer.DIFFICULTY_EXPERT + 1; // index = difficulté
+
+    private final LatencyHistogram[] latencyByDifficulty = new LatencyHistogram[LEVELS];
+    private final LatencyHistogram[][] latencyByBranch = new LatencyHistogram[LEVELS][BRANCHES.length];
+    private final AtomicLongArray actionCounts = new AtomicLongArray(LEVELS * ACTIONS.length);
+
+    public BotMetrics() {
+        for (int level = 0; level < LEVELS; level++) {
+            latencyByDifficulty[level] = new LatencyHistogram();
+            for (int branch = 0; branch < BRANCHES.length; branch++) {
+                latencyByBranch[level][branch] = new LatencyHistogram();
+            }
+        }
+    }
+
+    /**
+     * @return true si les parties doivent mesurer leurs bots dès leur création
+     */
+    public static boolean isEnabledByDefault() {
+        return ENABLED_BY_DEFAULT;
+    }
+
+    /**
+     * Enregistre une décision. Peut être appelée par plusieurs threads (phase de décision parallèle).
+     * @param difficulty difficulté du bot
+     * @param branch branche de décision empruntée
+     * @param action action choisie
+     * @param nanos durée de la décision en nanosecondes
+     */
+    public void record(int difficulty, Branch branch, BotAction action, long nanos) {
+        int level = clampLevel(difficulty);
+        latencyByDifficulty[level].record(nanos);
+        latencyByBranch[level][branch.ordinal()].record(nanos);
+        actionCounts.incrementAndGet(level * ACTIONS.length + (action != null ? action : BotAction.NONE).ordinal());
+    }
+
+    public LatencyHistogram getLatency(int difficulty) {
+        return latencyByDifficulty[clampLevel(difficulty)];
+    }
+
+    public LatencyHistogram getLatency(int difficulty, Branch branch) {
+        return latencyByBranch[clampLevel(difficulty)][branch.ordinal()];
+    }
+
+    public long getActionCount(int difficulty, BotAction action) {
+        return actionCounts.get(clampLevel(difficulty) * ACTIONS.length + action.ordinal());
+    }
+
+    /**
+     * Remet toutes les mesures à zéro.
+     */
+    public void reset() {
+        for (int level = 0; level < LEVELS; level++) {
+            latencyByDifficulty[level].reset();
+            for (LatencyHistogram histogram : latencyByBranch[level]) {
+                histogram.reset();
+            }
+        }
+        for (int i = 0; i < actionCounts.length(); i++) {
+            actionCounts.set(i, 0);
+        }
+    }
+
+    /**
+     * Affiche les mesures des difficultés qui ont joué.
+     * @param out flux de sortie
+     */
+    public void dump(PrintStream out) {
+        out.println("📊 Mesures des décisions des bots");
+        for (int level = 1; level < LEVELS; level++) {
+            LatencyHistogram total = latencyByDifficulty[level];
+            if (total.getTotalCount() == 0) {
+                continue;
+            }
+            out.println("  🤖 Difficulté " + level + " : " + total.summary());
+            for (Branch branch : BRANCHES) {
+                LatencyHistogram histogram = latencyByBranch[level][branch.ordinal()];
+                if (histogram.getTotalCount() > 0) {
+                    out.println(String.format("     %-9s %s", branch, histogram.summary()));
+                }
+            }
+            StringBuilder actions = new StringBuilder("     Actions :");
+            for (BotAction action : ACTIONS) {
+                actions.append(' ').append(action).append('=').append(getActionCount(level, action));
+            }
+            out.println(actions);
+        }
+    }
+
+    private static int clampLevel(int difficulty) {
+        return Math.max(0, Math.min(LEVELS - 1, difficulty));
+    }
+}
@@ -0,0 +1,112 @@
+package fr.univ.bomberman.model;
+
+/**
+ * ✅ NOUVEAU: Répartit un budget de réflexion global entre les bots planificateurs.
+ *
+ * À chaque appel de {@link #runSlice(Game, AnytimePlanner[], int)}, le budget est partagé à parts
+ * égales entre les bots qui veulent réfléchir : chacun reçoit le temps restant divisé par le nombre
+ * de bots qui n'ont pas encore joué, si bien que le temps laissé par un bot rapide profite aux suivants.
+ * Le premier servi change à chaque appel pour qu'aucun bot ne soit systématiquement avantagé ;
+ * si des bots n'ont rien reçu parce que les précédents ont débordé, le premier d'entre eux ouvre l'appel suivant.
+ *
+ * Le coût d'un tour reste ainsi borné par le budget quel que soit le nombre de bots experts.
+ */
+public class BotPlanningScheduler {
+
+    /** Budget de réflexion par défaut pour l'ensemble des bots, par tour ou par image (4 ms) */
+    public static final long DEFAULT_BUDGET_NANOS = 4_000_000L;
+    /** En dessous de cette durée, une tranche ne vaut pas le coût de synchronisation avec la partie */
+    private static final long MIN_SLICE_NANOS = 50_000L;
+
+    private long budgetNanos;
+    private int nextFirst;
+    private long lastSpentNanos;
+    private long totalSpentNanos;
+    private long sliceCount;
+
+    public BotPlanningScheduler() {
+        this(DEFAULT_BUDGET_NANOS);
+    }
+
+    /**
+     * @param budgetNanos budget de réflexion partagé par appel, en nanosecondes
+     */
+    public BotPlanningScheduler(long budgetNanos) {
+        setBudgetNanos(budgetNanos);
+    }
+
+    /**
+     * Fait réfléchir les planificateurs à tour de rôle dans la limite du budget.
+     * @param game la partie (non modifiée)
+     * @param planners les planificateurs candidats
+     * @param count nombre de cases utilisées dans le tableau
+     * @return le temps effectivement consommé, en nanosecondes
+     */
+    public long runSlice(Game game, AnytimePlanner[] planners, int count) {
+        long start = System.nanoTime();
+        if (count <= 0 || budgetNanos <= 0) {
+            lastSpentNanos = 0;
+            return 0;
+        }
+
+        int waiting = 0;
+        for (int i = 0; i < count; i++) {
+            if (planners[i].wantsToThink()) {
+                waiting++;
+            }
+        }
+
+        int first = nextFirst % count;
+        int starved = -1;
+        long deadline = start + budgetNanos;
+        for (int k = 0; k < count && waiting > 0; k++) {
+            int index = (first + k) % count;
+            AnytimePlanner planner = planners[index];
+            if (!planner.wantsToThink()) {
+                continue;
+            }
+            long slice = (deadline - System.nanoTime()) / waiting;
+            waiting--;
+            if (slice >= MIN_SLICE_NANOS) {
+                planner.think(game, slice);
+                sliceCount++;
+            } else if (starved < 0) {
+                starved = index;
+            }
+        }
+        nextFirst = starved >= 0 ? starved : first + 1;
+
+        lastSpentNanos = System.nanoTime() - start;
+        totalSpentNanos += lastSpentNanos;
+        return lastSpentNanos;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    public void setBudgetNanos(long budgetNanos) {
+        this.budgetNanos = Math.max(0, budgetNanos);
+    }
+
+    /**
+     * @return le temps consommé lors du dernier appel, en nanosecondes
+     */
+    public long getLastSpentNanos() {
+        return lastSpentNanos;
+    }
+
+    /**
+     * @return le temps de réflexion cumulé depuis le début de la partie, en nanosecondes
+     */
+    public long getTotalSpentNanos() {
+        return totalSpentNanos;
+    }
+
+    /**
+     * @return le nombre de tranches de réflexion accordées depuis le début de la partie
+     */
+    public long getSliceCount() {
+        return sliceCount;
+    }
+}
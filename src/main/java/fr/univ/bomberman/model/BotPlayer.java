@@ -10,12 +10,21 @@ import java.util.Random;
  * Le bot poursuit activement le joueur pour l'éliminer tout en évitant ses propres bombes
  */
 public class BotPlayer extends Player {
+    /** ✅ NOUVEAU: Niveau « Expert » au-delà de Difficile, joué par {@link MctsBotPlayer} */
+    public static final int DIFFICULTY_EXPERT = 4;
+
     private Random random;
     private long lastMoveTime = 0;
     private long lastBombTime = 0;
     private long botMoveDelay; // Vitesse adaptée selon la difficulté
     private static final long BOT_BOMB_COOLDOWN = 1000; // Cooldown très réduit pour plus d'agressivité
+    private static final int BOMB_LEAD_TICKS = 2; // ✅ NOUVEAU: Anticipation du joueur avant l'explosion
+    private static final double MIN_LEAD_CONFIDENCE = 0.5; // ✅ NOUVEAU: Fiabilité minimale de la prédiction
     private int difficulty; // 1=Facile, 2=Moyen, 3=Difficile
+    private final BotSettings settings; // ✅ NOUVEAU: Vitesse, agressivité et distances de chasse
+    private BotMetrics.Branch lastDecisionBranch = BotMetrics.Branch.THROTTLED; // ✅ NOUVEAU: Pour les mesures
+    private int playerIndex = -1; // ✅ NOUVEAU: Index dans la liste des joueurs de la partie (-1 : hors partie)
+    private int nearestPlayerIndex = -1; // ✅ NOUVEAU: Index de la cible trouvée par findNearestPlayer
 
     // NOUVEAU: Variables pour le comportement agressif
     private Position lastPlayerPosition;
@@ -23,6 +32,9 @@ public class BotPlayer extends Player {
     private long lastPlayerSeen = 0;
     private boolean playerInRange = false;
 
+    // ✅ NOUVEAU: Recherche de chemin A* (instance propre au bot, réutilisée à chaque décision)
+    private final PathFinder pathFinder = new PathFinder();
+
     /**
      * Constructeur d'un bot avec un nom, une position et un niveau de difficulté.
      * @param name le nom du bot
@@ -30,27 +42,38 @@ public class BotPlayer extends Player {
      * @param difficulty le niveau de difficulté (1-3)
      */
     public BotPlayer(String name, Position position, int difficulty) {
+        this(name, position, BotSettings.forDifficulty(difficulty));
+    }
+
+    /**
+     * ✅ NOUVEAU: Constructeur d'un bot à partir de paramètres de comportement détaillés.
+     * @param name le nom du bot
+     * @param position la position initiale sur le plateau
+     * @param settings les paramètres du bot (niveau, vitesse, agressivité, chasse)
+     */
+    public BotPlayer(String name, Position position, BotSettings settings) {
         super(name, position);
         this.random = new Random();
-        this.difficulty = Math.max(1, Math.min(3, difficulty));
+        this.settings = settings;
+        this.difficulty = Math.max(1, Math.min(3, settings.getDifficulty()));
 
         // ✅ NOUVEAU: Vitesse adaptée selon la difficulté
         // Vitesse humaine de référence dans BombermanApp: 150ms (MOVE_DELAY)
+        this.botMoveDelay = settings.getMoveDelayMs();
+    }
+
+    /**
+     * ✅ NOUVEAU: Présentation du bot, affichée par la partie qui l'accueille (sauf partie silencieuse).
+     * @return le nom du bot et sa vitesse
+     */
+    String getIntroduction() {
         switch (this.difficulty) {
             case 1: // FACILE - Même vitesse que le joueur
-                this.botMoveDelay = 150; // Identique au joueur humain
-                System.out.println("🐢 Bot " + name + " - Vitesse FACILE (même que le joueur)");
-                break;
+                return "🐢 Bot " + getName() + " - Vitesse FACILE (" + botMoveDelay + " ms)";
             case 2: // MOYEN - 25% plus rapide
-                this.botMoveDelay = 120; // 25% plus rapide
-                System.out.println("🏃 Bot " + name + " - Vitesse MOYENNE (+25% plus rapide)");
-                break;
-            case 3: // DIFFICILE - 50% plus rapide
-                this.botMoveDelay = 100; // 50% plus rapide
-                System.out.println("⚡ Bot " + name + " - Vitesse DIFFICILE (+50% plus rapide)");
-                break;
-            default:
-                this.botMoveDelay = 150;
+                return "🏃 Bot " + getName() + " - Vitesse MOYENNE (" + botMoveDelay + " ms)";
+            default: // DIFFICILE - 50% plus rapide
+                return "⚡ Bot " + getName() + " - Vitesse DIFFICILE (" + botMoveDelay + " ms)";
         }
     }
 
@@ -64,18 +87,20 @@ public class BotPlayer extends Player {
             return BotAction.NONE;
         }
 
-        long currentTime = System.currentTimeMillis();
+        long currentTime = getClock().currentTimeMillis();
 
         // Limiter la fréquence selon la difficulté
         if (currentTime - lastMoveTime < botMoveDelay) {
+            lastDecisionBranch = BotMetrics.Branch.THROTTLED;
             return BotAction.NONE;
         }
 
         // 1. PRIORITÉ ABSOLUE: Fuir TOUTES les explosions mortelles
         BotAction escapeAction = tryEscapeFromDanger(game);
+        lastDecisionBranch = BotMetrics.Branch.ESCAPE;
         if (escapeAction != BotAction.NONE) {
             lastMoveTime = currentTime;
-            System.out.println("🏃‍♂️ " + getName() + " fuit le danger !");
+            game.log("🏃‍♂️ " + getName() + " fuit le danger !");
             return escapeAction;
         }
 
@@ -84,25 +109,28 @@ public class BotPlayer extends Player {
 
         // 3. NOUVEAU: Attaque agressive si le joueur est proche
         BotAction aggressiveAction = tryAggressiveAttack(game, currentTime);
+        lastDecisionBranch = BotMetrics.Branch.ATTACK;
         if (aggressiveAction != BotAction.NONE) {
             lastMoveTime = currentTime;
             if (aggressiveAction == BotAction.PLACE_BOMB) {
                 lastBombTime = currentTime;
-                System.out.println("💀 " + getName() + " attaque agressivement !");
+                game.log("💀 " + getName() + " attaque agressivement !");
             }
             return aggressiveAction;
         }
 
         // 4. NOUVEAU: Poursuite active du joueur
         BotAction huntAction = tryHuntPlayer(game);
+        lastDecisionBranch = BotMetrics.Branch.HUNT;
         if (huntAction != BotAction.NONE) {
             lastMoveTime = currentTime;
-            System.out.println("👻 " + getName() + " poursuit le joueur !");
+            game.log("👻 " + getName() + " poursuit le joueur !");
             return huntAction;
         }
 
         // 5. Fallback: Comportement standard mais orienté destruction
         BotAction standardAction = findAggressiveMove(game);
+        lastDecisionBranch = BotMetrics.Branch.FALLBACK;
         if (standardAction != BotAction.NONE) {
             lastMoveTime = currentTime;
         }
@@ -121,17 +149,17 @@ public class BotPlayer extends Player {
 
         // Mettre à jour la dernière position connue du joueur
         lastPlayerPosition = playerPos;
-        lastPlayerSeen = System.currentTimeMillis();
+        lastPlayerSeen = getClock().currentTimeMillis();
 
         // Déterminer le mode de chasse selon la distance et la difficulté
-        if (distance <= 2) {
+        if (distance <= settings.getTrapDistance()) {
             huntingMode = 2; // Mode piégeage - très agressif
             playerInRange = true;
-            System.out.println("🎯 " + getName() + " en mode PIÉGEAGE !");
-        } else if (distance <= 5) {
+            game.log("🎯 " + getName() + " en mode PIÉGEAGE !");
+        } else if (distance <= settings.getPursuitDistance()) {
             huntingMode = 1; // Mode poursuite active
             playerInRange = true;
-            System.out.println("👀 " + getName() + " en mode POURSUITE !");
+            game.log("👀 " + getName() + " en mode POURSUITE !");
         } else {
             huntingMode = 0; // Mode recherche
             playerInRange = false;
@@ -152,20 +180,32 @@ public class BotPlayer extends Player {
         if (canPlaceBomb() && currentTime - lastBombTime >= BOT_BOMB_COOLDOWN) {
             // Vérifier s'il y a des briques qui bloquent le chemin direct vers le joueur
             if (shouldBombToReachPlayer(myPos, playerPos, game)) {
-                System.out.println("💥 " + getName() + " détruit les obstacles pour atteindre le joueur !");
+                game.log("💥 " + getName() + " détruit les obstacles pour atteindre le joueur !");
                 return BotAction.PLACE_BOMB;
             }
 
             // STRATÉGIE 2: Piéger le joueur s'il est à portée directe
             if (distance <= 2 && canEscapeFromOwnBomb(myPos, game) && willTrapPlayer(myPos, playerPos, game)) {
-                System.out.println("💣 " + getName() + " piège le joueur à distance " + distance + " !");
+                game.log("💣 " + getName() + " piège le joueur à distance " + distance + " !");
                 return BotAction.PLACE_BOMB;
             }
 
+            // ✅ NOUVEAU: STRATÉGIE 2b (difficile) : viser la case où le joueur sera quand la bombe explosera
+            if (difficulty >= 3 && nearestPlayerIndex >= 0 && canEscapeFromOwnBomb(myPos, game)) {
+                MovementHistory history = game.getMovementHistory();
+                Position leadPos = history.predictPosition(nearestPlayerIndex, BOMB_LEAD_TICKS, game.getBoard());
+                if (leadPos != null && !leadPos.equals(playerPos)
+                        && history.getConfidence(nearestPlayerIndex) >= MIN_LEAD_CONFIDENCE
+                        && willTrapPlayer(myPos, leadPos, game)) {
+                    game.log("🔮 " + getName() + " anticipe le joueur et pose sa bombe !");
+                    return BotAction.PLACE_BOMB;
+                }
+            }
+
             // STRATÉGIE 3: Bombardement agressif si le joueur est proche (selon difficulté)
             if (distance <= 3 && shouldBombAggressively(distance)) {
                 if (canEscapeFromOwnBomb(myPos, game)) {
-                    System.out.println("🔥 " + getName() + " bombarde agressivement !");
+                    game.log("🔥 " + getName() + " bombarde agressivement !");
                     return BotAction.PLACE_BOMB;
                 }
             }
@@ -186,7 +226,7 @@ public class BotPlayer extends Player {
     private boolean shouldBombToReachPlayer(Position myPos, Position playerPos, Game game) {
         // ✅ PRIORITÉ 1: Vérifier qu'on peut survivre à notre propre bombe
         if (!canEscapeFromOwnBomb(myPos, game)) {
-            System.out.println("🚫 " + getName() + " : cul-de-sac détecté, pas de bombe !");
+            game.log("🚫 " + getName() + " : cul-de-sac détecté, pas de bombe !");
             return false;
         }
 
@@ -199,7 +239,7 @@ public class BotPlayer extends Player {
 
             // Vérifier si on peut détruire cette brique avec notre bombe
             if (isInExplosionRange(myPos, nearestBrick)) {
-                System.out.println("🧱 " + getName() + " va détruire une brique qui bloque le chemin vers le joueur !");
+                game.log("🧱 " + getName() + " va détruire une brique qui bloque le chemin vers le joueur !");
                 return true;
             }
 
@@ -283,19 +323,8 @@ public class BotPlayer extends Player {
      * ✅ NOUVELLE MÉTHODE: Détermine si on doit bombarder agressivement selon la difficulté
      */
     private boolean shouldBombAggressively(int distanceToPlayer) {
-        int aggressiveness = 0;
-
-        switch (difficulty) {
-            case 1: // Facile - 30% de chance
-                aggressiveness = 30;
-                break;
-            case 2: // Moyen - 60% de chance
-                aggressiveness = 60;
-                break;
-            case 3: // Difficile - 85% de chance
-                aggressiveness = 85;
-                break;
-        }
+        // Facile 30%, Moyen 60%, Difficile 85% (voir BotSettings)
+        int aggressiveness = settings.getAggressiveness();
 
         // Plus le joueur est proche, plus on veut bombarder
         if (distanceToPlayer <= 1) {
@@ -319,7 +348,7 @@ public class BotPlayer extends Player {
         int playerEscapeRoutes = countEscapeRoutes(playerPos, explosionZones, game);
 
         // Plus la difficulté est élevée, plus on accepte des pièges risqués
-        int maxEscapeRoutes = (difficulty == 1) ? 2 : (difficulty == 2) ? 1 : 0;
+        int maxEscapeRoutes = settings.getMaxTrapEscapeRoutes();
         return playerEscapeRoutes <= maxEscapeRoutes;
     }
 
@@ -425,6 +454,26 @@ public class BotPlayer extends Player {
     private BotAction findDirectPathToPlayer(Game game, Position playerPos) {
         Position myPos = getPosition();
 
+        // ✅ NOUVEAU: Lire le champ de flux de la cible, partagé avec les autres bots qui la chassent
+        if (nearestPlayerIndex >= 0) {
+            BotAction flowMove = game.getFlowFields().nextAction(nearestPlayerIndex, myPos.getX(), myPos.getY());
+            if (flowMove != BotAction.NONE) {
+                Position newPos = getNewPosition(myPos, flowMove);
+                if (isSafePosition(newPos, game) && evaluateDangerLevel(newPos, game) <= 1) {
+                    return flowMove;
+                }
+            }
+        }
+
+        // ✅ NOUVEAU: Suivre le chemin A* qui contourne les murs au lieu de rester bloqué derrière
+        BotAction pathMove = pathFinder.nextAction(game, myPos, playerPos);
+        if (pathMove != BotAction.NONE && !pathFinder.isFirstStepBrick()) {
+            Position newPos = getNewPosition(myPos, pathMove);
+            if (isSafePosition(newPos, game) && evaluateDangerLevel(newPos, game) <= 1) {
+                return pathMove;
+            }
+        }
+
         int dx = playerPos.getX() - myPos.getX();
         int dy = playerPos.getY() - myPos.getY();
 
@@ -490,19 +539,25 @@ public class BotPlayer extends Player {
      * ✅ NOUVELLE MÉTHODE: Mouvement prédictif pour anticiper le joueur
      */
     private BotAction findPredictiveMove(Game game, Position playerPos) {
-        if (lastPlayerPosition == null) {
-            return BotAction.NONE;
-        }
+        // ✅ NOUVEAU: Prédiction par l'historique du joueur (table de Markov), sinon extrapolation simple
+        Position predictedPos = nearestPlayerIndex >= 0
+                ? game.getMovementHistory().predictPosition(nearestPlayerIndex, 1, game.getBoard())
+                : null;
+        if (predictedPos == null) {
+            if (lastPlayerPosition == null) {
+                return BotAction.NONE;
+            }
 
-        // Calculer la direction probable du joueur
-        int playerDx = playerPos.getX() - lastPlayerPosition.getX();
-        int playerDy = playerPos.getY() - lastPlayerPosition.getY();
+            // Calculer la direction probable du joueur
+            int playerDx = playerPos.getX() - lastPlayerPosition.getX();
+            int playerDy = playerPos.getY() - lastPlayerPosition.getY();
 
-        // Prédire la prochaine position du joueur
-        Position predictedPos = new Position(
-                playerPos.getX() + playerDx,
-                playerPos.getY() + playerDy
-        );
+            // Prédire la prochaine position du joueur
+            predictedPos = new Position(
+                    playerPos.getX() + playerDx,
+                    playerPos.getY() + playerDy
+            );
+        }
 
         // Essayer de se diriger vers la position prédite
         Position myPos = getPosition();
@@ -520,7 +575,7 @@ public class BotPlayer extends Player {
         if (predictiveMove != null) {
             Position newPos = getNewPosition(myPos, predictiveMove);
             if (isSafePosition(newPos, game) && evaluateDangerLevel(newPos, game) <= 2) {
-                System.out.println("🔮 " + getName() + " anticipe le mouvement du joueur !");
+                game.log("🔮 " + getName() + " anticipe le mouvement du joueur !");
                 return predictiveMove;
             }
         }
@@ -536,11 +591,11 @@ public class BotPlayer extends Player {
         Position playerPos = findNearestPlayer(game);
 
         // NOUVELLE PRIORITÉ: Si on peut poser une bombe pour aider la progression, le faire !
-        if (canPlaceBomb() && System.currentTimeMillis() - lastBombTime >= BOT_BOMB_COOLDOWN) {
+        if (canPlaceBomb() && getClock().currentTimeMillis() - lastBombTime >= BOT_BOMB_COOLDOWN) {
             // Vérifier si on a des briques à proximité qui nous empêchent de progresser
             if (playerPos != null && shouldBombToReachPlayer(myPos, playerPos, game)) {
                 if (canEscapeFromOwnBomb(myPos, game)) {
-                    System.out.println("🧨 " + getName() + " pose une bombe pour progresser vers le joueur !");
+                    game.log("🧨 " + getName() + " pose une bombe pour progresser vers le joueur !");
                     return BotAction.PLACE_BOMB;
                 }
             }
@@ -548,7 +603,7 @@ public class BotPlayer extends Player {
             // Sinon, bombarder s'il y a des briques autour selon la difficulté
             if (hasBricksAroundPosition(myPos, game) && random.nextInt(100) < (difficulty * 25)) {
                 if (canEscapeFromOwnBomb(myPos, game)) {
-                    System.out.println("💥 " + getName() + " détruit des obstacles !");
+                    game.log("💥 " + getName() + " détruit des obstacles !");
                     return BotAction.PLACE_BOMB;
                 }
             }
@@ -770,7 +825,7 @@ public class BotPlayer extends Player {
                 }
             }
 
-            for (Player player : game.getPlayers()) {
+            for (Player player : game.getPlayersView()) {
                 if (player != this && !player.isEliminated() && player.getPosition().equals(pos)) {
                     return false;
                 }
@@ -820,43 +875,29 @@ public class BotPlayer extends Player {
     }
 
     private Position findNearestBrick(Game game) {
+        // ✅ NOUVEAU: Requête sur l'index des briques au lieu d'un parcours complet du plateau
         Position myPos = getPosition();
-        Position nearest = null;
-        double minDistance = Double.MAX_VALUE;
-
-        for (int y = 0; y < game.getBoard().getRows(); y++) {
-            for (int x = 0; x < game.getBoard().getCols(); x++) {
-                try {
-                    Position pos = new Position(x, y);
-                    Cell cell = game.getBoard().getCell(pos);
-                    if (cell.getType() == CellType.DESTRUCTIBLE_BRICK) {
-                        double distance = Math.abs(x - myPos.getX()) + Math.abs(y - myPos.getY());
-                        if (distance < minDistance) {
-                            minDistance = distance;
-                            nearest = pos;
-                        }
-                    }
-                } catch (Exception e) {
-                    // Ignorer
-                }
-            }
-        }
-        return nearest;
+        return game.getBoard().getBrickIndex().findNearest(myPos.getX(), myPos.getY());
     }
 
     private Position findNearestPlayer(Game game) {
         Position myPos = getPosition();
         Position nearest = null;
         double minDistance = Double.MAX_VALUE;
+        nearestPlayerIndex = -1;
 
-        for (Player player : game.getPlayers()) {
-            if (!player.isEliminated() && player != this) {
+        // ✅ NOUVEAU: Parcours par index, sans copie de la liste, en ignorant les coéquipiers
+        List<Player> players = game.getPlayersView();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (!player.isEliminated() && player != this && !isTeammate(game, i)) {
                 Position playerPos = player.getPosition();
                 double distance = Math.abs(playerPos.getX() - myPos.getX()) +
                         Math.abs(playerPos.getY() - myPos.getY());
                 if (distance < minDistance) {
                     minDistance = distance;
                     nearest = playerPos;
+                    nearestPlayerIndex = i;
                 }
             }
         }
@@ -865,9 +906,48 @@ public class BotPlayer extends Player {
 
     /**
      * Retourne le niveau de difficulté du bot.
-     * @return le niveau de difficulté (1-3)
+     * @return le niveau de difficulté (1-3, ou {@link #DIFFICULTY_EXPERT} pour le bot MCTS)
      */
     public int getDifficulty() {
         return difficulty;
     }
+
+    /**
+     * ✅ NOUVEAU: Fixe la graine des choix aléatoires du bot, pour rejouer une partie à l'identique.
+     * @param seed graine du générateur
+     */
+    void setRandomSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * ✅ NOUVEAU: Branche de décision empruntée par le dernier appel à {@link #decideAction(Game)}.
+     * @return la dernière branche de décision
+     */
+    BotMetrics.Branch getLastDecisionBranch() {
+        return lastDecisionBranch;
+    }
+
+    void setLastDecisionBranch(BotMetrics.Branch branch) {
+        this.lastDecisionBranch = branch;
+    }
+
+    /**
+     * ✅ NOUVEAU: Enregistre l'index du bot dans la liste des joueurs (fait par la partie).
+     */
+    void setPlayerIndex(int playerIndex) {
+        this.playerIndex = playerIndex;
+    }
+
+    private boolean isTeammate(Game game, int otherIndex) {
+        return playerIndex >= 0 && game.getTeam(otherIndex) == game.getTeam(playerIndex);
+    }
+
+    /**
+     * ✅ NOUVEAU: Retourne les paramètres de comportement du bot.
+     * @return les paramètres du bot
+     */
+    public BotSettings getSettings() {
+        return settings;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package fr.univ.bomberman.model;
+
+/**
+ * ✅ NOUVEAU: Paramètres de comportement d'un {@link BotPlayer}.
+ *
+ * Les trois niveaux du jeu sont obtenus par {@link #forDifficulty(int)} ; les tournois de bots
+ * peuvent en dériver des variantes (vitesse, agressivité, distances de chasse) pour régler
+ * la courbe de difficulté. Les instances sont immuables.
+ */
+public final class BotSettings {
+
+    private final String label;
+    private final int difficulty;
+    private final long moveDelayMs;
+    private final int aggressiveness;
+    private final int maxTrapEscapeRoutes;
+    private final int trapDistance;
+    private final int pursuitDistance;
+
+    /**
+     * @param label nom de la configuration (rapports de tournoi)
+     * @param difficulty niveau de base (1-3, ou {@link BotPlayer#DIFFICULTY_EXPERT} pour la recherche MCTS)
+     * @param moveDelayMs délai minimal entre deux actions, en millisecondes
+     * @param aggressiveness probabilité (en %) de bombarder quand le joueur est à 3 cases ou moins
+     * @param maxTrapEscapeRoutes nombre de fuites laissées à la cible au-delà duquel on ne tente pas de piège
+     * @param trapDistance distance en dessous de laquelle le bot passe en mode piégeage
+     * @param pursuitDistance distance en dessous de laquelle le bot passe en mode poursuite
+     */
+    public BotSettings(String label, int difficulty, long moveDelayMs, int aggressiveness,
+                       int maxTrapEscapeRoutes, int trapDistance, int pursuitDistance) {
+        this.label = label;
+        this.difficulty = difficulty;
+        this.moveDelayMs = moveDelayMs;
+        this.aggressiveness = aggressiveness;
+        this.maxTrapEscapeRoutes = maxTrapEscapeRoutes;
+        this.trapDistance = trapDistance;
+        this.pursuitDistance = pursuitDistance;
+    }
+
+    /**
+     * Paramètres des niveaux standards du jeu.
+     * @param difficulty le niveau (1-3, ramené dans cet intervalle)
+     * @return les paramètres correspondants
+     */
+    public static BotSettings forDifficulty(int difficulty) {
+        switch (Math.max(1, Math.min(3, difficulty))) {
+            case 1:  return new BotSettings("Facile", 1, 150, 30, 2, 2, 5);
+            case 2:  return new BotSettings("Moyen", 2, 120, 60, 1, 2, 5);
+            default: return new BotSettings("Difficile", 3, 100, 85, 0, 2, 5);
+        }
+    }
+
+    /**
+     * Paramètres du bot expert (recherche MCTS, heuristiques du niveau difficile en secours).
+     * @return les paramètres du niveau expert
+     */
+    public static BotSettings expert() {
+        BotSettings hard = forDifficulty(3);
+        return new BotSettings("Expert", BotPlayer.DIFFICULTY_EXPERT, hard.moveDelayMs, hard.aggressiveness,
+                hard.maxTrapEscapeRoutes, hard.trapDistance, hard.pursuitDistance);
+    }
+
+    /**
+     * Copie avec un autre nom et une autre vitesse.
+     */
+    public BotSettings withMoveDelay(String newLabel, long newMoveDelayMs) {
+        return new BotSettings(newLabel, difficulty, newMoveDelayMs, aggressiveness,
+                maxTrapEscapeRoutes, trapDistance, pursuitDistance);
+    }
+
+    /**
+     * Copie avec un autre nom et une autre agressivité.
+     */
+    public BotSettings withAggressiveness(String newLabel, int newAggressiveness, int newMaxTrapEscapeRoutes) {
+        return new BotSettings(newLabel, difficulty, moveDelayMs, newAggressiveness,
+                newMaxTrapEscapeRoutes, trapDistance, pursuitDistance);
+    }
+
+    /**
+     * Copie avec un autre nom et d'autres distances de chasse.
+     */
+    public BotSettings withHunting(String newLabel, int newTrapDistance, int newPursuitDistance) {
+        return new BotSettings(newLabel, difficulty, moveDelayMs, aggressiveness,
+                maxTrapEscapeRoutes, newTrapDistance, newPursuitDistance);
+    }
+
+    /**
+     * Crée le bot correspondant à ces paramètres.
+     * @param name nom du bot
+     * @param position position de départ
+     * @return un {@link MctsBotPlayer} pour le niveau expert, un {@link BotPlayer} sinon
+     */
+    public BotPlayer createBot(String name, Position position) {
+        return difficulty >= BotPlayer.DIFFICULTY_EXPERT
+                ? new MctsBotPlayer(name, position)
+                : new BotPlayer(name, position, this);
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    public long getMoveDelayMs() {
+        return moveDelayMs;
+    }
+
+    public int getAggressiveness() {
+        return aggressiveness;
+    }
+
+    public int getMaxTrapEscapeRoutes() {
+        return maxTrapEscapeRoutes;
+    }
+
+    public int getTrapDistance() {
+        return trapDistance;
+    }
+
+    public int getPursuitDistance() {
+        return pursuitDistance;
+    }
+
+    @Override
+    public String toString() {
+        return label + " (niveau " + difficulty + ", " + moveDelayMs + " ms, agressivité " + aggressiveness + "%)";
+    }
+}
@@ -0,0 +1,268 @@
+package fr.univ.bomberman.model;
+
+/**
+ * ✅ NOUVEAU: Index spatial des briques destructibles restantes, tenu à jour par {@link Board#setCellType}.
+ *
+ * Chaque ligne du plateau est un bitset (tableau de {@code long}) : une requête « brique la plus proche »
+ * parcourt les lignes en s'éloignant du point de départ, saute les lignes vides grâce au compteur par ligne
+ * et s'arrête dès que l'écart vertical dépasse la meilleure distance trouvée. Sur un plateau 200x200,
+ * cela représente au plus quelques centaines de mots de 64 bits, sans allocation.
+ *
+ * Distance utilisée : Manhattan, comme partout dans l'IA des bots.
+ */
+public final class BrickIndex {
+
+    private final int cols;
+    private final int rows;
+    private final int wordsPerRow;
+    private final long[] bits;
+    private final int[] rowCount;
+    private int size;
+
+    BrickIndex(int cols, int rows) {
+        this.cols = cols;
+        this.rows = rows;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.bits = new long[wordsPerRow * rows];
+        this.rowCount = new int[rows];
+    }
+
+    /**
+     * Construit l'index à partir du contenu actuel d'un plateau.
+     * @param board le plateau à indexer
+     * @return l'index de ses briques
+     */
+    static BrickIndex of(Board board) {
+        BrickIndex index = new BrickIndex(board.getCols(), board.getRows());
+        for (int y = 0; y < board.getRows(); y++) {
+            for (int x = 0; x < board.getCols(); x++) {
+                if (board.getCellTypeAt(x, y) == CellType.DESTRUCTIBLE_BRICK) {
+                    index.set(x, y, true);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Ajoute ou retire une brique de l'index.
+     */
+    void set(int x, int y, boolean brick) {
+        int word = y * wordsPerRow + (x >>> 6);
+        long mask = 1L << (x & 63);
+        boolean present = (bits[word] & mask) != 0;
+        if (brick == present) {
+            return;
+        }
+        if (brick) {
+            bits[word] |= mask;
+            rowCount[y]++;
+            size++;
+        } else {
+            bits[word] &= ~mask;
+            rowCount[y]--;
+            size--;
+        }
+    }
+
+    /**
+     * @return true si la case contient une brique destructible
+     */
+    public boolean contains(int x, int y) {
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    /**
+     * @return le nombre de briques restantes sur le plateau
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Cherche la brique la plus proche d'une case.
+     * @param x colonne de départ
+     * @param y ligne de départ
+     * @return la position de la brique la plus proche, ou null s'il n'en reste aucune
+     */
+    public Position findNearest(int x, int y) {
+        int packed = nearestPacked(x, y);
+        return packed < 0 ? null : new Position(packed % cols, packed / cols);
+    }
+
+    /**
+     * Cherche les {@code k} briques les plus proches d'une case, triées par distance croissante.
+     * Les résultats sont écrits dans les tableaux fournis, qui doivent pouvoir en contenir {@code k}.
+     *
+     * @param x colonne de départ
+     * @param y ligne de départ
+     * @param k nombre de briques voulues
+     * @param outX colonnes des briques trouvées
+     * @param outY lignes des briques trouvées
+     * @return le nombre de briques trouvées (au plus k)
+     */
+    public int findNearest(int x, int y, int k, int[] outX, int[] outY) {
+        if (k <= 0 || size == 0) {
+            return 0;
+        }
+        int found = 0;
+        for (int dy = 0; dy < rows; dy++) {
+            // Une fois k briques trouvées, les lignes plus éloignées que la k-ième ne peuvent plus améliorer
+            if (found == k && dy > Math.abs(outX[k - 1] - x) + Math.abs(outY[k - 1] - y)) {
+                break;
+            }
+            int above = y - dy;
+            int below = y + dy;
+            if (above < 0 && below >= rows) {
+                break;
+            }
+            if (above >= 0) {
+                found = collectRow(above, dy, x, y, k, found, outX, outY);
+            }
+            if (dy > 0 && below < rows) {
+                found = collectRow(below, dy, x, y, k, found, outX, outY);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Ajoute les briques de la ligne {@code row} susceptibles d'entrer dans les k meilleures.
+     */
+    private int collectRow(int row, int dy, int x, int y, int k, int found, int[] outX, int[] outY) {
+        if (rowCount[row] == 0) {
+            return found;
+        }
+        int minX = 0;
+        int maxX = cols - 1;
+        if (found == k) {
+            int reach = Math.abs(outX[k - 1] - x) + Math.abs(outY[k - 1] - y) - dy;
+            minX = Math.max(0, x - reach);
+            maxX = Math.min(cols - 1, x + reach);
+        }
+        int base = row * wordsPerRow;
+        for (int w = minX >>> 6; w <= maxX >>> 6; w++) {
+            long word = bits[base + w];
+            while (word != 0) {
+                int bx = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                if (bx < minX || bx > maxX) {
+                    continue;
+                }
+                found = insertSorted(bx, row, x, y, k, found, outX, outY);
+            }
+        }
+        return found;
+    }
+
+    private static int insertSorted(int bx, int by, int x, int y, int k, int found, int[] outX, int[] outY) {
+        int distance = Math.abs(bx - x) + Math.abs(by - y);
+        int i = found;
+        if (found == k) {
+            if (distance >= Math.abs(outX[k - 1] - x) + Math.abs(outY[k - 1] - y)) {
+                return found;
+            }
+            i = k - 1;
+        } else {
+            found++;
+        }
+        while (i > 0 && Math.abs(outX[i - 1] - x) + Math.abs(outY[i - 1] - y) > distance) {
+            outX[i] = outX[i - 1];
+            outY[i] = outY[i - 1];
+            i--;
+        }
+        outX[i] = bx;
+        outY[i] = by;
+        return found;
+    }
+
+    /**
+     * Variante k = 1 sans tableau de sortie.
+     * @return y * cols + x de la brique la plus proche, ou -1
+     */
+    private int nearestPacked(int x, int y) {
+        if (size == 0) {
+            return -1;
+        }
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int dy = 0; dy < rows && dy < bestDistance; dy++) {
+            int above = y - dy;
+            int below = y + dy;
+            if (above < 0 && below >= rows) {
+                break;
+            }
+            for (int side = 0; side < 2; side++) {
+                int row = side == 0 ? above : below;
+                if (row < 0 || row >= rows || (side == 1 && dy == 0) || rowCount[row] == 0) {
+                    continue;
+                }
+                int bx = nearestInRow(row, x, bestDistance - dy);
+                if (bx >= 0) {
+                    int distance = Math.abs(bx - x) + dy;
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        best = row * cols + bx;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Colonne de la brique la plus proche de {@code x} sur une ligne, à moins de {@code reach} cases.
+     * @return la colonne trouvée, ou -1
+     */
+    private int nearestInRow(int row, int x, int reach) {
+        int base = row * wordsPerRow;
+        int right = nextSetBit(base, Math.max(0, x), cols - 1);
+        int left = x - 1 >= 0 ? previousSetBit(base, Math.min(x - 1, cols - 1), 0) : -1;
+        int best = -1;
+        int bestDistance = reach;
+        if (right >= 0 && right - x < bestDistance) {
+            best = right;
+            bestDistance = right - x;
+        }
+        if (left >= 0 && x - left < bestDistance) {
+            best = left;
+        }
+        return best;
+    }
+
+    private int nextSetBit(int base, int from, int to) {
+        if (from > to) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long word = bits[base + w] & (-1L << (from & 63));
+        while (true) {
+            if (word != 0) {
+                int bit = (w << 6) + Long.numberOfTrailingZeros(word);
+                return bit <= to ? bit : -1;
+            }
+            if (++w > to >>> 6) {
+                return -1;
+            }
+            word = bits[base + w];
+        }
+    }
+
+    private int previousSetBit(int base, int from, int to) {
+        if (from < to) {
+            return -1;
+        }
+        int w = from >>> 6;
+        long word = bits[base + w] & (-1L >>> (63 - (from & 63)));
+        while (true) {
+            if (word != 0) {
+                int bit = (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+                return bit >= to ? bit : -1;
+            }
+            if (--w < to >>> 6) {
+                return -1;
+            }
+            word = bits[base + w];
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package fr.univ.bomberman.model;
+
+import java.util.function.IntConsumer;
+
+/**
+ * ✅ NOUVEAU: Journal circulaire des dernières cases modifiées.
+ *
+ * Chaque modification reçoit un numéro de séquence croissant. Un cache qui mémorise le numéro
+ * auquel il s'est arrêté peut rejouer les modifications suivantes au lieu de tout recalculer,
+ * tant qu'il n'a pas pris plus de {@link #CAPACITY} modifications de retard.
+ */
+final class CellChangeLog {
+
+    static final int CAPACITY = 256;
+    private static final int MASK = CAPACITY - 1;
+
+    private final int[] cells = new int[CAPACITY];
+    private long count;
+
+    /**
+     * Enregistre la modification d'une case.
+     * @param cell index de la case (y * colonnes + x)
+     */
+    void record(int cell) {
+        cells[(int) (count & MASK)] = cell;
+        count++;
+    }
+
+    /**
+     * @return le numéro de séquence de la prochaine modification
+     */
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * @param since numéro de séquence mémorisé par le lecteur
+     * @return vrai si toutes les modifications depuis ce numéro sont encore dans le journal
+     */
+    boolean covers(long since) {
+        return since <= count && count - since <= CAPACITY;
+    }
+
+    /**
+     * @param sequence numéro de séquence couvert par le journal
+     * @return l'index de la case modifiée
+     */
+    int get(long sequence) {
+        return cells[(int) (sequence & MASK)];
+    }
+
+    /**
+     * Rejoue les modifications enregistrées depuis un numéro de séquence.
+     * @param since numéro de séquence mémorisé par le lecteur
+     * @param action reçoit l'index de chaque case modifiée, dans l'ordre
+     * @return faux si le journal ne remonte plus jusque-là (rien n'est alors rejoué)
+     */
+    boolean forEachSince(long since, IntConsumer action) {
+        if (!covers(since)) {
+            return false;
+        }
+        for (long s = since; s < count; s++) {
+            action.accept(get(s));
+        }
+        return true;
+    }
+
+    /**
+     * Recopie un autre journal, pour en garder une image figée cohérente avec une copie des cases.
+     * @param other journal à recopier
+     */
+    void copyFrom(CellChangeLog other) {
+        System.arraycopy(other.cells, 0, cells, 0, CAPACITY);
+        count = other.count;
+    }
+}
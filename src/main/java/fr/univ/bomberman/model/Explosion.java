@@ -17,6 +17,7 @@ public class Explosion {
 
     // ✅ NOUVEAU: Gestion du temps de mort en millisecondes
     private long creationTime;
+    private final GameClock clock; // ✅ NOUVEAU: Horloge de la partie, héritée du poseur
     private static final long EXPLOSION_DURATION_MS = 1500;
 
 
@@ -32,7 +33,8 @@ public class Explosion {
     public Explosion(Position center, Board board, Player bombOwner) throws BombermanException {
         this.affectedPositions = new ArrayList<>();
         this.bombOwner = bombOwner;
-        this.creationTime = System.currentTimeMillis(); // ✅ Enregistrer quand l'explosion commence
+        this.clock = bombOwner != null ? bombOwner.getClock() : GameClock.SYSTEM;
+        this.creationTime = clock.currentTimeMillis(); // ✅ Enregistrer quand l'explosion commence
 
         int x = center.getX();
         int y = center.getY();
@@ -51,7 +53,7 @@ public class Explosion {
      * ✅ NOUVELLE MÉTHODE: Vérifie si l'explosion est encore mortelle
      */
     public boolean isDeadly() {
-        long elapsed = System.currentTimeMillis() - creationTime;
+        long elapsed = clock.currentTimeMillis() - creationTime;
         return elapsed <= EXPLOSION_DURATION_MS;
     }
 
@@ -115,6 +117,20 @@ public class Explosion {
         return new ArrayList<>(affectedPositions);
     }
 
+    /**
+     * ✅ NOUVEAU: Positions affectées, sans copie (lecture seule, pour les instantanés du modèle)
+     */
+    List<Position> getAffectedPositionsView() {
+        return affectedPositions;
+    }
+
+    /**
+     * ✅ NOUVEAU: Instant (horloge de la partie) jusqu'auquel l'explosion reste mortelle, voir {@link #isDeadly()}
+     */
+    long getDeadlyUntilMillis() {
+        return creationTime + EXPLOSION_DURATION_MS;
+    }
+
     /**
      * @return le propriétaire de la bombe qui a causé cette explosion
      */
@@ -128,7 +144,7 @@ public class Explosion {
      * MÉTHODE MODIFIÉE: L'explosion reste visible plus longtemps mais n'est mortelle que 2.5s
      */
     public boolean isFinished() {
-        long elapsed = System.currentTimeMillis() - creationTime;
+        long elapsed = clock.currentTimeMillis() - creationTime;
         return elapsed > EXPLOSION_DURATION_MS;
     }
 
@@ -66,6 +66,13 @@ public class Flag {
         }
     }
 
+    /**
+     * ✅ NOUVEAU: @return true si le drapeau a été pris par un adversaire
+     */
+    public boolean isCaptured() {
+        return captured;
+    }
+
     /**
      * @return true si le drapeau est porté par un joueur
      */
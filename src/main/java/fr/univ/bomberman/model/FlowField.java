@@ -0,0 +1,292 @@
+package fr.univ.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * ✅ NOUVEAU: Champ de flux vers une case cible.
+ *
+ * Pour chaque case du plateau, le champ donne la distance à la cible (en pas) et la direction
+ * du premier pas pour s'en rapprocher, en évitant les murs, les briques et les bombes. Il est
+ * calculé une fois par un parcours en largeur depuis la cible ; ensuite, n'importe quel nombre
+ * de bots qui poursuivent cette cible lisent simplement la case où ils se trouvent.
+ *
+ * Quand une case devient infranchissable, seules les cases dont le chemin passait par elle sont
+ * recalculées ; quand une case se libère, les distances sont propagées à partir d'elle.
+ * La grille des obstacles est partagée avec le {@link FlowFieldCache} qui tient le champ à jour.
+ */
+public final class FlowField {
+
+    /** Distance des cases d'où la cible est inaccessible */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final int[] DIR_X = {0, 0, -1, 1};
+    private static final int[] DIR_Y = {-1, 1, 0, 0};
+    private static final BotAction[] DIR_ACTIONS = {
+            BotAction.MOVE_UP, BotAction.MOVE_DOWN, BotAction.MOVE_LEFT, BotAction.MOVE_RIGHT
+    };
+
+    private final int cols;
+    private final int rows;
+    private final boolean[] blocked;
+    private final int[] distance;
+    private final byte[] direction;   // Index dans DIR_* du premier pas, -1 si aucun
+    private final int[] stamp;        // Marquage des cases touchées par une mise à jour incrémentale
+    private int generation;
+    private int target = -1;
+
+    // File du parcours en largeur et tas (distance << 32 | case) des mises à jour incrémentales
+    private final int[] queue;
+    private long[] heap = new long[64];
+    private int heapSize;
+
+    /**
+     * @param cols nombre de colonnes
+     * @param rows nombre de lignes
+     * @param blocked grille des cases infranchissables (partagée, indexée y * cols + x)
+     */
+    FlowField(int cols, int rows, boolean[] blocked) {
+        this.cols = cols;
+        this.rows = rows;
+        this.blocked = blocked;
+        this.distance = new int[cols * rows];
+        this.direction = new byte[cols * rows];
+        this.stamp = new int[cols * rows];
+        this.queue = new int[cols * rows];
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(direction, (byte) -1);
+    }
+
+    /**
+     * Recalcule tout le champ vers une nouvelle cible.
+     * @param targetCell index de la case cible
+     */
+    void retarget(int targetCell) {
+        target = targetCell;
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(direction, (byte) -1);
+
+        int head = 0;
+        int tail = 0;
+        distance[targetCell] = 0;
+        queue[tail++] = targetCell;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % cols;
+            int y = cell / cols;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DIR_X[d];
+                int ny = y + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) {
+                    continue;
+                }
+                int next = ny * cols + nx;
+                if (!isBlocked(next) && distance[next] == UNREACHABLE) {
+                    distance[next] = distance[cell] + 1;
+                    direction[next] = (byte) (d ^ 1); // Direction opposée : de next vers cell
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * Prend en compte une case devenue infranchissable : les cases dont le chemin
+     * passait par elle sont effacées puis raccrochées au reste du champ.
+     * @param cell index de la case
+     */
+    void cellBlocked(int cell) {
+        if (cell == target || distance[cell] == UNREACHABLE) {
+            return;
+        }
+
+        // Sous-arbre des cases dont le premier pas mène (indirectement) à la case bloquée
+        generation++;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = cell;
+        stamp[cell] = generation;
+        while (head < tail) {
+            int current = queue[head++];
+            int x = current % cols;
+            int y = current / cols;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DIR_X[d];
+                int ny = y + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) {
+                    continue;
+                }
+                int next = ny * cols + nx;
+                if (stamp[next] != generation && distance[next] != UNREACHABLE && direction[next] == (d ^ 1)) {
+                    stamp[next] = generation;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        for (int i = 0; i < tail; i++) {
+            distance[queue[i]] = UNREACHABLE;
+            direction[queue[i]] = -1;
+        }
+
+        // Raccrocher chaque case effacée à son meilleur voisin resté valide
+        heapSize = 0;
+        for (int i = 0; i < tail; i++) {
+            int current = queue[i];
+            if (!isBlocked(current)) {
+                attachToBestNeighbor(current);
+            }
+        }
+        propagate();
+    }
+
+    /**
+     * Prend en compte une case redevenue franchissable : sa distance est déduite de ses voisines
+     * puis propagée aux cases qu'elle rapproche de la cible.
+     * @param cell index de la case
+     */
+    void cellOpened(int cell) {
+        if (cell == target || target < 0) {
+            return;
+        }
+        heapSize = 0;
+        attachToBestNeighbor(cell);
+        propagate();
+    }
+
+    private void attachToBestNeighbor(int cell) {
+        int x = cell % cols;
+        int y = cell / cols;
+        for (int d = 0; d < 4; d++) {
+            int nx = x + DIR_X[d];
+            int ny = y + DIR_Y[d];
+            if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) {
+                continue;
+            }
+            int next = ny * cols + nx;
+            if (distance[next] != UNREACHABLE && !isBlocked(next) && distance[next] + 1 < distance[cell]) {
+                distance[cell] = distance[next] + 1;
+                direction[cell] = (byte) d;
+            }
+        }
+        if (distance[cell] != UNREACHABLE) {
+            heapPush(cell, distance[cell]);
+        }
+    }
+
+    /**
+     * Dijkstra à coûts unitaires à partir des cases du tas : n'améliore que des distances.
+     */
+    private void propagate() {
+        while (heapSize > 0) {
+            long entry = heapPop();
+            int cell = (int) entry;
+            int dist = (int) (entry >>> 32);
+            if (dist > distance[cell]) {
+                continue;
+            }
+            int x = cell % cols;
+            int y = cell / cols;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DIR_X[d];
+                int ny = y + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) {
+                    continue;
+                }
+                int next = ny * cols + nx;
+                if (!isBlocked(next) && dist + 1 < distance[next]) {
+                    distance[next] = dist + 1;
+                    direction[next] = (byte) (d ^ 1);
+                    heapPush(next, dist + 1);
+                }
+            }
+        }
+    }
+
+    private boolean isBlocked(int cell) {
+        return cell != target && blocked[cell];
+    }
+
+    /**
+     * Direction du premier pas vers la cible depuis une case. Depuis une case infranchissable
+     * (un bot debout sur sa bombe), le meilleur voisin franchissable est choisi.
+     * @return l'action de déplacement, ou NONE si la cible est inaccessible ou déjà atteinte
+     */
+    public BotAction getAction(int x, int y) {
+        if (x < 0 || y < 0 || x >= cols || y >= rows) {
+            return BotAction.NONE;
+        }
+        int cell = y * cols + x;
+        if (!isBlocked(cell)) {
+            int d = direction[cell];
+            return d < 0 ? BotAction.NONE : DIR_ACTIONS[d];
+        }
+        int best = -1;
+        int bestDistance = UNREACHABLE;
+        for (int d = 0; d < 4; d++) {
+            int nx = x + DIR_X[d];
+            int ny = y + DIR_Y[d];
+            if (nx >= 0 && ny >= 0 && nx < cols && ny < rows && distance[ny * cols + nx] < bestDistance) {
+                bestDistance = distance[ny * cols + nx];
+                best = d;
+            }
+        }
+        return best < 0 ? BotAction.NONE : DIR_ACTIONS[best];
+    }
+
+    /**
+     * @return la distance en pas jusqu'à la cible, ou {@link #UNREACHABLE}
+     */
+    public int getDistance(int x, int y) {
+        if (x < 0 || y < 0 || x >= cols || y >= rows) {
+            return UNREACHABLE;
+        }
+        return distance[y * cols + x];
+    }
+
+    /**
+     * @return l'index de la case cible, -1 si le champ n'a pas encore de cible
+     */
+    public int getTarget() {
+        return target;
+    }
+
+    private void heapPush(int cell, int dist) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        long entry = ((long) dist << 32) | cell;
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >> 1;
+            if (heap[parent] <= entry) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = entry;
+    }
+
+    private long heapPop() {
+        long top = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (heapSize > 0) {
+            heap[i] = last;
+        }
+        return top;
+    }
+}
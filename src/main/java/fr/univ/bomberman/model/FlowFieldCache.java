@@ -0,0 +1,139 @@
+package fr.univ.bomberman.model;
+
+import java.util.List;
+
+/**
+ * ✅ NOUVEAU: Champs de flux de la partie, un par joueur pris pour cible.
+ *
+ * Le champ d'un joueur est recalculé quand ce joueur change de case (au plus une fois par tour),
+ * et mis à jour de façon incrémentale quand une case du plateau change ({@link Board#setCellType})
+ * ou qu'une bombe est posée ou explose, grâce aux journaux de modifications du plateau et des bombes.
+ *
+ * Les accès sont synchronisés : pendant la phase de décision des bots, le premier bot qui chasse
+ * une cible met son champ à jour et les suivants le lisent tel quel.
+ */
+public class FlowFieldCache {
+
+    private final Game game;
+    private final Board board;
+    private final int cols;
+    private final boolean[] blocked;
+    private FlowField[] fields = new FlowField[0];
+    private long boardSequence;
+    private long bombSequence;
+
+    FlowFieldCache(Game game) {
+        this.game = game;
+        this.board = game.getBoard();
+        this.cols = board.getCols();
+        this.blocked = new boolean[cols * board.getRows()];
+        rebuildObstacles();
+    }
+
+    /**
+     * Champ de flux vers un joueur, à jour avec le plateau, les bombes et la position du joueur.
+     * @param playerIndex index du joueur cible
+     * @return le champ, ou null si le joueur n'existe pas
+     */
+    public synchronized FlowField forPlayer(int playerIndex) {
+        List<Player> players = game.getPlayersView();
+        if (playerIndex < 0 || playerIndex >= players.size()) {
+            return null;
+        }
+        syncObstacles();
+
+        if (fields.length < players.size()) {
+            FlowField[] grown = new FlowField[players.size()];
+            System.arraycopy(fields, 0, grown, 0, fields.length);
+            fields = grown;
+        }
+        FlowField field = fields[playerIndex];
+        if (field == null) {
+            field = new FlowField(cols, board.getRows(), blocked);
+            fields[playerIndex] = field;
+        }
+        Position position = players.get(playerIndex).getPosition();
+        int targetCell = position.getY() * cols + position.getX();
+        if (field.getTarget() != targetCell) {
+            field.retarget(targetCell);
+        }
+        return field;
+    }
+
+    /**
+     * Raccourci : direction du premier pas pour rejoindre un joueur depuis une case.
+     * @return l'action de déplacement, ou NONE si le joueur est inaccessible
+     */
+    public BotAction nextAction(int playerIndex, int x, int y) {
+        FlowField field = forPlayer(playerIndex);
+        return field == null ? BotAction.NONE : field.getAction(x, y);
+    }
+
+    /**
+     * Rejoue les modifications du plateau et des bombes survenues depuis le dernier appel.
+     */
+    private void syncObstacles() {
+        CellChangeLog boardLog = board.getChangeLog();
+        CellChangeLog bombLog = game.getBombChangeLog();
+        if (!boardLog.covers(boardSequence) || !bombLog.covers(bombSequence)) {
+            // Trop de retard : tout reconstruire
+            rebuildObstacles();
+            for (FlowField field : fields) {
+                if (field != null && field.getTarget() >= 0) {
+                    field.retarget(field.getTarget());
+                }
+            }
+            return;
+        }
+        for (long s = boardSequence; s < boardLog.getCount(); s++) {
+            updateCell(boardLog.get(s));
+        }
+        for (long s = bombSequence; s < bombLog.getCount(); s++) {
+            updateCell(bombLog.get(s));
+        }
+        boardSequence = boardLog.getCount();
+        bombSequence = bombLog.getCount();
+    }
+
+    private void updateCell(int cell) {
+        boolean nowBlocked = computeBlocked(cell);
+        if (nowBlocked == blocked[cell]) {
+            return;
+        }
+        blocked[cell] = nowBlocked;
+        for (FlowField field : fields) {
+            if (field == null || field.getTarget() < 0) {
+                continue;
+            }
+            if (nowBlocked) {
+                field.cellBlocked(cell);
+            } else {
+                field.cellOpened(cell);
+            }
+        }
+    }
+
+    private void rebuildObstacles() {
+        for (int cell = 0; cell < blocked.length; cell++) {
+            blocked[cell] = computeBlocked(cell);
+        }
+        boardSequence = board.getChangeLog().getCount();
+        bombSequence = game.getBombChangeLog().getCount();
+    }
+
+    private boolean computeBlocked(int cell) {
+        int x = cell % cols;
+        int y = cell / cols;
+        CellType type = board.getCellTypeAt(x, y);
+        if (type == CellType.INDESTRUCTIBLE_WALL || type == CellType.DESTRUCTIBLE_BRICK) {
+            return true;
+        }
+        for (Bomb bomb : game.getActiveBombsView()) {
+            Position position = bomb.getPosition();
+            if (position.getX() == x && position.getY() == y) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,442 @@
+package fr.univ.bomberman.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * ✅ NOUVEAU: Image figée d'une partie telle que l'affichage la dessine.
+ *
+ * Remplie par le thread de simulation (voir {@link FrameStateBuffer}), puis lue par l'affichage sans
+ * toucher aux objets vivants du modèle : cases, joueurs, bombes, explosions et drapeaux y sont recopiés
+ * dans des tableaux primitifs. Ce qui évolue entre deux tours (cooldowns, flammes mortelles, glissements)
+ * est stocké sous forme d'échéances sur l'horloge de la partie, et recalculé pour l'instant affiché.
+ *
+ * Les tableaux ne sont réalloués que s'ils grandissent ; les cases sont recopiées à partir du journal
+ * de modifications du plateau, et entièrement seulement quand il ne remonte plus assez loin. Une copie
+ * de ce journal accompagne les cases, pour que l'affichage ne redessine lui aussi que ce qui a changé
+ * (voir {@link #forEachCellChangedSince}).
+ */
+public class FrameState {
+
+    private long sequence;
+    private long lastTickNanos;
+    private long tickIntervalNanos;
+    private boolean gameOver;
+    private int winner;
+    private int humanPlayer;
+
+    private Board capturedBoard; // Plateau dont les cases sont recopiées, jamais exposé
+    private long changeSequence;
+    private int cols;
+    private int rows;
+    private int boardRevision;
+    private byte[] cells = new byte[0];
+    private final IntConsumer cellCopier = index ->
+            cells[index] = (byte) capturedBoard.getCellTypeAt(index % cols, index / cols).ordinal();
+    private final CellChangeLog cellChanges = new CellChangeLog(); // Journal du plateau à l'instant de la copie
+
+    private int playerCount;
+    private int[] playerX = new int[0];
+    private int[] playerY = new int[0];
+    private boolean[] eliminated = new boolean[0];
+    private boolean[] bot = new boolean[0];
+    private int[] difficulty = new int[0];
+    private String[] names = new String[0];
+    private long[] cooldownEndNanos = new long[0];
+    private final MotionTrack motion = new MotionTrack();
+
+    private int bombCount;
+    private int[] bombX = new int[8];
+    private int[] bombY = new int[8];
+    private int[] bombTimer = new int[8];
+
+    private int explosionCount;
+    private int[] explosionStart = new int[9]; // Début des cases de chaque explosion, plus la fin de la dernière
+    private long[] deadlyUntilMillis = new long[8];
+    private int[] fireX = new int[40];
+    private int[] fireY = new int[40];
+
+    private int flagCount;
+    private int[] flagX = new int[4];
+    private int[] flagY = new int[4];
+    private int[] flagOwner = new int[4];
+
+    /**
+     * Recopie l'état de la partie ; appelée uniquement par le thread qui la fait évoluer.
+     * @param game la partie
+     * @param sequence numéro de l'image, croissant
+     */
+    void capture(Game game, long sequence) {
+        GameClock clock = game.getClock();
+        long nowNanos = clock.nanoTime();
+        this.sequence = sequence;
+        lastTickNanos = game.getLastTickNanos();
+        tickIntervalNanos = game.getTickIntervalNanos();
+        gameOver = game.isGameOver();
+
+        captureCells(game.getBoard());
+
+        List<Player> players = game.getPlayersView();
+        ensurePlayerCapacity(players.size());
+        humanPlayer = -1;
+        Player winnerPlayer = game.getWinner();
+        winner = winnerPlayer != null ? players.indexOf(winnerPlayer) : -1;
+        for (int i = 0; i < playerCount; i++) {
+            Player player = players.get(i);
+            playerX[i] = player.getX();
+            playerY[i] = player.getY();
+            eliminated[i] = player.isEliminated();
+            bot[i] = player instanceof BotPlayer;
+            difficulty[i] = bot[i] ? ((BotPlayer) player).getDifficulty() : 0;
+            names[i] = player.getName();
+            if (humanPlayer < 0 && !bot[i]) {
+                humanPlayer = i;
+            }
+            cooldownEndNanos[i] = nowNanos + player.getRemainingCooldown() * 1_000_000L;
+        }
+        motion.copyFrom(game.getMotionTrack());
+
+        List<Bomb> bombs = game.getActiveBombsView();
+        bombCount = bombs.size();
+        if (bombCount > bombX.length) {
+            int size = Math.max(bombCount, bombX.length * 2);
+            bombX = Arrays.copyOf(bombX, size);
+            bombY = Arrays.copyOf(bombY, size);
+            bombTimer = Arrays.copyOf(bombTimer, size);
+        }
+        for (int b = 0; b < bombCount; b++) {
+            Bomb bomb = bombs.get(b);
+            bombX[b] = bomb.getX();
+            bombY[b] = bomb.getY();
+            bombTimer[b] = bomb.getTimer();
+        }
+
+        captureExplosions(game.getActiveExplosionsView());
+        captureFlags(game.getFlagsView(), players);
+    }
+
+    private void captureCells(Board board) {
+        if (board != capturedBoard || board.getCols() * board.getRows() != cells.length) {
+            copyAllCells(board);
+        } else if (board.getRevision() == boardRevision) {
+            return; // Cases et journal déjà à jour dans ce tampon
+        } else if (!board.forEachChangeSince(changeSequence, cellCopier)) {
+            // Le journal ne remonte plus jusqu'à la dernière copie de ce tampon
+            copyAllCells(board);
+        }
+        cellChanges.copyFrom(board.getChangeLog());
+        changeSequence = board.getChangeSequence();
+        boardRevision = board.getRevision();
+    }
+
+    private void copyAllCells(Board board) {
+        capturedBoard = board;
+        cols = board.getCols();
+        rows = board.getRows();
+        if (cells.length != cols * rows) {
+            cells = new byte[cols * rows];
+        }
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                cells[y * cols + x] = (byte) board.getCellTypeAt(x, y).ordinal();
+            }
+        }
+    }
+
+    private void captureExplosions(List<Explosion> explosions) {
+        explosionCount = explosions.size();
+        if (explosionCount + 1 > explosionStart.length) {
+            int size = Math.max(explosionCount, explosionStart.length * 2);
+            explosionStart = Arrays.copyOf(explosionStart, size + 1);
+            deadlyUntilMillis = Arrays.copyOf(deadlyUntilMillis, size);
+        }
+        int fires = 0;
+        for (int e = 0; e < explosionCount; e++) {
+            Explosion explosion = explosions.get(e);
+            explosionStart[e] = fires;
+            deadlyUntilMillis[e] = explosion.getDeadlyUntilMillis();
+            for (Position pos : explosion.getAffectedPositionsView()) {
+                if (fires == fireX.length) {
+                    fireX = Arrays.copyOf(fireX, fires * 2);
+                    fireY = Arrays.copyOf(fireY, fires * 2);
+                }
+                fireX[fires] = pos.getX();
+                fireY[fires] = pos.getY();
+                fires++;
+            }
+        }
+        explosionStart[explosionCount] = fires;
+    }
+
+    private void captureFlags(List<Flag> flags, List<Player> players) {
+        flagCount = 0;
+        if (flags == null) {
+            return;
+        }
+        if (flags.size() > flagX.length) {
+            flagX = Arrays.copyOf(flagX, flags.size());
+            flagY = Arrays.copyOf(flagY, flags.size());
+            flagOwner = Arrays.copyOf(flagOwner, flags.size());
+        }
+        for (Flag flag : flags) {
+            Position pos = flag.getCurrentPosition();
+            if (pos == null) {
+                continue;
+            }
+            flagX[flagCount] = pos.getX();
+            flagY[flagCount] = pos.getY();
+            flagOwner[flagCount] = players.indexOf(flag.getOwner());
+            flagCount++;
+        }
+    }
+
+    private void ensurePlayerCapacity(int count) {
+        playerCount = count;
+        if (count <= playerX.length) {
+            return;
+        }
+        playerX = Arrays.copyOf(playerX, count);
+        playerY = Arrays.copyOf(playerY, count);
+        eliminated = Arrays.copyOf(eliminated, count);
+        bot = Arrays.copyOf(bot, count);
+        difficulty = Arrays.copyOf(difficulty, count);
+        names = Arrays.copyOf(names, count);
+        cooldownEndNanos = Arrays.copyOf(cooldownEndNanos, count);
+    }
+
+    // ============================================================================
+    // Partie
+    // ============================================================================
+
+    /**
+     * @return le numéro de l'image, 0 tant que rien n'a été publié dans ce tampon
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return l'index du gagnant, -1 s'il n'y en a pas (partie en cours ou égalité)
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * @return l'index du premier joueur humain (voir {@link Game#getHumanPlayer()}), -1 s'il n'y en a pas
+     */
+    public int getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    /**
+     * Avancement entre le dernier tour et le suivant attendu, comme {@link Game#getTickAlpha}.
+     * @param nowNanos instant affiché, sur l'horloge de la partie
+     * @return une valeur entre 0 et 1
+     */
+    public double getTickAlpha(long nowNanos) {
+        if (lastTickNanos == 0) {
+            return 0.0;
+        }
+        double alpha = (double) (nowNanos - lastTickNanos) / tickIntervalNanos;
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    // ============================================================================
+    // Plateau
+    // ============================================================================
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return la révision du plateau au moment de la copie (voir {@link Board#getRevision()})
+     */
+    public int getBoardRevision() {
+        return boardRevision;
+    }
+
+    /**
+     * @return le numéro de séquence du journal des cases à l'instant de la copie
+     */
+    public long getChangeSequence() {
+        return changeSequence;
+    }
+
+    /**
+     * Parcourt les cases modifiées entre une image déjà affichée et celle-ci.
+     * @param since {@link #getChangeSequence()} de l'image déjà affichée (du même plateau)
+     * @param action reçoit l'index (y * colonnes + x) de chaque case modifiée, parfois plusieurs fois
+     * @return faux si le journal ne remonte plus jusque-là : tout le plateau est alors à redessiner
+     */
+    public boolean forEachCellChangedSince(long since, IntConsumer action) {
+        return cellChanges.forEachSince(since, action);
+    }
+
+    /**
+     * @param index y * colonnes + x
+     * @return l'ordinal du {@link CellType} de la case
+     */
+    public int getCell(int index) {
+        return cells[index];
+    }
+
+    // ============================================================================
+    // Joueurs
+    // ============================================================================
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getPlayerX(int player) {
+        return playerX[player];
+    }
+
+    public int getPlayerY(int player) {
+        return playerY[player];
+    }
+
+    public boolean isEliminated(int player) {
+        return eliminated[player];
+    }
+
+    public boolean isBot(int player) {
+        return bot[player];
+    }
+
+    /**
+     * @return la difficulté du bot, 0 pour un joueur humain
+     */
+    public int getDifficulty(int player) {
+        return difficulty[player];
+    }
+
+    public String getName(int player) {
+        return names[player];
+    }
+
+    /**
+     * @return vrai si au moins un joueur est un bot
+     */
+    public boolean hasBots() {
+        for (int i = 0; i < playerCount; i++) {
+            if (bot[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return le temps de recharge restant à l'instant affiché, en millisecondes
+     */
+    public long getRemainingCooldown(int player, long nowNanos) {
+        return Math.max(0, cooldownEndNanos[player] - nowNanos) / 1_000_000L;
+    }
+
+    /**
+     * @return le pourcentage de recharge restant, comme {@link Player#getCooldownPercentage()}
+     */
+    public int getCooldownPercentage(int player, long nowNanos) {
+        return (int) (getRemainingCooldown(player, nowNanos) * 100 / Player.BOMB_COOLDOWN_MS);
+    }
+
+    /**
+     * @return les trajectoires d'affichage des joueurs au moment de la copie
+     */
+    public MotionTrack getMotionTrack() {
+        return motion;
+    }
+
+    // ============================================================================
+    // Bombes, explosions et drapeaux
+    // ============================================================================
+
+    public int getBombCount() {
+        return bombCount;
+    }
+
+    public int getBombX(int bomb) {
+        return bombX[bomb];
+    }
+
+    public int getBombY(int bomb) {
+        return bombY[bomb];
+    }
+
+    public int getBombTimer(int bomb) {
+        return bombTimer[bomb];
+    }
+
+    public int getExplosionCount() {
+        return explosionCount;
+    }
+
+    /**
+     * @return l'indice de la première case de l'explosion dans {@link #getFireX}/{@link #getFireY}
+     */
+    public int getExplosionStart(int explosion) {
+        return explosionStart[explosion];
+    }
+
+    /**
+     * @return l'indice suivant la dernière case de l'explosion
+     */
+    public int getExplosionEnd(int explosion) {
+        return explosionStart[explosion + 1];
+    }
+
+    /**
+     * @return l'instant (millisecondes, horloge de la partie) où l'explosion cesse d'être mortelle ;
+     *         fixé à sa création, il est plus tardif pour une explosion plus récente
+     */
+    public long getDeadlyUntilMillis(int explosion) {
+        return deadlyUntilMillis[explosion];
+    }
+
+    /**
+     * @param nowMillis instant affiché, en millisecondes sur l'horloge de la partie
+     * @return vrai si l'explosion est encore mortelle, comme {@link Explosion#isDeadly()}
+     */
+    public boolean isExplosionDeadly(int explosion, long nowMillis) {
+        return nowMillis <= deadlyUntilMillis[explosion];
+    }
+
+    public int getFireX(int fire) {
+        return fireX[fire];
+    }
+
+    public int getFireY(int fire) {
+        return fireY[fire];
+    }
+
+    public int getFlagCount() {
+        return flagCount;
+    }
+
+    public int getFlagX(int flag) {
+        return flagX[flag];
+    }
+
+    public int getFlagY(int flag) {
+        return flagY[flag];
+    }
+
+    /**
+     * @return l'index du propriétaire du drapeau
+     */
+    public int getFlagOwner(int flag) {
+        return flagOwner[flag];
+    }
+}
@@ -0,0 +1,43 @@
+package fr.univ.bomberman.model;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ✅ NOUVEAU: Triple tampon de {@link FrameState} entre la simulation et l'affichage.
+ *
+ * Trois images tournent sans jamais être copiées : celle que la simulation remplit, celle que l'affichage
+ * dessine, et la dernière publiée, au milieu. Publier et prendre la dernière image se réduisent chacun à
+ * un échange atomique (volatile) avec l'image du milieu ; aucun verrou, et aucun des deux threads
+ * n'attend l'autre. L'image tenue par l'affichage n'est jamais réécrite tant qu'il ne l'a pas rendue.
+ *
+ * Si la simulation publie plusieurs fois entre deux images affichées, seule la plus récente est vue.
+ */
+public class FrameStateBuffer {
+
+    private FrameState back = new FrameState();   // Écrite par la simulation
+    private FrameState front = new FrameState();  // Lue par l'affichage
+    private final AtomicReference<FrameState> ready = new AtomicReference<>(new FrameState());
+    private long publishedCount;
+
+    /**
+     * Recopie l'état de la partie dans l'image libre et la publie.
+     * À n'appeler que depuis le thread qui fait évoluer la partie.
+     * @param game la partie
+     */
+    void publish(Game game) {
+        back.capture(game, ++publishedCount);
+        back = ready.getAndSet(back);
+    }
+
+    /**
+     * Donne la dernière image publiée, à n'appeler que depuis le thread d'affichage.
+     * L'image reste valide et inchangée jusqu'à l'appel suivant.
+     * @return la dernière image, ou null si rien n'a encore été publié
+     */
+    public FrameState acquire() {
+        if (ready.get().getSequence() > front.getSequence()) {
+            front = ready.getAndSet(front);
+        }
+        return front.getSequence() > 0 ? front : null;
+    }
+}
@@ -7,6 +7,7 @@ import fr.univ.bomberman.exceptions.BombermanException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * Classe représentant une partie de Super Bomberman avec support des modes tour par tour, temps réel et CTF.
@@ -23,6 +24,12 @@ public class Game {
     private long gameStartTime;
     private boolean statsUpdated = false;
     private String levelPath; // Chemin du fichier de niveau
+    private int bombRevision; // Incrémenté à chaque pose ou explosion de bombe
+    private long entityHash; // ✅ NOUVEAU: Hash Zobrist des joueurs, bombes et drapeaux (le plateau tient le sien)
+    private GameClock clock = GameClock.SYSTEM; // ✅ NOUVEAU: Horloge des règles (simulée pour les parties sans affichage)
+    private BotMetrics botMetrics = BotMetrics.isEnabledByDefault() ? new BotMetrics() : null; // ✅ NOUVEAU: null = désactivé
+    private boolean botMetricsDumped;
+    private boolean quiet; // ✅ NOUVEAU: Messages de la partie et de ses bots coupés (parties sans affichage)
 
     // ============================================================================
     // ✅ NOUVELLES PROPRIÉTÉS POUR CTF
@@ -33,6 +40,51 @@ public class Game {
     private int currentPlayerSettingFlag;       // Joueur en train de placer son drapeau
     private Position[] proposedFlagPositions;   // Positions proposées pour les drapeaux
 
+    // ============================================================================
+    // ✅ NOUVEAU: DÉCISION DES BOTS EN DEUX PHASES
+    // ============================================================================
+
+    private static final int PARALLEL_BOT_THRESHOLD = 4; // En dessous, le parallélisme coûte plus qu'il ne rapporte
+    private BotPlayer[] tickBots = new BotPlayer[0];     // Bots actifs du tick (tampon réutilisé)
+    private int[] tickBotIndices = new int[0];           // Index de chaque bot dans la liste des joueurs
+    private BotAction[] tickBotActions = new BotAction[0]; // Actions décidées pendant la phase 1
+    private volatile boolean botDecisionPhase;           // Vrai pendant la phase de décision (état figé)
+
+    // ============================================================================
+    // ✅ NOUVEAU: BOTS MULTIPLES ET ÉQUIPES
+    // ============================================================================
+
+    /** Nombre maximal de bots dans une partie */
+    public static final int MAX_BOTS = 32;
+    private BotPlayer[] bots = new BotPlayer[0];         // Bots de la partie, dans l'ordre des joueurs
+    private int[] botPlayerIndices = new int[0];         // Index de chaque bot dans la liste des joueurs
+    private int[] playerTeams = new int[0];              // Équipe de chaque joueur (par défaut : une équipe par joueur)
+
+    // ✅ NOUVEAU: Réflexion des bots étalée entre les coups, sous un budget global
+    private final BotPlanningScheduler planningScheduler = new BotPlanningScheduler();
+    private AnytimePlanner[] planners = new AnytimePlanner[0]; // Bots capables de réfléchir par tranches
+
+    // ✅ NOUVEAU: Champs de flux partagés par les bots qui chassent la même cible
+    private final CellChangeLog bombChangeLog = new CellChangeLog(); // Cases où une bombe apparaît ou disparaît
+    private FlowFieldCache flowFields;
+    private final MovementHistory movementHistory = new MovementHistory(); // ✅ NOUVEAU: Historique et prédiction des joueurs
+
+    // ✅ NOUVEAU: Horodatage des tours et trajectoires, pour un affichage interpolé entre deux tours
+    public static final long DEFAULT_TICK_NANOS = 1_000_000_000L;
+    private final MotionTrack motionTrack = new MotionTrack();
+    private long previousTickNanos;
+    private long lastTickNanos;
+
+    // ✅ NOUVEAU: Images figées publiées pour l'affichage après chaque modification visible
+    private final FrameStateBuffer frames = new FrameStateBuffer();
+
+    // ✅ NOUVEAU: Actions de la partie enregistrées pour un replay hors ligne (null si pas d'enregistrement)
+    private MatchRecording recording;
+
+    // ✅ NOUVEAU: Temps de calcul mesurés (horloge système), lus par l'affichage des performances
+    private long lastUpdateNanos;
+    private long lastBotNanos;
+    private long lastPlanNanos;
 
 
     /**
@@ -41,14 +93,20 @@ public class Game {
      * @param levelPath chemin vers le fichier de niveau
      */
     public Game(String levelPath) {
+        this(loadBoard(levelPath), levelPath, false);
+    }
+
+    /**
+     * ✅ NOUVEAU: Initialise une partie en mode temps réel avec deux joueurs sur un plateau déjà chargé.
+     * @param board plateau de la partie (la partie en devient propriétaire)
+     * @param levelPath chemin du fichier de niveau d'origine
+     * @param quiet true pour couper les messages de la partie dès sa création (voir {@link #setQuiet(boolean)})
+     */
+    private Game(Board board, String levelPath, boolean quiet) {
         this.gameMode = GameMode.REAL_TIME;
         this.levelPath = levelPath;
-        try {
-            this.board = new Board(levelPath);
-        } catch (BombermanException e) {
-            System.err.println("Erreur lors du chargement du niveau, utilisation du niveau par défaut: " + e.getMessage());
-            this.board = new Board(15, 13);
-        }
+        this.board = board;
+        this.quiet = quiet;
         this.players = new ArrayList<>();
 
         // Créer 2 joueurs par défaut
@@ -67,6 +125,7 @@ public class Game {
         this.currentPlayerSettingFlag = -1;
         this.proposedFlagPositions = new Position[0];
         this.gameStartTime = System.currentTimeMillis();
+        indexPlayers();
     }
 
 
@@ -79,6 +138,18 @@ public class Game {
 
 
 
+    /**
+     * ✅ NOUVEAU: Charge le plateau d'un niveau, ou un plateau par défaut si le chargement échoue.
+     */
+    private static Board loadBoard(String levelPath) {
+        try {
+            return new Board(levelPath);
+        } catch (BombermanException e) {
+            System.err.println("Erreur lors du chargement du niveau, utilisation du niveau par défaut: " + e.getMessage());
+            return new Board(15, 13);
+        }
+    }
+
     /**
      * Constructeur avec noms personnalisés et fichier de niveau spécifiés
      * @param playerNames tableau des noms des joueurs
@@ -118,7 +189,9 @@ public class Game {
         this.currentPlayerSettingFlag = -1;
         this.proposedFlagPositions = new Position[0];
 
-        System.out.println("🎮 Partie " + playerNames.length + " joueurs créée avec noms personnalisés !");
+        indexPlayers();
+
+        log("🎮 Partie " + playerNames.length + " joueurs créée avec noms personnalisés !");
     }
 
 
@@ -155,7 +228,8 @@ public class Game {
                 players.add(player);
             }
 
-            System.out.println("🎮 Partie " + playerNames.length + " joueurs créée en mode " + mode.getDisplayName());
+            indexPlayers();
+            log("🎮 Partie " + playerNames.length + " joueurs créée en mode " + mode.getDisplayName());
             return;
         }
 
@@ -195,8 +269,10 @@ public class Game {
         this.activeExplosions.clear();
         this.gameOver = false;
 
-        System.out.println("🏁 Mode CAPTURE THE FLAG créé avec " + playerNames.length + " joueurs !");
-        System.out.println("📍 Phase de placement des drapeaux commencée...");
+        indexPlayers();
+
+        log("🏁 Mode CAPTURE THE FLAG créé avec " + playerNames.length + " joueurs !");
+        log("📍 Phase de placement des drapeaux commencée...");
     }
 
 
@@ -204,7 +280,7 @@ public class Game {
     /**
      * Constructeur pour le mode bot avec fichier de niveau spécifié
      * @param playerName nom du joueur humain
-     * @param botDifficulty niveau de difficulté du bot (1-3)
+     * @param botDifficulty niveau de difficulté du bot (1-3, ou {@link BotPlayer#DIFFICULTY_EXPERT})
      * @param levelPath chemin vers le fichier de niveau
      */
     public Game(String playerName, int botDifficulty, String levelPath) {
@@ -218,7 +294,10 @@ public class Game {
 
         // Créer le bot
         String botName = "Bot " + getBotDifficultyName(botDifficulty);
-        BotPlayer bot = new BotPlayer(botName, new Position(board.getCols() - 2, board.getRows() - 2), botDifficulty);
+        Position botStart = new Position(board.getCols() - 2, board.getRows() - 2);
+        BotPlayer bot = botDifficulty >= BotPlayer.DIFFICULTY_EXPERT
+                ? new MctsBotPlayer(botName, botStart)
+                : new BotPlayer(botName, botStart, botDifficulty);
         players.add(bot);
 
         this.currentPlayerIndex = 0;
@@ -232,8 +311,217 @@ public class Game {
         this.currentPlayerSettingFlag = -1;
         this.proposedFlagPositions = new Position[0];
 
-        System.out.println("🤖 Partie contre bot créée !");
-        System.out.println("👤 " + playerName + " VS 🤖 " + botName);
+        indexPlayers();
+
+        log("🤖 Partie contre bot créée !");
+        log("👤 " + playerName + " VS 🤖 " + botName);
+    }
+
+    /**
+     * ✅ NOUVEAU: Constructeur d'une partie entre bots uniquement (tournois, simulations sans affichage)
+     * @param botSettings paramètres de chaque bot ({@link #MAX_BOTS} au maximum, les quatre premiers dans les coins)
+     * @param levelPath chemin vers le fichier de niveau
+     */
+    public Game(BotSettings[] botSettings, String levelPath) {
+        this(botSettings, null, levelPath);
+    }
+
+    /**
+     * ✅ NOUVEAU: Constructeur d'une partie entre bots répartis en équipes
+     * @param botSettings paramètres de chaque bot ({@link #MAX_BOTS} au maximum)
+     * @param teams équipe de chaque bot (null : chacun pour soi)
+     * @param levelPath chemin vers le fichier de niveau
+     */
+    public Game(BotSettings[] botSettings, int[] teams, String levelPath) {
+        this(botSettings, teams, loadBoard(levelPath), levelPath, false);
+    }
+
+    /**
+     * ✅ NOUVEAU: Constructeur d'une partie entre bots sur un niveau déjà chargé.
+     * Le plateau fourni est copié : un tournoi lit et analyse son niveau une seule fois pour toutes ses parties.
+     * @param botSettings paramètres de chaque bot ({@link #MAX_BOTS} au maximum)
+     * @param teams équipe de chaque bot (null : chacun pour soi)
+     * @param level plateau de départ, qui n'est pas modifié
+     * @param quiet true pour une partie sans aucun message (voir {@link #setQuiet(boolean)})
+     */
+    public Game(BotSettings[] botSettings, int[] teams, Board level, boolean quiet) {
+        this(botSettings, teams, new Board(level), level.getLevelPath(), quiet);
+    }
+
+    private Game(BotSettings[] botSettings, int[] teams, Board board, String levelPath, boolean quiet) {
+        this(board, levelPath, quiet);
+
+        int count = Math.min(botSettings.length, MAX_BOTS);
+        Position[] startPositions = computeStartPositions(count);
+
+        players.clear();
+        for (int i = 0; i < count; i++) {
+            BotSettings settings = botSettings[i];
+            players.add(settings.createBot("Bot " + (i + 1) + " " + settings.getLabel(), startPositions[i]));
+        }
+
+        indexPlayers();
+        if (teams != null) {
+            setTeams(teams);
+        }
+    }
+
+    /**
+     * ✅ NOUVEAU: Constructeur d'une partie contre plusieurs bots de difficultés variées
+     * @param playerName nom du joueur humain (toujours dans l'équipe 0)
+     * @param botDifficulties difficulté de chaque bot ({@link #MAX_BOTS} au maximum)
+     * @param botTeams équipe de chaque bot (null : chaque bot joue pour lui-même)
+     * @param levelPath chemin vers le fichier de niveau
+     */
+    public Game(String playerName, int[] botDifficulties, int[] botTeams, String levelPath) {
+        this(levelPath);
+        this.gameStartTime = System.currentTimeMillis();
+
+        int count = Math.min(botDifficulties.length, MAX_BOTS);
+        Position[] startPositions = computeStartPositions(count + 1);
+
+        players.clear();
+        players.add(new Player(playerName, startPositions[0]));
+        for (int i = 0; i < count; i++) {
+            BotSettings settings = botDifficulties[i] >= BotPlayer.DIFFICULTY_EXPERT
+                    ? BotSettings.expert()
+                    : BotSettings.forDifficulty(botDifficulties[i]);
+            players.add(settings.createBot("Bot " + (i + 1) + " " + getBotDifficultyName(botDifficulties[i]),
+                    startPositions[i + 1]));
+        }
+
+        indexPlayers();
+        if (botTeams != null) {
+            int[] teams = new int[players.size()];
+            for (int i = 0; i < count; i++) {
+                teams[i + 1] = i < botTeams.length ? botTeams[i] : i + 1;
+            }
+            setTeams(teams);
+        }
+
+        log("🤖 Partie contre " + count + " bots créée !");
+    }
+
+    /**
+     * ✅ NOUVEAU: Calcule des positions de départ bien réparties : les quatre coins d'abord,
+     * puis, tant qu'il en faut, la case libre la plus éloignée des positions déjà choisies.
+     * Les briques autour des positions supplémentaires sont retirées pour que chacun puisse bouger.
+     * @param count nombre de positions voulues
+     * @return les positions de départ
+     */
+    private Position[] computeStartPositions(int count) {
+        int cols = board.getCols();
+        int rows = board.getRows();
+        Position[] corners = {
+                new Position(1, 1),
+                new Position(cols - 2, rows - 2),
+                new Position(cols - 2, 1),
+                new Position(1, rows - 2)
+        };
+        Position[] positions = new Position[count];
+        int chosen = Math.min(count, corners.length);
+        System.arraycopy(corners, 0, positions, 0, chosen);
+
+        // Distance de chaque case à la position choisie la plus proche (-1 : mur)
+        int[] distance = new int[cols * rows];
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                boolean wall = x <= 0 || y <= 0 || x >= cols - 1 || y >= rows - 1
+                        || board.getCellTypeAt(x, y) == CellType.INDESTRUCTIBLE_WALL;
+                distance[y * cols + x] = wall ? -1 : Integer.MAX_VALUE;
+            }
+        }
+        for (int i = 0; i < chosen; i++) {
+            updateSpawnDistances(distance, cols, positions[i]);
+        }
+
+        for (int i = chosen; i < count; i++) {
+            int best = -1;
+            for (int cell = 0; cell < distance.length; cell++) {
+                if (distance[cell] > 0 && (best < 0 || distance[cell] > distance[best])) {
+                    best = cell;
+                }
+            }
+            if (best < 0) {
+                // Plateau saturé : on réutilise les coins plutôt que d'échouer
+                positions[i] = corners[i % corners.length];
+                continue;
+            }
+            positions[i] = new Position(best % cols, best / cols);
+            updateSpawnDistances(distance, cols, positions[i]);
+            clearBricksAround(positions[i]);
+        }
+        return positions;
+    }
+
+    private static void updateSpawnDistances(int[] distance, int cols, Position spawn) {
+        for (int cell = 0; cell < distance.length; cell++) {
+            if (distance[cell] > 0) {
+                int d = Math.abs(cell % cols - spawn.getX()) + Math.abs(cell / cols - spawn.getY());
+                distance[cell] = Math.min(distance[cell], d);
+            }
+        }
+    }
+
+    /**
+     * Retire les briques d'une case et de ses quatre voisines (les murs sont conservés).
+     */
+    private void clearBricksAround(Position center) {
+        int[][] offsets = {{0, 0}, {1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        for (int[] offset : offsets) {
+            Position pos = new Position(center.getX() + offset[0], center.getY() + offset[1]);
+            try {
+                if (board.isWithinBounds(pos) && board.getCellTypeAt(pos.getX(), pos.getY()) == CellType.DESTRUCTIBLE_BRICK) {
+                    board.setCellType(pos, CellType.EMPTY);
+                }
+            } catch (BombermanException e) {
+                log("Erreur lors de la libération de la zone de départ: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * ✅ NOUVEAU: Indexe les bots et les équipes une fois la liste des joueurs constituée,
+     * puis recalcule le hash de l'état. Chaque joueur forme sa propre équipe par défaut.
+     */
+    private void indexPlayers() {
+        int botCount = 0;
+        for (Player player : players) {
+            if (player instanceof BotPlayer) {
+                botCount++;
+            }
+        }
+        bots = new BotPlayer[botCount];
+        botPlayerIndices = new int[botCount];
+        playerTeams = new int[players.size()];
+        int b = 0;
+        for (int i = 0; i < players.size(); i++) {
+            playerTeams[i] = i;
+            Player player = players.get(i);
+            if (player instanceof BotPlayer) {
+                BotPlayer bot = (BotPlayer) player;
+                bot.setPlayerIndex(i);
+                log(bot.getIntroduction());
+                bots[b] = bot;
+                botPlayerIndices[b] = i;
+                b++;
+            }
+        }
+        int plannerCount = 0;
+        for (BotPlayer bot : bots) {
+            if (bot instanceof AnytimePlanner) {
+                plannerCount++;
+            }
+        }
+        planners = new AnytimePlanner[plannerCount];
+        int p = 0;
+        for (BotPlayer bot : bots) {
+            if (bot instanceof AnytimePlanner) {
+                planners[p++] = (AnytimePlanner) bot;
+            }
+        }
+        this.entityHash = computeEntityHash();
+        publishFrame(); // ✅ NOUVEAU: Première image, avant tout tour
     }
 
     // ============================================================================
@@ -300,12 +588,13 @@ public class Game {
         Player player = players.get(currentPlayerSettingFlag);
         Flag flag = new Flag(player, position);
         flags.add(flag);
+        entityHash ^= flagKey(flag);
 
         // Placer le drapeau sur le plateau
         CellType flagType = CellType.getFlagTypeForPlayer(currentPlayerSettingFlag);
         board.setCellType(position, flagType);
 
-        System.out.println("🏁 " + player.getName() + " a placé son drapeau en " + position);
+        log("🏁 " + player.getName() + " a placé son drapeau en " + position);
 
         // Passer au joueur suivant
         currentPlayerSettingFlag++;
@@ -314,6 +603,7 @@ public class Game {
         if (currentPlayerSettingFlag >= players.size()) {
             finalizeFlagSetup();
         }
+        publishFrame();
 
         return true;
     }
@@ -373,14 +663,14 @@ public class Game {
         flagSetupPhase = false;
         currentPlayerSettingFlag = -1;
 
-        System.out.println("🎮 Phase de placement terminée ! Le jeu CTF commence !");
-        System.out.println("🎯 Objectif : Capturez TOUS les drapeaux adverses pour gagner !");
-        System.out.println("💀 Les joueurs éliminés peuvent encore poser des bombes !");
+        log("🎮 Phase de placement terminée ! Le jeu CTF commence !");
+        log("🎯 Objectif : Capturez TOUS les drapeaux adverses pour gagner !");
+        log("💀 Les joueurs éliminés peuvent encore poser des bombes !");
 
         // Afficher l'état des drapeaux
         for (int i = 0; i < flags.size(); i++) {
             Flag flag = flags.get(i);
-            System.out.println("🏁 Drapeau de " + flag.getOwner().getName() + " : " + flag.getCurrentPosition());
+            log("🏁 Drapeau de " + flag.getOwner().getName() + " : " + flag.getCurrentPosition());
         }
     }
 
@@ -391,6 +681,29 @@ public class Game {
         return new ArrayList<>(flags);
     }
 
+    /**
+     * Accès direct (sans copie) aux drapeaux pour les calculs internes du modèle.
+     * La liste ne doit pas être modifiée par l'appelant.
+     * @return la liste interne des drapeaux
+     */
+    List<Flag> getFlagsView() {
+        return flags;
+    }
+
+    /**
+     * ✅ NOUVEAU: Compte les drapeaux portés par un joueur, sans copier la liste des drapeaux.
+     * @return le nombre de drapeaux portés
+     */
+    public int getCarriedFlagCount() {
+        int carried = 0;
+        for (Flag flag : flags) {
+            if (flag.isBeingCarried()) {
+                carried++;
+            }
+        }
+        return carried;
+    }
+
     /**
      * Obtient le drapeau d'un joueur spécifique
      */
@@ -430,13 +743,15 @@ public class Game {
 
         if (flagAtPosition != null && flagAtPosition.canBePickedUpBy(player)) {
             // Ramasser le drapeau
+            entityHash ^= flagKey(flagAtPosition);
             flagAtPosition.pickUpBy(player);
+            entityHash ^= flagKey(flagAtPosition);
 
             // Retirer le drapeau du plateau (il suit maintenant le joueur)
             try {
                 board.setCellType(playerPos, CellType.EMPTY);
             } catch (Exception e) {
-                System.out.println("Erreur lors du retrait du drapeau du plateau : " + e.getMessage());
+                log("Erreur lors du retrait du drapeau du plateau : " + e.getMessage());
             }
         }
     }
@@ -458,7 +773,7 @@ public class Game {
             int flagsNeeded = players.size() - 1; // Tous sauf le sien
             if (player.getCapturedFlagsCount() >= flagsNeeded) {
                 gameOver = true;
-                System.out.println("🏆 " + player.getName() + " remporte la victoire CTF en capturant tous les drapeaux !");
+                log("🏆 " + player.getName() + " remporte la victoire CTF en capturant tous les drapeaux !");
 
                 // ✅ NOUVEAU : Mettre à jour les stats pour CTF
                 updateProfileStats();
@@ -486,24 +801,51 @@ public class Game {
     }
 
     public void update() throws BombermanException {
-        // ✅ NOUVEAU: Faire jouer les bots avant la mise à jour normale
-        for (Player player : players) {
-            if (player instanceof BotPlayer && !player.isEliminated()) {
-                BotPlayer bot = (BotPlayer) player;
-                executeBotAction(bot);
+        // ✅ NOUVEAU: Durée réelle du tour, pour l'affichage des performances
+        long start = System.nanoTime();
+        try {
+            runTick();
+        } finally {
+            lastUpdateNanos = System.nanoTime() - start;
+            if (recording != null) {
+                recording.endTick();
             }
+            publishFrame();
         }
+    }
+
+    private void runTick() throws BombermanException {
+        previousTickNanos = lastTickNanos;
+        lastTickNanos = clock.nanoTime();
+        movementHistory.recordTick(players); // ✅ NOUVEAU: Position et action de chaque joueur ce tour-ci
+
+        // ✅ NOUVEAU: Phase 1 « décider » (lecture seule, en parallèle) puis phase 2 « appliquer » (en série)
+        int botCount = collectActiveBots();
+        long botStart = System.nanoTime();
+        if (botCount > 0) {
+            planBots(); // ✅ NOUVEAU: Tranche de réflexion du tour, dans le budget global
+            decideBotActions(botCount);
+            for (int i = 0; i < botCount; i++) {
+                applyBotAction(tickBots[i], tickBotIndices[i], tickBotActions[i]);
+            }
+        }
+        lastBotNanos = System.nanoTime() - botStart;
 
         // Mise à jour des bombes
         Iterator<Bomb> bombIterator = activeBombs.iterator();
         while (bombIterator.hasNext()) {
             Bomb bomb = bombIterator.next();
+            entityHash ^= bombKey(bomb);
             bomb.updateTimer();
             if (bomb.isExploded()) {
                 Explosion explosion = bomb.explode();
                 activeExplosions.add(explosion);
                 bombIterator.remove();
-                System.out.println("💥 EXPLOSION ! Disparaît dans 1.5 seconde !");
+                bombRevision++;
+                bombChangeLog.record(cellIndex(bomb.getPosition()));
+                log("💥 EXPLOSION ! Disparaît dans 1.5 seconde !");
+            } else {
+                entityHash ^= bombKey(bomb);
             }
         }
 
@@ -514,7 +856,7 @@ public class Game {
 
             if (explosion.isFinished()) {
                 explosionIterator.remove();
-                System.out.println("🟢 Explosion terminée (1.5s écoulées)");
+                log("🟢 Explosion terminée (1.5s écoulées)");
             } else {
                 // Vérifier les joueurs touchés par l'explosion
                 for (Player player : players) {
@@ -529,14 +871,15 @@ public class Game {
 
                             // Éliminer le joueur
                             player.setEliminated(true);
+                            entityHash ^= Zobrist.eliminated(players.indexOf(player));
 
-                            System.out.println("💀 " + player.getName() + " a été éliminé par une explosion !");
+                            log("💀 " + player.getName() + " a été éliminé par une explosion !");
 
                             if (bombOwner != null) {
                                 if (bombOwner.equals(player)) {
-                                    System.out.println("🤦 " + player.getName() + " s'est éliminé avec sa propre bombe !");
+                                    log("🤦 " + player.getName() + " s'est éliminé avec sa propre bombe !");
                                 } else {
-                                    System.out.println("🎯 " + bombOwner.getName() + " a éliminé " + player.getName() + " !");
+                                    log("🎯 " + bombOwner.getName() + " a éliminé " + player.getName() + " !");
                                 }
                             }
                         }
@@ -545,44 +888,106 @@ public class Game {
             }
         }
 
+        // ✅ NOUVEAU: Vérification du hash incrémental (uniquement avec -ea)
+        assert verifyStateHash() : "Hash Zobrist désynchronisé";
+
         // ✅ NOUVEAU: Logique spécifique au CTF
         if (gameMode == GameMode.CAPTURE_THE_FLAG && !flagSetupPhase) {
             updateCarriedFlags();
             if (checkCTFVictory()) {
+                dumpBotMetricsIfOver();
                 return; // Jeu terminé
             }
         }
 
         // Vérifier fin de partie (mode normal)
         if (gameMode != GameMode.CAPTURE_THE_FLAG) {
-            long aliveCount = players.stream().filter(p -> !p.isEliminated()).count();
-            if (aliveCount <= 1) {
+            // ✅ NOUVEAU: La partie s'arrête quand il reste au plus une équipe
+            int aliveTeams = getAliveTeamCount();
+            if (aliveTeams <= 1) {
                 gameOver = true;
 
-                if (aliveCount == 1) {
+                if (aliveTeams == 1) {
                     Player winner = players.stream().filter(p -> !p.isEliminated()).findFirst().orElse(null);
+                    // ✅ NOUVEAU : Mettre à jour les stats quand il y a un gagnant
+                    updateProfileStats();
                 }
             }
         }
-        if (gameMode != GameMode.CAPTURE_THE_FLAG) {
-            long aliveCount = players.stream().filter(p -> !p.isEliminated()).count();
-            if (aliveCount <= 1) {
-                gameOver = true;
+        dumpBotMetricsIfOver();
+    }
 
-                if (aliveCount == 1) {
-                    Player winner = players.stream().filter(p -> !p.isEliminated()).findFirst().orElse(null);
-                    // ✅ NOUVEAU : Mettre à jour les stats quand il y a un gagnant
-                    updateProfileStats();
-                }
+    /**
+     * Remplit les tampons du tick avec les bots encore en jeu.
+     * @return le nombre de bots actifs
+     */
+    private int collectActiveBots() {
+        if (tickBots.length < bots.length) {
+            tickBots = new BotPlayer[bots.length];
+            tickBotIndices = new int[bots.length];
+            tickBotActions = new BotAction[bots.length];
+        }
+        int count = 0;
+        for (int b = 0; b < bots.length; b++) {
+            if (!bots[b].isEliminated()) {
+                tickBots[count] = bots[b];
+                tickBotIndices[count] = botPlayerIndices[b];
+                count++;
             }
         }
+        return count;
     }
 
-    private void executeBotAction(BotPlayer bot) {
+    /**
+     * Phase de décision : chaque bot calcule son action sur l'état figé du tick.
+     * Aucune modification de la partie n'est permise pendant cette phase, ce qui permet
+     * de répartir les bots sur le pool ForkJoin commun quand ils sont nombreux.
+     * @param botCount nombre de bots à faire décider
+     */
+    private void decideBotActions(int botCount) {
+        botDecisionPhase = true;
         try {
-            BotAction action = bot.decideAction(this);
-            int botIndex = players.indexOf(bot);
+            if (botCount >= PARALLEL_BOT_THRESHOLD) {
+                IntStream.range(0, botCount).parallel()
+                        .forEach(i -> tickBotActions[i] = decideBotAction(tickBots[i]));
+            } else {
+                for (int i = 0; i < botCount; i++) {
+                    tickBotActions[i] = decideBotAction(tickBots[i]);
+                }
+            }
+        } finally {
+            botDecisionPhase = false;
+        }
+    }
 
+    /**
+     * Fait décider un bot, en mesurant la décision si les mesures sont activées.
+     * @param bot le bot
+     * @return l'action décidée
+     */
+    private BotAction decideBotAction(BotPlayer bot) {
+        BotMetrics metrics = botMetrics;
+        if (metrics == null) {
+            return bot.decideAction(this);
+        }
+        long start = System.nanoTime();
+        BotAction action = bot.decideAction(this);
+        metrics.record(bot.getDifficulty(), bot.getLastDecisionBranch(), action, System.nanoTime() - start);
+        return action;
+    }
+
+    /**
+     * Phase d'application : exécute l'action décidée par un bot.
+     * Les actions devenues invalides (collision entre deux bots, etc.) sont ignorées.
+     * @param bot le bot
+     * @param botIndex index du bot dans la liste des joueurs
+     * @param action l'action décidée pendant la phase 1
+     */
+    private void applyBotAction(BotPlayer bot, int botIndex, BotAction action) {
+        if (bot.isEliminated() || action == null) {
+            return;
+        }
+        try {
             switch (action) {
                 case MOVE_UP:
                     movePlayer(botIndex, 0, -1);
@@ -598,7 +1003,7 @@ public class Game {
                     break;
                 case PLACE_BOMB:
                     placeBombForPlayer(botIndex);
-                    System.out.println("🤖 " + bot.getName() + " pose une bombe tactique !");
+                    log("🤖 " + bot.getName() + " pose une bombe tactique !");
                     break;
                 case NONE:
                 default:
@@ -610,25 +1015,208 @@ public class Game {
         }
     }
 
+    /**
+     * ✅ NOUVEAU: Accorde une tranche de réflexion aux bots planificateurs, dans la limite du budget
+     * global du {@link BotPlanningScheduler}. Appelée au début de chaque tour, et par l'affichage
+     * entre deux tours pour mettre à profit le temps libre des images.
+     * @return le temps consommé, en nanosecondes
+     */
+    public long planBots() {
+        if (planners.length == 0 || gameOver) {
+            return 0;
+        }
+        lastPlanNanos = planningScheduler.runSlice(this, planners, planners.length);
+        return lastPlanNanos;
+    }
+
+    /**
+     * ✅ NOUVEAU: Champs de flux vers les joueurs, créés à la première demande.
+     * @return le cache des champs de flux de la partie
+     */
+    public synchronized FlowFieldCache getFlowFields() {
+        if (flowFields == null) {
+            flowFields = new FlowFieldCache(this);
+        }
+        return flowFields;
+    }
+
+    /**
+     * ✅ NOUVEAU: Historique récent des joueurs et prédiction de leur prochain coup.
+     * @return l'historique des déplacements, mis à jour à chaque tour
+     */
+    public MovementHistory getMovementHistory() {
+        return movementHistory;
+    }
+
+    /**
+     * ✅ NOUVEAU: Trajectoires d'affichage des joueurs (case quittée, instant et durée du glissement).
+     * @return les trajectoires, mises à jour à chaque déplacement
+     */
+    public MotionTrack getMotionTrack() {
+        return motionTrack;
+    }
+
+    /**
+     * ✅ NOUVEAU: Instant du dernier tour, sur l'horloge du jeu.
+     * @return l'instant en nanosecondes, 0 avant le premier tour
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * ✅ NOUVEAU: Durée mesurée entre les deux derniers tours.
+     * @return la durée en nanosecondes, {@link #DEFAULT_TICK_NANOS} tant qu'elle est inconnue
+     */
+    public long getTickIntervalNanos() {
+        long interval = lastTickNanos - previousTickNanos;
+        return previousTickNanos == 0 || interval <= 0 ? DEFAULT_TICK_NANOS : interval;
+    }
+
+    /**
+     * ✅ NOUVEAU: Avancement entre le dernier tour et le suivant attendu.
+     * @param nowNanos instant courant sur l'horloge du jeu
+     * @return une valeur entre 0 (tour tout juste joué) et 1 (tour suivant imminent)
+     */
+    public double getTickAlpha(long nowNanos) {
+        if (lastTickNanos == 0) {
+            return 0.0;
+        }
+        double alpha = (double) (nowNanos - lastTickNanos) / getTickIntervalNanos();
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    /**
+     * ✅ NOUVEAU: Temps de calcul du dernier appel à {@link #update()}.
+     * @return la durée en nanosecondes
+     */
+    public long getLastUpdateNanos() {
+        return lastUpdateNanos;
+    }
+
+    /**
+     * ✅ NOUVEAU: Part du dernier tour passée dans les bots (réflexion, décision, application).
+     * @return la durée en nanosecondes
+     */
+    public long getLastBotNanos() {
+        return lastBotNanos;
+    }
+
+    /**
+     * ✅ NOUVEAU: Durée de la dernière tranche de réflexion des bots.
+     * @return la durée en nanosecondes
+     */
+    public long getLastPlanNanos() {
+        return lastPlanNanos;
+    }
+
+    CellChangeLog getBombChangeLog() {
+        return bombChangeLog;
+    }
+
+    /**
+     * @return l'ordonnanceur de réflexion des bots (budget, temps consommé)
+     */
+    public BotPlanningScheduler getPlanningScheduler() {
+        return planningScheduler;
+    }
+
+    /**
+     * ✅ NOUVEAU: Rend les choix aléatoires des bots reproductibles : sur un même plateau et une même
+     * {@link SimulatedClock}, deux parties de même graine se déroulent à l'identique, que les bots
+     * décident en parallèle ou non (hors bots experts, dont la recherche est bornée par le temps).
+     * @param seed graine de la partie, dont chaque bot dérive la sienne
+     */
+    public void setRandomSeed(long seed) {
+        for (int b = 0; b < bots.length; b++) {
+            bots[b].setRandomSeed(seed * 31 + botPlayerIndices[b]);
+        }
+    }
+
+    /**
+     * @return true pendant la phase de décision des bots (la partie ne doit pas être modifiée)
+     */
+    public boolean isInBotDecisionPhase() {
+        return botDecisionPhase;
+    }
+
     private String getBotDifficultyName(int difficulty) {
         switch (difficulty) {
             case 1: return "Facile";
             case 2: return "Moyen";
             case 3: return "Difficile";
+            case 4: return "Expert";
             default: return "Moyen";
         }
     }
 
     public boolean hasBots() {
-        return players.stream().anyMatch(player -> player instanceof BotPlayer);
+        return bots.length > 0;
     }
 
+    /**
+     * @return le premier bot de la partie, ou null s'il n'y en a pas
+     */
     public BotPlayer getBot() {
-        return players.stream()
-                .filter(player -> player instanceof BotPlayer)
-                .map(player -> (BotPlayer) player)
-                .findFirst()
-                .orElse(null);
+        return bots.length > 0 ? bots[0] : null;
+    }
+
+    /**
+     * ✅ NOUVEAU: Nombre de bots de la partie (éliminés compris).
+     */
+    public int getBotCount() {
+        return bots.length;
+    }
+
+    /**
+     * ✅ NOUVEAU: Bot par son rang parmi les bots.
+     * @param botIndex rang du bot, entre 0 et {@link #getBotCount()} exclu
+     * @return le bot
+     */
+    public BotPlayer getBot(int botIndex) {
+        return bots[botIndex];
+    }
+
+    /**
+     * ✅ NOUVEAU: Équipe d'un joueur.
+     * @param playerIndex index du joueur dans la liste des joueurs
+     * @return le numéro d'équipe
+     */
+    public int getTeam(int playerIndex) {
+        return playerTeams[playerIndex];
+    }
+
+    /**
+     * ✅ NOUVEAU: Affecte les joueurs à des équipes. La partie se termine quand il ne reste
+     * que des joueurs d'une même équipe.
+     * @param teams équipe de chaque joueur, dans l'ordre des joueurs
+     */
+    public void setTeams(int[] teams) {
+        if (teams.length != players.size()) {
+            throw new IllegalArgumentException("Une équipe par joueur est attendue (" + players.size()
+                    + "), reçu " + teams.length);
+        }
+        playerTeams = teams.clone();
+    }
+
+    /**
+     * ✅ NOUVEAU: Nombre d'équipes ayant encore au moins un joueur en jeu.
+     */
+    public int getAliveTeamCount() {
+        int count = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).isEliminated()) {
+                continue;
+            }
+            boolean seen = false;
+            for (int j = 0; j < i && !seen; j++) {
+                seen = !players.get(j).isEliminated() && playerTeams[j] == playerTeams[i];
+            }
+            if (!seen) {
+                count++;
+            }
+        }
+        return count;
     }
 
     public Player getHumanPlayer() {
@@ -653,7 +1241,7 @@ public class Game {
                 }
             }
         } catch (Exception e) {
-            System.out.println("Erreur lors de la libération de la zone de départ: " + e.getMessage());
+            log("Erreur lors de la libération de la zone de départ: " + e.getMessage());
         }
     }
 
@@ -665,6 +1253,15 @@ public class Game {
         return players.size();
     }
 
+    /**
+     * ✅ NOUVEAU: Accès à un joueur sans copier la liste (affichage lu à chaque image).
+     * @param index index du joueur, entre 0 et {@link #getPlayerCount()} exclu
+     * @return le joueur
+     */
+    public Player getPlayer(int index) {
+        return players.get(index);
+    }
+
     /**
      * Retourne le nombre de joueurs encore vivants.
      * @return le nombre de joueurs vivants
@@ -707,6 +1304,15 @@ public class Game {
         return new ArrayList<>(players);
     }
 
+    /**
+     * Accès direct (sans copie) aux joueurs pour les calculs internes du modèle.
+     * La liste ne doit pas être modifiée par l'appelant.
+     * @return la liste interne des joueurs
+     */
+    List<Player> getPlayersView() {
+        return players;
+    }
+
     /**
      * Retourne la liste des bombes actives.
      * @return une copie de la liste des bombes actives
@@ -715,6 +1321,192 @@ public class Game {
         return new ArrayList<>(activeBombs);
     }
 
+    /**
+     * Accès direct (sans copie) aux bombes actives pour les calculs internes du modèle.
+     * La liste ne doit pas être modifiée par l'appelant.
+     * @return la liste interne des bombes actives
+     */
+    List<Bomb> getActiveBombsView() {
+        return activeBombs;
+    }
+
+    /**
+     * ✅ NOUVEAU: Nombre de bombes actives, sans copier la liste.
+     * @return le nombre de bombes actives
+     */
+    public int getActiveBombCount() {
+        return activeBombs.size();
+    }
+
+    /**
+     * Retourne le numéro de révision des bombes, modifié à chaque pose ou explosion.
+     * @return la révision courante des bombes
+     */
+    public int getBombRevision() {
+        return bombRevision;
+    }
+
+    /**
+     * ✅ NOUVEAU: Active la mesure des décisions des bots pour cette partie (affichée en fin de partie).
+     * @return les mesures de la partie
+     */
+    public BotMetrics enableBotMetrics() {
+        if (botMetrics == null) {
+            botMetrics = new BotMetrics();
+        }
+        return botMetrics;
+    }
+
+    /**
+     * @return les mesures des décisions des bots, ou null si elles sont désactivées
+     */
+    public BotMetrics getBotMetrics() {
+        return botMetrics;
+    }
+
+    /**
+     * Affiche une seule fois les mesures des bots quand la partie se termine.
+     */
+    private void dumpBotMetricsIfOver() {
+        if (gameOver && botMetrics != null && !botMetricsDumped) {
+            botMetricsDumped = true;
+            if (!quiet) {
+                botMetrics.dump(System.out);
+            }
+        }
+    }
+
+    /**
+     * ✅ NOUVEAU: Remplace l'horloge des règles (cooldowns, durée des explosions, rythme des bots).
+     * À appeler avant de jouer ; tous les joueurs de la partie utilisent ensuite cette horloge.
+     * @param clock la nouvelle horloge
+     */
+    public void setClock(GameClock clock) {
+        this.clock = clock;
+        for (Player player : players) {
+            player.setClock(clock);
+        }
+        publishFrame(); // Les échéances de l'image sont exprimées sur cette horloge
+    }
+
+    /**
+     * ✅ NOUVEAU: Coupe ou rétablit les messages de la partie et de ses bots sur la console.
+     * Les parties sans affichage jouées en parallèle restent ainsi silencieuses sans toucher à {@code System.out},
+     * partagé par tous les threads.
+     * @param quiet true pour ne plus rien afficher
+     */
+    public void setQuiet(boolean quiet) {
+        this.quiet = quiet;
+    }
+
+    public boolean isQuiet() {
+        return quiet;
+    }
+
+    /**
+     * ✅ NOUVEAU: Affiche un message de la partie, sauf si elle est silencieuse.
+     * @param message le message à afficher
+     */
+    void log(String message) {
+        if (!quiet) {
+            System.out.println(message);
+        }
+    }
+
+    /**
+     * ✅ NOUVEAU: Images figées de la partie, à lire depuis le thread d'affichage.
+     * Une nouvelle image est publiée après chaque tour et chaque action d'un joueur.
+     * @return le triple tampon des images
+     */
+    public FrameStateBuffer getFrames() {
+        return frames;
+    }
+
+    /**
+     * ✅ NOUVEAU: Commence à enregistrer la partie pour la rejouer hors ligne.
+     * À appeler avant le premier tour ; chaque déplacement et chaque bombe posée est ensuite noté.
+     * Seules les actions qui aboutissent sont notées : le replay échoue s'il refuse l'une d'elles
+     * (voir {@link MatchRecording#replayTick}).
+     * @return l'enregistrement, complété à chaque tour
+     */
+    public MatchRecording startRecording() {
+        recording = new MatchRecording(this);
+        return recording;
+    }
+
+    /**
+     * @return l'enregistrement en cours, ou null
+     */
+    public MatchRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * ✅ NOUVEAU: Publie l'état courant pour l'affichage, depuis le thread qui fait évoluer la partie
+     */
+    private void publishFrame() {
+        frames.publish(this);
+    }
+
+    /**
+     * @return l'horloge des règles de la partie
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * ✅ NOUVEAU: Retourne le hash Zobrist de l'état de la partie (cases, joueurs, bombes et
+     * leurs timers, drapeaux), maintenu de façon incrémentale à chaque modification.
+     * Deux parties dans le même état ont le même hash : il peut être échangé entre pairs
+     * pour détecter une désynchronisation ou comparé tour par tour lors de la vérification d'un replay.
+     * Les explosions en cours et les cooldowns (basés sur le temps réel) n'y figurent pas.
+     * @return le hash courant de l'état
+     */
+    public long getStateHash() {
+        return board.getZobristHash() ^ entityHash;
+    }
+
+    /**
+     * Recalcule le hash complet à partir de zéro et le compare au hash incrémental.
+     * Coûteux : réservé aux assertions de debug et aux tests.
+     * @return true si le hash incrémental est correct
+     */
+    boolean verifyStateHash() {
+        return board.computeZobristHash() == board.getZobristHash() && computeEntityHash() == entityHash;
+    }
+
+    private long computeEntityHash() {
+        long hash = 0L;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            hash ^= Zobrist.player(i, cellIndex(player.getPosition()));
+            if (player.isEliminated()) {
+                hash ^= Zobrist.eliminated(i);
+            }
+        }
+        for (Bomb bomb : activeBombs) {
+            hash ^= bombKey(bomb);
+        }
+        for (Flag flag : flags) {
+            hash ^= flagKey(flag);
+        }
+        return hash;
+    }
+
+    private long bombKey(Bomb bomb) {
+        return Zobrist.bomb(cellIndex(bomb.getPosition()), bomb.getTimer(), players.indexOf(bomb.getOwner()));
+    }
+
+    private long flagKey(Flag flag) {
+        int carrier = flag.getCarrier() != null ? players.indexOf(flag.getCarrier()) : -1;
+        return Zobrist.flag(players.indexOf(flag.getOwner()), carrier, flag.isCaptured());
+    }
+
+    private int cellIndex(Position pos) {
+        return pos.getY() * board.getCols() + pos.getX();
+    }
+
     /**
      * Retourne la liste des explosions actives.
      * @return une copie de la liste des explosions actives
@@ -723,6 +1515,23 @@ public class Game {
         return new ArrayList<>(activeExplosions);
     }
 
+    /**
+     * Accès direct (sans copie) aux explosions actives pour les calculs internes du modèle.
+     * La liste ne doit pas être modifiée par l'appelant.
+     * @return la liste interne des explosions actives
+     */
+    List<Explosion> getActiveExplosionsView() {
+        return activeExplosions;
+    }
+
+    /**
+     * ✅ NOUVEAU: Nombre d'explosions actives, sans copier la liste.
+     * @return le nombre d'explosions actives
+     */
+    public int getActiveExplosionCount() {
+        return activeExplosions.size();
+    }
+
 
 
     /**
@@ -733,6 +1542,7 @@ public class Game {
      * @throws BombermanException si le déplacement est invalide
      */
     public void movePlayer(int playerIndex, int dx, int dy) throws BombermanException {
+        checkNotInBotDecisionPhase();
         if (gameOver) {
             throw new BombermanException("La partie est terminée.");
         }
@@ -770,12 +1580,31 @@ public class Game {
             }
         }
 
+        entityHash ^= Zobrist.player(playerIndex, cellIndex(player.getPosition())) ^ Zobrist.player(playerIndex, cellIndex(newPos));
+        // ✅ NOUVEAU: Un bot glisse sur la durée d'un tour, un humain le temps d'un pas
+        long glide = player instanceof BotPlayer ? getTickIntervalNanos() : MotionTrack.STEP_NANOS;
+        motionTrack.moved(playerIndex, player.getPosition(), newPos, clock.nanoTime(), glide);
         player.setPosition(newPos);
+        if (recording != null) {
+            recording.record(playerIndex, dx > 0 ? BotAction.MOVE_RIGHT : dx < 0 ? BotAction.MOVE_LEFT
+                    : dy > 0 ? BotAction.MOVE_DOWN : BotAction.MOVE_UP);
+        }
 
         // ✅ NOUVEAU: Gestion CTF après le déplacement
         if (gameMode == GameMode.CAPTURE_THE_FLAG && !flagSetupPhase) {
             checkFlagPickup(player);
         }
+        publishFrame();
+    }
+
+    /**
+     * Refuse toute modification pendant que les bots décident sur l'état figé du tick.
+     * @throws BombermanException si on est en phase de décision
+     */
+    private void checkNotInBotDecisionPhase() throws BombermanException {
+        if (botDecisionPhase) {
+            throw new BombermanException("Modification de la partie interdite pendant la décision des bots.");
+        }
     }
 
     /**
@@ -784,6 +1613,7 @@ public class Game {
      * @throws BombermanException si le placement est invalide
      */
     public void placeBombForPlayer(int playerIndex) throws BombermanException {
+        checkNotInBotDecisionPhase();
         if (isGameOver()) {
             throw new BombermanException("Le jeu est terminé !");
         }
@@ -826,11 +1656,19 @@ public class Game {
         // ✅ CORRIGÉ: Créer et ajouter la nouvelle bombe
         Bomb newBomb = new Bomb(playerPosition, player, board);
         activeBombs.add(newBomb);
+        bombRevision++;
+        bombChangeLog.record(cellIndex(playerPosition));
+        movementHistory.bombPlaced(playerIndex);
+        if (recording != null) {
+            recording.record(playerIndex, BotAction.PLACE_BOMB);
+        }
+        entityHash ^= bombKey(newBomb);
 
         // ✅ NOUVEAU: Marquer que le joueur vient de poser une bombe
         player.bombPlaced();
+        publishFrame();
 
-        System.out.println(player.getName() + " a posé une bombe en " + playerPosition + " - Cooldown activé !");
+        log(player.getName() + " a posé une bombe en " + playerPosition + " - Cooldown activé !");
     }
 
 
@@ -839,7 +1677,8 @@ public class Game {
         for (Player player : players) {
             player.resetBombCooldown(); // Utilise la méthode publique au lieu d'accès direct
         }
-        System.out.println("🔄 Cooldowns de tous les joueurs réinitialisés");
+        publishFrame();
+        log("🔄 Cooldowns de tous les joueurs réinitialisés");
     }
 
 
@@ -881,6 +1720,7 @@ public class Game {
     public void endGame() {
         this.gameOver = true;
         updateProfileStats();
+        publishFrame();
     }
 
 
@@ -895,17 +1735,19 @@ public class Game {
             return;
         }
 
-        System.out.println("🏁 Gestion des drapeaux pour " + eliminatedPlayer.getName() + " éliminé...");
+        log("🏁 Gestion des drapeaux pour " + eliminatedPlayer.getName() + " éliminé...");
 
         // 1. Faire tomber tous les drapeaux portés par ce joueur
         for (Flag flag : flags) {
             if (flag.getCarrier() != null && flag.getCarrier().equals(eliminatedPlayer)) {
                 Position dropPosition = eliminatedPlayer.getPosition();
 
-                System.out.println("📉 " + eliminatedPlayer.getName() + " fait tomber le drapeau de " + flag.getOwner().getName() + " en " + dropPosition);
+                log("📉 " + eliminatedPlayer.getName() + " fait tomber le drapeau de " + flag.getOwner().getName() + " en " + dropPosition);
 
                 // Faire tomber le drapeau
+                entityHash ^= flagKey(flag);
                 flag.drop();
+                entityHash ^= flagKey(flag);
 
                 // Placer le drapeau sur le plateau à la position de chute
                 try {
@@ -914,9 +1756,9 @@ public class Game {
                     CellType flagType = CellType.getFlagTypeForPlayer(ownerIndex);
                     board.setCellType(dropPosition, flagType);
 
-                    System.out.println("🏁 Drapeau de " + flag.getOwner().getName() + " placé au sol en " + dropPosition);
+                    log("🏁 Drapeau de " + flag.getOwner().getName() + " placé au sol en " + dropPosition);
                 } catch (Exception e) {
-                    System.out.println("❌ Erreur lors du placement du drapeau tombé : " + e.getMessage());
+                    log("❌ Erreur lors du placement du drapeau tombé : " + e.getMessage());
                 }
             }
         }
@@ -927,17 +1769,19 @@ public class Game {
             // Si le drapeau était porté par quelqu'un d'autre
             if (ownFlag.isBeingCarried()) {
                 Player carrier = ownFlag.getCarrier();
-                System.out.println("🏠 Le drapeau de " + eliminatedPlayer.getName() + " retourne automatiquement à sa base (était porté par " + carrier.getName() + ")");
+                log("🏠 Le drapeau de " + eliminatedPlayer.getName() + " retourne automatiquement à sa base (était porté par " + carrier.getName() + ")");
 
                 // Retirer ce drapeau de la liste des drapeaux capturés du porteur
                 carrier.removeCapturedFlag(ownFlag.getFlagId());
             } else {
-                System.out.println("🏠 Le drapeau de " + eliminatedPlayer.getName() + " retourne automatiquement à sa base");
+                log("🏠 Le drapeau de " + eliminatedPlayer.getName() + " retourne automatiquement à sa base");
             }
 
             // Remettre le drapeau à sa position d'origine
             Position homePosition = ownFlag.getHomePosition();
+            entityHash ^= flagKey(ownFlag);
             ownFlag.returnHome();
+            entityHash ^= flagKey(ownFlag);
 
             // Mettre à jour le plateau
             try {
@@ -953,18 +1797,18 @@ public class Game {
                 board.setCellType(homePosition, flagType);
 
             } catch (Exception e) {
-                System.out.println("❌ Erreur lors du retour du drapeau à la base : " + e.getMessage());
+                log("❌ Erreur lors du retour du drapeau à la base : " + e.getMessage());
             }
         }
 
         // 3. Retirer tous les drapeaux capturés de la liste du joueur éliminé
         int capturedCount = eliminatedPlayer.getCapturedFlagsCount();
         if (capturedCount > 0) {
-            System.out.println("🗑️ " + eliminatedPlayer.getName() + " perd ses " + capturedCount + " drapeaux capturés");
+            log("🗑️ " + eliminatedPlayer.getName() + " perd ses " + capturedCount + " drapeaux capturés");
             eliminatedPlayer.clearCapturedFlags();
         }
 
-        System.out.println("✅ Gestion des drapeaux terminée pour " + eliminatedPlayer.getName());
+        log("✅ Gestion des drapeaux terminée pour " + eliminatedPlayer.getName());
     }
     public long getGameDurationSeconds() {
         return (System.currentTimeMillis() - gameStartTime) / 1000;
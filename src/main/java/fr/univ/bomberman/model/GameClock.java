@@ -0,0 +1,33 @@
+package fr.univ.bomberman.model;
+
+/**
+ * ✅ NOUVEAU: Source de temps utilisée par les règles du jeu (cooldowns, durée des explosions, rythme des bots).
+ *
+ * En jeu, c'est l'horloge système ; les parties sans affichage (tournois de bots, tests)
+ * utilisent un {@link SimulatedClock} avancé à chaque tour pour jouer bien plus vite que le temps réel.
+ */
+public interface GameClock {
+
+    /** Horloge réelle du système */
+    GameClock SYSTEM = new GameClock() {
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
+    /**
+     * @return le temps courant en millisecondes
+     */
+    long currentTimeMillis();
+
+    /**
+     * @return le temps courant en nanosecondes (pour mesurer des durées)
+     */
+    long nanoTime();
+}
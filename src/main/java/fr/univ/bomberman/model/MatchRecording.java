@@ -0,0 +1,279 @@
+package fr.univ.bomberman.model;
+
+import fr.univ.bomberman.exceptions.BombermanException;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ NOUVEAU: Enregistrement compact d'une partie, pour la rejouer hors ligne.
+ *
+ * Les bots décident en partie au hasard : relancer une partie avec les mêmes réglages ne redonne pas
+ * la même partie. L'enregistrement garde donc l'état de départ (plateau, joueurs, bombes) puis, tour
+ * par tour, les actions qui ont abouti, dans l'ordre où la partie les a appliquées (deux octets par
+ * action). {@link #replay(int, int)} les rejoue sur un {@link SimulationState}, avec les règles que les
+ * bots utilisent déjà pour simuler : ni hasard, ni horloge, ni JavaFX.
+ *
+ * L'enregistrement doit commencer avant le premier tour ; les drapeaux du mode CTF ne sont pas rejoués.
+ * Chaque action enregistrée a abouti pendant la partie : si le replay en refuse une, il ne reproduit plus
+ * la partie (règle du jeu différente de la simulation, fichier modifié) et {@link #replayTick} échoue
+ * au lieu de produire en silence une autre partie.
+ */
+public final class MatchRecording {
+
+    /** Version du format de fichier écrit par {@link #save(Path)} */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final BotAction[] ACTIONS = BotAction.values();
+
+    private final SimulationState start = new SimulationState();
+    private final String[] playerNames;
+    private short[] actions = new short[256]; // joueur * nombre d'actions + action
+    private int actionCount;
+    private int[] tickEnds = new int[64];     // Fin (exclue) des actions de chaque tour
+    private int tickCount;
+
+    /**
+     * Commence l'enregistrement d'une partie à partir de son état courant.
+     * @param game la partie enregistrée
+     */
+    MatchRecording(Game game) {
+        start.copyFrom(game);
+        List<Player> players = game.getPlayersView();
+        playerNames = new String[players.size()];
+        for (int i = 0; i < playerNames.length; i++) {
+            playerNames[i] = players.get(i).getName();
+        }
+    }
+
+    private MatchRecording(String[] playerNames) {
+        this.playerNames = playerNames;
+    }
+
+    /**
+     * Note une action qui vient d'aboutir pendant le tour en cours.
+     */
+    void record(int player, BotAction action) {
+        if (actionCount == actions.length) {
+            actions = Arrays.copyOf(actions, actionCount * 2);
+        }
+        actions[actionCount++] = (short) (player * ACTIONS.length + action.ordinal());
+    }
+
+    /**
+     * Clôt le tour en cours : ses actions seront rejouées avant un {@link SimulationState#step()}.
+     */
+    void endTick() {
+        if (tickCount == tickEnds.length) {
+            tickEnds = Arrays.copyOf(tickEnds, tickCount * 2);
+        }
+        tickEnds[tickCount++] = actionCount;
+    }
+
+    /**
+     * @return le nombre de tours enregistrés
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return le nombre d'actions enregistrées sur des tours clos
+     */
+    public int getActionCount() {
+        return tickCount == 0 ? 0 : tickEnds[tickCount - 1];
+    }
+
+    public int getPlayerCount() {
+        return playerNames.length;
+    }
+
+    public String getPlayerName(int player) {
+        return playerNames[player];
+    }
+
+    /**
+     * Replace un état au début de la partie enregistrée.
+     * @param state l'état à réinitialiser
+     */
+    public void restart(SimulationState state) {
+        state.copyFrom(start);
+    }
+
+    /**
+     * Rejoue un tour : ses actions dans l'ordre d'origine, puis l'avancée des bombes et des flammes.
+     * @param state état placé à la fin du tour précédent
+     * @param tick index du tour à rejouer
+     * @throws IllegalStateException si une action enregistrée est refusée : le replay a divergé de la partie
+     */
+    public void replayTick(SimulationState state, int tick) {
+        int from = tick == 0 ? 0 : tickEnds[tick - 1];
+        for (int i = from; i < tickEnds[tick]; i++) {
+            int player = actions[i] / ACTIONS.length;
+            BotAction action = ACTIONS[actions[i] % ACTIONS.length];
+            if (!state.apply(player, action)) {
+                throw new IllegalStateException("Replay divergent au tour " + tick + " : action " + action
+                        + " de " + playerNames[player] + " refusée alors qu'elle avait abouti pendant la partie");
+            }
+        }
+        state.step();
+    }
+
+    /**
+     * Rejoue la partie et garde une copie de l'état pour chaque tour demandé.
+     * @param firstTick premier état gardé (0 : avant le premier tour)
+     * @param lastTick dernier état gardé, au plus {@link #getTickCount()}
+     * @return les états après firstTick, ..., lastTick tours
+     * @throws IllegalStateException si le replay diverge de la partie enregistrée
+     */
+    public List<SimulationState> replay(int firstTick, int lastTick) {
+        if (firstTick < 0 || lastTick > tickCount || firstTick > lastTick) {
+            throw new IllegalArgumentException("Tours " + firstTick + " à " + lastTick
+                    + " hors de l'enregistrement (" + tickCount + " tours)");
+        }
+        SimulationState state = new SimulationState();
+        restart(state);
+        List<SimulationState> states = new ArrayList<>(lastTick - firstTick + 1);
+        for (int tick = 0; ; tick++) {
+            if (tick >= firstTick) {
+                SimulationState copy = new SimulationState();
+                copy.copyFrom(state);
+                states.add(copy);
+            }
+            if (tick == lastTick) {
+                return states;
+            }
+            replayTick(state, tick);
+        }
+    }
+
+    /**
+     * @return un état par tour, de l'état de départ à la fin de la partie
+     */
+    public List<SimulationState> replay() {
+        return replay(0, tickCount);
+    }
+
+    /**
+     * Écrit l'enregistrement au format JSON.
+     * @param file fichier de sortie
+     * @throws BombermanException si l'écriture échoue
+     */
+    public void save(Path file) throws BombermanException {
+        JSONArray grid = new JSONArray();
+        for (int y = 0; y < start.getRows(); y++) {
+            StringBuilder row = new StringBuilder(start.getCols());
+            for (int x = 0; x < start.getCols(); x++) {
+                row.append(start.isWall(x, y) ? '#' : start.isBrick(x, y) ? '+' : '.');
+            }
+            grid.put(row.toString());
+        }
+
+        JSONArray players = new JSONArray();
+        for (int i = 0; i < playerNames.length; i++) {
+            players.put(new JSONObject()
+                    .put("name", playerNames[i])
+                    .put("x", start.getPlayerX(i))
+                    .put("y", start.getPlayerY(i))
+                    .put("alive", start.isAlive(i))
+                    .put("cooldown", start.getCooldown(i)));
+        }
+
+        JSONArray bombs = new JSONArray();
+        for (int b = 0; b < start.getBombCount(); b++) {
+            bombs.put(new JSONObject()
+                    .put("x", start.getBombX(b))
+                    .put("y", start.getBombY(b))
+                    .put("timer", start.getBombTimer(b))
+                    .put("owner", start.getBombOwner(b)));
+        }
+
+        JSONArray ticks = new JSONArray();
+        for (int tick = 0; tick < tickCount; tick++) {
+            JSONArray codes = new JSONArray();
+            for (int i = tick == 0 ? 0 : tickEnds[tick - 1]; i < tickEnds[tick]; i++) {
+                codes.put((int) actions[i]);
+            }
+            ticks.put(codes);
+        }
+
+        JSONObject json = new JSONObject()
+                .put("version", FORMAT_VERSION)
+                .put("grid", grid)
+                .put("players", players)
+                .put("bombs", bombs)
+                .put("ticks", ticks);
+        try {
+            Files.write(file, json.toString(2).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new BombermanException("Impossible d'écrire l'enregistrement " + file + " : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lit un enregistrement écrit par {@link #save(Path)}.
+     * @param file fichier à lire
+     * @return l'enregistrement
+     * @throws BombermanException si le fichier est illisible ou d'une autre version
+     */
+    public static MatchRecording load(Path file) throws BombermanException {
+        JSONObject json;
+        try {
+            json = new JSONObject(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new BombermanException("Impossible de lire l'enregistrement " + file + " : " + e.getMessage(), e);
+        }
+        if (json.optInt("version", 0) != FORMAT_VERSION) {
+            throw new BombermanException("Version d'enregistrement non prise en charge : " + json.optInt("version", 0));
+        }
+
+        JSONArray grid = json.getJSONArray("grid");
+        JSONArray players = json.getJSONArray("players");
+        String[] names = new String[players.length()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = players.getJSONObject(i).getString("name");
+        }
+        MatchRecording recording = new MatchRecording(names);
+        SimulationState state = recording.start;
+
+        int rows = grid.length();
+        int cols = rows == 0 ? 0 : grid.getString(0).length();
+        state.reset(cols, rows, names.length);
+        for (int y = 0; y < rows; y++) {
+            String row = grid.getString(y);
+            for (int x = 0; x < cols; x++) {
+                char c = row.charAt(x);
+                state.setCell(x, y, c == '#' ? SimulationState.WALL : c == '+' ? SimulationState.BRICK : SimulationState.EMPTY);
+            }
+        }
+        for (int i = 0; i < names.length; i++) {
+            JSONObject player = players.getJSONObject(i);
+            state.setPlayer(i, player.getInt("x"), player.getInt("y"),
+                    player.getBoolean("alive"), player.getInt("cooldown"));
+        }
+        JSONArray bombs = json.getJSONArray("bombs");
+        for (int b = 0; b < bombs.length(); b++) {
+            JSONObject bomb = bombs.getJSONObject(b);
+            state.putBomb(bomb.getInt("x"), bomb.getInt("y"), bomb.getInt("timer"), bomb.getInt("owner"));
+        }
+        state.rehash();
+
+        JSONArray ticks = json.getJSONArray("ticks");
+        for (int tick = 0; tick < ticks.length(); tick++) {
+            JSONArray codes = ticks.getJSONArray(tick);
+            for (int i = 0; i < codes.length(); i++) {
+                int code = codes.getInt(i);
+                recording.record(code / ACTIONS.length, ACTIONS[code % ACTIONS.length]);
+            }
+            recording.endTick();
+        }
+        return recording;
+    }
+}
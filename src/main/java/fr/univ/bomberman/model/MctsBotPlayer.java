@@ -0,0 +1,447 @@
+package fr.univ.bomberman.model;
+
+/**
+ * ✅ NOUVEAU: Bot « Expert » piloté par une recherche Monte-Carlo (MCTS) en boucle ouverte.
+ *
+ * À chaque décision, le bot copie la partie dans un {@link SimulationState}, puis répète
+ * sélection UCT / expansion / partie aléatoire / rétropropagation jusqu'à épuisement du budget
+ * de temps ({@link #DEFAULT_TIME_BUDGET_NANOS} par défaut). Les adversaires sont joués par une
+ * politique aléatoire qui évite les flammes.
+ *
+ * Les nœuds de l'arbre sont stockés dans des tableaux primitifs préalloués et les simulations
+ * réutilisent le même état : une décision n'alloue presque rien. Quand le bot a bien joué
+ * le coup prévu, le sous-arbre correspondant devient la nouvelle racine au tour suivant.
+ *
+ * Une table de transposition indexée par le hash Zobrist de l'état simulé accumule les
+ * valeurs de simulation : deux séquences de coups menant au même état (haut puis gauche,
+ * gauche puis haut...) partagent leur estimation, conservée d'une décision à l'autre.
+ *
+ * La réflexion peut aussi être étalée entre deux coups ({@link AnytimePlanner}) : la partie
+ * accorde au bot des tranches de temps via son {@link BotPlanningScheduler}, l'arbre est affiné
+ * tranche après tranche et, au moment de jouer, le meilleur coup trouvé est joué sans nouvelle recherche.
+ * Le budget par décision ne sert alors plus : un bot qui n'a pas eu de tranche ce tour-ci joue
+ * d'après le sous-arbre conservé du tour précédent, ou à défaut l'heuristique, sans allonger le tour.
+ *
+ * Si la recherche n'a pu faire aucune itération (budget nul, interruption), le bot
+ * se replie sur l'heuristique du {@link BotPlayer} difficile.
+ */
+public class MctsBotPlayer extends BotPlayer implements AnytimePlanner {
+
+    /** Budget de réflexion par décision (2 ms) */
+    public static final long DEFAULT_TIME_BUDGET_NANOS = 2_000_000L;
+
+    private static final BotAction[] ACTIONS = BotAction.values();
+    private static final int ACTION_COUNT = ACTIONS.length;
+    private static final int MAX_NODES = 1 << 14;
+    private static final int MAX_TREE_DEPTH = 12;
+    private static final int ROLLOUT_DEPTH = 8;
+    private static final double EXPLORATION = 1.4;
+    private static final int TT_SIZE = 1 << 12;
+
+    // Pool de nœuds : les enfants d'un nœud développé sont contigus, un par action
+    private final int[] nodeParent = new int[MAX_NODES];
+    private final int[] nodeFirstChild = new int[MAX_NODES];
+    private final int[] nodeVisits = new int[MAX_NODES];
+    private final float[] nodeValue = new float[MAX_NODES];
+    private int nodeCount;
+    private int root = -1;
+
+    // Table de transposition (remplacement systématique en cas de collision d'index)
+    private final long[] ttKeys = new long[TT_SIZE];
+    private final float[] ttValue = new float[TT_SIZE];
+    private final int[] ttCount = new int[TT_SIZE];
+
+    private final SimulationState rootState = new SimulationState();
+    private final SimulationState scratch = new SimulationState();
+    private final SimulationState probe = new SimulationState();
+
+    private final long timeBudgetNanos;
+    private volatile boolean stopRequested;
+    private long rngState;
+
+    private int selfIndex;
+    private int playedChild = -1;
+    private int expectedX;
+    private int expectedY;
+    private int lastIterations;
+    private boolean rootReady;       // rootState et l'arbre correspondent au dernier état observé
+    private int plannedIterations;   // Itérations faites par tranches sur la racine courante
+    private boolean scheduled;       // Vrai dès que la partie répartit la réflexion par tranches
+
+    /**
+     * Constructeur d'un bot expert avec le budget de réflexion par défaut.
+     * @param name le nom du bot
+     * @param position la position initiale sur le plateau
+     */
+    public MctsBotPlayer(String name, Position position) {
+        this(name, position, DEFAULT_TIME_BUDGET_NANOS);
+    }
+
+    /**
+     * Constructeur d'un bot expert avec un budget de réflexion donné.
+     * @param name le nom du bot
+     * @param position la position initiale sur le plateau
+     * @param timeBudgetNanos temps maximal de recherche par décision, en nanosecondes
+     */
+    public MctsBotPlayer(String name, Position position, long timeBudgetNanos) {
+        super(name, position, BotSettings.expert());
+        this.timeBudgetNanos = Math.max(0, timeBudgetNanos);
+        this.rngState = System.nanoTime() ^ System.identityHashCode(this) | 1L;
+    }
+
+    /**
+     * La recherche reste bornée par le temps : à graine égale, le nombre d'itérations, donc le coup, peut varier.
+     */
+    @Override
+    void setRandomSeed(long seed) {
+        super.setRandomSeed(seed);
+        rngState = seed * 0x9E3779B97F4A7C15L | 1L;
+    }
+
+    @Override
+    String getIntroduction() {
+        return "🧠 Bot " + getName() + " - Recherche MCTS (" + (this.timeBudgetNanos / 1000) + " µs par décision)";
+    }
+
+    @Override
+    public BotAction decideAction(Game game) {
+        if (isEliminated()) {
+            return BotAction.NONE;
+        }
+
+        if (!syncRoot(game)) {
+            return super.decideAction(game);
+        }
+
+        // ✅ NOUVEAU: Si le bot a déjà réfléchi sur cet état, le meilleur coup est prêt
+        stopRequested = false;
+        long budget = scheduled ? 0 : timeBudgetNanos;
+        lastIterations = plannedIterations + search(System.nanoTime() + budget);
+        plannedIterations = 0;
+        rootReady = false;
+
+        int best = bestChild();
+        if (best < 0) {
+            playedChild = -1;
+            return super.decideAction(game);
+        }
+
+        BotAction action = ACTIONS[best - nodeFirstChild[root]];
+        rememberPlayedChild(best, action);
+        setLastDecisionBranch(BotMetrics.Branch.SEARCH);
+        return action;
+    }
+
+    /**
+     * ✅ NOUVEAU: Poursuit la recherche sur l'état courant pendant une tranche de temps.
+     * L'arbre est conservé jusqu'à la prochaine décision tant que l'état de la partie ne change pas.
+     */
+    @Override
+    public void think(Game game, long sliceNanos) {
+        if (isEliminated() || sliceNanos <= 0 || !syncRoot(game)) {
+            return;
+        }
+        scheduled = true;
+        stopRequested = false;
+        plannedIterations += search(System.nanoTime() + sliceNanos);
+    }
+
+    @Override
+    public boolean wantsToThink() {
+        return !isEliminated();
+    }
+
+    /**
+     * Demande l'arrêt de la recherche en cours ; la meilleure action trouvée jusque-là est jouée.
+     * Peut être appelée depuis un autre thread.
+     */
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    /**
+     * @return le nombre d'itérations MCTS ayant servi à la dernière décision (tranches comprises)
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * @return le budget de réflexion par décision, en nanosecondes
+     */
+    public long getTimeBudgetNanos() {
+        return timeBudgetNanos;
+    }
+
+    @Override
+    public int getDifficulty() {
+        return DIFFICULTY_EXPERT;
+    }
+
+    // ============================================================================
+    // Arbre de recherche
+    // ============================================================================
+
+    /**
+     * Aligne la racine de la recherche sur l'état courant de la partie. L'arbre est gardé
+     * si l'état n'a pas changé depuis la dernière tranche de réflexion.
+     * @return faux si le bot ne fait pas partie de la partie
+     */
+    private boolean syncRoot(Game game) {
+        selfIndex = game.getPlayersView().indexOf(this);
+        if (selfIndex < 0) {
+            return false;
+        }
+        probe.copyFrom(game);
+        if (rootReady && probe.getHash() == rootState.getHash()) {
+            return true;
+        }
+        rootState.copyFrom(probe);
+        prepareRoot();
+        rootReady = true;
+        plannedIterations = 0;
+        return true;
+    }
+
+    private int search(long deadline) {
+        int iterations = 0;
+        while (!stopRequested && System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            runIteration();
+            iterations++;
+        }
+        return iterations;
+    }
+
+    /**
+     * Réutilise le sous-arbre du coup joué au tour précédent si le bot est bien arrivé
+     * là où il devait, sinon repart d'un arbre vide.
+     */
+    private void prepareRoot() {
+        boolean reusable = playedChild >= 0
+                && nodeFirstChild[playedChild] >= 0
+                && nodeCount < MAX_NODES * 3 / 4
+                && rootState.getPlayerX(selfIndex) == expectedX
+                && rootState.getPlayerY(selfIndex) == expectedY;
+        if (reusable) {
+            root = playedChild;
+            nodeParent[root] = -1;
+        } else {
+            nodeCount = 0;
+            root = newNode(-1);
+        }
+        playedChild = -1;
+    }
+
+    private void rememberPlayedChild(int child, BotAction action) {
+        scratch.copyFrom(rootState);
+        scratch.apply(selfIndex, action);
+        expectedX = scratch.getPlayerX(selfIndex);
+        expectedY = scratch.getPlayerY(selfIndex);
+        playedChild = child;
+    }
+
+    private int newNode(int parent) {
+        int node = nodeCount++;
+        nodeParent[node] = parent;
+        nodeFirstChild[node] = -1;
+        nodeVisits[node] = 0;
+        nodeValue[node] = 0f;
+        return node;
+    }
+
+    private boolean expand(int node) {
+        if (nodeCount + ACTION_COUNT > MAX_NODES) {
+            return false;
+        }
+        nodeFirstChild[node] = nodeCount;
+        for (int a = 0; a < ACTION_COUNT; a++) {
+            newNode(node);
+        }
+        return true;
+    }
+
+    private void runIteration() {
+        scratch.copyFrom(rootState);
+        int node = root;
+        int depth = 0;
+
+        while (scratch.isAlive(selfIndex) && scratch.getAliveCount() > 1) {
+            if (nodeFirstChild[node] < 0
+                    && (nodeVisits[node] == 0 || depth >= MAX_TREE_DEPTH || !expand(node))) {
+                break;
+            }
+            int child = selectChild(node);
+            if (child < 0) {
+                break;
+            }
+            advance(ACTIONS[child - nodeFirstChild[node]]);
+            node = child;
+            depth++;
+        }
+
+        long leafHash = scratch.getHash();
+        float value = lookupTransposition(leafHash, rollout());
+        while (node >= 0) {
+            nodeVisits[node]++;
+            nodeValue[node] += value;
+            node = nodeParent[node];
+        }
+    }
+
+    /**
+     * Sélection UCT parmi les actions légales dans l'état simulé courant.
+     */
+    private int selectChild(int node) {
+        int base = nodeFirstChild[node];
+        double logVisits = Math.log(nodeVisits[node] + 1);
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int a = 0; a < ACTION_COUNT; a++) {
+            if (!scratch.isLegal(selfIndex, ACTIONS[a])) {
+                continue;
+            }
+            int child = base + a;
+            int visits = nodeVisits[child];
+            if (visits == 0) {
+                return child;
+            }
+            double score = nodeValue[child] / visits + EXPLORATION * Math.sqrt(logVisits / visits);
+            if (score > bestScore) {
+                bestScore = score;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Ajoute le résultat d'une simulation à l'entrée de la table pour cet état
+     * et retourne la moyenne de toutes les simulations parties de cet état.
+     */
+    private float lookupTransposition(long hash, float value) {
+        int slot = (int) (hash ^ (hash >>> 32)) & (TT_SIZE - 1);
+        if (ttKeys[slot] != hash || ttCount[slot] == 0) {
+            ttKeys[slot] = hash;
+            ttValue[slot] = value;
+            ttCount[slot] = 1;
+            return value;
+        }
+        ttValue[slot] += value;
+        ttCount[slot]++;
+        return ttValue[slot] / ttCount[slot];
+    }
+
+    private int bestChild() {
+        if (root < 0 || nodeFirstChild[root] < 0) {
+            return -1;
+        }
+        int base = nodeFirstChild[root];
+        int best = -1;
+        for (int a = 0; a < ACTION_COUNT; a++) {
+            int child = base + a;
+            if (nodeVisits[child] > 0 && rootState.isLegal(selfIndex, ACTIONS[a])
+                    && (best < 0 || nodeVisits[child] > nodeVisits[best])) {
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    // ============================================================================
+    // Simulation
+    // ============================================================================
+
+    private void advance(BotAction selfAction) {
+        scratch.apply(selfIndex, selfAction);
+        for (int p = 0; p < scratch.getPlayerCount(); p++) {
+            if (p != selfIndex && scratch.isAlive(p)) {
+                scratch.apply(p, randomPolicy(p));
+            }
+        }
+        scratch.step();
+    }
+
+    private float rollout() {
+        for (int d = 0; d < ROLLOUT_DEPTH && scratch.isAlive(selfIndex) && scratch.getAliveCount() > 1; d++) {
+            advance(randomPolicy(selfIndex));
+        }
+        return evaluate();
+    }
+
+    /**
+     * Politique de simulation : action aléatoire légale, sans entrer dans une zone de souffle,
+     * avec des poses de bombe moins fréquentes que les déplacements.
+     */
+    private BotAction randomPolicy(int player) {
+        for (int attempt = 0; attempt < 4; attempt++) {
+            BotAction action = ACTIONS[nextInt(ACTION_COUNT)];
+            if (action == BotAction.PLACE_BOMB && nextInt(3) != 0) {
+                continue;
+            }
+            if (scratch.isLegal(player, action) && !movesIntoThreat(player, action)) {
+                return action;
+            }
+        }
+        return BotAction.NONE;
+    }
+
+    private boolean movesIntoThreat(int player, BotAction action) {
+        int x = scratch.getPlayerX(player);
+        int y = scratch.getPlayerY(player);
+        switch (action) {
+            case MOVE_UP:    y--; break;
+            case MOVE_DOWN:  y++; break;
+            case MOVE_LEFT:  x--; break;
+            case MOVE_RIGHT: x++; break;
+            default:         return false;
+        }
+        return scratch.isThreatened(x, y);
+    }
+
+    /**
+     * Évalue l'état final d'une simulation entre 0 (bot éliminé) et 1 (seul survivant).
+     */
+    private float evaluate() {
+        if (!scratch.isAlive(selfIndex)) {
+            return 0f;
+        }
+        int opponents = scratch.getPlayerCount() - 1;
+        if (opponents <= 0) {
+            return 0.5f;
+        }
+
+        int x = scratch.getPlayerX(selfIndex);
+        int y = scratch.getPlayerY(selfIndex);
+        int eliminated = 0;
+        int nearest = Integer.MAX_VALUE;
+        for (int p = 0; p < scratch.getPlayerCount(); p++) {
+            if (p == selfIndex) {
+                continue;
+            }
+            if (!scratch.isAlive(p)) {
+                eliminated++;
+            } else {
+                nearest = Math.min(nearest, Math.abs(scratch.getPlayerX(p) - x) + Math.abs(scratch.getPlayerY(p) - y));
+            }
+        }
+        if (eliminated == opponents) {
+            return 1f;
+        }
+
+        float score = 0.5f + 0.35f * eliminated / opponents;
+        score += 0.1f / (1 + nearest); // Se rapprocher de la cible
+        if (scratch.isThreatened(x, y)) {
+            score -= 0.25f; // Encore dans un souffle à l'horizon de la simulation
+        }
+        return Math.max(0f, Math.min(1f, score));
+    }
+
+    private int nextInt(int bound) {
+        long x = rngState;
+        x ^= x << 13;
+        x ^= x >>> 7;
+        x ^= x << 17;
+        rngState = x;
+        return (int) ((x >>> 33) % bound);
+    }
+}
@@ -0,0 +1,110 @@
+package fr.univ.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * ✅ NOUVEAU: Trajectoires d'affichage des joueurs entre deux états du jeu.
+ *
+ * Les règles déplacent les joueurs case par case ; cette classe retient, pour chaque joueur, d'où il
+ * vient, quand il a bougé et la durée du glissement. L'affichage peut ainsi placer le sprite entre
+ * deux cases à n'importe quel instant, indépendamment du rythme des tours.
+ *
+ * Un déplacement qui survient avant la fin du précédent repart de la position affichée à cet instant,
+ * sans saut.
+ */
+public class MotionTrack {
+
+    /** Durée du glissement d'un pas de joueur humain (inférieure au délai entre deux pas) */
+    public static final long STEP_NANOS = 120_000_000L;
+
+    private double[] fromX = new double[0];
+    private double[] fromY = new double[0];
+    private int[] toX = new int[0];
+    private int[] toY = new int[0];
+    private long[] startNanos = new long[0];
+    private long[] durationNanos = new long[0];
+
+    /**
+     * Enregistre un déplacement d'une case.
+     * @param player index du joueur
+     * @param from case quittée
+     * @param to case atteinte
+     * @param nowNanos instant du déplacement
+     * @param duration durée du glissement affiché, en nanosecondes
+     */
+    void moved(int player, Position from, Position to, long nowNanos, long duration) {
+        ensureCapacity(player + 1);
+        boolean sliding = isMoving(player, nowNanos);
+        double startX = sliding ? getX(player, nowNanos) : from.getX();
+        double startY = sliding ? getY(player, nowNanos) : from.getY();
+        fromX[player] = startX;
+        fromY[player] = startY;
+        toX[player] = to.getX();
+        toY[player] = to.getY();
+        startNanos[player] = nowNanos;
+        durationNanos[player] = Math.max(1, duration);
+    }
+
+    /**
+     * @return la colonne affichée (fractionnaire pendant un glissement) ; à n'utiliser que si
+     *         {@link #isMoving} est vrai, la case du joueur fait foi sinon
+     */
+    public double getX(int player, long nowNanos) {
+        double alpha = getProgress(player, nowNanos);
+        return fromX[player] + (toX[player] - fromX[player]) * alpha;
+    }
+
+    /**
+     * @return la ligne affichée (fractionnaire pendant un glissement), voir {@link #getX}
+     */
+    public double getY(int player, long nowNanos) {
+        double alpha = getProgress(player, nowNanos);
+        return fromY[player] + (toY[player] - fromY[player]) * alpha;
+    }
+
+    /**
+     * @return l'avancement du dernier glissement entre 0 et 1 ; 1 si le joueur n'a jamais bougé
+     */
+    public double getProgress(int player, long nowNanos) {
+        if (player >= durationNanos.length || durationNanos[player] == 0) {
+            return 1.0;
+        }
+        double alpha = (double) (nowNanos - startNanos[player]) / durationNanos[player];
+        return Math.max(0.0, Math.min(1.0, alpha));
+    }
+
+    /**
+     * @return vrai si le joueur est affiché entre deux cases
+     */
+    public boolean isMoving(int player, long nowNanos) {
+        return getProgress(player, nowNanos) < 1.0;
+    }
+
+    /**
+     * Recopie les trajectoires d'un autre suivi (instantané pour l'affichage), sans allocation
+     * si les capacités suffisent.
+     */
+    void copyFrom(MotionTrack other) {
+        int size = other.durationNanos.length;
+        ensureCapacity(size);
+        System.arraycopy(other.fromX, 0, fromX, 0, size);
+        System.arraycopy(other.fromY, 0, fromY, 0, size);
+        System.arraycopy(other.toX, 0, toX, 0, size);
+        System.arraycopy(other.toY, 0, toY, 0, size);
+        System.arraycopy(other.startNanos, 0, startNanos, 0, size);
+        System.arraycopy(other.durationNanos, 0, durationNanos, 0, size);
+        Arrays.fill(durationNanos, size, durationNanos.length, 0L);
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= durationNanos.length) {
+            return;
+        }
+        fromX = Arrays.copyOf(fromX, size);
+        fromY = Arrays.copyOf(fromY, size);
+        toX = Arrays.copyOf(toX, size);
+        toY = Arrays.copyOf(toY, size);
+        startNanos = Arrays.copyOf(startNanos, size);
+        durationNanos = Arrays.copyOf(durationNanos, size);
+    }
+}
@@ -0,0 +1,226 @@
+package fr.univ.bomberman.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ NOUVEAU: Historique récent des déplacements de chaque joueur et prédiction de son prochain coup.
+ *
+ * À chaque tour, la partie enregistre la position de chaque joueur et l'action qui l'y a mené
+ * dans un tampon circulaire de {@link #CAPACITY} entrées par joueur (tableaux primitifs, sans
+ * objet par entrée). Une table de transitions de Markov d'ordre 1 sur {@link BotAction} compte,
+ * pour chaque joueur, quelle action suit quelle autre ; l'action la plus probable après chaque
+ * action est tenue à jour à l'enregistrement, si bien qu'une prédiction est en O(1).
+ *
+ * Les compteurs d'une ligne sont divisés par deux quand ils dépassent {@link #ROW_LIMIT},
+ * pour suivre un joueur qui change d'habitudes.
+ */
+public final class MovementHistory {
+
+    /** Nombre de tours conservés par joueur */
+    public static final int CAPACITY = 16;
+    /** Au-delà de ce nombre d'observations, une ligne de la table est divisée par deux */
+    static final int ROW_LIMIT = 64;
+
+    private static final BotAction[] ACTIONS = BotAction.values();
+    private static final int ACTION_COUNT = ACTIONS.length;
+
+    private int playerCount;
+    private short[] historyX = new short[0];
+    private short[] historyY = new short[0];
+    private byte[] historyAction = new byte[0];
+    private int[] head = new int[0];          // Prochaine case d'écriture du tampon de chaque joueur
+    private int[] size = new int[0];
+    private boolean[] bombPlaced = new boolean[0];
+
+    private int[] transitions = new int[0];   // [joueur][précédente][suivante]
+    private int[] rowTotal = new int[0];      // [joueur][précédente]
+    private byte[] likeliest = new byte[0];   // [joueur][précédente] -> suivante la plus fréquente, -1 si inconnue
+
+    /**
+     * Enregistre la position de tous les joueurs en jeu pour ce tour.
+     * @param players les joueurs de la partie, dans l'ordre de leurs index
+     */
+    void recordTick(List<Player> players) {
+        ensurePlayers(players.size());
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            if (player.isEliminated()) {
+                continue;
+            }
+            Position position = player.getPosition();
+            int action = size[p] == 0
+                    ? BotAction.NONE.ordinal()
+                    : actionBetween(getX(p, 0), getY(p, 0), position.getX(), position.getY(), bombPlaced[p]);
+            bombPlaced[p] = false;
+
+            if (size[p] > 0) {
+                countTransition(p, historyAction[p * CAPACITY + latestSlot(p)], action);
+            }
+            int slot = p * CAPACITY + head[p];
+            historyX[slot] = (short) position.getX();
+            historyY[slot] = (short) position.getY();
+            historyAction[slot] = (byte) action;
+            head[p] = (head[p] + 1) % CAPACITY;
+            size[p] = Math.min(CAPACITY, size[p] + 1);
+        }
+    }
+
+    /**
+     * Signale qu'un joueur a posé une bombe pendant le tour en cours.
+     */
+    void bombPlaced(int player) {
+        ensurePlayers(player + 1);
+        bombPlaced[player] = true;
+    }
+
+    /**
+     * @return le nombre de tours enregistrés pour ce joueur (au plus {@link #CAPACITY})
+     */
+    public int size(int player) {
+        return player < playerCount ? size[player] : 0;
+    }
+
+    /**
+     * @param age 0 pour le dernier tour enregistré, 1 pour le précédent...
+     */
+    public int getX(int player, int age) {
+        return historyX[player * CAPACITY + slotAt(player, age)];
+    }
+
+    public int getY(int player, int age) {
+        return historyY[player * CAPACITY + slotAt(player, age)];
+    }
+
+    public BotAction getAction(int player, int age) {
+        return ACTIONS[historyAction[player * CAPACITY + slotAt(player, age)]];
+    }
+
+    /**
+     * Action la plus probable du joueur au prochain tour, d'après sa dernière action.
+     * @return l'action prédite, ou NONE faute d'observations
+     */
+    public BotAction predictNextAction(int player) {
+        if (size(player) == 0) {
+            return BotAction.NONE;
+        }
+        int next = likeliest[player * ACTION_COUNT + historyAction[player * CAPACITY + latestSlot(player)]];
+        return next < 0 ? BotAction.NONE : ACTIONS[next];
+    }
+
+    /**
+     * Fréquence observée de l'action prédite après la dernière action du joueur.
+     * @return une probabilité entre 0 et 1 (0 faute d'observations)
+     */
+    public double getConfidence(int player) {
+        if (size(player) == 0) {
+            return 0.0;
+        }
+        int row = player * ACTION_COUNT + historyAction[player * CAPACITY + latestSlot(player)];
+        int next = likeliest[row];
+        return next < 0 || rowTotal[row] == 0 ? 0.0 : (double) transitions[row * ACTION_COUNT + next] / rowTotal[row];
+    }
+
+    /**
+     * Position prédite du joueur dans quelques tours, en enchaînant les actions les plus probables.
+     * Un déplacement vers un mur ou une brique laisse le joueur sur place.
+     * @param player index du joueur
+     * @param steps nombre de tours d'anticipation
+     * @param board plateau utilisé pour écarter les déplacements impossibles
+     * @return la position prédite, ou null si le joueur n'a pas d'historique
+     */
+    public Position predictPosition(int player, int steps, Board board) {
+        if (size(player) == 0) {
+            return null;
+        }
+        int x = getX(player, 0);
+        int y = getY(player, 0);
+        int previous = historyAction[player * CAPACITY + latestSlot(player)];
+        for (int s = 0; s < steps; s++) {
+            int next = likeliest[player * ACTION_COUNT + previous];
+            if (next < 0) {
+                break;
+            }
+            int nx = x + dx(next);
+            int ny = y + dy(next);
+            if (nx >= 0 && ny >= 0 && nx < board.getCols() && ny < board.getRows()) {
+                CellType type = board.getCellTypeAt(nx, ny);
+                if (type != CellType.INDESTRUCTIBLE_WALL && type != CellType.DESTRUCTIBLE_BRICK) {
+                    x = nx;
+                    y = ny;
+                }
+            }
+            previous = next;
+        }
+        return new Position(x, y);
+    }
+
+    private void countTransition(int player, int previous, int next) {
+        int row = player * ACTION_COUNT + previous;
+        int base = row * ACTION_COUNT;
+        transitions[base + next]++;
+        rowTotal[row]++;
+        int best = likeliest[row];
+        if (best < 0 || transitions[base + next] > transitions[base + best]) {
+            likeliest[row] = (byte) next;
+        }
+
+        if (rowTotal[row] > ROW_LIMIT) {
+            int total = 0;
+            for (int a = 0; a < ACTION_COUNT; a++) {
+                transitions[base + a] >>= 1;
+                total += transitions[base + a];
+            }
+            rowTotal[row] = total;
+        }
+    }
+
+    private static int actionBetween(int fromX, int fromY, int toX, int toY, boolean bomb) {
+        int dx = toX - fromX;
+        int dy = toY - fromY;
+        if (dx == 0 && dy == 0) {
+            return (bomb ? BotAction.PLACE_BOMB : BotAction.NONE).ordinal();
+        }
+        // Plusieurs cases dans le même tour (joueur humain) : on garde l'axe dominant
+        if (Math.abs(dx) >= Math.abs(dy)) {
+            return (dx > 0 ? BotAction.MOVE_RIGHT : BotAction.MOVE_LEFT).ordinal();
+        }
+        return (dy > 0 ? BotAction.MOVE_DOWN : BotAction.MOVE_UP).ordinal();
+    }
+
+    private static int dx(int action) {
+        return action == BotAction.MOVE_RIGHT.ordinal() ? 1 : action == BotAction.MOVE_LEFT.ordinal() ? -1 : 0;
+    }
+
+    private static int dy(int action) {
+        return action == BotAction.MOVE_DOWN.ordinal() ? 1 : action == BotAction.MOVE_UP.ordinal() ? -1 : 0;
+    }
+
+    private int latestSlot(int player) {
+        return (head[player] + CAPACITY - 1) % CAPACITY;
+    }
+
+    private int slotAt(int player, int age) {
+        if (age < 0 || age >= size(player)) {
+            throw new IndexOutOfBoundsException("Tour " + age + " hors de l'historique du joueur " + player);
+        }
+        return (head[player] + CAPACITY - 1 - age) % CAPACITY;
+    }
+
+    private void ensurePlayers(int count) {
+        if (count <= playerCount) {
+            return;
+        }
+        historyX = Arrays.copyOf(historyX, count * CAPACITY);
+        historyY = Arrays.copyOf(historyY, count * CAPACITY);
+        historyAction = Arrays.copyOf(historyAction, count * CAPACITY);
+        head = Arrays.copyOf(head, count);
+        size = Arrays.copyOf(size, count);
+        bombPlaced = Arrays.copyOf(bombPlaced, count);
+        transitions = Arrays.copyOf(transitions, count * ACTION_COUNT * ACTION_COUNT);
+        rowTotal = Arrays.copyOf(rowTotal, count * ACTION_COUNT);
+        likeliest = Arrays.copyOf(likeliest, count * ACTION_COUNT);
+        Arrays.fill(likeliest, playerCount * ACTION_COUNT, count * ACTION_COUNT, (byte) -1);
+        playerCount = count;
+    }
+}
@@ -0,0 +1,455 @@
+package fr.univ.bomberman.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ NOUVEAU: Service de recherche de chemin A* sur la grille du plateau.
+ *
+ * Le coût d'une case dépend de son contenu :
+ * - case vide ou drapeau : 1
+ * - brique destructible : {@link #BRICK_COST} (il faut poser une bombe et attendre)
+ * - case dans le rayon d'une bombe active : + {@link #DANGER_COST}
+ * - mur indestructible ou bombe : infranchissable
+ *
+ * Aucune allocation n'est faite pendant une recherche : la liste ouverte est un tas binaire
+ * sur tableaux d'entiers et l'ensemble fermé est un tableau estampillé par génération.
+ * Le dernier chemin est gardé en cache tant que le plateau et les bombes n'ont pas changé.
+ *
+ * Une instance n'est pas thread-safe : chaque bot possède la sienne.
+ */
+public class PathFinder {
+
+    public static final int EMPTY_COST = 1;
+    public static final int BRICK_COST = 6;
+    public static final int DANGER_COST = 4;
+    private static final int BOMB_RANGE = 2;
+
+    private static final int[] DIR_X = {0, 0, -1, 1};
+    private static final int[] DIR_Y = {-1, 1, 0, 0};
+    private static final BotAction[] DIR_ACTIONS = {
+            BotAction.MOVE_UP, BotAction.MOVE_DOWN, BotAction.MOVE_LEFT, BotAction.MOVE_RIGHT
+    };
+
+    // Grille de travail (réallouée seulement si la taille du plateau change)
+    private int cols;
+    private int rows;
+    private int[] gScore;
+    private int[] parent;
+    private int[] openStamp;     // == generation si gScore/parent sont valides pour cette recherche
+    private int[] closedStamp;   // == generation si la case est fermée
+    private int[] dangerStamp;   // == generation si la case est dans le rayon d'une bombe
+    private int generation;
+
+    // Tas binaire min (clé = f), avec suppression paresseuse des doublons
+    private int[] heapNode;
+    private int[] heapKey;
+    private int heapSize;
+
+    // Chemin courant : cases de pathCells[pathOffset] (départ exclu) jusqu'à pathCells[pathEnd - 1] (arrivée)
+    private int[] pathCells;
+    private int pathOffset;
+    private int pathEnd;
+    private int pathCost;
+    private boolean pathFound;
+
+    // Clé du cache
+    private Board cachedBoard;
+    private int cachedBoardRevision;
+    private int cachedBombRevision;
+    private int cachedGoal = -1;
+    private int cachedStart = -1;
+
+    /**
+     * Cherche un chemin en tenant compte des bombes actives de la partie.
+     *
+     * @param game  la partie en cours
+     * @param start position de départ
+     * @param goal  position d'arrivée
+     * @return true si un chemin existe
+     */
+    public boolean search(Game game, Position start, Position goal) {
+        return search(game.getBoard(), game.getActiveBombsView(), game.getBombRevision(), start, goal);
+    }
+
+    /**
+     * Cherche un chemin sur un plateau sans bombe.
+     *
+     * @param board le plateau
+     * @param start position de départ
+     * @param goal  position d'arrivée
+     * @return true si un chemin existe
+     */
+    public boolean search(Board board, Position start, Position goal) {
+        return search(board, null, 0, start, goal);
+    }
+
+    private boolean search(Board board, List<Bomb> bombs, int bombRevision, Position start, Position goal) {
+        if (!board.isWithinBounds(start) || !board.isWithinBounds(goal)) {
+            invalidate();
+            pathFound = false;
+            return false;
+        }
+
+        ensureCapacity(board);
+        int startIndex = start.getY() * cols + start.getX();
+        int goalIndex = goal.getY() * cols + goal.getX();
+
+        // Réutiliser le chemin en cache si rien n'a changé
+        if (board == cachedBoard
+                && board.getRevision() == cachedBoardRevision
+                && bombRevision == cachedBombRevision
+                && goalIndex == cachedGoal) {
+            if (startIndex == cachedStart) {
+                return pathFound;
+            }
+            if (pathFound && advanceCachedPath(startIndex)) {
+                return true;
+            }
+        }
+
+        cachedBoard = board;
+        cachedBoardRevision = board.getRevision();
+        cachedBombRevision = bombRevision;
+        cachedGoal = goalIndex;
+        cachedStart = startIndex;
+
+        nextGeneration();
+        markDanger(board, bombs);
+        pathFound = runAStar(board, startIndex, goalIndex);
+        if (pathFound) {
+            buildPath(startIndex, goalIndex);
+        } else {
+            pathOffset = 0;
+            pathEnd = 0;
+            pathCost = 0;
+        }
+        return pathFound;
+    }
+
+    /**
+     * Raccourci : cherche un chemin et retourne la première action à effectuer.
+     *
+     * @param game  la partie en cours
+     * @param start position de départ
+     * @param goal  position d'arrivée
+     * @return la première action du chemin, ou NONE si aucun chemin
+     */
+    public BotAction nextAction(Game game, Position start, Position goal) {
+        if (!search(game, start, goal)) {
+            return BotAction.NONE;
+        }
+        return getFirstStep();
+    }
+
+    /**
+     * @return la direction du premier pas du dernier chemin trouvé, ou NONE
+     */
+    public BotAction getFirstStep() {
+        if (!pathFound || pathOffset >= pathEnd) {
+            return BotAction.NONE;
+        }
+        int from = cachedStart;
+        int to = pathCells[pathOffset];
+        int dx = (to % cols) - (from % cols);
+        int dy = (to / cols) - (from / cols);
+        for (int d = 0; d < 4; d++) {
+            if (DIR_X[d] == dx && DIR_Y[d] == dy) {
+                return DIR_ACTIONS[d];
+            }
+        }
+        return BotAction.NONE;
+    }
+
+    /**
+     * @return true si le premier pas du chemin est une brique à détruire
+     */
+    public boolean isFirstStepBrick() {
+        if (!pathFound || pathOffset >= pathEnd) {
+            return false;
+        }
+        int to = pathCells[pathOffset];
+        return cachedBoard.getCellTypeAt(to % cols, to / cols) == CellType.DESTRUCTIBLE_BRICK;
+    }
+
+    /**
+     * @return le nombre de pas du dernier chemin (0 si départ == arrivée ou pas de chemin)
+     */
+    public int getPathLength() {
+        return pathFound ? pathEnd - pathOffset : 0;
+    }
+
+    /**
+     * @return le coût total du dernier chemin trouvé
+     */
+    public int getPathCost() {
+        return pathFound ? pathCost : 0;
+    }
+
+    /**
+     * @return true si la dernière recherche a trouvé un chemin
+     */
+    public boolean isPathFound() {
+        return pathFound;
+    }
+
+    /**
+     * Copie le dernier chemin sous forme de positions (pour le debug et les tests).
+     *
+     * @return la liste des positions, départ exclu
+     */
+    public List<Position> getPath() {
+        List<Position> path = new ArrayList<>();
+        if (!pathFound) {
+            return path;
+        }
+        for (int i = pathOffset; i < pathEnd; i++) {
+            path.add(new Position(pathCells[i] % cols, pathCells[i] / cols));
+        }
+        return path;
+    }
+
+    /**
+     * Vide le cache : la prochaine recherche sera recalculée.
+     */
+    public void invalidate() {
+        cachedBoard = null;
+        cachedGoal = -1;
+        cachedStart = -1;
+    }
+
+    // ================================================================
+    // ALGORITHME
+    // ================================================================
+
+    private boolean runAStar(Board board, int startIndex, int goalIndex) {
+        heapSize = 0;
+        int goalX = goalIndex % cols;
+        int goalY = goalIndex / cols;
+
+        gScore[startIndex] = 0;
+        parent[startIndex] = -1;
+        openStamp[startIndex] = generation;
+        heapPush(startIndex, heuristic(startIndex, goalX, goalY));
+
+        while (heapSize > 0) {
+            int current = heapPop();
+            if (closedStamp[current] == generation) {
+                continue; // doublon périmé
+            }
+            closedStamp[current] = generation;
+
+            if (current == goalIndex) {
+                pathCost = gScore[current];
+                return true;
+            }
+
+            int cx = current % cols;
+            int cy = current / cols;
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DIR_X[d];
+                int ny = cy + DIR_Y[d];
+                if (nx < 0 || ny < 0 || nx >= cols || ny >= rows) {
+                    continue;
+                }
+                int next = ny * cols + nx;
+                if (closedStamp[next] == generation) {
+                    continue;
+                }
+                int stepCost = stepCost(board, nx, ny, next, goalIndex);
+                if (stepCost < 0) {
+                    continue;
+                }
+                int tentative = gScore[current] + stepCost;
+                if (openStamp[next] != generation || tentative < gScore[next]) {
+                    openStamp[next] = generation;
+                    gScore[next] = tentative;
+                    parent[next] = current;
+                    heapPush(next, tentative + heuristic(next, goalX, goalY));
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Coût pour entrer dans une case, ou -1 si elle est infranchissable.
+     */
+    private int stepCost(Board board, int x, int y, int index, int goalIndex) {
+        CellType type = board.getCellTypeAt(x, y);
+        int cost;
+        if (type == CellType.INDESTRUCTIBLE_WALL) {
+            return -1;
+        } else if (type == CellType.DESTRUCTIBLE_BRICK) {
+            cost = BRICK_COST;
+        } else {
+            cost = EMPTY_COST;
+        }
+        if (dangerStamp[index] == generation) {
+            if (index != goalIndex && isBombCell(index)) {
+                return -1;
+            }
+            cost += DANGER_COST;
+        }
+        return cost;
+    }
+
+    private int heuristic(int index, int goalX, int goalY) {
+        return (Math.abs(index % cols - goalX) + Math.abs(index / cols - goalY)) * EMPTY_COST;
+    }
+
+    // ================================================================
+    // BOMBES
+    // ================================================================
+
+    private int[] bombCells = new int[8];
+    private int bombCount;
+
+    private void markDanger(Board board, List<Bomb> bombs) {
+        bombCount = 0;
+        if (bombs == null) {
+            return;
+        }
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb bomb = bombs.get(i);
+            int bx = bomb.getX();
+            int by = bomb.getY();
+            if (bx < 0 || by < 0 || bx >= cols || by >= rows) {
+                continue;
+            }
+            int index = by * cols + bx;
+            if (bombCount == bombCells.length) {
+                int[] grown = new int[bombCells.length * 2];
+                System.arraycopy(bombCells, 0, grown, 0, bombCount);
+                bombCells = grown;
+            }
+            bombCells[bombCount++] = index;
+            dangerStamp[index] = generation;
+            for (int d = 0; d < 4; d++) {
+                for (int r = 1; r <= BOMB_RANGE; r++) {
+                    int x = bx + DIR_X[d] * r;
+                    int y = by + DIR_Y[d] * r;
+                    if (x < 0 || y < 0 || x >= cols || y >= rows
+                            || board.getCellTypeAt(x, y) == CellType.INDESTRUCTIBLE_WALL) {
+                        break;
+                    }
+                    dangerStamp[y * cols + x] = generation;
+                }
+            }
+        }
+    }
+
+    private boolean isBombCell(int index) {
+        for (int i = 0; i < bombCount; i++) {
+            if (bombCells[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ================================================================
+    // CHEMIN ET CACHE
+    // ================================================================
+
+    private void buildPath(int startIndex, int goalIndex) {
+        // Compter les pas puis remplir le tampon à l'endroit
+        int length = 0;
+        for (int node = goalIndex; node != startIndex; node = parent[node]) {
+            length++;
+        }
+        int i = length;
+        for (int node = goalIndex; node != startIndex; node = parent[node]) {
+            pathCells[--i] = node;
+        }
+        pathOffset = 0;
+        pathEnd = length;
+    }
+
+    /**
+     * Si le bot a avancé le long du chemin en cache, on décale simplement le début.
+     */
+    private boolean advanceCachedPath(int startIndex) {
+        for (int i = pathOffset; i < pathEnd; i++) {
+            if (pathCells[i] == startIndex) {
+                pathOffset = i + 1;
+                cachedStart = startIndex;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureCapacity(Board board) {
+        if (gScore != null && board.getCols() == cols && board.getRows() == rows) {
+            return;
+        }
+        cols = board.getCols();
+        rows = board.getRows();
+        int size = cols * rows;
+        gScore = new int[size];
+        parent = new int[size];
+        openStamp = new int[size];
+        closedStamp = new int[size];
+        dangerStamp = new int[size];
+        pathCells = new int[size];
+        heapNode = new int[size * 4 + 1];
+        heapKey = new int[size * 4 + 1];
+        generation = 0;
+        invalidate();
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(openStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            Arrays.fill(dangerStamp, 0);
+            generation = 1;
+        }
+    }
+
+    // ================================================================
+    // TAS BINAIRE
+    // ================================================================
+
+    private void heapPush(int node, int key) {
+        int i = heapSize++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heapKey[p] <= key) {
+                break;
+            }
+            heapNode[i] = heapNode[p];
+            heapKey[i] = heapKey[p];
+            i = p;
+        }
+        heapNode[i] = node;
+        heapKey[i] = key;
+    }
+
+    private int heapPop() {
+        int result = heapNode[0];
+        int lastNode = heapNode[--heapSize];
+        int lastKey = heapKey[heapSize];
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < heapSize && heapKey[right] < heapKey[child]) {
+                child = right;
+            }
+            if (heapKey[child] >= lastKey) {
+                break;
+            }
+            heapNode[i] = heapNode[child];
+            heapKey[i] = heapKey[child];
+            i = child;
+        }
+        heapNode[i] = lastNode;
+        heapKey[i] = lastKey;
+        return result;
+    }
+}
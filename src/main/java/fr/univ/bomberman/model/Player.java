@@ -16,7 +16,9 @@ public class Player {
     private boolean hasFlag;
     private long lastBombTime = 0;
     private static final long BOMB_COOLDOWN = 2_000_000_000L; // 2 secondes en nanosecondes
-    private static final long BOMB_COOLDOWN_MS = 2000;
+    static final long BOMB_COOLDOWN_MS = 2000;
+
+    private GameClock clock = GameClock.SYSTEM; // ✅ NOUVEAU: Horloge de la partie (simulée hors affichage)
 
     // Nouvelles propriétés pour le mode CTF
     private List<String> capturedFlags; // Drapeaux capturés par ce joueur
@@ -99,19 +101,35 @@ public class Player {
      * @return true si le joueur peut poser une bombe, false sinon
      */
     public boolean canPlaceBomb() {
-        long currentTime = System.nanoTime();
+        long currentTime = clock.nanoTime();
         boolean cooldownReady = (currentTime - lastBombTime) >= BOMB_COOLDOWN;
 
         // En mode CTF, les joueurs éliminés peuvent poser des bombes
         return cooldownReady && (!eliminated || canPlaceBombWhenEliminated);
     }
 
+    /**
+     * ✅ NOUVEAU: Horloge utilisée pour le cooldown des bombes (et le rythme des bots).
+     * @return l'horloge du joueur
+     */
+    GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * ✅ NOUVEAU: Rattache le joueur à l'horloge de sa partie.
+     * @param clock l'horloge à utiliser
+     */
+    void setClock(GameClock clock) {
+        this.clock = clock;
+    }
+
     public void bombPlaced() {
-        lastBombTime = System.nanoTime();
+        lastBombTime = clock.nanoTime();
     }
 
     public long getRemainingCooldown() {
-        long currentTime = System.nanoTime();
+        long currentTime = clock.nanoTime();
         long elapsed = currentTime - lastBombTime;
         long remaining = BOMB_COOLDOWN - elapsed;
 
@@ -0,0 +1,31 @@
+package fr.univ.bomberman.model;
+
+/**
+ * ✅ NOUVEAU: Horloge manuelle pour les parties sans affichage.
+ * Le temps n'avance que par {@link #advanceMillis(long)}, typiquement d'un intervalle de mise à jour par tour.
+ */
+public class SimulatedClock implements GameClock {
+
+    // On démarre loin de zéro : les « dernière action » initialisées à 0 sont ainsi déjà expirées
+    private static final long START_NANOS = 1_000_000_000_000L;
+
+    private volatile long nanos = START_NANOS;
+
+    /**
+     * Fait avancer l'horloge.
+     * @param millis durée écoulée en millisecondes
+     */
+    public void advanceMillis(long millis) {
+        nanos += millis * 1_000_000L;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return nanos / 1_000_000L;
+    }
+
+    @Override
+    public long nanoTime() {
+        return nanos;
+    }
+}
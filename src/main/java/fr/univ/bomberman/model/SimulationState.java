@@ -0,0 +1,567 @@
+package fr.univ.bomberman.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ NOUVEAU: Copie compacte (tableaux primitifs) de l'état d'une partie, utilisée par l'IA pour simuler.
+ *
+ * Reproduit les règles de {@link Game#update()} à l'échelle d'un tour : une action par joueur,
+ * mèche de 3 tours, portée de 2 cases stoppée par les murs, briques détruites sans arrêter le souffle,
+ * flammes mortelles pendant deux vérifications. Le temps réel n'intervient pas : un tour = un appel à {@link #step()}.
+ *
+ * Les tableaux ne sont réalloués que si la taille du plateau ou le nombre de joueurs augmente,
+ * si bien que {@link #copyFrom(SimulationState)}, {@link #apply(int, BotAction)} et {@link #step()}
+ * n'allouent rien une fois l'état initialisé.
+ *
+ * Le hash Zobrist part de {@link Game#getStateHash()} et suit les mêmes clés ; s'y ajoutent
+ * les flammes et les cooldowns, qui font partie de l'état simulé.
+ */
+public class SimulationState {
+
+    static final byte EMPTY = 0;
+    static final byte WALL = 1;
+    static final byte BRICK = 2;
+
+    /** Nombre de tours avant l'explosion d'une bombe (identique à {@link Bomb}) */
+    public static final int BOMB_FUSE = 3;
+    /** Portée d'une explosion dans chaque direction */
+    public static final int BOMB_RANGE = 2;
+    /** Cooldown de pose en tours (2 s dans le jeu, un tour = 1 s) */
+    public static final int BOMB_COOLDOWN_TICKS = 2;
+    /** Nombre de vérifications pendant lesquelles une flamme reste mortelle */
+    private static final int FIRE_TICKS = 2;
+
+    private static final BotAction[] ACTIONS = BotAction.values();
+
+    private int cols;
+    private int rows;
+    private byte[] cells = new byte[0];
+    private byte[] fire = new byte[0];
+    private int[] burning = new int[0];
+    private int burningCount;
+
+    private int playerCount;
+    private int[] playerX = new int[0];
+    private int[] playerY = new int[0];
+    private boolean[] alive = new boolean[0];
+    private int[] cooldown = new int[0];
+
+    private int bombCount;
+    private int[] bombX = new int[8];
+    private int[] bombY = new int[8];
+    private int[] bombTimer = new int[8];
+    private int[] bombOwner = new int[8];
+
+    private int tick;
+    private long hash;
+
+    /**
+     * Capture l'état courant d'une partie.
+     * @param game la partie à copier
+     */
+    public void copyFrom(Game game) {
+        for (int b = 0; b < burningCount; b++) {
+            fire[burning[b]] = 0;
+        }
+        burningCount = 0;
+
+        Board board = game.getBoard();
+        ensureBoardCapacity(board.getCols(), board.getRows());
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                CellType type = board.getCellTypeAt(x, y);
+                cells[y * cols + x] = type == CellType.INDESTRUCTIBLE_WALL ? WALL
+                        : type == CellType.DESTRUCTIBLE_BRICK ? BRICK : EMPTY;
+            }
+        }
+
+        List<Player> players = game.getPlayersView();
+        ensurePlayerCapacity(players.size());
+        for (int i = 0; i < playerCount; i++) {
+            Player player = players.get(i);
+            playerX[i] = player.getX();
+            playerY[i] = player.getY();
+            alive[i] = !player.isEliminated();
+            cooldown[i] = (int) ((player.getRemainingCooldown() + 999) / 1000);
+        }
+
+        List<Bomb> bombs = game.getActiveBombsView();
+        bombCount = 0;
+        for (Bomb bomb : bombs) {
+            int owner = players.indexOf(bomb.getOwner());
+            addBomb(bomb.getX(), bomb.getY(), bomb.getTimer(), owner);
+        }
+
+        // Les cases, joueurs, bombes et drapeaux sont déjà dans le hash de la partie
+        hash = game.getStateHash();
+        for (int i = 0; i < playerCount; i++) {
+            hash ^= Zobrist.cooldown(i, cooldown[i]);
+        }
+
+        // Les explosions encore actives tueront au prochain tour
+        for (Explosion explosion : game.getActiveExplosionsView()) {
+            if (explosion.isFinished()) {
+                continue;
+            }
+            for (Position pos : explosion.getAffectedPositions()) {
+                if (inBounds(pos.getX(), pos.getY())) {
+                    ignite(pos.getY() * cols + pos.getX(), 1);
+                }
+            }
+        }
+        tick = 0;
+    }
+
+    /**
+     * Copie un autre état de simulation, sans allocation si les capacités suffisent.
+     * @param other l'état source
+     */
+    public void copyFrom(SimulationState other) {
+        ensureBoardCapacity(other.cols, other.rows);
+        int size = cols * rows;
+        System.arraycopy(other.cells, 0, cells, 0, size);
+        System.arraycopy(other.fire, 0, fire, 0, size);
+        System.arraycopy(other.burning, 0, burning, 0, other.burningCount);
+        burningCount = other.burningCount;
+
+        ensurePlayerCapacity(other.playerCount);
+        System.arraycopy(other.playerX, 0, playerX, 0, playerCount);
+        System.arraycopy(other.playerY, 0, playerY, 0, playerCount);
+        System.arraycopy(other.alive, 0, alive, 0, playerCount);
+        System.arraycopy(other.cooldown, 0, cooldown, 0, playerCount);
+
+        ensureBombCapacity(other.bombCount);
+        System.arraycopy(other.bombX, 0, bombX, 0, other.bombCount);
+        System.arraycopy(other.bombY, 0, bombY, 0, other.bombCount);
+        System.arraycopy(other.bombTimer, 0, bombTimer, 0, other.bombCount);
+        System.arraycopy(other.bombOwner, 0, bombOwner, 0, other.bombCount);
+        bombCount = other.bombCount;
+        tick = other.tick;
+        hash = other.hash;
+    }
+
+    /**
+     * ✅ NOUVEAU: Vide l'état pour le reconstruire case par case (chargement d'un replay) :
+     * plateau vide, joueurs en jeu en (0, 0), ni bombe ni flamme. Terminer par {@link #rehash()}.
+     */
+    void reset(int newCols, int newRows, int newPlayerCount) {
+        ensureBoardCapacity(newCols, newRows);
+        int size = cols * rows;
+        Arrays.fill(cells, 0, size, EMPTY);
+        Arrays.fill(fire, 0, size, (byte) 0);
+        burningCount = 0;
+        ensurePlayerCapacity(newPlayerCount);
+        for (int i = 0; i < playerCount; i++) {
+            playerX[i] = 0;
+            playerY[i] = 0;
+            alive[i] = true;
+            cooldown[i] = 0;
+        }
+        bombCount = 0;
+        tick = 0;
+    }
+
+    void setCell(int x, int y, byte type) {
+        cells[y * cols + x] = type;
+    }
+
+    void setPlayer(int player, int x, int y, boolean isAlive, int cooldownTicks) {
+        playerX[player] = x;
+        playerY[player] = y;
+        alive[player] = isAlive;
+        cooldown[player] = cooldownTicks;
+    }
+
+    void putBomb(int x, int y, int timer, int owner) {
+        addBomb(x, y, timer, owner);
+    }
+
+    /**
+     * ✅ NOUVEAU: Recalcule entièrement le hash Zobrist après une reconstruction.
+     */
+    void rehash() {
+        long h = 0L;
+        for (int cell = 0; cell < cols * rows; cell++) {
+            if (cells[cell] == WALL) {
+                h ^= Zobrist.cell(cell, CellType.INDESTRUCTIBLE_WALL);
+            } else if (cells[cell] == BRICK) {
+                h ^= Zobrist.cell(cell, CellType.DESTRUCTIBLE_BRICK);
+            }
+            h ^= Zobrist.fire(cell, fire[cell]);
+        }
+        for (int i = 0; i < playerCount; i++) {
+            h ^= Zobrist.player(i, playerY[i] * cols + playerX[i]) ^ Zobrist.cooldown(i, cooldown[i]);
+            if (!alive[i]) {
+                h ^= Zobrist.eliminated(i);
+            }
+        }
+        for (int b = 0; b < bombCount; b++) {
+            h ^= bombKey(b);
+        }
+        hash = h;
+    }
+
+    /**
+     * Applique l'action d'un joueur avec les mêmes règles que {@link Game#movePlayer} et
+     * {@link Game#placeBombForPlayer} ; une action impossible est simplement ignorée.
+     * @param player index du joueur
+     * @param action l'action à appliquer
+     * @return true si l'action a eu un effet
+     */
+    public boolean apply(int player, BotAction action) {
+        if (!alive[player]) {
+            return false;
+        }
+        switch (action) {
+            case MOVE_UP:    return move(player, 0, -1);
+            case MOVE_DOWN:  return move(player, 0, 1);
+            case MOVE_LEFT:  return move(player, -1, 0);
+            case MOVE_RIGHT: return move(player, 1, 0);
+            case PLACE_BOMB: return placeBomb(player);
+            default:         return false;
+        }
+    }
+
+    /**
+     * Avance la simulation d'un tour : cooldowns, mèches, explosions puis éliminations.
+     */
+    public void step() {
+        for (int i = 0; i < playerCount; i++) {
+            if (cooldown[i] > 0) {
+                hash ^= Zobrist.cooldown(i, cooldown[i]) ^ Zobrist.cooldown(i, cooldown[i] - 1);
+                cooldown[i]--;
+            }
+        }
+
+        int i = 0;
+        while (i < bombCount) {
+            hash ^= bombKey(i);
+            if (--bombTimer[i] <= 0) {
+                int x = bombX[i];
+                int y = bombY[i];
+                removeBomb(i);
+                explode(x, y);
+            } else {
+                hash ^= bombKey(i);
+                i++;
+            }
+        }
+
+        for (int p = 0; p < playerCount; p++) {
+            if (alive[p] && fire[playerY[p] * cols + playerX[p]] > 0) {
+                alive[p] = false;
+                hash ^= Zobrist.eliminated(p);
+            }
+        }
+
+        // Les flammes s'éteignent progressivement
+        int kept = 0;
+        for (int b = 0; b < burningCount; b++) {
+            int cell = burning[b];
+            hash ^= Zobrist.fire(cell, fire[cell]);
+            if (--fire[cell] > 0) {
+                hash ^= Zobrist.fire(cell, fire[cell]);
+                burning[kept++] = cell;
+            }
+        }
+        burningCount = kept;
+        tick++;
+    }
+
+    /**
+     * Indique si une action de déplacement ou de pose serait acceptée pour ce joueur.
+     * @param player index du joueur
+     * @param action l'action envisagée
+     * @return true si l'action est légale
+     */
+    public boolean isLegal(int player, BotAction action) {
+        if (!alive[player]) {
+            return action == BotAction.NONE;
+        }
+        switch (action) {
+            case MOVE_UP:    return canEnter(player, playerX[player], playerY[player] - 1);
+            case MOVE_DOWN:  return canEnter(player, playerX[player], playerY[player] + 1);
+            case MOVE_LEFT:  return canEnter(player, playerX[player] - 1, playerY[player]);
+            case MOVE_RIGHT: return canEnter(player, playerX[player] + 1, playerY[player]);
+            case PLACE_BOMB: return cooldown[player] == 0 && bombIndexAt(playerX[player], playerY[player]) < 0;
+            default:         return true;
+        }
+    }
+
+    /**
+     * Indique si une case est dans le souffle d'une bombe présente ou encore en feu.
+     * @param x colonne
+     * @param y ligne
+     * @return true si la case est menacée
+     */
+    public boolean isThreatened(int x, int y) {
+        if (fire[y * cols + x] > 0) {
+            return true;
+        }
+        for (int b = 0; b < bombCount; b++) {
+            if (blastReaches(bombX[b], bombY[b], x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param action un index dans {@link BotAction#values()}
+     * @return l'action correspondante
+     */
+    static BotAction actionAt(int action) {
+        return ACTIONS[action];
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getPlayerX(int player) {
+        return playerX[player];
+    }
+
+    public int getPlayerY(int player) {
+        return playerY[player];
+    }
+
+    public boolean isAlive(int player) {
+        return alive[player];
+    }
+
+    public int getAliveCount() {
+        int count = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (alive[i]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getBombCount() {
+        return bombCount;
+    }
+
+    public int getBombX(int bomb) {
+        return bombX[bomb];
+    }
+
+    public int getBombY(int bomb) {
+        return bombY[bomb];
+    }
+
+    public int getBombTimer(int bomb) {
+        return bombTimer[bomb];
+    }
+
+    int getBombOwner(int bomb) {
+        return bombOwner[bomb];
+    }
+
+    int getCooldown(int player) {
+        return cooldown[player];
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return le hash Zobrist de l'état simulé, tenu à jour à chaque action et à chaque tour
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    public boolean isBrick(int x, int y) {
+        return cells[y * cols + x] == BRICK;
+    }
+
+    public boolean isWall(int x, int y) {
+        return cells[y * cols + x] == WALL;
+    }
+
+    public boolean isOnFire(int x, int y) {
+        return fire[y * cols + x] > 0;
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < cols && y < rows;
+    }
+
+    // ============================================================================
+    // Règles internes
+    // ============================================================================
+
+    private boolean move(int player, int dx, int dy) {
+        int nx = playerX[player] + dx;
+        int ny = playerY[player] + dy;
+        if (!canEnter(player, nx, ny)) {
+            return false;
+        }
+        hash ^= Zobrist.player(player, playerY[player] * cols + playerX[player]) ^ Zobrist.player(player, ny * cols + nx);
+        playerX[player] = nx;
+        playerY[player] = ny;
+        return true;
+    }
+
+    private boolean canEnter(int player, int x, int y) {
+        if (!inBounds(x, y) || cells[y * cols + x] != EMPTY || bombIndexAt(x, y) >= 0) {
+            return false;
+        }
+        for (int other = 0; other < playerCount; other++) {
+            if (other != player && alive[other] && playerX[other] == x && playerY[other] == y) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean placeBomb(int player) {
+        int x = playerX[player];
+        int y = playerY[player];
+        if (cooldown[player] > 0 || bombIndexAt(x, y) >= 0) {
+            return false;
+        }
+        addBomb(x, y, BOMB_FUSE, player);
+        hash ^= bombKey(bombCount - 1);
+        hash ^= Zobrist.cooldown(player, cooldown[player]) ^ Zobrist.cooldown(player, BOMB_COOLDOWN_TICKS);
+        cooldown[player] = BOMB_COOLDOWN_TICKS;
+        return true;
+    }
+
+    private void explode(int x, int y) {
+        ignite(y * cols + x, FIRE_TICKS);
+        expand(x, y, 1, 0);
+        expand(x, y, -1, 0);
+        expand(x, y, 0, 1);
+        expand(x, y, 0, -1);
+    }
+
+    private void expand(int x, int y, int dx, int dy) {
+        for (int i = 1; i <= BOMB_RANGE; i++) {
+            int nx = x + dx * i;
+            int ny = y + dy * i;
+            if (!inBounds(nx, ny)) {
+                return;
+            }
+            int cell = ny * cols + nx;
+            if (cells[cell] == WALL) {
+                return;
+            }
+            ignite(cell, FIRE_TICKS);
+            if (cells[cell] == BRICK) {
+                cells[cell] = EMPTY;
+                hash ^= Zobrist.cell(cell, CellType.DESTRUCTIBLE_BRICK);
+            }
+        }
+    }
+
+    private boolean blastReaches(int bx, int by, int x, int y) {
+        if (bx == x && by == y) {
+            return true;
+        }
+        if (bx != x && by != y) {
+            return false;
+        }
+        int distance = Math.abs(bx - x) + Math.abs(by - y);
+        if (distance > BOMB_RANGE) {
+            return false;
+        }
+        int dx = Integer.signum(x - bx);
+        int dy = Integer.signum(y - by);
+        for (int i = 1; i < distance; i++) {
+            if (cells[(by + dy * i) * cols + bx + dx * i] == WALL) {
+                return false;
+            }
+        }
+        return cells[y * cols + x] != WALL;
+    }
+
+    private void ignite(int cell, int ticks) {
+        if (fire[cell] == 0) {
+            burning[burningCount++] = cell;
+        }
+        if (fire[cell] < ticks) {
+            hash ^= Zobrist.fire(cell, fire[cell]) ^ Zobrist.fire(cell, ticks);
+            fire[cell] = (byte) ticks;
+        }
+    }
+
+    private long bombKey(int index) {
+        return Zobrist.bomb(bombY[index] * cols + bombX[index], bombTimer[index], bombOwner[index]);
+    }
+
+    private int bombIndexAt(int x, int y) {
+        for (int b = 0; b < bombCount; b++) {
+            if (bombX[b] == x && bombY[b] == y) {
+                return b;
+            }
+        }
+        return -1;
+    }
+
+    private void addBomb(int x, int y, int timer, int owner) {
+        ensureBombCapacity(bombCount + 1);
+        bombX[bombCount] = x;
+        bombY[bombCount] = y;
+        bombTimer[bombCount] = timer;
+        bombOwner[bombCount] = owner;
+        bombCount++;
+    }
+
+    private void removeBomb(int index) {
+        int last = --bombCount;
+        bombX[index] = bombX[last];
+        bombY[index] = bombY[last];
+        bombTimer[index] = bombTimer[last];
+        bombOwner[index] = bombOwner[last];
+    }
+
+    private void ensureBoardCapacity(int newCols, int newRows) {
+        int size = newCols * newRows;
+        if (cells.length < size) {
+            cells = new byte[size];
+            fire = new byte[size];
+            burning = new int[size];
+        } else if (newCols != cols || newRows != rows) {
+            Arrays.fill(fire, (byte) 0);
+        }
+        if (newCols != cols || newRows != rows) {
+            burningCount = 0;
+        }
+        cols = newCols;
+        rows = newRows;
+    }
+
+    private void ensurePlayerCapacity(int count) {
+        if (playerX.length < count) {
+            playerX = new int[count];
+            playerY = new int[count];
+            alive = new boolean[count];
+            cooldown = new int[count];
+        }
+        playerCount = count;
+    }
+
+    private void ensureBombCapacity(int count) {
+        if (bombX.length < count) {
+            int capacity = Math.max(count, bombX.length * 2);
+            bombX = Arrays.copyOf(bombX, capacity);
+            bombY = Arrays.copyOf(bombY, capacity);
+            bombTimer = Arrays.copyOf(bombTimer, capacity);
+            bombOwner = Arrays.copyOf(bombOwner, capacity);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package fr.univ.bomberman.model;
+
+/**
+ * ✅ NOUVEAU: Clés de hachage Zobrist de l'état d'une partie.
+ *
+ * Chaque élément d'état (type d'une case, joueur sur une case, bombe et son timer, drapeau...)
+ * possède une clé 64 bits ; le hash d'un état est le XOR des clés de ses éléments, ce qui permet
+ * de le mettre à jour en O(1) à chaque modification (XOR de l'ancienne clé puis de la nouvelle).
+ *
+ * Plutôt qu'une table aléatoire dimensionnée pour un plateau donné, les clés sont dérivées d'un
+ * mélange SplitMix64 déterministe : deux machines (ou deux exécutions d'un replay) obtiennent
+ * les mêmes hashes pour les mêmes états, quelle que soit la taille du niveau.
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x5DEECE66DL * 0x9E3779B97F4A7C15L;
+
+    private static final int KIND_CELL = 1;
+    private static final int KIND_PLAYER = 2;
+    private static final int KIND_ELIMINATED = 3;
+    private static final int KIND_BOMB = 4;
+    private static final int KIND_FLAG = 5;
+    private static final int KIND_FIRE = 6;
+    private static final int KIND_COOLDOWN = 7;
+
+    private Zobrist() {
+    }
+
+    /**
+     * @param cell index de la case (y * colonnes + x)
+     * @param type type de la case ; une case vide vaut 0
+     */
+    static long cell(int cell, CellType type) {
+        return type == CellType.EMPTY ? 0L : key(KIND_CELL, cell, type.ordinal());
+    }
+
+    /**
+     * @param player index du joueur
+     * @param cell index de la case occupée
+     */
+    static long player(int player, int cell) {
+        return key(KIND_PLAYER, cell, player);
+    }
+
+    /**
+     * @param player index du joueur éliminé
+     */
+    static long eliminated(int player) {
+        return key(KIND_ELIMINATED, 0, player);
+    }
+
+    /**
+     * @param cell index de la case de la bombe
+     * @param timer tours restants avant l'explosion
+     * @param owner index du poseur (-1 si inconnu)
+     */
+    static long bomb(int cell, int timer, int owner) {
+        return key(KIND_BOMB, cell, ((owner + 1) << 8) | (timer & 0xFF));
+    }
+
+    /**
+     * @param owner index du propriétaire du drapeau
+     * @param carrier index du porteur (-1 si le drapeau est au sol)
+     * @param captured true si le drapeau a été pris par un adversaire
+     */
+    static long flag(int owner, int carrier, boolean captured) {
+        return key(KIND_FLAG, owner, ((carrier + 1) << 1) | (captured ? 1 : 0));
+    }
+
+    /** Flamme encore mortelle pendant {@code ticks} tours (simulation uniquement) */
+    static long fire(int cell, int ticks) {
+        return ticks == 0 ? 0L : key(KIND_FIRE, cell, ticks);
+    }
+
+    /** Cooldown de pose restant en tours (simulation uniquement) */
+    static long cooldown(int player, int ticks) {
+        return ticks == 0 ? 0L : key(KIND_COOLDOWN, player, ticks);
+    }
+
+    private static long key(int kind, int a, int b) {
+        long z = SEED ^ ((long) kind << 56) ^ ((long) a << 24) ^ (b & 0xFFFFFFL);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        // Un second tour pour décorréler les clés voisines
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
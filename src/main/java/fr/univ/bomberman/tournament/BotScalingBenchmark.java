@@ -0,0 +1,165 @@
+package fr.univ.bomberman.tournament;
+
+import fr.univ.bomberman.exceptions.BombermanException;
+import fr.univ.bomberman.model.Board;
+import fr.univ.bomberman.model.BotMetrics;
+import fr.univ.bomberman.model.BotPlayer;
+import fr.univ.bomberman.model.BotSettings;
+import fr.univ.bomberman.model.Game;
+import fr.univ.bomberman.model.SimulatedClock;
+import fr.univ.bomberman.utils.LatencyHistogram;
+
+import java.util.Locale;
+
+/**
+ * ✅ NOUVEAU: Simulation par lots sans affichage mesurant le coût des bots quand leur nombre augmente.
+ *
+ * Pour chaque taille (2, 4, 8 … {@link Game#MAX_BOTS} bots de difficultés mélangées), plusieurs parties
+ * sont jouées sur une {@link SimulatedClock} et on relève le temps de tour et le coût moyen d'une décision.
+ * Un passage à l'échelle linéaire se lit dans la colonne « ns/bot·tour », qui doit rester à peu près
+ * constante quand le nombre de bots double.
+ *
+ * Utilisation : {@code BotScalingBenchmark [partiesParTaille] [toursMax] [niveau.json]}
+ */
+public class BotScalingBenchmark {
+
+    private static final String DEFAULT_LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+
+    private final Board level; // ✅ MODIFIÉ: Niveau chargé une seule fois, copié pour chaque partie
+    private int gamesPerSize = 20;
+    private int maxTicks = BotTournament.DEFAULT_MAX_TICKS;
+
+    /**
+     * Résultat des parties jouées pour un nombre de bots donné.
+     */
+    public static final class Result {
+        private final int botCount;
+        private final long ticks;
+        private final long decisions;
+        private final long updateNanos;
+        private final LatencyHistogram decisionLatency;
+
+        Result(int botCount, long ticks, long decisions, long updateNanos, LatencyHistogram decisionLatency) {
+            this.botCount = botCount;
+            this.ticks = ticks;
+            this.decisions = decisions;
+            this.updateNanos = updateNanos;
+            this.decisionLatency = decisionLatency;
+        }
+
+        public int getBotCount() {
+            return botCount;
+        }
+
+        public long getTicks() {
+            return ticks;
+        }
+
+        public long getDecisions() {
+            return decisions;
+        }
+
+        /**
+         * @return le temps moyen d'un tour de jeu complet, en nanosecondes
+         */
+        public double getNanosPerTick() {
+            return ticks == 0 ? 0.0 : (double) updateNanos / ticks;
+        }
+
+        /**
+         * @return le temps de tour rapporté au nombre de bots en jeu, en nanosecondes
+         */
+        public double getNanosPerBotTick() {
+            return decisions == 0 ? 0.0 : (double) updateNanos / decisions;
+        }
+
+        /**
+         * @return la latence des décisions, toutes difficultés confondues
+         */
+        public LatencyHistogram getDecisionLatency() {
+            return decisionLatency;
+        }
+    }
+
+    /**
+     * @param levelPath niveau sur lequel toutes les parties sont jouées
+     * @throws BombermanException si le niveau ne peut pas être chargé
+     */
+    public BotScalingBenchmark(String levelPath) throws BombermanException {
+        this.level = new Board(levelPath);
+    }
+
+    public void setGamesPerSize(int gamesPerSize) {
+        this.gamesPerSize = Math.max(1, gamesPerSize);
+    }
+
+    public void setMaxTicks(int maxTicks) {
+        this.maxTicks = Math.max(1, maxTicks);
+    }
+
+    /**
+     * Joue les parties pour un nombre de bots donné (difficultés 1, 2, 3 en alternance).
+     * @param botCount nombre de bots, ramené entre 1 et {@link Game#MAX_BOTS}
+     * @return les mesures agrégées
+     * @throws BombermanException si une règle du jeu échoue pendant une partie
+     */
+    public Result measure(int botCount) throws BombermanException {
+        int count = Math.max(1, Math.min(Game.MAX_BOTS, botCount));
+        BotSettings[] settings = new BotSettings[count];
+        for (int i = 0; i < count; i++) {
+            settings[i] = BotSettings.forDifficulty(i % 3 + 1);
+        }
+
+        LatencyHistogram latency = new LatencyHistogram();
+        long ticks = 0;
+        long decisions = 0;
+        long updateNanos = 0;
+        for (int game = 0; game < gamesPerSize; game++) {
+            Game simulation = new Game(settings, null, level, true);
+            SimulatedClock clock = new SimulatedClock();
+            simulation.setClock(clock);
+            BotMetrics metrics = simulation.enableBotMetrics();
+
+            for (int tick = 0; tick < maxTicks && !simulation.isGameOver(); tick++) {
+                clock.advanceMillis(BotTournament.TICK_MILLIS);
+                long start = System.nanoTime();
+                simulation.update();
+                updateNanos += System.nanoTime() - start;
+                ticks++;
+            }
+
+            for (int difficulty = 1; difficulty <= BotPlayer.DIFFICULTY_EXPERT; difficulty++) {
+                decisions += metrics.getLatency(difficulty).getTotalCount();
+                latency.add(metrics.getLatency(difficulty));
+            }
+        }
+        return new Result(count, ticks, decisions, updateNanos, latency);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BotScalingBenchmark benchmark = new BotScalingBenchmark(args.length > 2 ? args[2] : DEFAULT_LEVEL);
+        if (args.length > 0) {
+            benchmark.setGamesPerSize(Integer.parseInt(args[0]));
+        }
+        if (args.length > 1) {
+            benchmark.setMaxTicks(Integer.parseInt(args[1]));
+        }
+
+        benchmark.measure(4); // Préchauffage du JIT
+        System.out.println("🤖 Passage à l'échelle des bots (" + benchmark.gamesPerSize + " parties par taille)");
+        System.out.println("  bots    tours   décisions    µs/tour  ns/bot·tour  décision p50/p99 (µs)");
+        double baseline = 0.0;
+        for (int botCount = 2; botCount <= Game.MAX_BOTS; botCount *= 2) {
+            Result result = benchmark.measure(botCount);
+            if (baseline == 0.0) {
+                baseline = result.getNanosPerBotTick();
+            }
+            System.out.println(String.format(Locale.ROOT, "  %4d %8d %11d %10.1f %12.0f  %6.1f / %6.1f   (x%.2f)",
+                    result.getBotCount(), result.getTicks(), result.getDecisions(),
+                    result.getNanosPerTick() / 1000.0, result.getNanosPerBotTick(),
+                    result.getDecisionLatency().getValueAtPercentile(50) / 1000.0,
+                    result.getDecisionLatency().getValueAtPercentile(99) / 1000.0,
+                    baseline > 0 ? result.getNanosPerBotTick() / baseline : 0.0));
+        }
+    }
+}
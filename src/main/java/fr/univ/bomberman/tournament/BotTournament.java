@@ -0,0 +1,275 @@
+package fr.univ.bomberman.tournament;
+
+import fr.univ.bomberman.exceptions.BombermanException;
+import fr.univ.bomberman.model.Board;
+import fr.univ.bomberman.model.BotSettings;
+import fr.univ.bomberman.model.Game;
+import fr.univ.bomberman.model.MatchRecording;
+import fr.univ.bomberman.model.Player;
+import fr.univ.bomberman.model.SimulatedClock;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ✅ NOUVEAU: Tournoi de bots sans affichage : toutes les paires de configurations s'affrontent (round-robin)
+ * sur des milliers de parties jouées en parallèle sur tous les cœurs, puis les configurations
+ * sont classées par Elo (avec intervalle de confiance) dans un rapport CSV.
+ *
+ * Chaque partie a sa propre {@link SimulatedClock} avancée d'une seconde par tour, comme la boucle
+ * de jeu de {@code BombermanApp} : une partie de plusieurs minutes se joue en quelques millisecondes.
+ *
+ * Les parties peuvent être enregistrées (voir {@link #setRecordingDirectory(Path)}) pour en tirer
+ * ensuite des extraits animés avec {@link HighlightExporter}.
+ *
+ * Utilisation : {@code BotTournament [partiesParPaire] [rapport.csv] [niveau.json] [threads] [dossierEnregistrements]}
+ */
+public class BotTournament {
+
+    /** Durée d'un tour de jeu simulé (identique à l'intervalle de mise à jour du jeu) */
+    public static final long TICK_MILLIS = 1000;
+    /** Au-delà de ce nombre de tours, la partie est déclarée nulle */
+    public static final int DEFAULT_MAX_TICKS = 300;
+
+    private static final String DEFAULT_LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+
+    private final List<BotSettings> configurations;
+    private final Board level; // ✅ MODIFIÉ: Niveau chargé une seule fois, copié pour chaque partie
+    private int gamesPerPair = 100;
+    private int maxTicks = DEFAULT_MAX_TICKS;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private Path recordingDirectory;
+
+    private long lastMatchCount;
+    private double lastMatchesPerSecond;
+    private int lastErrors;
+
+    /**
+     * @param configurations configurations de bots à classer (au moins deux)
+     * @param levelPath niveau sur lequel toutes les parties sont jouées
+     * @throws BombermanException si le niveau ne peut pas être chargé
+     */
+    public BotTournament(List<BotSettings> configurations, String levelPath) throws BombermanException {
+        if (configurations.size() < 2) {
+            throw new IllegalArgumentException("Un tournoi demande au moins deux configurations");
+        }
+        this.configurations = new ArrayList<>(configurations);
+        this.level = new Board(levelPath);
+    }
+
+    public void setGamesPerPair(int gamesPerPair) {
+        this.gamesPerPair = Math.max(1, gamesPerPair);
+    }
+
+    public void setMaxTicks(int maxTicks) {
+        this.maxTicks = Math.max(1, maxTicks);
+    }
+
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * ✅ NOUVEAU: Enregistre chaque partie dans ce dossier ({@code match-00000.json}, ...), null pour ne rien garder.
+     * @param recordingDirectory dossier existant des enregistrements
+     */
+    public void setRecordingDirectory(Path recordingDirectory) {
+        this.recordingDirectory = recordingDirectory;
+    }
+
+    /**
+     * Joue toutes les parties du tournoi et calcule le classement.
+     * Les parties sont silencieuses (voir {@link Game#setQuiet(boolean)}) pour ne pas sérialiser les threads sur la console.
+     *
+     * @return le classement Elo des configurations, dans l'ordre de la liste fournie
+     * @throws InterruptedException si le tournoi est interrompu
+     */
+    public EloRatings run() throws InterruptedException {
+        int count = configurations.size();
+        List<int[]> pairings = new ArrayList<>();
+        for (int a = 0; a < count; a++) {
+            for (int b = a + 1; b < count; b++) {
+                for (int game = 0; game < gamesPerPair; game++) {
+                    // Alterner les positions de départ pour ne pas avantager un coin
+                    pairings.add(game % 2 == 0 ? new int[]{a, b} : new int[]{b, a});
+                }
+            }
+        }
+
+        EloRatings ratings = new EloRatings(count);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        int errors = 0;
+        try {
+            List<Future<Integer>> results = new ArrayList<>(pairings.size());
+            for (int i = 0; i < pairings.size(); i++) {
+                int[] pairing = pairings.get(i);
+                BotSettings first = configurations.get(pairing[0]);
+                BotSettings second = configurations.get(pairing[1]);
+                int match = i;
+                results.add(executor.submit(() -> playMatch(first, second, match)));
+            }
+
+            for (int i = 0; i < pairings.size(); i++) {
+                int[] pairing = pairings.get(i);
+                int seat;
+                try {
+                    seat = results.get(i).get();
+                } catch (ExecutionException e) {
+                    // ✅ MODIFIÉ: Une partie interrompue n'est pas une nulle : elle n'entre pas dans le classement
+                    errors++;
+                    continue;
+                }
+                ratings.addResult(pairing[0], pairing[1], seat < 0 ? -1 : pairing[seat]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        lastMatchCount = pairings.size() - errors;
+        lastMatchesPerSecond = seconds > 0 ? lastMatchCount / seconds : 0.0;
+        lastErrors = errors;
+        ratings.compute();
+        return ratings;
+    }
+
+    /**
+     * Joue une partie sans affichage entre deux configurations.
+     * @param match numéro de la partie dans le tournoi, pour nommer son enregistrement
+     * @return 0 si la première gagne, 1 si la seconde gagne, -1 en cas de nul
+     * @throws BombermanException si une règle du jeu échoue pendant la partie
+     */
+    int playMatch(BotSettings first, BotSettings second, int match) throws BombermanException {
+        Game game = new Game(new BotSettings[]{first, second}, null, level, true);
+        SimulatedClock clock = new SimulatedClock();
+        game.setClock(clock);
+        MatchRecording recording = recordingDirectory != null ? game.startRecording() : null;
+
+        for (int tick = 0; tick < maxTicks && !game.isGameOver(); tick++) {
+            clock.advanceMillis(TICK_MILLIS);
+            game.update();
+        }
+        if (recording != null) {
+            recording.save(recordingDirectory.resolve(String.format(Locale.ROOT, "match-%05d.json", match)));
+        }
+
+        List<Player> players = game.getPlayers();
+        boolean firstAlive = !players.get(0).isEliminated();
+        boolean secondAlive = !players.get(1).isEliminated();
+        if (firstAlive == secondAlive) {
+            return -1;
+        }
+        return firstAlive ? 0 : 1;
+    }
+
+    /**
+     * Écrit le classement au format CSV, trié par Elo décroissant.
+     * @param ratings le classement calculé par {@link #run()}
+     * @param output fichier de sortie
+     * @throws IOException si l'écriture échoue
+     */
+    public void writeCsv(EloRatings ratings, Path output) throws IOException {
+        Integer[] order = new Integer[ratings.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(ratings.getRating(b), ratings.getRating(a)));
+
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+            writer.println("rank,config,difficulty,move_delay_ms,aggressiveness,max_trap_escape_routes,"
+                    + "trap_distance,pursuit_distance,games,wins,draws,losses,score_pct,elo,elo_ci95");
+            for (int rank = 0; rank < order.length; rank++) {
+                int i = order[rank];
+                BotSettings settings = configurations.get(i);
+                writer.println(String.format(Locale.ROOT, "%d,\"%s\",%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%.1f,%.0f,%.0f",
+                        rank + 1, settings.getLabel().replace("\"", "\"\""), settings.getDifficulty(),
+                        settings.getMoveDelayMs(), settings.getAggressiveness(), settings.getMaxTrapEscapeRoutes(),
+                        settings.getTrapDistance(), settings.getPursuitDistance(),
+                        ratings.getGames(i), ratings.getWins(i), ratings.getDraws(i), ratings.getLosses(i),
+                        ratings.getScore(i) * 100, ratings.getRating(i), ratings.getConfidence95(i)));
+            }
+        }
+    }
+
+    /**
+     * @return le nombre de parties menées à terme au dernier tournoi (hors erreurs)
+     */
+    public long getLastMatchCount() {
+        return lastMatchCount;
+    }
+
+    /**
+     * @return le débit du dernier tournoi, en parties menées à terme par seconde
+     */
+    public double getLastMatchesPerSecond() {
+        return lastMatchesPerSecond;
+    }
+
+    /**
+     * @return le nombre de parties interrompues par une erreur (écartées du classement)
+     */
+    public int getLastErrors() {
+        return lastErrors;
+    }
+
+    /**
+     * Configurations par défaut : les trois niveaux du jeu et quelques variantes à comparer.
+     */
+    public static List<BotSettings> defaultConfigurations() {
+        BotSettings easy = BotSettings.forDifficulty(1);
+        BotSettings medium = BotSettings.forDifficulty(2);
+        BotSettings hard = BotSettings.forDifficulty(3);
+        List<BotSettings> configurations = new ArrayList<>();
+        configurations.add(easy);
+        configurations.add(medium);
+        configurations.add(hard);
+        configurations.add(medium.withAggressiveness("Moyen agressif", 85, 0));
+        configurations.add(hard.withAggressiveness("Difficile prudent", 50, 1));
+        configurations.add(hard.withHunting("Difficile chasseur", 3, 8));
+        return configurations;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int gamesPerPair = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        Path output = Paths.get(args.length > 1 ? args[1] : "bot-tournament.csv");
+        String level = args.length > 2 ? args[2] : DEFAULT_LEVEL;
+
+        BotTournament tournament = new BotTournament(defaultConfigurations(), level);
+        tournament.setGamesPerPair(gamesPerPair);
+        if (args.length > 3) {
+            tournament.setThreads(Integer.parseInt(args[3]));
+        }
+        if (args.length > 4) {
+            Path recordings = Files.createDirectories(Paths.get(args[4]));
+            tournament.setRecordingDirectory(recordings);
+            System.out.println("🎞️ Parties enregistrées dans " + recordings.toAbsolutePath());
+        }
+
+        System.out.println("🏆 Tournoi de bots : " + tournament.configurations.size() + " configurations, "
+                + gamesPerPair + " parties par paire, " + tournament.threads + " threads");
+        EloRatings ratings = tournament.run();
+        tournament.writeCsv(ratings, output);
+
+        System.out.println(String.format(Locale.ROOT, "✅ %d parties en %.1f parties/s (%d erreurs)",
+                tournament.getLastMatchCount(), tournament.getLastMatchesPerSecond(), tournament.getLastErrors()));
+        for (int i = 0; i < ratings.size(); i++) {
+            System.out.println(String.format(Locale.ROOT, "   %-20s Elo %5.0f ± %3.0f  (score %.1f%%)",
+                    tournament.configurations.get(i).getLabel(), ratings.getRating(i),
+                    ratings.getConfidence95(i), ratings.getScore(i) * 100));
+        }
+        System.out.println("📄 Rapport écrit dans " + output.toAbsolutePath());
+    }
+}
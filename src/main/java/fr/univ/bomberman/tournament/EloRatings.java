@@ -0,0 +1,168 @@
+package fr.univ.bomberman.tournament;
+
+import java.util.Arrays;
+
+/**
+ * ✅ NOUVEAU: Classement Elo d'un ensemble de configurations de bots à partir des résultats de leurs matchs.
+ *
+ * Les classements sont estimés par maximum de vraisemblance (modèle de Bradley-Terry, algorithme MM
+ * de Hunter) sur l'ensemble des résultats, ce qui les rend indépendants de l'ordre des matchs — contrairement
+ * à l'Elo incrémental. Une nulle compte pour une demi-victoire de chaque côté, et un match nul virtuel
+ * par paire évite les classements infinis pour une configuration qui gagne ou perd tout.
+ *
+ * L'intervalle de confiance à 95 % vient de l'information de Fisher de chaque configuration.
+ */
+public class EloRatings {
+
+    /** Classement moyen autour duquel les résultats sont centrés */
+    public static final double BASE_RATING = 1500.0;
+
+    private static final double ELO_PER_NAT = 400.0 / Math.log(10.0);
+    private static final int MAX_ITERATIONS = 500;
+    private static final double PRIOR_DRAWS = 1.0;
+
+    private final int size;
+    private final int[][] wins;   // wins[i][j] : victoires de i contre j
+    private final int[][] draws;  // symétrique
+    private final double[] ratings;
+    private final double[] confidence;
+
+    /**
+     * @param size nombre de configurations classées
+     */
+    public EloRatings(int size) {
+        this.size = size;
+        this.wins = new int[size][size];
+        this.draws = new int[size][size];
+        this.ratings = new double[size];
+        this.confidence = new double[size];
+    }
+
+    /**
+     * Enregistre le résultat d'un match.
+     * @param a première configuration
+     * @param b seconde configuration
+     * @param winner a, b, ou -1 pour un match nul
+     */
+    public void addResult(int a, int b, int winner) {
+        if (winner == a) {
+            wins[a][b]++;
+        } else if (winner == b) {
+            wins[b][a]++;
+        } else {
+            draws[a][b]++;
+            draws[b][a]++;
+        }
+    }
+
+    /**
+     * Calcule les classements et leurs intervalles de confiance à partir des résultats enregistrés.
+     */
+    public void compute() {
+        double[] gamma = new double[size];
+        Arrays.fill(gamma, 1.0);
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double maxChange = 0.0;
+            for (int i = 0; i < size; i++) {
+                double score = 0.0;
+                double denominator = 0.0;
+                for (int j = 0; j < size; j++) {
+                    if (i == j) {
+                        continue;
+                    }
+                    double games = gamesBetween(i, j) + PRIOR_DRAWS;
+                    score += wins[i][j] + 0.5 * (draws[i][j] + PRIOR_DRAWS);
+                    denominator += games / (gamma[i] + gamma[j]);
+                }
+                double updated = denominator > 0 ? score / denominator : gamma[i];
+                maxChange = Math.max(maxChange, Math.abs(updated - gamma[i]) / gamma[i]);
+                gamma[i] = updated;
+            }
+            normalize(gamma);
+            if (maxChange < 1e-9) {
+                break;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            ratings[i] = BASE_RATING + ELO_PER_NAT * Math.log(gamma[i]);
+
+            double information = 0.0;
+            for (int j = 0; j < size; j++) {
+                if (i != j) {
+                    double p = gamma[i] / (gamma[i] + gamma[j]);
+                    information += (gamesBetween(i, j) + PRIOR_DRAWS) * p * (1 - p);
+                }
+            }
+            confidence[i] = information > 0 ? 1.96 * ELO_PER_NAT / Math.sqrt(information) : Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /** Moyenne géométrique ramenée à 1, soit une moyenne des classements à {@link #BASE_RATING} */
+    private void normalize(double[] gamma) {
+        double logSum = 0.0;
+        for (double g : gamma) {
+            logSum += Math.log(g);
+        }
+        double scale = Math.exp(-logSum / size);
+        for (int i = 0; i < size; i++) {
+            gamma[i] *= scale;
+        }
+    }
+
+    private int gamesBetween(int i, int j) {
+        return wins[i][j] + wins[j][i] + draws[i][j];
+    }
+
+    public double getRating(int i) {
+        return ratings[i];
+    }
+
+    /**
+     * @return la demi-largeur de l'intervalle de confiance à 95 %, en points Elo
+     */
+    public double getConfidence95(int i) {
+        return confidence[i];
+    }
+
+    public int getWins(int i) {
+        int total = 0;
+        for (int j = 0; j < size; j++) {
+            total += wins[i][j];
+        }
+        return total;
+    }
+
+    public int getLosses(int i) {
+        int total = 0;
+        for (int j = 0; j < size; j++) {
+            total += wins[j][i];
+        }
+        return total;
+    }
+
+    public int getDraws(int i) {
+        int total = 0;
+        for (int j = 0; j < size; j++) {
+            total += draws[i][j];
+        }
+        return total;
+    }
+
+    public int getGames(int i) {
+        return getWins(i) + getLosses(i) + getDraws(i);
+    }
+
+    /**
+     * @return le score moyen (victoire = 1, nul = 0.5) entre 0 et 1
+     */
+    public double getScore(int i) {
+        int games = getGames(i);
+        return games == 0 ? 0.0 : (getWins(i) + 0.5 * getDraws(i)) / games;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,349 @@
+package fr.univ.bomberman.tournament;
+
+import fr.univ.bomberman.exceptions.BombermanException;
+import fr.univ.bomberman.model.MatchRecording;
+import fr.univ.bomberman.model.SimulationState;
+import fr.univ.bomberman.view.FrameBuffer;
+import fr.univ.bomberman.view.FrameRenderer;
+import fr.univ.bomberman.view.SoftwareFrameRenderer;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ✅ NOUVEAU: Export d'extraits de parties enregistrées en GIF animé ou en suite d'images PNG,
+ * sans affichage ni capture d'écran.
+ *
+ * La partie est d'abord rejouée depuis son {@link MatchRecording} (un état par tour, calcul séquentiel
+ * et peu coûteux), puis les images sont rendues par tranches de {@link #getChunkFrames()} sur un pool
+ * ForkJoin : chaque tranche est découpée récursivement en plages d'images contiguës. L'encodage, lui,
+ * reste séquentiel et dans l'ordre : pendant qu'une tranche est encodée, la suivante est déjà rendue,
+ * et au plus deux tranches d'images sont en mémoire quelle que soit la longueur de l'extrait.
+ *
+ * Utilisation : {@code HighlightExporter <enregistrement.json> <sortie.gif | dossier> [premierTour] [dernierTour] [tailleCase] [délaiMs]}
+ */
+public class HighlightExporter {
+
+    /** Durée d'affichage d'une image (un tour) dans le GIF : quatre fois plus vite que la partie */
+    public static final int DEFAULT_FRAME_DELAY_MS = 250;
+    /** Taille de case par défaut des extraits, plus petite qu'à l'écran */
+    public static final int DEFAULT_CELL_SIZE = 24;
+    /** En dessous de ce nombre d'images, une plage est rendue d'un bloc plutôt que redécoupée */
+    static final int FRAMES_PER_TASK = 4;
+
+    private final FrameRenderer<FrameBuffer> renderer;
+    private final ForkJoinPool pool;
+    private int frameDelayMillis = DEFAULT_FRAME_DELAY_MS;
+    private int chunkFrames;
+
+    private int lastFrameCount;
+    private long lastRenderNanos;
+    private long lastEncodeNanos;
+
+    /**
+     * @param renderer rendu des images, sans état mutable partagé (voir {@link FrameRenderer})
+     * @param pool pool sur lequel les images sont rendues
+     */
+    public HighlightExporter(FrameRenderer<FrameBuffer> renderer, ForkJoinPool pool) {
+        this.renderer = renderer;
+        this.pool = pool;
+        this.chunkFrames = pool.getParallelism() * FRAMES_PER_TASK * 2;
+    }
+
+    public HighlightExporter(FrameRenderer<FrameBuffer> renderer) {
+        this(renderer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param frameDelayMillis durée d'affichage d'une image dans le GIF (arrondie au centième de seconde)
+     */
+    public void setFrameDelayMillis(int frameDelayMillis) {
+        this.frameDelayMillis = Math.max(10, frameDelayMillis);
+    }
+
+    /**
+     * @param chunkFrames nombre d'images rendues d'avance, qui borne la mémoire utilisée
+     */
+    public void setChunkFrames(int chunkFrames) {
+        this.chunkFrames = Math.max(1, chunkFrames);
+    }
+
+    public int getChunkFrames() {
+        return chunkFrames;
+    }
+
+    /**
+     * Exporte toute la partie enregistrée.
+     * @see #export(MatchRecording, int, int, Path)
+     */
+    public int export(MatchRecording recording, Path output) throws BombermanException {
+        return export(recording, 0, recording.getTickCount(), output);
+    }
+
+    /**
+     * Rejoue une partie enregistrée et en exporte un extrait, un tour par image.
+     * Une sortie en {@code .gif} produit un GIF animé qui boucle ; toute autre sortie est un dossier
+     * rempli de {@code frame-00000.png}, {@code frame-00001.png}...
+     *
+     * @param recording la partie enregistrée
+     * @param firstTick premier tour de l'extrait (0 : état de départ)
+     * @param lastTick dernier tour de l'extrait, au plus {@link MatchRecording#getTickCount()}
+     * @param output fichier GIF ou dossier des images
+     * @return le nombre d'images écrites
+     * @throws BombermanException si l'encodage ou l'écriture échoue
+     */
+    public int export(MatchRecording recording, int firstTick, int lastTick, Path output) throws BombermanException {
+        List<SimulationState> states = recording.replay(firstTick, lastTick);
+        int count = states.size();
+        FrameBuffer[] frames = new FrameBuffer[count];
+        long renderNanos = 0;
+        long encodeNanos = 0;
+
+        try (FrameSink sink = isGif(output) ? new GifSink(output, frameDelayMillis) : new PngSequenceSink(output)) {
+            ForkJoinTask<Void> pending = pool.submit(new RenderRange(states, frames, 0, Math.min(count, chunkFrames)));
+            for (int from = 0; from < count; from += chunkFrames) {
+                int to = Math.min(count, from + chunkFrames);
+                long waitStart = System.nanoTime();
+                pending.join();
+                renderNanos += System.nanoTime() - waitStart;
+
+                // La tranche suivante se rend pendant l'encodage de celle-ci
+                pending = to < count
+                        ? pool.submit(new RenderRange(states, frames, to, Math.min(count, to + chunkFrames)))
+                        : null;
+
+                long encodeStart = System.nanoTime();
+                for (int i = from; i < to; i++) {
+                    sink.write(frames[i]);
+                    frames[i] = null;
+                }
+                encodeNanos += System.nanoTime() - encodeStart;
+            }
+        }
+
+        lastFrameCount = count;
+        lastRenderNanos = renderNanos;
+        lastEncodeNanos = encodeNanos;
+        System.out.println(String.format(Locale.ROOT, "🎞️ %d images exportées vers %s (attente du rendu %.0f ms, encodage %.0f ms)",
+                count, output, renderNanos / 1e6, encodeNanos / 1e6));
+        return count;
+    }
+
+    public int getLastFrameCount() {
+        return lastFrameCount;
+    }
+
+    /**
+     * @return le temps passé à attendre le rendu lors du dernier export, en nanosecondes
+     */
+    public long getLastRenderNanos() {
+        return lastRenderNanos;
+    }
+
+    /**
+     * @return le temps passé à encoder lors du dernier export, en nanosecondes
+     */
+    public long getLastEncodeNanos() {
+        return lastEncodeNanos;
+    }
+
+    private static boolean isGif(Path output) {
+        return output.getFileName() != null
+                && output.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gif");
+    }
+
+    /**
+     * Rend une plage d'images, coupée en deux tant qu'elle dépasse {@link #FRAMES_PER_TASK} images.
+     */
+    private final class RenderRange extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<SimulationState> states;
+        private final FrameBuffer[] frames;
+        private final int from;
+        private final int to;
+
+        RenderRange(List<SimulationState> states, FrameBuffer[] frames, int from, int to) {
+            this.states = states;
+            this.frames = frames;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= FRAMES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    frames[i] = renderer.render(states.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RenderRange(states, frames, from, middle), new RenderRange(states, frames, middle, to));
+        }
+    }
+
+    /**
+     * Destination des images, appelée dans l'ordre depuis un seul thread.
+     */
+    private interface FrameSink extends AutoCloseable {
+
+        void write(FrameBuffer frame) throws BombermanException;
+
+        @Override
+        void close() throws BombermanException;
+    }
+
+    private static final class PngSequenceSink implements FrameSink {
+
+        private final Path directory;
+        private int index;
+
+        PngSequenceSink(Path directory) throws BombermanException {
+            this.directory = directory;
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new BombermanException("Impossible de créer le dossier " + directory + " : " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void write(FrameBuffer frame) throws BombermanException {
+            frame.writePng(directory.resolve(String.format(Locale.ROOT, "frame-%05d.png", index++)).toFile());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * GIF animé écrit au fil de l'eau par l'encodeur GIF d'ImageIO, en boucle infinie.
+     */
+    private static final class GifSink implements FrameSink {
+
+        private final Path file;
+        private final ImageWriter writer;
+        private final ImageOutputStream stream;
+        private final String delay;
+        private boolean first = true;
+
+        GifSink(Path file, int frameDelayMillis) throws BombermanException {
+            this.file = file;
+            this.delay = Integer.toString(Math.max(1, frameDelayMillis / 10)); // En centièmes de seconde
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("gif");
+            if (!writers.hasNext()) {
+                throw new BombermanException("Aucun encodeur GIF disponible");
+            }
+            writer = writers.next();
+            try {
+                Files.deleteIfExists(file);
+                stream = ImageIO.createImageOutputStream(file.toFile());
+                if (stream == null) {
+                    throw new BombermanException("Impossible d'ouvrir " + file);
+                }
+                writer.setOutput(stream);
+                writer.prepareWriteSequence(null);
+            } catch (IOException e) {
+                throw new BombermanException("Impossible d'écrire le GIF " + file + " : " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void write(FrameBuffer frame) throws BombermanException {
+            BufferedImage image = frame.toImage();
+            try {
+                IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), null);
+                String format = metadata.getNativeMetadataFormatName();
+                IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+                IIOMetadataNode control = child(root, "GraphicControlExtension");
+                control.setAttribute("disposalMethod", "none");
+                control.setAttribute("userInputFlag", "FALSE");
+                control.setAttribute("transparentColorFlag", "FALSE");
+                control.setAttribute("transparentColorIndex", "0");
+                control.setAttribute("delayTime", delay);
+
+                if (first) {
+                    // Extension NETSCAPE2.0 : boucle infinie
+                    IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+                    loop.setAttribute("applicationID", "NETSCAPE");
+                    loop.setAttribute("authenticationCode", "2.0");
+                    loop.setUserObject(new byte[]{1, 0, 0});
+                    child(root, "ApplicationExtensions").appendChild(loop);
+                    first = false;
+                }
+
+                metadata.setFromTree(format, root);
+                writer.writeToSequence(new IIOImage(image, null, metadata), null);
+            } catch (IOException e) {
+                throw new BombermanException("Impossible d'écrire le GIF " + file + " : " + e.getMessage(), e);
+            }
+        }
+
+        private static IIOMetadataNode child(IIOMetadataNode root, String name) {
+            for (int i = 0; i < root.getLength(); i++) {
+                if (root.item(i).getNodeName().equals(name)) {
+                    return (IIOMetadataNode) root.item(i);
+                }
+            }
+            IIOMetadataNode node = new IIOMetadataNode(name);
+            root.appendChild(node);
+            return node;
+        }
+
+        @Override
+        public void close() throws BombermanException {
+            try {
+                if (!first) {
+                    writer.endWriteSequence();
+                }
+                stream.close();
+            } catch (IOException e) {
+                throw new BombermanException("Impossible de terminer le GIF " + file + " : " + e.getMessage(), e);
+            } finally {
+                writer.dispose();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Utilisation : HighlightExporter <enregistrement.json> <sortie.gif | dossier> "
+                    + "[premierTour] [dernierTour] [tailleCase] [délaiMs]");
+            return;
+        }
+        MatchRecording recording = MatchRecording.load(Paths.get(args[0]));
+        Path output = Paths.get(args[1]);
+        int firstTick = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        int lastTick = args.length > 3 ? Math.min(Integer.parseInt(args[3]), recording.getTickCount()) : recording.getTickCount();
+        int cellSize = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_CELL_SIZE;
+
+        HighlightExporter exporter = new HighlightExporter(new SoftwareFrameRenderer("default", cellSize));
+        if (args.length > 5) {
+            exporter.setFrameDelayMillis(Integer.parseInt(args[5]));
+        }
+        System.out.println("🎬 Extrait des tours " + firstTick + " à " + lastTick + " sur " + recording.getTickCount()
+                + " (" + recording.getPlayerCount() + " joueurs)");
+        exporter.export(recording, firstTick, lastTick, output);
+        System.out.println("📄 Extrait écrit dans " + output.toAbsolutePath());
+    }
+}
@@ -0,0 +1,142 @@
+package fr.univ.bomberman.utils;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ✅ NOUVEAU: Histogramme de latences à précision relative constante, sur le principe de HdrHistogram.
+ *
+ * Les valeurs (en nanosecondes) sont rangées dans des seaux log-linéaires : chaque puissance de deux
+ * est découpée en 64 sous-seaux, soit une erreur relative inférieure à 1,6 % de 1 ns à ~36 min.
+ * L'enregistrement est sans verrou ni allocation (un incrément atomique) et peut se faire depuis
+ * plusieurs threads ; la mémoire est fixe quelle que soit la quantité de mesures.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;      // 128 valeurs exactes
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;      // 64 sous-seaux ensuite
+    private static final int MAX_VALUE_BITS = 41;
+    /** Plus grande valeur distinguée (environ 36 minutes en ns) ; au-delà, les valeurs sont plafonnées */
+    public static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+    private static final int BUCKET_COUNT =
+            SUB_BUCKET_COUNT + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Enregistre une mesure.
+     * @param value la valeur en nanosecondes (les valeurs négatives comptent pour 0)
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, Math.min(value, MAX_TRACKABLE_VALUE));
+        counts.incrementAndGet(indexOf(clamped));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(clamped);
+        long max = maxValue.get();
+        while (clamped > max && !maxValue.compareAndSet(max, clamped)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Ajoute toutes les mesures d'un autre histogramme à celui-ci.
+     * @param other l'histogramme à fusionner (non modifié)
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalSum.addAndGet(other.totalSum.get());
+        long otherMax = other.maxValue.get();
+        long max = maxValue.get();
+        while (otherMax > max && !maxValue.compareAndSet(max, otherMax)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Retourne la valeur au percentile demandé (plus grande valeur équivalente du seau concerné).
+     * @param percentile entre 0 et 100
+     * @return la valeur en nanosecondes, 0 si l'histogramme est vide
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), maxValue.get());
+            }
+        }
+        return maxValue.get();
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    public double getMean() {
+        long total = totalCount.get();
+        return total == 0 ? 0.0 : (double) totalSum.get() / total;
+    }
+
+    /**
+     * Remet l'histogramme à zéro (les mesures concurrentes pendant l'appel peuvent être perdues).
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalSum.set(0);
+        maxValue.set(0);
+    }
+
+    /**
+     * Résumé lisible : nombre de mesures, moyenne, p50/p90/p99/p99.9 et max, en microsecondes.
+     */
+    public String summary() {
+        return String.format(Locale.ROOT,
+                "n=%d moy=%.1fµs p50=%.1fµs p90=%.1fµs p99=%.1fµs p99.9=%.1fµs max=%.1fµs",
+                getTotalCount(), getMean() / 1000.0,
+                getValueAtPercentile(50) / 1000.0, getValueAtPercentile(90) / 1000.0,
+                getValueAtPercentile(99) / 1000.0, getValueAtPercentile(99.9) / 1000.0,
+                getMax() / 1000.0);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (subBucket - SUB_BUCKET_HALF);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -4,31 +4,51 @@ package fr.univ.bomberman.utils;
 import fr.univ.bomberman.model.PlayerProfile;
 import fr.univ.bomberman.model.GameSession;
 import fr.univ.bomberman.model.Game;
+import fr.univ.bomberman.model.Rank;
 import fr.univ.bomberman.exceptions.BombermanException;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 /**
  * Gestionnaire pour la sauvegarde et le chargement des profils de joueurs
  * VERSION SIMPLIFIÉE SANS GSON (utilise Properties Java)
+ *
+ * ✅ NOUVEAU: Cache en mémoire et index des profils. Le contenu de chaque profil lu ou écrit est gardé
+ * en mémoire (clé : nom de fichier du profil), et un fichier d'index unique résume tous les profils
+ * (rang, parties, victoires, dates) : lister N profils coûte une seule lecture, et recharger un profil
+ * déjà lu ne touche plus le disque. Chaque sauvegarde et chaque suppression passe par le disque puis
+ * met à jour le cache et réécrit l'index. Sans index lisible, il est reconstruit une fois à partir
+ * des fichiers de profil.
  */
 public class ProfileManager {
 
     private static final String PROFILES_DIR = "profiles";
     private static final String PROFILE_EXTENSION = ".properties";
+    private static final String INDEX_FILE = "profiles.index";
+    private static final int INDEX_VERSION = 1;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     private static ProfileManager instance;
     private Path profilesDirectory;
 
+    // ✅ NOUVEAU: Cache et index, chargés au premier accès pour le répertoire courant
+    private final Map<String, Properties> cache = new HashMap<>();
+    private TreeMap<String, ProfileSummary> index;
+    private Path indexDirectory;
+
     /**
      * Constructeur privé (Singleton)
      */
@@ -65,47 +85,26 @@ public class ProfileManager {
     /**
      * Sauvegarde un profil de joueur (version simplifiée)
      */
-    public void saveProfile(PlayerProfile profile) throws BombermanException {
+    public synchronized void saveProfile(PlayerProfile profile) throws BombermanException {
         if (profile == null || profile.getPlayerName() == null || profile.getPlayerName().trim().isEmpty()) {
             throw new BombermanException("Profil ou nom de joueur invalide");
         }
 
         try {
-            String fileName = sanitizeFileName(profile.getPlayerName()) + PROFILE_EXTENSION;
-            Path filePath = profilesDirectory.resolve(fileName);
-
-            Properties props = new Properties();
-
-            // Informations de base
-            props.setProperty("playerName", profile.getPlayerName());
-            props.setProperty("creationDate", profile.getCreationDate().format(DATE_FORMATTER));
-            props.setProperty("lastPlayDate", profile.getLastPlayDate().format(DATE_FORMATTER));
-
-            // Statistiques générales
-            props.setProperty("totalGamesPlayed", String.valueOf(profile.getTotalGamesPlayed()));
-            props.setProperty("totalWins", String.valueOf(profile.getTotalWins()));
-            props.setProperty("totalLosses", String.valueOf(profile.getTotalLosses()));
-            props.setProperty("totalBombsPlaced", String.valueOf(profile.getTotalBombsPlaced()));
-            props.setProperty("totalEliminatonsDealt", String.valueOf(profile.getTotalEliminatonsDealt()));
-            props.setProperty("totalDeaths", String.valueOf(profile.getTotalDeaths()));
-            props.setProperty("totalPlayTimeSeconds", String.valueOf(profile.getTotalPlayTimeSeconds()));
-
-            // Préférences
-            props.setProperty("preferredTheme", profile.getPreferredTheme());
-            props.setProperty("soundEnabled", String.valueOf(profile.isSoundEnabled()));
-            props.setProperty("preferredBotDifficulty", String.valueOf(profile.getPreferredBotDifficulty()));
-
-            // Statistiques par mode (basique)
-            props.setProperty("classicWins", String.valueOf(profile.getClassicModeStats().getWins()));
-            props.setProperty("classicGames", String.valueOf(profile.getClassicModeStats().getGamesPlayed()));
-            props.setProperty("botWins", String.valueOf(profile.getBotModeStats().getWins()));
-            props.setProperty("botGames", String.valueOf(profile.getBotModeStats().getGamesPlayed()));
+            ensureIndex();
+            String key = sanitizeFileName(profile.getPlayerName());
+            Path filePath = profilesDirectory.resolve(key + PROFILE_EXTENSION);
+            Properties props = toProperties(profile);
 
             // Sauvegarder le fichier
             try (FileOutputStream fos = new FileOutputStream(filePath.toFile())) {
                 props.store(fos, "Profil Super Bomberman - " + profile.getPlayerName());
             }
 
+            // ✅ NOUVEAU: Écriture traversante : cache et index suivent le fichier
+            remember(key, props);
+            writeIndex();
+
             System.out.println("💾 Profil sauvegardé: " + profile.getPlayerName() + " -> " + filePath.getFileName());
 
         } catch (IOException e) {
@@ -113,72 +112,133 @@ public class ProfileManager {
         }
     }
 
+    /**
+     * ✅ NOUVEAU: Propriétés enregistrées pour un profil (fichier de profil et export)
+     */
+    private Properties toProperties(PlayerProfile profile) {
+        Properties props = new Properties();
+
+        // Informations de base
+        props.setProperty("playerName", profile.getPlayerName());
+        props.setProperty("creationDate", profile.getCreationDate().format(DATE_FORMATTER));
+        props.setProperty("lastPlayDate", profile.getLastPlayDate().format(DATE_FORMATTER));
+
+        // Statistiques générales
+        props.setProperty("totalGamesPlayed", String.valueOf(profile.getTotalGamesPlayed()));
+        props.setProperty("totalWins", String.valueOf(profile.getTotalWins()));
+        props.setProperty("totalLosses", String.valueOf(profile.getTotalLosses()));
+        props.setProperty("totalBombsPlaced", String.valueOf(profile.getTotalBombsPlaced()));
+        props.setProperty("totalEliminatonsDealt", String.valueOf(profile.getTotalEliminatonsDealt()));
+        props.setProperty("totalDeaths", String.valueOf(profile.getTotalDeaths()));
+        props.setProperty("totalPlayTimeSeconds", String.valueOf(profile.getTotalPlayTimeSeconds()));
+
+        // Préférences
+        props.setProperty("preferredTheme", profile.getPreferredTheme());
+        props.setProperty("soundEnabled", String.valueOf(profile.isSoundEnabled()));
+        props.setProperty("preferredBotDifficulty", String.valueOf(profile.getPreferredBotDifficulty()));
+
+        // Statistiques par mode (basique)
+        props.setProperty("classicWins", String.valueOf(profile.getClassicModeStats().getWins()));
+        props.setProperty("classicGames", String.valueOf(profile.getClassicModeStats().getGamesPlayed()));
+        props.setProperty("botWins", String.valueOf(profile.getBotModeStats().getWins()));
+        props.setProperty("botGames", String.valueOf(profile.getBotModeStats().getGamesPlayed()));
+
+        return props;
+    }
+
     /**
      * Charge un profil de joueur (version simplifiée)
+     * ✅ MODIFIÉ: Lu depuis le cache si le profil a déjà été lu ou écrit ; chaque appel rend un nouvel objet
      */
-    public PlayerProfile loadProfile(String playerName) throws BombermanException {
+    public synchronized PlayerProfile loadProfile(String playerName) throws BombermanException {
         if (playerName == null || playerName.trim().isEmpty()) {
             throw new BombermanException("Nom de joueur invalide");
         }
 
+        ensureIndex();
+        String key = sanitizeFileName(playerName);
+        Properties props = cache.get(key);
+        if (props != null) {
+            return fromProperties(playerName, props);
+        }
+
         try {
-            String fileName = sanitizeFileName(playerName) + PROFILE_EXTENSION;
-            Path filePath = profilesDirectory.resolve(fileName);
+            Path filePath = profilesDirectory.resolve(key + PROFILE_EXTENSION);
 
             if (!Files.exists(filePath)) {
                 System.out.println("📂 Aucun profil existant pour: " + playerName);
                 return new PlayerProfile(playerName); // Nouveau profil
             }
 
-            Properties props = new Properties();
-            try (FileInputStream fis = new FileInputStream(filePath.toFile())) {
-                props.load(fis);
+            props = readProperties(filePath);
+            if (!index.containsKey(key)) {
+                // Fichier ajouté hors du jeu : on l'ajoute à l'index
+                remember(key, props);
+                writeIndex();
+            } else {
+                cache.put(key, props);
             }
 
-            // Créer le profil
-            PlayerProfile profile = new PlayerProfile(playerName);
+            PlayerProfile profile = fromProperties(playerName, props);
+            System.out.println("📖 Profil chargé: " + playerName + " (" + profile.getTotalGamesPlayed() + " parties)");
+            return profile;
+
+        } catch (IOException e) {
+            throw new BombermanException("Impossible de charger le profil: " + e.getMessage(), e);
+        }
+    }
 
-            // Charger les données de base
-            try {
-                String creationDateStr = props.getProperty("creationDate");
-                if (creationDateStr != null) {
-                    profile.setCreationDate(LocalDateTime.parse(creationDateStr, DATE_FORMATTER));
-                }
+    /**
+     * ✅ NOUVEAU: Reconstruit un profil à partir de ses propriétés (fichier, cache ou import)
+     */
+    private PlayerProfile fromProperties(String playerName, Properties props) {
+        // Créer le profil
+        PlayerProfile profile = new PlayerProfile(playerName);
 
-                String lastPlayDateStr = props.getProperty("lastPlayDate");
-                if (lastPlayDateStr != null) {
-                    profile.setLastPlayDate(LocalDateTime.parse(lastPlayDateStr, DATE_FORMATTER));
-                }
-            } catch (Exception e) {
-                System.out.println("⚠️ Erreur lors du chargement des dates, utilisation des valeurs par défaut");
+        // Charger les données de base
+        try {
+            String creationDateStr = props.getProperty("creationDate");
+            if (creationDateStr != null) {
+                profile.setCreationDate(LocalDateTime.parse(creationDateStr, DATE_FORMATTER));
             }
 
-            // Charger les statistiques
-            profile.setTotalGamesPlayed(getIntProperty(props, "totalGamesPlayed", 0));
-            profile.setTotalWins(getIntProperty(props, "totalWins", 0));
-            profile.setTotalLosses(getIntProperty(props, "totalLosses", 0));
-            profile.setTotalBombsPlaced(getIntProperty(props, "totalBombsPlaced", 0));
-            profile.setTotalEliminatonsDealt(getIntProperty(props, "totalEliminatonsDealt", 0));
-            profile.setTotalDeaths(getIntProperty(props, "totalDeaths", 0));
-            profile.setTotalPlayTimeSeconds(getLongProperty(props, "totalPlayTimeSeconds", 0L));
-
-            // Charger les préférences
-            profile.setPreferredTheme(props.getProperty("preferredTheme", "default"));
-            profile.setSoundEnabled(getBooleanProperty(props, "soundEnabled", true));
-            profile.setPreferredBotDifficulty(getIntProperty(props, "preferredBotDifficulty", 2));
-
-            // Charger les stats par mode (basique)
-            profile.getClassicModeStats().setWins(getIntProperty(props, "classicWins", 0));
-            profile.getClassicModeStats().setGamesPlayed(getIntProperty(props, "classicGames", 0));
-            profile.getBotModeStats().setWins(getIntProperty(props, "botWins", 0));
-            profile.getBotModeStats().setGamesPlayed(getIntProperty(props, "botGames", 0));
+            String lastPlayDateStr = props.getProperty("lastPlayDate");
+            if (lastPlayDateStr != null) {
+                profile.setLastPlayDate(LocalDateTime.parse(lastPlayDateStr, DATE_FORMATTER));
+            }
+        } catch (Exception e) {
+            System.out.println("⚠️ Erreur lors du chargement des dates, utilisation des valeurs par défaut");
+        }
 
-            System.out.println("📖 Profil chargé: " + playerName + " (" + profile.getTotalGamesPlayed() + " parties)");
-            return profile;
+        // Charger les statistiques
+        profile.setTotalGamesPlayed(getIntProperty(props, "totalGamesPlayed", 0));
+        profile.setTotalWins(getIntProperty(props, "totalWins", 0));
+        profile.setTotalLosses(getIntProperty(props, "totalLosses", 0));
+        profile.setTotalBombsPlaced(getIntProperty(props, "totalBombsPlaced", 0));
+        profile.setTotalEliminatonsDealt(getIntProperty(props, "totalEliminatonsDealt", 0));
+        profile.setTotalDeaths(getIntProperty(props, "totalDeaths", 0));
+        profile.setTotalPlayTimeSeconds(getLongProperty(props, "totalPlayTimeSeconds", 0L));
+
+        // Charger les préférences
+        profile.setPreferredTheme(props.getProperty("preferredTheme", "default"));
+        profile.setSoundEnabled(getBooleanProperty(props, "soundEnabled", true));
+        profile.setPreferredBotDifficulty(getIntProperty(props, "preferredBotDifficulty", 2));
+
+        // Charger les stats par mode (basique)
+        profile.getClassicModeStats().setWins(getIntProperty(props, "classicWins", 0));
+        profile.getClassicModeStats().setGamesPlayed(getIntProperty(props, "classicGames", 0));
+        profile.getBotModeStats().setWins(getIntProperty(props, "botWins", 0));
+        profile.getBotModeStats().setGamesPlayed(getIntProperty(props, "botGames", 0));
+
+        return profile;
+    }
 
-        } catch (IOException e) {
-            throw new BombermanException("Impossible de charger le profil: " + e.getMessage(), e);
+    private Properties readProperties(Path file) throws IOException {
+        Properties props = new Properties();
+        try (FileInputStream fis = new FileInputStream(file.toFile())) {
+            props.load(fis);
         }
+        return props;
     }
 
     /**
@@ -232,54 +292,52 @@ public class ProfileManager {
 
     /**
      * Vérifie si un profil existe
+     * ✅ MODIFIÉ: D'après l'index, sans accès disque
      */
-    public boolean profileExists(String playerName) {
+    public synchronized boolean profileExists(String playerName) {
         if (playerName == null || playerName.trim().isEmpty()) {
             return false;
         }
 
-        String fileName = sanitizeFileName(playerName) + PROFILE_EXTENSION;
-        Path filePath = profilesDirectory.resolve(fileName);
-        return Files.exists(filePath);
+        ensureIndex();
+        return index.containsKey(sanitizeFileName(playerName));
     }
 
     /**
      * Liste tous les profils disponibles
+     * ✅ MODIFIÉ: Lu dans l'index (ordre alphabétique) au lieu de parcourir le répertoire
      */
-    public List<String> listProfiles() {
-        List<String> profileNames = new ArrayList<>();
-
-        try {
-            if (Files.exists(profilesDirectory)) {
-                Files.list(profilesDirectory)
-                        .filter(path -> path.toString().endsWith(PROFILE_EXTENSION))
-                        .forEach(path -> {
-                            String fileName = path.getFileName().toString();
-                            String profileName = fileName.substring(0, fileName.length() - PROFILE_EXTENSION.length());
-                            profileNames.add(unsanitizeFileName(profileName));
-                        });
-            }
-        } catch (IOException e) {
-            System.err.println("❌ Erreur lors de la lecture des profils: " + e.getMessage());
-        }
+    public synchronized List<String> listProfiles() {
+        ensureIndex();
+        return new ArrayList<>(index.keySet());
+    }
 
-        return profileNames;
+    /**
+     * ✅ NOUVEAU: Résumés de tous les profils (rang, parties, victoires, dates), sans lire leurs fichiers
+     */
+    public synchronized List<ProfileSummary> listProfileSummaries() {
+        ensureIndex();
+        return new ArrayList<>(index.values());
     }
 
     /**
      * Supprime un profil
      */
-    public boolean deleteProfile(String playerName) {
+    public synchronized boolean deleteProfile(String playerName) {
         if (playerName == null || playerName.trim().isEmpty()) {
             return false;
         }
 
         try {
-            String fileName = sanitizeFileName(playerName) + PROFILE_EXTENSION;
-            Path filePath = profilesDirectory.resolve(fileName);
+            ensureIndex();
+            String key = sanitizeFileName(playerName);
+            Path filePath = profilesDirectory.resolve(key + PROFILE_EXTENSION);
 
             if (Files.exists(filePath)) {
                 Files.delete(filePath);
+                cache.remove(key);
+                index.remove(key);
+                writeIndex();
                 System.out.println("🗑️ Profil supprimé: " + playerName);
                 return true;
             }
@@ -290,6 +348,116 @@ public class ProfileManager {
         return false;
     }
 
+    // ============================================================================
+    // ✅ NOUVEAU: CACHE ET INDEX DES PROFILS
+    // ============================================================================
+
+    /**
+     * Charge l'index du répertoire courant au premier accès, ou le reconstruit s'il manque
+     */
+    private void ensureIndex() {
+        if (index != null && profilesDirectory.equals(indexDirectory)) {
+            return;
+        }
+        cache.clear();
+        index = new TreeMap<>();
+        indexDirectory = profilesDirectory;
+        if (!readIndex()) {
+            rebuildIndex();
+        }
+    }
+
+    /**
+     * Relit tous les fichiers de profil et réécrit l'index (profils ajoutés ou supprimés hors du jeu)
+     */
+    public synchronized void rebuildIndex() {
+        if (index == null || !profilesDirectory.equals(indexDirectory)) {
+            index = new TreeMap<>();
+            indexDirectory = profilesDirectory;
+        }
+        cache.clear();
+        index.clear();
+        try (Stream<Path> files = Files.list(profilesDirectory)) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                String fileName = path.getFileName().toString();
+                if (!fileName.endsWith(PROFILE_EXTENSION)) {
+                    continue;
+                }
+                String key = fileName.substring(0, fileName.length() - PROFILE_EXTENSION.length());
+                try {
+                    remember(key, readProperties(path));
+                } catch (IOException e) {
+                    System.err.println("❌ Profil illisible ignoré: " + fileName + " (" + e.getMessage() + ")");
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Erreur lors de la lecture des profils: " + e.getMessage());
+        }
+        writeIndex();
+        System.out.println("🗂️ Index des profils reconstruit: " + index.size() + " profil(s)");
+    }
+
+    /**
+     * Met un profil en cache et à jour dans l'index (sans écrire l'index)
+     */
+    private void remember(String key, Properties props) {
+        cache.put(key, props);
+        index.put(key, new ProfileSummary(key, props.getProperty("playerName", key), fromProperties(key, props)));
+    }
+
+    /**
+     * @return false si l'index est absent, illisible ou d'une autre version
+     */
+    private boolean readIndex() {
+        Path file = profilesDirectory.resolve(INDEX_FILE);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try {
+            Properties props = readProperties(file);
+            if (getIntProperty(props, "version", 0) != INDEX_VERSION) {
+                return false;
+            }
+            for (String property : props.stringPropertyNames()) {
+                if (property.endsWith(".playerName")) {
+                    String key = property.substring(0, property.length() - ".playerName".length());
+                    index.put(key, ProfileSummary.read(key, props));
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("⚠️ Index des profils illisible, reconstruction: " + e.getMessage());
+            index.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Réécrit l'index en entier, via un fichier temporaire pour ne jamais laisser d'index tronqué
+     */
+    private void writeIndex() {
+        Properties props = new Properties();
+        props.setProperty("version", String.valueOf(INDEX_VERSION));
+        for (ProfileSummary summary : index.values()) {
+            summary.write(props);
+        }
+        Path file = profilesDirectory.resolve(INDEX_FILE);
+        try {
+            Path temp = profilesDirectory.resolve(INDEX_FILE + ".tmp");
+            try (FileOutputStream fos = new FileOutputStream(temp.toFile())) {
+                props.store(fos, "Index des profils Super Bomberman");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("❌ Impossible d'écrire l'index des profils: " + e.getMessage());
+            try {
+                Files.deleteIfExists(file); // Sera reconstruit au prochain lancement
+            } catch (IOException ignored) {
+                // L'index restera périmé
+            }
+        }
+    }
+
     // ============================================================================
     // MÉTHODES UTILITAIRES
     // ============================================================================
@@ -355,6 +523,21 @@ public class ProfileManager {
             }
         }
 
+        /**
+         * ✅ NOUVEAU: Ajoute un profil d'après son résumé dans l'index
+         */
+        public void addSummary(ProfileSummary summary) {
+            totalProfiles++;
+            totalGamesPlayed += summary.getGamesPlayed();
+            totalWins += summary.getWins();
+            totalPlayTime += summary.getPlayTimeSeconds();
+
+            if (summary.getGamesPlayed() > mostGamesPlayed) {
+                mostGamesPlayed = summary.getGamesPlayed();
+                mostActivePlayer = summary.getName();
+            }
+        }
+
         public double getGlobalWinRate() {
             if (totalGamesPlayed == 0) return 0.0;
             return (double) totalWins / totalGamesPlayed * 100.0;
@@ -374,22 +557,105 @@ public class ProfileManager {
         public int getMostGamesPlayed() { return mostGamesPlayed; }
     }
 
+    /**
+     * ✅ NOUVEAU: Résumé d'un profil tel qu'il figure dans l'index, de quoi lister les profils sans les charger
+     */
+    public static class ProfileSummary {
+        private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+        private final String name;
+        private final String playerName;
+        private final Rank rank;
+        private final int gamesPlayed;
+        private final int wins;
+        private final int losses;
+        private final long playTimeSeconds;
+        private final LocalDateTime creationDate;
+        private final LocalDateTime lastPlayDate;
+
+        ProfileSummary(String name, String playerName, PlayerProfile profile) {
+            this(name, playerName, profile.getRank(), profile.getTotalGamesPlayed(), profile.getTotalWins(),
+                    profile.getTotalLosses(), profile.getTotalPlayTimeSeconds(),
+                    profile.getCreationDate(), profile.getLastPlayDate());
+        }
+
+        private ProfileSummary(String name, String playerName, Rank rank, int gamesPlayed, int wins, int losses,
+                               long playTimeSeconds, LocalDateTime creationDate, LocalDateTime lastPlayDate) {
+            this.name = name;
+            this.playerName = playerName;
+            this.rank = rank;
+            this.gamesPlayed = gamesPlayed;
+            this.wins = wins;
+            this.losses = losses;
+            this.playTimeSeconds = playTimeSeconds;
+            this.creationDate = creationDate;
+            this.lastPlayDate = lastPlayDate;
+        }
+
+        static ProfileSummary read(String name, Properties props) {
+            String prefix = name + ".";
+            return new ProfileSummary(name,
+                    props.getProperty(prefix + "playerName"),
+                    Rank.valueOf(props.getProperty(prefix + "rank")),
+                    Integer.parseInt(props.getProperty(prefix + "games")),
+                    Integer.parseInt(props.getProperty(prefix + "wins")),
+                    Integer.parseInt(props.getProperty(prefix + "losses")),
+                    Long.parseLong(props.getProperty(prefix + "playTime")),
+                    LocalDateTime.parse(props.getProperty(prefix + "creationDate"), DATE_FORMATTER),
+                    LocalDateTime.parse(props.getProperty(prefix + "lastPlayDate"), DATE_FORMATTER));
+        }
+
+        void write(Properties props) {
+            String prefix = name + ".";
+            props.setProperty(prefix + "playerName", playerName);
+            props.setProperty(prefix + "rank", rank.name());
+            props.setProperty(prefix + "games", String.valueOf(gamesPlayed));
+            props.setProperty(prefix + "wins", String.valueOf(wins));
+            props.setProperty(prefix + "losses", String.valueOf(losses));
+            props.setProperty(prefix + "playTime", String.valueOf(playTimeSeconds));
+            props.setProperty(prefix + "creationDate", creationDate.format(DATE_FORMATTER));
+            props.setProperty(prefix + "lastPlayDate", lastPlayDate.format(DATE_FORMATTER));
+        }
+
+        /**
+         * @return le nom sous lequel le profil est listé et chargé ({@link #loadProfile(String)})
+         */
+        public String getName() { return name; }
+        /**
+         * @return le nom saisi à la création du profil
+         */
+        public String getPlayerName() { return playerName; }
+        public Rank getRank() { return rank; }
+        public int getGamesPlayed() { return gamesPlayed; }
+        public int getWins() { return wins; }
+        public int getLosses() { return losses; }
+        public long getPlayTimeSeconds() { return playTimeSeconds; }
+        public LocalDateTime getCreationDate() { return creationDate; }
+        public LocalDateTime getLastPlayDate() { return lastPlayDate; }
+
+        public double getWinRatio() {
+            if (gamesPlayed == 0) return 0.0;
+            return (double) wins / gamesPlayed * 100.0;
+        }
+
+        public String getFormattedCreationDate() {
+            return creationDate.format(DISPLAY_FORMATTER);
+        }
+
+        public String getFormattedLastPlayDate() {
+            return lastPlayDate.format(DISPLAY_FORMATTER);
+        }
+    }
+
     /**
      * Obtient les statistiques globales de tous les profils
+     * ✅ MODIFIÉ: Calculées sur l'index, sans charger les profils
      */
     public ProfileStats getGlobalStats() {
         ProfileStats stats = new ProfileStats();
-
-        List<String> profileNames = listProfiles();
-        for (String profileName : profileNames) {
-            try {
-                PlayerProfile profile = loadProfile(profileName);
-                stats.addProfile(profile);
-            } catch (BombermanException e) {
-                System.err.println("❌ Erreur lors du chargement du profil " + profileName + ": " + e.getMessage());
-            }
+        for (ProfileSummary summary : listProfileSummaries()) {
+            stats.addSummary(summary);
         }
-
         return stats;
     }
 
@@ -400,32 +666,7 @@ public class ProfileManager {
         PlayerProfile profile = loadProfile(playerName);
 
         try {
-            Properties props = new Properties();
-
-            // Informations de base
-            props.setProperty("playerName", profile.getPlayerName());
-            props.setProperty("creationDate", profile.getCreationDate().format(DATE_FORMATTER));
-            props.setProperty("lastPlayDate", profile.getLastPlayDate().format(DATE_FORMATTER));
-
-            // Statistiques générales
-            props.setProperty("totalGamesPlayed", String.valueOf(profile.getTotalGamesPlayed()));
-            props.setProperty("totalWins", String.valueOf(profile.getTotalWins()));
-            props.setProperty("totalLosses", String.valueOf(profile.getTotalLosses()));
-            props.setProperty("totalBombsPlaced", String.valueOf(profile.getTotalBombsPlaced()));
-            props.setProperty("totalEliminatonsDealt", String.valueOf(profile.getTotalEliminatonsDealt()));
-            props.setProperty("totalDeaths", String.valueOf(profile.getTotalDeaths()));
-            props.setProperty("totalPlayTimeSeconds", String.valueOf(profile.getTotalPlayTimeSeconds()));
-
-            // Préférences
-            props.setProperty("preferredTheme", profile.getPreferredTheme());
-            props.setProperty("soundEnabled", String.valueOf(profile.isSoundEnabled()));
-            props.setProperty("preferredBotDifficulty", String.valueOf(profile.getPreferredBotDifficulty()));
-
-            // Statistiques par mode
-            props.setProperty("classicWins", String.valueOf(profile.getClassicModeStats().getWins()));
-            props.setProperty("classicGames", String.valueOf(profile.getClassicModeStats().getGamesPlayed()));
-            props.setProperty("botWins", String.valueOf(profile.getBotModeStats().getWins()));
-            props.setProperty("botGames", String.valueOf(profile.getBotModeStats().getGamesPlayed()));
+            Properties props = toProperties(profile);
 
             // Sauvegarder le fichier d'export
             try (FileOutputStream fos = new FileOutputStream(exportPath)) {
@@ -451,42 +692,7 @@ public class ProfileManager {
 
             // Créer le profil à partir du fichier
             String playerName = props.getProperty("playerName", "Joueur Importé");
-            PlayerProfile profile = new PlayerProfile(playerName);
-
-            // Charger les données
-            try {
-                String creationDateStr = props.getProperty("creationDate");
-                if (creationDateStr != null) {
-                    profile.setCreationDate(LocalDateTime.parse(creationDateStr, DATE_FORMATTER));
-                }
-
-                String lastPlayDateStr = props.getProperty("lastPlayDate");
-                if (lastPlayDateStr != null) {
-                    profile.setLastPlayDate(LocalDateTime.parse(lastPlayDateStr, DATE_FORMATTER));
-                }
-            } catch (Exception e) {
-                System.out.println("⚠️ Erreur lors du chargement des dates, utilisation des valeurs par défaut");
-            }
-
-            // Charger les statistiques
-            profile.setTotalGamesPlayed(getIntProperty(props, "totalGamesPlayed", 0));
-            profile.setTotalWins(getIntProperty(props, "totalWins", 0));
-            profile.setTotalLosses(getIntProperty(props, "totalLosses", 0));
-            profile.setTotalBombsPlaced(getIntProperty(props, "totalBombsPlaced", 0));
-            profile.setTotalEliminatonsDealt(getIntProperty(props, "totalEliminatonsDealt", 0));
-            profile.setTotalDeaths(getIntProperty(props, "totalDeaths", 0));
-            profile.setTotalPlayTimeSeconds(getLongProperty(props, "totalPlayTimeSeconds", 0L));
-
-            // Charger les préférences
-            profile.setPreferredTheme(props.getProperty("preferredTheme", "default"));
-            profile.setSoundEnabled(getBooleanProperty(props, "soundEnabled", true));
-            profile.setPreferredBotDifficulty(getIntProperty(props, "preferredBotDifficulty", 2));
-
-            // Charger les stats par mode
-            profile.getClassicModeStats().setWins(getIntProperty(props, "classicWins", 0));
-            profile.getClassicModeStats().setGamesPlayed(getIntProperty(props, "classicGames", 0));
-            profile.getBotModeStats().setWins(getIntProperty(props, "botWins", 0));
-            profile.getBotModeStats().setGamesPlayed(getIntProperty(props, "botGames", 0));
+            PlayerProfile profile = fromProperties(playerName, props);
 
             // Sauvegarder le profil importé
             saveProfile(profile);
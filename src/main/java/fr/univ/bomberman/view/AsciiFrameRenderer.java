@@ -0,0 +1,54 @@
+package fr.univ.bomberman.view;
+
+import fr.univ.bomberman.model.SimulationState;
+
+/**
+ * ✅ NOUVEAU: Rendu texte d'un état de partie, une ligne par rangée du plateau.
+ *
+ * Légende : {@code #} mur, {@code +} brique, {@code .} sol, {@code *} flamme, chiffre de
+ * {@code 1} à {@code 9} bombe (tours avant l'explosion), {@code A} à {@code D} joueurs vivants.
+ * Pratique pour le débogage et pour comparer deux replays avec un simple diff.
+ */
+public class AsciiFrameRenderer implements FrameRenderer<String> {
+
+    public static final char WALL = '#';
+    public static final char BRICK = '+';
+    public static final char GROUND = '.';
+    public static final char FIRE = '*';
+    private static final char[] PLAYERS = {'A', 'B', 'C', 'D'};
+
+    @Override
+    public String render(SimulationState frame) {
+        int cols = frame.getCols();
+        int rows = frame.getRows();
+        char[] grid = new char[rows * (cols + 1)];
+
+        for (int y = 0; y < rows; y++) {
+            int row = y * (cols + 1);
+            for (int x = 0; x < cols; x++) {
+                char c = GROUND;
+                if (frame.isWall(x, y)) {
+                    c = WALL;
+                } else if (frame.isBrick(x, y)) {
+                    c = BRICK;
+                } else if (frame.isOnFire(x, y)) {
+                    c = FIRE;
+                }
+                grid[row + x] = c;
+            }
+            grid[row + cols] = '\n';
+        }
+
+        for (int b = 0; b < frame.getBombCount(); b++) {
+            int timer = Math.max(1, Math.min(9, frame.getBombTimer(b)));
+            grid[frame.getBombY(b) * (cols + 1) + frame.getBombX(b)] = (char) ('0' + timer);
+        }
+
+        for (int p = 0; p < frame.getPlayerCount(); p++) {
+            if (frame.isAlive(p)) {
+                grid[frame.getPlayerY(p) * (cols + 1) + frame.getPlayerX(p)] = PLAYERS[p % PLAYERS.length];
+            }
+        }
+        return new String(grid);
+    }
+}
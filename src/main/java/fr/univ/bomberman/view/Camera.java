@@ -0,0 +1,285 @@
+package fr.univ.bomberman.view;
+
+/**
+ * ✅ NOUVEAU: Caméra du plateau : suivi d'un joueur, écran partagé ou vue libre, avec zoom.
+ *
+ * À chaque image, {@link #update} calcule une ou deux {@link Viewport} : rectangle d'écran, origine
+ * dans le monde, échelle et plage de cases visibles. Le rendu ne parcourt que cette plage ; le coût
+ * d'une image dépend ainsi du nombre de cases affichées et non de la taille du plateau.
+ *
+ * Quand le plateau tient dans l'écran à l'échelle 1, il est centré et la caméra ne le déplace pas.
+ */
+public class Camera {
+
+    public enum Mode {
+        FOLLOW("Suivi"),
+        SPLIT("Écran partagé"),
+        FREE("Libre");
+
+        private final String displayName;
+
+        Mode(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    public static final double MIN_ZOOM = 0.25;
+    public static final double MAX_ZOOM = 4.0;
+    /** Écart en pixels entre les deux vues de l'écran partagé */
+    public static final double SPLIT_GAP = 2;
+
+    private final int cellSize;
+    private final Viewport[] viewports = {new Viewport(), new Viewport()};
+    private final double[] focusX = new double[2];
+    private final double[] focusY = new double[2];
+    private int viewportCount = 1;
+    private Mode mode = Mode.FOLLOW;
+    private double zoom = 1.0;
+    private double freeX;
+    private double freeY;
+
+    /**
+     * @param cellSize taille d'une case en pixels à l'échelle 1
+     */
+    public Camera(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Indique la case (éventuellement fractionnaire) suivie par une vue.
+     * @param slot 0 pour la vue principale, 1 pour la seconde vue de l'écran partagé
+     */
+    public void setFocus(int slot, double x, double y) {
+        focusX[slot] = x;
+        focusY[slot] = y;
+    }
+
+    /**
+     * Recalcule les vues pour l'image à venir.
+     * @param screenWidth largeur de la zone d'affichage en pixels
+     * @param screenHeight hauteur de la zone d'affichage en pixels
+     * @param cols colonnes du plateau
+     * @param rows lignes du plateau
+     */
+    public void update(double screenWidth, double screenHeight, int cols, int rows) {
+        switch (mode) {
+            case SPLIT:
+                viewportCount = 2;
+                double half = (screenWidth - SPLIT_GAP) / 2;
+                viewports[0].place(0, 0, half, screenHeight, focusX[0], focusY[0], cols, rows);
+                viewports[1].place(half + SPLIT_GAP, 0, half, screenHeight, focusX[1], focusY[1], cols, rows);
+                break;
+            case FREE:
+                viewportCount = 1;
+                viewports[0].place(0, 0, screenWidth, screenHeight, freeX, freeY, cols, rows);
+                // La vue libre reste dans le plateau
+                freeX = viewports[0].centerX();
+                freeY = viewports[0].centerY();
+                break;
+            default:
+                viewportCount = 1;
+                viewports[0].place(0, 0, screenWidth, screenHeight, focusX[0], focusY[0], cols, rows);
+                break;
+        }
+    }
+
+    /**
+     * Passe au mode suivant ; la vue libre part de la position suivie.
+     */
+    public Mode cycleMode() {
+        setMode(Mode.values()[(mode.ordinal() + 1) % Mode.values().length]);
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        if (mode == Mode.FREE && this.mode != Mode.FREE) {
+            freeX = focusX[0];
+            freeY = focusY[0];
+        }
+        this.mode = mode;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Multiplie le zoom, dans les limites {@link #MIN_ZOOM} et {@link #MAX_ZOOM}.
+     */
+    public void zoomBy(double factor) {
+        setZoom(zoom * factor);
+    }
+
+    public void setZoom(double zoom) {
+        this.zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+    }
+
+    public double getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Déplace la vue libre (sans effet dans les autres modes).
+     * @param dx déplacement horizontal en pixels d'écran
+     * @param dy déplacement vertical en pixels d'écran
+     */
+    public void pan(double dx, double dy) {
+        if (mode == Mode.FREE) {
+            freeX += dx / (cellSize * zoom);
+            freeY += dy / (cellSize * zoom);
+        }
+    }
+
+    public int getViewportCount() {
+        return viewportCount;
+    }
+
+    public Viewport getViewport(int index) {
+        return viewports[index];
+    }
+
+    /**
+     * @return vrai si l'unique vue affiche le plateau tel quel : échelle 1, sans décalage, plateau entier à l'écran
+     */
+    public boolean isIdentity() {
+        return viewportCount == 1 && viewports[0].isIdentity();
+    }
+
+    /**
+     * @return vrai si chaque vue montre le plateau entier
+     */
+    public boolean showsWholeBoard() {
+        for (int i = 0; i < viewportCount; i++) {
+            if (!viewports[i].wholeBoard) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Une vue : rectangle d'écran et portion du monde qui s'y affiche.
+     */
+    public final class Viewport {
+
+        private double screenX;
+        private double screenY;
+        private double width;
+        private double height;
+        private double originX;
+        private double originY;
+        private double scale;
+        private int minCol;
+        private int maxCol;
+        private int minRow;
+        private int maxRow;
+        private boolean wholeBoard;
+
+        private void place(double screenX, double screenY, double width, double height,
+                           double focusCol, double focusRow, int cols, int rows) {
+            this.screenX = screenX;
+            this.screenY = screenY;
+            this.width = width;
+            this.height = height;
+            this.scale = zoom;
+
+            double worldWidth = width / scale;
+            double worldHeight = height / scale;
+            originX = clampOrigin((focusCol + 0.5) * cellSize - worldWidth / 2, cols * cellSize, worldWidth);
+            originY = clampOrigin((focusRow + 0.5) * cellSize - worldHeight / 2, rows * cellSize, worldHeight);
+
+            // Origine alignée sur un pixel d'écran : pas de joint entre les cases
+            originX = Math.round(originX * scale) / scale;
+            originY = Math.round(originY * scale) / scale;
+
+            minCol = Math.max(0, (int) Math.floor(originX / cellSize));
+            minRow = Math.max(0, (int) Math.floor(originY / cellSize));
+            maxCol = Math.min(cols - 1, (int) Math.ceil((originX + worldWidth) / cellSize) - 1);
+            maxRow = Math.min(rows - 1, (int) Math.ceil((originY + worldHeight) / cellSize) - 1);
+            wholeBoard = minCol == 0 && minRow == 0 && maxCol == cols - 1 && maxRow == rows - 1;
+        }
+
+        /**
+         * Centre la portion affichée si le monde est plus petit que la vue, sinon la garde dans le monde.
+         */
+        private double clampOrigin(double origin, double worldSize, double viewSize) {
+            if (worldSize <= viewSize) {
+                return (worldSize - viewSize) / 2;
+            }
+            return Math.max(0, Math.min(worldSize - viewSize, origin));
+        }
+
+        private double centerX() {
+            return (originX + width / scale / 2) / cellSize - 0.5;
+        }
+
+        private double centerY() {
+            return (originY + height / scale / 2) / cellSize - 0.5;
+        }
+
+        private boolean isIdentity() {
+            return scale == 1.0 && originX == 0 && originY == 0 && screenX == 0 && screenY == 0 && wholeBoard;
+        }
+
+        /**
+         * @return vrai si la case est affichée dans cette vue
+         */
+        public boolean isVisible(int x, int y) {
+            return x >= minCol && x <= maxCol && y >= minRow && y <= maxRow;
+        }
+
+        public int getVisibleCellCount() {
+            return Math.max(0, maxCol - minCol + 1) * Math.max(0, maxRow - minRow + 1);
+        }
+
+        public double getScreenX() {
+            return screenX;
+        }
+
+        public double getScreenY() {
+            return screenY;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        /** Abscisse monde (pixels à l'échelle 1) affichée au bord gauche de la vue */
+        public double getOriginX() {
+            return originX;
+        }
+
+        /** Ordonnée monde (pixels à l'échelle 1) affichée au bord haut de la vue */
+        public double getOriginY() {
+            return originY;
+        }
+
+        public double getScale() {
+            return scale;
+        }
+
+        public int getMinCol() {
+            return minCol;
+        }
+
+        public int getMaxCol() {
+            return maxCol;
+        }
+
+        public int getMinRow() {
+            return minRow;
+        }
+
+        public int getMaxRow() {
+            return maxRow;
+        }
+    }
+}
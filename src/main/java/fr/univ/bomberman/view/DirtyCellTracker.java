@@ -0,0 +1,134 @@
+package fr.univ.bomberman.view;
+
+import java.util.Arrays;
+
+/**
+ * ✅ NOUVEAU: Suivi des cellules à redessiner d'une image à l'autre.
+ *
+ * Chaque cellule reçoit une clé résumant ce qui y est dessiné (type de case, bombe et son timer,
+ * explosion). Une cellule est sale si sa clé a changé depuis la dernière image dessinée, ou si
+ * elle se trouve sous une surcouche animée (joueur, étiquette, barre de cooldown, clignotement)
+ * pendant cette image ou la précédente — ce dernier cas efface l'ancienne position de la surcouche.
+ *
+ * Aucune dépendance JavaFX : le {@link GameRenderer} se charge du dessin.
+ */
+public class DirtyCellTracker {
+
+    private int cols;
+    private int rows;
+    private int[] drawnKeys = new int[0];
+    private int[] pendingKeys = new int[0];
+    private boolean[] dirty = new boolean[0];
+    private boolean[] overlay = new boolean[0];
+    private boolean[] previousOverlay = new boolean[0];
+    private int dirtyCount;
+    private boolean fullRedraw = true;
+
+    /**
+     * Commence une image : les clés de départ sont celles du plateau, les entités s'y ajoutent ensuite.
+     * Un changement de dimensions force un redessin complet.
+     * @param baseKeys clés du plateau, indexées par {@code y * cols + x}
+     */
+    public void beginFrame(int cols, int rows, int[] baseKeys) {
+        if (cols != this.cols || rows != this.rows) {
+            int size = cols * rows;
+            this.cols = cols;
+            this.rows = rows;
+            drawnKeys = new int[size];
+            pendingKeys = new int[size];
+            dirty = new boolean[size];
+            overlay = new boolean[size];
+            previousOverlay = new boolean[size];
+            fullRedraw = true;
+        }
+        System.arraycopy(baseKeys, 0, pendingKeys, 0, pendingKeys.length);
+        Arrays.fill(dirty, fullRedraw);
+        Arrays.fill(overlay, false);
+        dirtyCount = fullRedraw ? dirty.length : 0;
+    }
+
+    /**
+     * Ajoute des bits à la clé d'une cellule pour l'image en cours (bombe, explosion…).
+     */
+    public void addKeyBits(int x, int y, int bits) {
+        if (isInside(x, y)) {
+            pendingKeys[y * cols + x] |= bits;
+        }
+    }
+
+    /**
+     * Déclare un rectangle de cellules couvert par une surcouche animée, bornes incluses.
+     * Il est redessiné à cette image et à la suivante.
+     */
+    public void markOverlay(int x0, int y0, int x1, int y1) {
+        int fromX = Math.max(0, x0);
+        int toX = Math.min(cols - 1, x1);
+        int fromY = Math.max(0, y0);
+        int toY = Math.min(rows - 1, y1);
+        for (int y = fromY; y <= toY; y++) {
+            for (int x = fromX; x <= toX; x++) {
+                int i = y * cols + x;
+                overlay[i] = true;
+                markDirty(i);
+            }
+        }
+    }
+
+    /**
+     * Termine le marquage : compare les clés avec l'image précédente et ajoute les surcouches
+     * de l'image précédente.
+     * @return le nombre de cellules à redessiner
+     */
+    public int finishMarking() {
+        for (int i = 0; i < pendingKeys.length; i++) {
+            if (pendingKeys[i] != drawnKeys[i]) {
+                drawnKeys[i] = pendingKeys[i];
+                markDirty(i);
+            }
+            if (previousOverlay[i]) {
+                markDirty(i);
+            }
+        }
+        boolean[] swap = previousOverlay;
+        previousOverlay = overlay;
+        overlay = swap;
+        return dirtyCount;
+    }
+
+    /**
+     * Termine l'image : la suivante pourra se limiter aux cellules sales.
+     */
+    public void endFrame() {
+        fullRedraw = false;
+    }
+
+    /**
+     * Force un redessin complet à la prochaine image (thème, nouvelle partie, écran de fin…).
+     */
+    public void invalidateAll() {
+        fullRedraw = true;
+    }
+
+    public boolean isFullRedraw() {
+        return fullRedraw;
+    }
+
+    public boolean isDirty(int x, int y) {
+        return isInside(x, y) && dirty[y * cols + x];
+    }
+
+    public int getDirtyCount() {
+        return dirtyCount;
+    }
+
+    private void markDirty(int i) {
+        if (!dirty[i]) {
+            dirty[i] = true;
+            dirtyCount++;
+        }
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < cols && y < rows;
+    }
+}
@@ -0,0 +1,112 @@
+package fr.univ.bomberman.view;
+
+import fr.univ.bomberman.exceptions.BombermanException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * ✅ NOUVEAU: Image ARGB en mémoire ({@code int[]}, une valeur 0xAARRGGBB par pixel, ligne par ligne).
+ */
+public final class FrameBuffer {
+
+    private final int width;
+    private final int height;
+    private final int[] pixels;
+
+    public FrameBuffer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.pixels = new int[width * height];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return le tableau de pixels lui-même (pas une copie)
+     */
+    public int[] getPixels() {
+        return pixels;
+    }
+
+    public int getPixel(int x, int y) {
+        return pixels[y * width + x];
+    }
+
+    /**
+     * Remplit un rectangle d'une couleur opaque.
+     */
+    public void fill(int x0, int y0, int w, int h, int argb) {
+        for (int y = y0; y < y0 + h; y++) {
+            int row = y * width;
+            for (int x = x0; x < x0 + w; x++) {
+                pixels[row + x] = argb;
+            }
+        }
+    }
+
+    /**
+     * Copie un sprite carré en composant sa transparence sur le contenu existant.
+     * @param sprite pixels ARGB du sprite, {@code size * size} valeurs
+     */
+    public void blend(int[] sprite, int size, int x0, int y0) {
+        for (int y = 0; y < size; y++) {
+            int dst = (y0 + y) * width + x0;
+            int src = y * size;
+            for (int x = 0; x < size; x++) {
+                int color = sprite[src + x];
+                int alpha = color >>> 24;
+                if (alpha == 0xFF) {
+                    pixels[dst + x] = color;
+                } else if (alpha != 0) {
+                    pixels[dst + x] = over(color, alpha, pixels[dst + x]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Composition « source par-dessus » d'un pixel semi-transparent sur un fond.
+     */
+    private static int over(int color, int alpha, int background) {
+        int inverse = 255 - alpha;
+        int backgroundAlpha = background >>> 24;
+        int outAlpha = alpha + backgroundAlpha * inverse / 255;
+        int r = (((color >> 16) & 0xFF) * alpha + ((background >> 16) & 0xFF) * inverse) / 255;
+        int g = (((color >> 8) & 0xFF) * alpha + ((background >> 8) & 0xFF) * inverse) / 255;
+        int b = ((color & 0xFF) * alpha + (background & 0xFF) * inverse) / 255;
+        return (outAlpha << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * @return une {@link BufferedImage} ARGB contenant une copie des pixels
+     */
+    public BufferedImage toImage() {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        return image;
+    }
+
+    /**
+     * Enregistre l'image au format PNG.
+     * @param file fichier de destination
+     * @throws BombermanException si l'écriture échoue
+     */
+    public void writePng(File file) throws BombermanException {
+        try {
+            if (!ImageIO.write(toImage(), "png", file)) {
+                throw new BombermanException("Aucun encodeur PNG disponible");
+            }
+        } catch (IOException e) {
+            throw new BombermanException("Impossible d'écrire l'image " + file + ": " + e.getMessage(), e);
+        }
+    }
+}
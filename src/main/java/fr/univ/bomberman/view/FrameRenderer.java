@@ -0,0 +1,36 @@
+package fr.univ.bomberman.view;
+
+import fr.univ.bomberman.model.SimulationState;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ NOUVEAU: Rendu d'un état de partie hors de JavaFX (serveurs, intégration continue).
+ *
+ * Une image est produite à partir d'un {@link SimulationState}, copie compacte et indépendante de
+ * la partie : une suite de ces états (un par tour) constitue un replay. Les implémentations ne
+ * partagent aucun état mutable entre deux appels, ce qui permet de rendre un replay en parallèle.
+ *
+ * @param <T> type de l'image produite (pixels, texte...)
+ */
+public interface FrameRenderer<T> {
+
+    /**
+     * Rend un état de partie.
+     * @param frame état à dessiner
+     * @return l'image produite
+     */
+    T render(SimulationState frame);
+
+    /**
+     * Rend une suite d'états en parallèle, dans l'ordre de la liste.
+     * @param frames états à dessiner, un par image
+     * @return les images, dans le même ordre
+     */
+    default List<T> renderAll(List<SimulationState> frames) {
+        return frames.parallelStream()
+                .map(this::render)
+                .collect(Collectors.toList());
+    }
+}
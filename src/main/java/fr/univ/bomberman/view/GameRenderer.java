@@ -2,19 +2,21 @@ package fr.univ.bomberman.view;
 
 import fr.univ.bomberman.model.*;
 import fr.univ.bomberman.exceptions.BombermanException;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.paint.Color;
 import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 
 import java.awt.event.ActionEvent;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntConsumer;
 
 /**
  * Classe responsable du rendu graphique du jeu Bomberman avec support d'images et thèmes
@@ -25,16 +27,65 @@ public class GameRenderer {
     private Canvas canvas;
     private GraphicsContext gc;
 
-    // Cache pour les images
-    private Map<String, Image> imageCache;
+    // ✅ MODIFIÉ: Atlas de textures du thème (remplace le cache d'images par clé)
+    private SpriteAtlas atlas;
     private boolean imagesLoaded = false;
     private String currentTheme = "default";
     private Game game;
+    private FrameState frame; // ✅ NOUVEAU: Image figée de la partie, seule source du dessin
+    private long frameMillis;
+
+    // ✅ NOUVEAU: Rendu par régions sales
+    private static final int KEY_BOMB = 1 << 4;
+    private static final int KEY_TIMER_SHIFT = 5;
+    private static final int KEY_EXPLOSION = 1 << 9;
+    private static final int WALL_KEY = CellType.INDESTRUCTIBLE_WALL.ordinal();
+    private static final CellType[] CELL_TYPES = CellType.values();
+    private final DirtyCellTracker dirtyCells = new DirtyCellTracker();
+    private boolean dirtyRendering = true;
+    private boolean dirtyPass = false;
+    private int[] boardKeys = new int[0];
+    private boolean boardKeysValid; // ✅ MODIFIÉ: Faux tant que les clés ne viennent pas du plateau affiché
+    private long boardChangeSequence; // Journal des cases à la dernière mise à jour des clés
+    private final IntConsumer boardKeyUpdater = this::updateBoardKey;
+    private int lastDirtyCellCount;
+
+    // ✅ NOUVEAU: Calque statique (sol et murs indestructibles) pré-rendu hors écran
+    private static final int MAX_STATIC_LAYER_SIZE = 4096; // Au-delà, sol et murs sont tracés case par case
+    private WritableImage staticLayer;
+    private Game staticLayerGame;
+
+    // ✅ NOUVEAU: Caméra (suivi, écran partagé, libre) ; seule la vue en cours de tracé est parcourue
+    private final Camera camera = new Camera(CELL_SIZE);
+    private Camera.Viewport view;
+
+    // ✅ NOUVEAU: Particules (flammes, débris, fumée) émises à l'apparition des explosions et des briques détruites
+    private static final int BRICK_KEY = CellType.DESTRUCTIBLE_BRICK.ordinal();
+    private final ParticleSystem particles = new ParticleSystem();
+    private long newestExplosionMillis = Long.MIN_VALUE; // Échéance de la plus récente explosion déjà émise
+    private long lastParticleNanos;
+
+    // ✅ NOUVEAU: Minicarte (M) : affichée d'office quand la caméra ne montre qu'une partie du plateau
+    private final Minimap minimap = new Minimap();
+    private Boolean minimapForced; // null : automatique
+    private boolean showMinimap;
+
+    // ✅ NOUVEAU: Interpolation entre deux tours (positions des joueurs, mèche des bombes)
+    private boolean interpolation = true;
+    private long frameNanos;
+
+    // ✅ NOUVEAU: Calque de performances (F3)
+    private static final double PERF_X = 4;
+    private static final double PERF_Y = 4;
+    private static final double PERF_WIDTH = 300;
+    private static final double PERF_LINE_HEIGHT = 13;
+    private static final double PERF_HEIGHT = PerformanceMonitor.LINE_COUNT * PERF_LINE_HEIGHT + 8;
+    private static final javafx.scene.text.Font PERF_FONT = javafx.scene.text.Font.font("Monospaced", 11);
+    private boolean showPerformance;
 
     public GameRenderer(Canvas canvas) {
         this.canvas = canvas;
         this.gc = canvas.getGraphicsContext2D();
-        this.imageCache = new HashMap<>();
         loadImages();
     }
 
@@ -49,201 +100,628 @@ public class GameRenderer {
      * Charge les images pour un thème spécifique
      */
     private void loadImagesForTheme(String theme) {
-        try {
-            System.out.println("Tentative de chargement des images pour le thème: " + theme);
-
-            // Chemin de base selon le thème
-            String basePath = "/fr/univ/bomberman/image/" + theme + "/";
-
-            // Essayer de charger les images
-            imageCache.put("player1", loadImageSafely(basePath + "player1.png"));
-            imageCache.put("player2", loadImageSafely(basePath + "player2.png"));
-            imageCache.put("player3", loadImageSafely(basePath + "player3.png"));
-            imageCache.put("player4", loadImageSafely(basePath + "player4.png"));
-
-            imageCache.put("bomb", loadImageSafely(basePath + "bomb.png"));
-            imageCache.put("explosion", loadImageSafely(basePath + "explosion.png"));
-            imageCache.put("wall", loadImageSafely(basePath + "wall.png"));
-            imageCache.put("brick", loadImageSafely(basePath + "brick.png"));
-            imageCache.put("ground", loadImageSafely(basePath + "ground.png"));
-
-            // Vérifier qu'au moins quelques images ont été chargées
-            long loadedCount = imageCache.values().stream().filter(img -> img != null).count();
-            if (loadedCount >= 4) { // Au moins les 4 joueurs
-                imagesLoaded = true;
-                System.out.println("Images du thème '" + theme + "' chargées avec succès: " + loadedCount + "/9");
-            } else {
-                System.out.println("Pas assez d'images chargées pour le thème '" + theme + "' (" + loadedCount + "/9)");
-
-                // Si ce n'est pas le thème par défaut, essayer le thème par défaut
-                if (!theme.equals("default")) {
-                    System.out.println("Tentative de fallback vers le thème par défaut...");
-                    imageCache.clear();
-                    loadImagesForTheme("default");
-                    return;
-                }
+        // ✅ MODIFIÉ: Atlas préchargé en arrière-plan ; on ne l'attend qu'à la création du rendu
+        applyAtlas(ThemeLibrary.getInstance().await(theme));
+    }
 
-                imagesLoaded = false;
-            }
+    /**
+     * ✅ NOUVEAU: Installe l'atlas d'un thème en une seule affectation, ou bascule sur le thème par défaut
+     * s'il est incomplet.
+     */
+    private void applyAtlas(SpriteAtlas loaded) {
+        String theme = loaded.getTheme();
+        int loadedCount = loaded.getLoadedCount();
+        if (loadedCount >= 4) { // Au moins les 4 joueurs
+            atlas = loaded;
+            imagesLoaded = true;
+            System.out.println("Images du thème '" + theme + "' chargées avec succès: " + loadedCount + "/" + SpriteAtlas.SPRITE_COUNT);
+        } else if (!theme.equals("default")) {
+            System.out.println("Pas assez d'images pour le thème '" + theme + "', fallback vers le thème par défaut...");
+            applyAtlas(ThemeLibrary.getInstance().await("default"));
+            return;
+        } else {
+            atlas = loaded;
+            imagesLoaded = false;
+        }
+        dirtyCells.invalidateAll();
+        rebuildStaticLayer();
+    }
 
-        } catch (Exception e) {
-            System.out.println("Erreur lors du chargement des images du thème '" + theme + "': " + e.getMessage());
-            e.printStackTrace();
+    /**
+     * ✅ NOUVEAU: Indique si un sprite de l'atlas peut être dessiné
+     */
+    private boolean hasSprite(int sprite) {
+        return imagesLoaded && atlas != null && atlas.has(sprite);
+    }
 
-            // Fallback vers le thème par défaut si possible
-            if (!theme.equals("default")) {
-                System.out.println("Tentative de fallback vers le thème par défaut...");
-                imageCache.clear();
-                loadImagesForTheme("default");
-            } else {
-                imagesLoaded = false;
-            }
+    /**
+     * Change le thème et recharge les images
+     */
+    public void changeTheme(String newTheme) {
+        System.out.println("Changement de thème vers: " + newTheme);
+        this.currentTheme = newTheme;
+
+        // ✅ MODIFIÉ: Aucun décodage sur le thread JavaFX ; si le thème n'est pas encore prêt,
+        // l'ancien reste affiché jusqu'à la fin du chargement
+        SpriteAtlas ready = ThemeLibrary.getInstance().getIfReady(newTheme);
+        if (ready != null) {
+            applyAtlas(ready);
+            return;
         }
+        ThemeLibrary.getInstance().request(newTheme).thenAccept(loaded -> Platform.runLater(() -> {
+            if (newTheme.equals(currentTheme)) {
+                applyAtlas(loaded);
+            }
+        }));
     }
 
     /**
-     * Charge une image de manière sécurisée
+     * Obtient le thème actuel
      */
-    private Image loadImageSafely(String path) {
-        try {
-            System.out.println("Tentative de chargement: " + path);
+    public String getCurrentTheme() {
+        return currentTheme;
+    }
+
+    /**
+     * ✅ NOUVEAU: Active ou désactive le rendu par régions sales (activé par défaut)
+     */
+    public void setDirtyRendering(boolean enabled) {
+        this.dirtyRendering = enabled;
+        dirtyCells.invalidateAll();
+    }
+
+    /**
+     * ✅ NOUVEAU: Nombre de cellules redessinées à la dernière image
+     */
+    public int getLastDirtyCellCount() {
+        return lastDirtyCellCount;
+    }
+
+    /**
+     * ✅ NOUVEAU: Active ou désactive l'interpolation entre deux tours (activée par défaut)
+     */
+    public void setInterpolation(boolean enabled) {
+        this.interpolation = enabled;
+    }
 
-            // Vérifier que la ressource existe
-            if (getClass().getResourceAsStream(path) == null) {
-                System.out.println("Ressource non trouvée: " + path);
-                return null;
+    /**
+     * ✅ NOUVEAU: Affiche ou masque le calque de performances
+     */
+    public void togglePerformanceOverlay() {
+        PerformanceMonitor.getInstance().toggle();
+        dirtyCells.invalidateAll();
+    }
+
+    /**
+     * ✅ NOUVEAU: Caméra du rendu (mode, zoom, vues de l'image précédente)
+     */
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * ✅ NOUVEAU: Passe au mode de caméra suivant
+     */
+    public void cycleCameraMode() {
+        Camera.Mode mode = camera.cycleMode();
+        System.out.println("🎥 Caméra: " + mode.getDisplayName());
+    }
+
+    /**
+     * ✅ NOUVEAU: Bascule la minicarte entre affichée et masquée (le mode automatique est quitté)
+     */
+    public void toggleMinimap() {
+        minimapForced = !showMinimap;
+        dirtyCells.invalidateAll();
+        System.out.println("🗺️ Minicarte: " + (minimapForced ? "affichée" : "masquée"));
+    }
+
+    public Minimap getMinimap() {
+        return minimap;
+    }
+
+    /**
+     * ✅ NOUVEAU: Zoom avant (facteur > 1) ou arrière (facteur < 1)
+     */
+    public void zoomCamera(double factor) {
+        camera.zoomBy(factor);
+    }
+
+    /**
+     * ✅ NOUVEAU: Déplace la vue libre de la caméra, en pixels d'écran
+     */
+    public void panCamera(double dx, double dy) {
+        camera.pan(dx, dy);
+    }
+
+    /**
+     * ✅ MODIFIÉ: Dessine la dernière image publiée par la partie ({@link Game#getFrames()}) ;
+     * les listes vivantes du modèle ne sont plus lues, la simulation peut tourner sur un autre thread.
+     */
+    public void render(Game game) {
+        long renderStart = System.nanoTime();
+        FrameState latest = game.getFrames().acquire();
+        if (latest == null) {
+            return;
+        }
+        if (game != this.game) {
+            dirtyCells.invalidateAll();
+            boardKeysValid = false;
+            particles.clear();
+            newestExplosionMillis = Long.MIN_VALUE;
+            lastParticleNanos = 0;
+            minimap.invalidate();
+        }
+        this.game = game;
+        this.frame = latest;
+        frameNanos = game.getClock().nanoTime();
+        frameMillis = game.getClock().currentTimeMillis();
+        PerformanceMonitor monitor = PerformanceMonitor.getInstance();
+        showPerformance = monitor.isVisible();
+        updateParticles();
+        updateCamera();
+        minimap.update(frame);
+        showMinimap = minimapForced != null ? minimapForced : !camera.showsWholeBoard();
+
+        // ✅ NOUVEAU: L'écran de fin est un voile semi-transparent, il exige un redessin complet ;
+        // le rendu par régions sales suppose aussi un plateau affiché tel quel
+        if (!dirtyRendering || frame.isGameOver() || !camera.isIdentity()) {
+            renderFull();
+            dirtyCells.invalidateAll();
+            lastDirtyCellCount = 0;
+            for (int i = 0; i < camera.getViewportCount(); i++) {
+                lastDirtyCellCount += camera.getViewport(i).getVisibleCellCount();
             }
+        } else {
+            renderDirty();
+        }
 
-            Image image = new Image(getClass().getResourceAsStream(path));
+        if (showMinimap) {
+            minimap.draw(gc, minimapLeft(), minimapTop(), frame, camera);
+        }
+        if (showPerformance) {
+            monitor.recordFrame(renderStart, System.nanoTime(), game, lastDirtyCellCount);
+            drawPerformanceOverlay(monitor.getLines());
+        }
+    }
 
-            // Vérifier que l'image n'est pas en erreur
-            if (image.isError()) {
-                System.out.println("Erreur lors du chargement de l'image: " + path);
-                if (image.getException() != null) {
-                    image.getException().printStackTrace();
+    /**
+     * ✅ NOUVEAU: Fait avancer les particules, puis émet flammes et fumée pour les explosions apparues
+     * depuis l'image précédente (les débris sont émis par {@link #getBoardKeys})
+     */
+    private void updateParticles() {
+        if (lastParticleNanos != 0) {
+            float dt = (float) Math.min(0.1, (frameNanos - lastParticleNanos) / 1e9);
+            particles.update(dt);
+        }
+        lastParticleNanos = frameNanos;
+
+        // Les explosions naissent dans l'ordre du temps : une échéance plus tardive signale une nouvelle explosion
+        long newest = newestExplosionMillis;
+        for (int e = 0; e < frame.getExplosionCount(); e++) {
+            long deadline = frame.getDeadlyUntilMillis(e);
+            if (deadline > newestExplosionMillis) {
+                for (int f = frame.getExplosionStart(e); f < frame.getExplosionEnd(e); f++) {
+                    particles.emitExplosion(frame.getFireX(f), frame.getFireY(f));
                 }
-                return null;
+                newest = Math.max(newest, deadline);
+            }
+        }
+        newestExplosionMillis = newest;
+    }
+
+    /**
+     * ✅ NOUVEAU: Dessine les particules de la vue ou des cellules sales, en coordonnées du plateau
+     */
+    private void drawParticles() {
+        for (int i = 0; i < particles.getCount(); i++) {
+            float x = particles.getX(i);
+            float y = particles.getY(i);
+            if (!isCellDirty((int) Math.floor(x), (int) Math.floor(y))) continue;
+
+            double radius = particles.getSize(i) * CELL_SIZE;
+            double pixelX = x * CELL_SIZE;
+            double pixelY = y * CELL_SIZE;
+            gc.setGlobalAlpha(particles.getAlpha(i));
+            switch (particles.getKind(i)) {
+                case ParticleSystem.FIRE:
+                    float progress = particles.getProgress(i);
+                    gc.setFill(progress < 0.3f ? Color.YELLOW : progress < 0.6f ? Color.ORANGE : Color.RED);
+                    gc.fillOval(pixelX - radius, pixelY - radius, radius * 2, radius * 2);
+                    break;
+                case ParticleSystem.DEBRIS:
+                    gc.setFill(Color.SADDLEBROWN);
+                    gc.fillRect(pixelX - radius, pixelY - radius, radius * 2, radius * 2);
+                    break;
+                default:
+                    gc.setGlobalAlpha(particles.getAlpha(i) * 0.5);
+                    gc.setFill(Color.DIMGRAY);
+                    gc.fillOval(pixelX - radius, pixelY - radius, radius * 2, radius * 2);
+                    break;
             }
+        }
+        gc.setGlobalAlpha(1.0);
+    }
 
-            System.out.println("Image chargée avec succès: " + path + " (" + image.getWidth() + "x" + image.getHeight() + ")");
-            return image;
+    /**
+     * ✅ NOUVEAU: Particules vivantes (calque de performances, tests)
+     */
+    public ParticleSystem getParticles() {
+        return particles;
+    }
 
-        } catch (Exception e) {
-            System.out.println("Exception lors du chargement de " + path + ": " + e.getMessage());
-            e.printStackTrace();
-            return null;
+    /**
+     * ✅ NOUVEAU: Cadre la caméra sur les deux premiers joueurs (le joueur humain d'abord contre un bot)
+     */
+    private void updateCamera() {
+        int first = frame.hasBots() && frame.getHumanPlayer() >= 0 ? frame.getHumanPlayer()
+                : frame.getPlayerCount() > 0 ? 0 : -1;
+        int second = -1;
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            if (i != first) {
+                second = i;
+                break;
+            }
+        }
+        if (first >= 0) {
+            camera.setFocus(0, renderX(first), renderY(first));
         }
+        if (second >= 0) {
+            camera.setFocus(1, renderX(second), renderY(second));
+        }
+        camera.update(canvas.getWidth(), canvas.getHeight(), frame.getCols(), frame.getRows());
     }
 
     /**
-     * Change le thème et recharge les images
+     * ✅ NOUVEAU: Bord gauche de la minicarte, en bas à droite de l'écran
      */
-    public void changeTheme(String newTheme) {
-        System.out.println("Changement de thème vers: " + newTheme);
-        this.currentTheme = newTheme;
-        imageCache.clear();
-        loadImagesForTheme(newTheme);
+    private double minimapLeft() {
+        return canvas.getWidth() - frame.getCols() * Minimap.scaleFor(frame.getCols(), frame.getRows()) - Minimap.MARGIN;
+    }
+
+    private double minimapTop() {
+        return canvas.getHeight() - frame.getRows() * Minimap.scaleFor(frame.getCols(), frame.getRows()) - Minimap.MARGIN;
     }
 
     /**
-     * Obtient le thème actuel
+     * ✅ NOUVEAU: Calque de performances en haut à gauche
      */
-    public String getCurrentTheme() {
-        return currentTheme;
+    private void drawPerformanceOverlay(String[] lines) {
+        gc.setFill(Color.BLACK);
+        gc.setGlobalAlpha(0.75);
+        gc.fillRect(PERF_X, PERF_Y, PERF_WIDTH, PERF_HEIGHT);
+        gc.setGlobalAlpha(1.0);
+
+        gc.setFill(Color.LIME);
+        gc.setFont(PERF_FONT);
+        for (int i = 0; i < lines.length; i++) {
+            gc.fillText(lines[i], PERF_X + 6, PERF_Y + 14 + i * PERF_LINE_HEIGHT);
+        }
     }
 
-    public void render(Game game) {
-        this.game = game;
+    /**
+     * ✅ NOUVEAU: Ne redessine que les cellules dont le contenu a changé et celles couvertes par
+     * une surcouche animée ; les calques sont tracés dans le même ordre que le rendu complet.
+     */
+    private void renderDirty() {
+        int cols = frame.getCols();
+        int rows = frame.getRows();
+
+        dirtyCells.beginFrame(cols, rows, getBoardKeys());
+        markEntities();
+        lastDirtyCellCount = dirtyCells.finishMarking();
+        if (lastDirtyCellCount == 0) {
+            return;
+        }
 
-        clearCanvas();
+        ensureStaticLayer();
+        if (dirtyCells.isFullRedraw()) {
+            clearCanvas();
+            gc.drawImage(staticLayer, 0, 0);
+        }
+        dirtyPass = true;
+        try {
+            for (int y = 0; y < rows; y++) {
+                for (int x = 0; x < cols; x++) {
+                    if (dirtyCells.isDirty(x, y)) {
+                        if (!dirtyCells.isFullRedraw()) {
+                            double pixelX = x * CELL_SIZE;
+                            double pixelY = y * CELL_SIZE;
+                            gc.drawImage(staticLayer, pixelX, pixelY, CELL_SIZE, CELL_SIZE,
+                                    pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+                        }
+                        drawDynamicCell(boardKeys[y * cols + x], x, y);
+                    }
+                }
+            }
 
-        // Dessiner le plateau
-        Board board = game.getBoard();
-        for (int y = 0; y < board.getRows(); y++) {
-            for (int x = 0; x < board.getCols(); x++) {
-                try {
-                    Position pos = new Position(x, y);
-                    Cell cell = board.getCell(pos);
-                    drawCell(cell, x, y);
-                } catch (Exception e) {
-                    // Ignorer les erreurs de position
+            drawExplosionWarning();
+            for (int b = 0; b < frame.getBombCount(); b++) {
+                drawBomb(b);
+            }
+            for (int e = 0; e < frame.getExplosionCount(); e++) {
+                drawExplosion(e);
+            }
+            drawParticles();
+            for (int i = 0; i < frame.getPlayerCount(); i++) {
+                if (!frame.isEliminated(i)) {
+                    drawPlayer(i);
                 }
             }
+            if (frame.hasBots()) {
+                drawBotIndicators();
+            }
+            drawCooldownIndicators();
+            if (frame.getPlayerCount() > 2) {
+                drawControlsInfo();
+            }
+        } finally {
+            dirtyPass = false;
         }
+        dirtyCells.endFrame();
+    }
 
-        // ✅ NOUVEAU: Dessiner l'avertissement des zones dangereuses en arrière-plan
-        drawExplosionWarning(game);
+    /**
+     * ✅ NOUVEAU: Clés des cases du plateau, mises à jour seulement pour les cases modifiées depuis
+     * l'image précédente (journal de {@link FrameState#forEachCellChangedSince}) ; tout le plateau
+     * n'est relu que pour une nouvelle partie ou si ce journal ne remonte plus assez loin.
+     */
+    private int[] getBoardKeys() {
+        int size = frame.getCols() * frame.getRows();
+        if (!boardKeysValid || boardKeys.length != size) {
+            if (boardKeys.length != size) {
+                boardKeys = new int[size];
+            }
+            for (int i = 0; i < size; i++) {
+                boardKeys[i] = frame.getCell(i);
+            }
+            staticLayer = null; // Nouveau plateau : le calque des murs est à refaire
+            boardKeysValid = true;
+        } else if (frame.getChangeSequence() != boardChangeSequence
+                && !frame.forEachCellChangedSince(boardChangeSequence, boardKeyUpdater)) {
+            for (int i = 0; i < size; i++) {
+                updateBoardKey(i);
+            }
+        }
+        boardChangeSequence = frame.getChangeSequence();
+        return boardKeys;
+    }
 
-        // Dessiner les bombes
-        for (Bomb bomb : game.getActiveBombs()) {
-            drawBomb(bomb);
+    private void updateBoardKey(int index) {
+        int key = frame.getCell(index);
+        if (key != boardKeys[index] && (key == WALL_KEY || boardKeys[index] == WALL_KEY)) {
+            staticLayer = null; // Un mur indestructible a changé : le calque est périmé
+        }
+        if (boardKeys[index] == BRICK_KEY && key != BRICK_KEY) {
+            particles.emitDebris(index % frame.getCols(), index / frame.getCols()); // ✅ NOUVEAU: Brique détruite
         }
+        boardKeys[index] = key;
+    }
 
-        // Dessiner les explosions (avec indication mortelle/sûre)
-        for (Explosion explosion : game.getActiveExplosions()) {
-            drawExplosion(explosion);
+    /**
+     * ✅ NOUVEAU: Ajoute bombes et explosions aux clés, et déclare les surcouches animées
+     */
+    private void markEntities() {
+        for (int b = 0; b < frame.getBombCount(); b++) {
+            int x = frame.getBombX(b);
+            int y = frame.getBombY(b);
+            dirtyCells.addKeyBits(x, y, KEY_BOMB | (frame.getBombTimer(b) & 0xF) << KEY_TIMER_SHIFT);
+            if (interpolation) {
+                // Pulsation de la mèche
+                dirtyCells.markOverlay(x, y, x, y);
+            }
+        }
+        for (int e = 0; e < frame.getExplosionCount(); e++) {
+            boolean deadly = frame.isExplosionDeadly(e, frameMillis);
+            for (int f = frame.getExplosionStart(e); f < frame.getExplosionEnd(e); f++) {
+                int x = frame.getFireX(f);
+                int y = frame.getFireY(f);
+                dirtyCells.addKeyBits(x, y, KEY_EXPLOSION);
+                if (deadly) {
+                    // Clignotement de l'avertissement
+                    dirtyCells.markOverlay(x, y, x, y);
+                }
+            }
         }
 
-        // Dessiner les joueurs
-        for (Player player : game.getPlayers()) {
-            if (!player.isEliminated()) {
-                drawPlayer(player);
+        // ✅ NOUVEAU: Particules : leurs cases actuelles, les précédentes sont retracées à l'image suivante
+        for (int i = 0; i < particles.getCount(); i++) {
+            float r = particles.getSize(i);
+            float px = particles.getX(i);
+            float py = particles.getY(i);
+            dirtyCells.markOverlay((int) Math.floor(px - r), (int) Math.floor(py - r),
+                    (int) Math.floor(px + r), (int) Math.floor(py + r));
+        }
+
+        // Joueur, nom au-dessus, étoiles en dessous, barre de cooldown et indicateur de bot
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            if (frame.isEliminated(i)) {
+                continue;
             }
+            String label = frame.isBot(i) ? "🤖 " + frame.getName(i) : frame.getName(i);
+            int labelCols = (int) Math.ceil((2 + getTextWidth(label, 10)) / CELL_SIZE);
+            double x = renderX(i);
+            double y = renderY(i);
+            dirtyCells.markOverlay((int) Math.floor(x) - 1, (int) Math.floor(y) - 1,
+                    (int) Math.ceil(x) + labelCols, (int) Math.ceil(y) + 1);
         }
 
-        // ✅ AJOUTÉ: Dessiner les indicateurs de bot si présent
-        if (game.hasBots()) {
-            drawBotIndicators(game);
+        if (showPerformance) {
+            dirtyCells.markOverlay(0, 0, (int) ((PERF_X + PERF_WIDTH) / CELL_SIZE),
+                    (int) ((PERF_Y + PERF_HEIGHT) / CELL_SIZE));
         }
 
-        // Dessiner les indicateurs de cooldown
-        drawCooldownIndicators(game);
+        if (showMinimap) {
+            // Cadre de la minicarte, marge de 2 pixels comprise
+            dirtyCells.markOverlay((int) Math.floor((minimapLeft() - 2) / CELL_SIZE),
+                    (int) Math.floor((minimapTop() - 2) / CELL_SIZE),
+                    (int) ((canvas.getWidth() - Minimap.MARGIN + 2) / CELL_SIZE),
+                    (int) ((canvas.getHeight() - Minimap.MARGIN + 2) / CELL_SIZE));
+        }
+
+        if (frame.getPlayerCount() > 2) {
+            // Encadré des contrôles (voir drawControlsInfo)
+            double left = canvas.getWidth() - 230;
+            dirtyCells.markOverlay((int) Math.floor(left / CELL_SIZE), 0,
+                    (int) ((left + 210) / CELL_SIZE), (int) (115.0 / CELL_SIZE));
+        }
+    }
+
+    /**
+     * ✅ NOUVEAU: Colonne affichée d'un joueur, fractionnaire pendant qu'il glisse d'une case à l'autre
+     */
+    private double renderX(int player) {
+        MotionTrack motion = frame.getMotionTrack();
+        return interpolation && motion.isMoving(player, frameNanos)
+                ? motion.getX(player, frameNanos) : frame.getPlayerX(player);
+    }
+
+    /**
+     * ✅ NOUVEAU: Ligne affichée d'un joueur, voir {@link #renderX}
+     */
+    private double renderY(int player) {
+        MotionTrack motion = frame.getMotionTrack();
+        return interpolation && motion.isMoving(player, frameNanos)
+                ? motion.getY(player, frameNanos) : frame.getPlayerY(player);
+    }
+
+    /**
+     * ✅ NOUVEAU: Pendant un rendu partiel, seules les cellules sales sont retracées ; pendant le tracé
+     * d'une vue de la caméra, seules les cellules visibles (à une case près, pour les débordements)
+     */
+    private boolean isCellDirty(int x, int y) {
+        if (view != null) {
+            return x >= view.getMinCol() - 1 && x <= view.getMaxCol() + 1
+                    && y >= view.getMinRow() - 1 && y <= view.getMaxRow() + 1;
+        }
+        return !dirtyPass || dirtyCells.isDirty(x, y);
+    }
+
+    /**
+     * Rendu complet : efface le canvas et redessine chaque vue de la caméra
+     */
+    private void renderFull() {
+        clearCanvas();
+
+        ensureStaticLayer();
+        int[] keys = getBoardKeys();
+        for (int i = 0; i < camera.getViewportCount(); i++) {
+            view = camera.getViewport(i);
+            gc.save();
+            try {
+                applyViewport(view);
+                drawWorld(keys);
+            } finally {
+                gc.restore();
+                view = null;
+            }
+        }
+        if (camera.getViewportCount() > 1) {
+            // Séparation de l'écran partagé
+            Camera.Viewport right = camera.getViewport(1);
+            gc.setFill(Color.BLACK);
+            gc.fillRect(right.getScreenX() - Camera.SPLIT_GAP, 0, Camera.SPLIT_GAP, canvas.getHeight());
+        }
 
         // Dessiner les informations de contrôles pour 4 joueurs
-        if (game.getPlayerCount() > 2) {
-            drawControlsInfo(game);
+        if (frame.getPlayerCount() > 2) {
+            drawControlsInfo();
         }
 
         // Dessiner l'écran de victoire si le jeu est terminé
-        if (game.isGameOver()) {
+        if (frame.isGameOver()) {
             // ✅ MODIFIÉ: Choisir le bon écran de victoire selon le type de jeu
-            if (game.hasBots()) {
-                drawBotVictoryScreen(game);
+            if (frame.hasBots()) {
+                drawBotVictoryScreen();
             } else {
-                drawVictoryScreen(game);
+                drawVictoryScreen();
             }
         }
     }
 
     /**
-     * Dessine le plateau de jeu (murs, briques, cases vides)
+     * ✅ NOUVEAU: Limite le tracé au rectangle de la vue et passe en coordonnées du plateau
+     */
+    private void applyViewport(Camera.Viewport viewport) {
+        gc.beginPath();
+        gc.rect(viewport.getScreenX(), viewport.getScreenY(), viewport.getWidth(), viewport.getHeight());
+        gc.clip();
+        gc.translate(viewport.getScreenX() - viewport.getOriginX() * viewport.getScale(),
+                viewport.getScreenY() - viewport.getOriginY() * viewport.getScale());
+        gc.scale(viewport.getScale(), viewport.getScale());
+    }
+
+    /**
+     * ✅ NOUVEAU: Dessine la partie visible du plateau et des entités dans la vue courante
      */
-    private void drawBoard(Board board) {
-        for (int y = 0; y < board.getRows(); y++) {
-            for (int x = 0; x < board.getCols(); x++) {
-                try {
-                    Position pos = new Position(x, y);
-                    Cell cell = board.getCell(pos);
-                    drawCell(cell, x, y);
-                } catch (BombermanException e) {
-                    // Ignorer les erreurs de position
+    private void drawWorld(int[] keys) {
+        int cols = frame.getCols();
+        int minCol = view.getMinCol();
+        int maxCol = view.getMaxCol();
+        int minRow = view.getMinRow();
+        int maxRow = view.getMaxRow();
+
+        // Dessiner le plateau : portion visible du calque statique en une seule copie, puis briques et drapeaux
+        if (staticLayer != null) {
+            double pixelX = minCol * CELL_SIZE;
+            double pixelY = minRow * CELL_SIZE;
+            double width = (maxCol - minCol + 1) * CELL_SIZE;
+            double height = (maxRow - minRow + 1) * CELL_SIZE;
+            gc.drawImage(staticLayer, pixelX, pixelY, width, height, pixelX, pixelY, width, height);
+        }
+        for (int y = minRow; y <= maxRow; y++) {
+            for (int x = minCol; x <= maxCol; x++) {
+                int key = keys[y * cols + x];
+                if (staticLayer == null) {
+                    drawCellType(key == WALL_KEY ? CellType.INDESTRUCTIBLE_WALL : CellType.EMPTY, x, y);
                 }
+                drawDynamicCell(key, x, y);
+            }
+        }
+
+        // ✅ NOUVEAU: Dessiner l'avertissement des zones dangereuses en arrière-plan
+        drawExplosionWarning();
+
+        // Dessiner les bombes
+        for (int b = 0; b < frame.getBombCount(); b++) {
+            drawBomb(b);
+        }
+
+        // Dessiner les explosions (avec indication mortelle/sûre)
+        for (int e = 0; e < frame.getExplosionCount(); e++) {
+            drawExplosion(e);
+        }
+
+        // ✅ NOUVEAU: Flammes, débris et fumée
+        drawParticles();
+
+        // Dessiner les joueurs
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            if (!frame.isEliminated(i)) {
+                drawPlayer(i);
             }
         }
+
+        // ✅ AJOUTÉ: Dessiner les indicateurs de bot si présent
+        if (frame.hasBots()) {
+            drawBotIndicators();
+        }
+
+        // Dessiner les indicateurs de cooldown
+        drawCooldownIndicators();
     }
 
     /**
-     * Dessine une cellule individuelle avec images si disponibles
+     * ✅ NOUVEAU: Dessine une case d'après son type seul
      */
-    private void drawCell(Cell cell, int x, int y) {
+    private void drawCellType(CellType type, int x, int y) {
         double pixelX = x * CELL_SIZE;
         double pixelY = y * CELL_SIZE;
 
-        switch (cell.getType()) {
+        switch (type) {
             case EMPTY:
-                Image groundImg = imageCache.get("ground");
-                if (imagesLoaded && groundImg != null) {
-                    gc.drawImage(groundImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+                if (hasSprite(SpriteAtlas.GROUND)) {
+                    atlas.draw(gc, SpriteAtlas.GROUND, pixelX, pixelY);
                 } else {
                     // Rendu par défaut
                     gc.setFill(Color.LIGHTGRAY);
@@ -254,9 +732,8 @@ public class GameRenderer {
                 break;
 
             case INDESTRUCTIBLE_WALL:
-                Image wallImg = imageCache.get("wall");
-                if (imagesLoaded && wallImg != null) {
-                    gc.drawImage(wallImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+                if (hasSprite(SpriteAtlas.WALL)) {
+                    atlas.draw(gc, SpriteAtlas.WALL, pixelX, pixelY);
                 } else {
                     // Rendu par défaut
                     gc.setFill(Color.DARKGRAY);
@@ -267,9 +744,8 @@ public class GameRenderer {
                 break;
 
             case DESTRUCTIBLE_BRICK:
-                Image brickImg = imageCache.get("brick");
-                if (imagesLoaded && brickImg != null) {
-                    gc.drawImage(brickImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+                if (hasSprite(SpriteAtlas.BRICK)) {
+                    atlas.draw(gc, SpriteAtlas.BRICK, pixelX, pixelY);
                 } else {
                     // Rendu par défaut
                     gc.setFill(Color.BROWN);
@@ -299,87 +775,109 @@ public class GameRenderer {
         }
     }
 
+    /**
+     * ✅ NOUVEAU: Dessine le calque statique hors écran : murs indestructibles, et sol partout ailleurs
+     * (sous les briques et drapeaux, qui peuvent disparaître en cours de partie).
+     */
+    private void ensureStaticLayer() {
+        int cols = frame.getCols();
+        int rows = frame.getRows();
+        if (staticLayer != null && staticLayerGame == game) {
+            return;
+        }
+        if (cols * CELL_SIZE > MAX_STATIC_LAYER_SIZE || rows * CELL_SIZE > MAX_STATIC_LAYER_SIZE) {
+            // ✅ NOUVEAU: Trop grand pour une texture : la caméra trace sol et murs des seules cases visibles
+            staticLayer = null;
+            staticLayerGame = game;
+            return;
+        }
+        int[] keys = getBoardKeys();
+        Canvas offscreen = new Canvas(cols * CELL_SIZE, rows * CELL_SIZE);
+        GraphicsContext screen = gc;
+        gc = offscreen.getGraphicsContext2D();
+        try {
+            for (int y = 0; y < rows; y++) {
+                for (int x = 0; x < cols; x++) {
+                    boolean wall = keys[y * cols + x] == WALL_KEY;
+                    drawCellType(wall ? CellType.INDESTRUCTIBLE_WALL : CellType.EMPTY, x, y);
+                }
+            }
+        } finally {
+            gc = screen;
+        }
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        staticLayer = offscreen.snapshot(params, null);
+        staticLayerGame = game;
+        System.out.println("🧱 Calque statique rendu (" + cols + "x" + rows + ", thème " + currentTheme + ")");
+    }
+
+    /**
+     * ✅ NOUVEAU: Reconstruit le calque statique après un changement d'images
+     */
+    private void rebuildStaticLayer() {
+        staticLayer = null;
+        if (frame != null) {
+            ensureStaticLayer();
+        }
+    }
+
+    /**
+     * ✅ NOUVEAU: Dessine par-dessus le calque statique ce qui peut changer (briques, drapeaux)
+     */
+    private void drawDynamicCell(int key, int x, int y) {
+        CellType type = CELL_TYPES[key];
+        if (type != CellType.EMPTY && type != CellType.INDESTRUCTIBLE_WALL) {
+            drawCellType(type, x, y);
+        }
+    }
+
     private void drawFlag(double pixelX, double pixelY, Color playerColor, String emoji) {
         // Dessiner d'abord le sol
-        Image groundImg = imageCache.get("ground");
-        if (imagesLoaded && groundImg != null) {
-            gc.drawImage(groundImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+        if (hasSprite(SpriteAtlas.GROUND)) {
+            atlas.draw(gc, SpriteAtlas.GROUND, pixelX, pixelY);
         } else {
             gc.setFill(Color.LIGHTGRAY);
             gc.fillRect(pixelX, pixelY, CELL_SIZE, CELL_SIZE);
         }
 
-        // Essayer de charger une image de drapeau spécifique
-        Image flagImg = imageCache.get("flag_" + playerColor.toString().toLowerCase());
-        if (imagesLoaded && flagImg != null) {
-            gc.drawImage(flagImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
-        } else {
-            // Rendu par défaut du drapeau
-
-            // Mât du drapeau
-            gc.setStroke(Color.BROWN);
-            gc.setLineWidth(3);
-            gc.strokeLine(pixelX + 5, pixelY + 5, pixelX + 5, pixelY + CELL_SIZE - 5);
-
-            // Drapeau triangulaire
-            gc.setFill(playerColor);
-            gc.setStroke(Color.BLACK);
-            gc.setLineWidth(1);
+        // ✅ MODIFIÉ: Aucun thème ne fournit d'image de drapeau, rendu vectoriel
 
-            double[] xPoints = {pixelX + 8, pixelX + CELL_SIZE - 5, pixelX + 8};
-            double[] yPoints = {pixelY + 8, pixelY + 15, pixelY + 22};
+        // Mât du drapeau
+        gc.setStroke(Color.BROWN);
+        gc.setLineWidth(3);
+        gc.strokeLine(pixelX + 5, pixelY + 5, pixelX + 5, pixelY + CELL_SIZE - 5);
 
-            gc.fillPolygon(xPoints, yPoints, 3);
-            gc.strokePolygon(xPoints, yPoints, 3);
-
-            // Emoji ou symbole pour identifier le joueur
-            gc.setFill(Color.WHITE);
-            gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 8));
-            gc.fillText(emoji, pixelX + CELL_SIZE - 15, pixelY + CELL_SIZE - 5);
-        }
-    }
-
-    /**
-     * Dessine les bombes actives avec images si disponibles
-     */
-    private void drawBombs(Game game) {
-        List<Bomb> bombs = getActiveBombs(game);
+        // Drapeau triangulaire
+        gc.setFill(playerColor);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(1);
 
-        for (Bomb bomb : bombs) {
-            Position pos = bomb.getPosition();
-            double pixelX = pos.getX() * CELL_SIZE;
-            double pixelY = pos.getY() * CELL_SIZE;
+        double[] xPoints = {pixelX + 8, pixelX + CELL_SIZE - 5, pixelX + 8};
+        double[] yPoints = {pixelY + 8, pixelY + 15, pixelY + 22};
 
-            Image bombImg = imageCache.get("bomb");
-            if (imagesLoaded && bombImg != null) {
-                gc.drawImage(bombImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
-            } else {
-                // Rendu par défaut
-                gc.setFill(Color.BLACK);
-                gc.fillOval(pixelX + 5, pixelY + 5, CELL_SIZE - 10, CELL_SIZE - 10);
+        gc.fillPolygon(xPoints, yPoints, 3);
+        gc.strokePolygon(xPoints, yPoints, 3);
 
-                // Mèche
-                gc.setStroke(Color.RED);
-                gc.setLineWidth(3);
-                gc.strokeLine(pixelX + CELL_SIZE/2, pixelY + 5, pixelX + CELL_SIZE/2 + 5, pixelY);
-                gc.setLineWidth(1);
-            }
-        }
+        // Emoji ou symbole pour identifier le joueur
+        gc.setFill(Color.WHITE);
+        gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 8));
+        gc.fillText(emoji, pixelX + CELL_SIZE - 15, pixelY + CELL_SIZE - 5);
     }
 
     /**
      * Dessine les explosions actives avec images si disponibles
      */
-    private void drawExplosion(Explosion explosion) {
-        java.util.List<Position> positions = explosion.getAffectedPositions();
-
-        for (Position pos : positions) {
-            double pixelX = pos.getX() * CELL_SIZE;
-            double pixelY = pos.getY() * CELL_SIZE;
-
-            Image explosionImg = imageCache.get("explosion");
-            if (imagesLoaded && explosionImg != null) {
-                gc.drawImage(explosionImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+    private void drawExplosion(int explosion) {
+        for (int f = frame.getExplosionStart(explosion); f < frame.getExplosionEnd(explosion); f++) {
+            int x = frame.getFireX(f);
+            int y = frame.getFireY(f);
+            if (!isCellDirty(x, y)) continue;
+            double pixelX = x * CELL_SIZE;
+            double pixelY = y * CELL_SIZE;
+
+            if (hasSprite(SpriteAtlas.EXPLOSION)) {
+                atlas.draw(gc, SpriteAtlas.EXPLOSION, pixelX, pixelY);
             } else {
                 // ✅ SIMPLIFIÉ: Rendu par défaut - toujours rouge/orange (mortelle)
                 gc.setFill(Color.RED);
@@ -393,17 +891,18 @@ public class GameRenderer {
     }
 
 
-    private void drawExplosionWarning(Game game) {
-        for (Explosion explosion : game.getActiveExplosions()) {
-            if (explosion.isDeadly()) {
-                java.util.List<Position> positions = explosion.getAffectedPositions();
-
+    private void drawExplosionWarning() {
+        for (int e = 0; e < frame.getExplosionCount(); e++) {
+            if (frame.isExplosionDeadly(e, frameMillis)) {
                 // Effet de clignotement pour les zones dangereuses
                 double alpha = 0.3 + 0.2 * Math.sin(System.currentTimeMillis() / 200.0);
 
-                for (Position pos : positions) {
-                    double pixelX = pos.getX() * CELL_SIZE;
-                    double pixelY = pos.getY() * CELL_SIZE;
+                for (int f = frame.getExplosionStart(e); f < frame.getExplosionEnd(e); f++) {
+                    int x = frame.getFireX(f);
+                    int y = frame.getFireY(f);
+                    if (!isCellDirty(x, y)) continue;
+                    double pixelX = x * CELL_SIZE;
+                    double pixelY = y * CELL_SIZE;
 
                     gc.setFill(Color.color(1, 0, 0, alpha));
                     gc.fillRect(pixelX, pixelY, CELL_SIZE, CELL_SIZE);
@@ -412,14 +911,18 @@ public class GameRenderer {
         }
     }
 
-    private void drawBotIndicators(Game game) {
-        if (!game.hasBots()) return;
-
-        BotPlayer bot = game.getBot();
-        if (bot == null || bot.isEliminated()) return;
+    private void drawBotIndicators() {
+        // ✅ NOUVEAU: Un indicateur par bot encore en jeu
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            if (frame.isBot(i) && !frame.isEliminated(i) && isCellDirty(frame.getPlayerX(i), frame.getPlayerY(i))) {
+                drawBotIndicator(i);
+            }
+        }
+    }
 
-        double pixelX = bot.getX() * CELL_SIZE;
-        double pixelY = bot.getY() * CELL_SIZE;
+    private void drawBotIndicator(int bot) {
+        double pixelX = renderX(bot) * CELL_SIZE;
+        double pixelY = renderY(bot) * CELL_SIZE;
 
         // ✅ NOUVEAU: Indicateur de vitesse du bot en temps réel
         gc.setFill(Color.YELLOW);
@@ -428,12 +931,12 @@ public class GameRenderer {
         gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 8));
 
         // Afficher la vitesse selon la difficulté
-        String speedIndicator = getSpeedIndicator(bot.getDifficulty());
+        String speedIndicator = getSpeedIndicator(frame.getDifficulty(bot));
         gc.setFill(Color.YELLOW);
         gc.fillText(speedIndicator, pixelX + CELL_SIZE - 15, pixelY + 8);
 
         // ✅ NOUVEAU: Indicateur d'état du bot (poursuite, attaque, etc.)
-        if (isNearPlayer(bot, game)) {
+        if (isNearPlayer(bot)) {
             // Indicateur de "chasse active"
             gc.setFill(Color.RED);
             gc.fillOval(pixelX - 3, pixelY - 3, 6, 6);
@@ -449,6 +952,7 @@ public class GameRenderer {
             case 1: return "="; // Même vitesse
             case 2: return ">"; // Plus rapide
             case 3: return ">>"; // Très rapide
+            case 4: return ">>"; // Même vitesse que Difficile, mais planifie
             default: return "=";
         }
     }
@@ -456,14 +960,11 @@ public class GameRenderer {
     /**
      * ✅ NOUVELLE MÉTHODE: Vérifie si le bot est proche d'un joueur
      */
-    private boolean isNearPlayer(BotPlayer bot, Game game) {
-        Position botPos = bot.getPosition();
-
-        for (Player player : game.getPlayers()) {
-            if (player != bot && !player.isEliminated()) {
-                Position playerPos = player.getPosition();
-                int distance = Math.abs(botPos.getX() - playerPos.getX()) +
-                        Math.abs(botPos.getY() - playerPos.getY());
+    private boolean isNearPlayer(int bot) {
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            if (i != bot && !frame.isEliminated(i)) {
+                int distance = Math.abs(frame.getPlayerX(bot) - frame.getPlayerX(i)) +
+                        Math.abs(frame.getPlayerY(bot) - frame.getPlayerY(i));
                 if (distance <= 3) {
                     return true;
                 }
@@ -477,12 +978,13 @@ public class GameRenderer {
             case 1: return "⭐";      // Facile
             case 2: return "⭐⭐";    // Moyen
             case 3: return "⭐⭐⭐";  // Difficile
+            case 4: return "⭐⭐⭐⭐"; // Expert
             default: return "⭐⭐";
         }
     }
 
-    private void drawBotVictoryScreen(Game game) {
-        if (!game.isGameOver() || !game.hasBots()) return;
+    private void drawBotVictoryScreen() {
+        if (!frame.isGameOver() || !frame.hasBots()) return;
 
         // Overlay semi-transparent
         gc.setFill(Color.BLACK);
@@ -490,14 +992,14 @@ public class GameRenderer {
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
         gc.setGlobalAlpha(1.0);
 
-        Player winner = game.getWinner();
+        int winner = frame.getWinner();
         double centerX = canvas.getWidth() / 2;
         double centerY = canvas.getHeight() / 2;
 
-        if (winner != null) {
-            if (winner instanceof BotPlayer) {
+        if (winner >= 0) {
+            if (frame.isBot(winner)) {
                 // L'IA a gagné
-                BotPlayer bot = (BotPlayer) winner;
+                int difficulty = frame.getDifficulty(winner);
 
                 // Titre "DÉFAITE"
                 gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 44));
@@ -517,7 +1019,7 @@ public class GameRenderer {
                 gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 24));
                 gc.setFill(Color.ORANGE);
 
-                String encourageText = "Bot " + getBotDifficultyName(bot.getDifficulty()) + " " + getDifficultyStars(bot.getDifficulty());
+                String encourageText = "Bot " + getBotDifficultyName(difficulty) + " " + getDifficultyStars(difficulty);
                 double encWidth = getTextWidth(encourageText, 24);
                 double encX = centerX - encWidth / 2;
                 double encY = centerY - 10;
@@ -528,7 +1030,7 @@ public class GameRenderer {
                 gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.NORMAL, 18));
                 gc.setFill(Color.LIGHTBLUE);
 
-                String motivationText = getMotivationMessage(bot.getDifficulty());
+                String motivationText = getMotivationMessage(difficulty);
                 double motWidth = getTextWidth(motivationText, 18);
                 double motX = centerX - motWidth / 2;
                 double motY = centerY + 25;
@@ -555,8 +1057,8 @@ public class GameRenderer {
                 gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 24));
                 gc.setFill(Color.LIME);
 
-                BotPlayer bot = game.getBot();
-                String congratsText = "Vous avez vaincu le Bot " + (bot != null ? getBotDifficultyName(bot.getDifficulty()) : "");
+                int bot = firstBot();
+                String congratsText = "Vous avez vaincu le Bot " + (bot >= 0 ? getBotDifficultyName(frame.getDifficulty(bot)) : "");
                 double congWidth = getTextWidth(congratsText, 24);
                 double congX = centerX - congWidth / 2;
                 double congY = centerY - 10;
@@ -597,6 +1099,18 @@ public class GameRenderer {
         gc.fillText(instructions, instrX, instrY);
     }
 
+    /**
+     * ✅ NOUVEAU: Index du premier bot de la partie, -1 s'il n'y en a pas
+     */
+    private int firstBot() {
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            if (frame.isBot(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     // Ajoutez ces méthodes à votre GameRenderer.java
 
     /**
@@ -622,6 +1136,7 @@ public class GameRenderer {
             case 1: return "Entraînez-vous encore !";
             case 2: return "Belle résistance ! Réessayez !";
             case 3: return "L'IA était redoutable ! Impressionnant !";
+            case 4: return "Même l'IA experte a plié... cette fois !";
             default: return "Nouvelle tentative ?";
         }
     }
@@ -631,95 +1146,17 @@ public class GameRenderer {
             case 1: return "Facile";
             case 2: return "Moyen";
             case 3: return "Difficile";
+            case 4: return "Expert";
             default: return "Moyen";
         }
     }
 
 
 
-    private void drawPlayers(Game game) {
-        List<Player> players = getPlayers(game);
-        String[] playerImageKeys = {"player1", "player2", "player3", "player4"};
-        Color[] playerColors = {Color.BLUE, Color.GREEN, Color.PURPLE, Color.PINK};
-
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-
-            if (!player.isEliminated()) {
-                Position pos = player.getPosition();
-                double pixelX = pos.getX() * CELL_SIZE;
-                double pixelY = pos.getY() * CELL_SIZE;
-
-                // Dessiner d'abord le sol sous le joueur
-                Image groundImg = imageCache.get("ground");
-                if (imagesLoaded && groundImg != null) {
-                    gc.drawImage(groundImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
-                }
-
-                // Dessiner le joueur avec son image
-                String playerKey = playerImageKeys[i % playerImageKeys.length];
-                Image playerImg = imageCache.get(playerKey);
-
-                if (imagesLoaded && playerImg != null) {
-                    gc.drawImage(playerImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
-                } else {
-                    // Rendu par défaut
-                    gc.setFill(playerColors[i % playerColors.length]);
-                    gc.fillOval(pixelX + 3, pixelY + 3, CELL_SIZE - 6, CELL_SIZE - 6);
-
-                    // Contour
-                    gc.setStroke(Color.WHITE);
-                    gc.setLineWidth(2);
-                    gc.strokeOval(pixelX + 3, pixelY + 3, CELL_SIZE - 6, CELL_SIZE - 6);
-                    gc.setLineWidth(1);
-                }
-
-                // Afficher le nom du joueur au-dessus
-                gc.setFill(Color.WHITE);
-                gc.setStroke(Color.BLACK);
-                gc.setLineWidth(1);
-                gc.strokeText(player.getName(), pixelX + 2, pixelY - 5);
-                gc.fillText(player.getName(), pixelX + 2, pixelY - 5);
-            }
-        }
-    }
-
-    private void drawGameInfo(Game game) {
-        double infoY = game.getBoard().getRows() * CELL_SIZE + 20;
-
-        // Joueur actuel
-        Player currentPlayer = game.getCurrentPlayer();
-        gc.setFill(Color.BLACK);
-        gc.fillText("Tour de: " + currentPlayer.getName(), 10, infoY);
-        gc.fillText("Bombes restantes: " + currentPlayer.getRemainingBombs(), 10, infoY + 20);
-
-        // Afficher le statut des images et le thème
-        if (imagesLoaded) {
-            gc.setFill(Color.GREEN);
-            gc.fillText("Images: " + currentTheme.toUpperCase(), 200, infoY);
-        } else {
-            gc.setFill(Color.RED);
-            gc.fillText("Images: Rendu par défaut", 200, infoY);
-        }
-
-        // État de la partie
-        if (game.isGameOver()) {
-            Player winner = game.getWinner();
-            if (winner != null) {
-                gc.setFill(Color.GREEN);
-                gc.fillText("GAGNANT: " + winner.getName() + "!", 10, infoY + 40);
-            } else {
-                gc.setFill(Color.RED);
-                gc.fillText("ÉGALITÉ!", 10, infoY + 40);
-            }
-        }
-    }
-
     /**
      * Recharge les images
      */
     public void reloadImages() {
-        imageCache.clear();
         loadImages();
     }
 
@@ -730,46 +1167,6 @@ public class GameRenderer {
         return imagesLoaded;
     }
 
-    // Méthodes helper pour accéder aux données du jeu
-    private List<Bomb> getActiveBombs(Game game) {
-        try {
-            java.lang.reflect.Field field = Game.class.getDeclaredField("activeBombs");
-            field.setAccessible(true);
-            return (List<Bomb>) field.get(game);
-        } catch (Exception e) {
-            return new java.util.ArrayList<>();
-        }
-    }
-
-    private List<Explosion> getActiveExplosions(Game game) {
-        try {
-            java.lang.reflect.Field field = Game.class.getDeclaredField("activeExplosions");
-            field.setAccessible(true);
-            return (List<Explosion>) field.get(game);
-        } catch (Exception e) {
-            return new java.util.ArrayList<>();
-        }
-    }
-
-    private List<Player> getPlayers(Game game) {
-        try {
-            java.lang.reflect.Field field = Game.class.getDeclaredField("players");
-            field.setAccessible(true);
-            return (List<Player>) field.get(game);
-        } catch (Exception e) {
-            return new java.util.ArrayList<>();
-        }
-    }
-
-    private List<Position> getExplosionPositions(Explosion explosion) {
-        try {
-            java.lang.reflect.Field field = Explosion.class.getDeclaredField("affectedPositions");
-            field.setAccessible(true);
-            return (List<Position>) field.get(explosion);
-        } catch (Exception e) {
-            return new java.util.ArrayList<>();
-        }
-    }
     // Ajoutez cette méthode à votre GameRenderer.java :
     private void clearCanvas() {
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
@@ -778,35 +1175,34 @@ public class GameRenderer {
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
     }
 
-    private void drawPlayer(Player player) {
-        if (player.isEliminated()) return;
+    private void drawPlayer(int playerIndex) {
+        int cellX = frame.getPlayerX(playerIndex);
+        int cellY = frame.getPlayerY(playerIndex);
+        if (frame.isEliminated(playerIndex) || !isCellDirty(cellX, cellY)) return;
 
-        double pixelX = player.getX() * CELL_SIZE;
-        double pixelY = player.getY() * CELL_SIZE;
+        double pixelX = renderX(playerIndex) * CELL_SIZE;
+        double pixelY = renderY(playerIndex) * CELL_SIZE;
+        boolean onCell = pixelX == cellX * CELL_SIZE && pixelY == cellY * CELL_SIZE;
 
-        // Dessiner d'abord le sol sous le joueur
-        Image groundImg = imageCache.get("ground");
-        if (imagesLoaded && groundImg != null) {
-            gc.drawImage(groundImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+        // Dessiner d'abord le sol sous le joueur (pas en plein glissement : il mordrait sur les cases voisines)
+        if (onCell && hasSprite(SpriteAtlas.GROUND)) {
+            atlas.draw(gc, SpriteAtlas.GROUND, pixelX, pixelY);
         }
 
         // Déterminer l'image du joueur selon son index
-        java.util.List<Player> players = getPlayers(game);
-        int playerIndex = players.indexOf(player);
-        String[] playerImageKeys = {"player1", "player2", "player3", "player4"};
         Color[] playerColors = {Color.BLUE, Color.GREEN, Color.PURPLE, Color.PINK};
+        String name = frame.getName(playerIndex);
 
         // ✅ NOUVEAU: Couleur spéciale pour le bot
-        if (player instanceof BotPlayer) {
+        if (frame.isBot(playerIndex)) {
             playerColors = new Color[]{Color.RED, Color.ORANGE, Color.DARKRED, Color.CRIMSON};
         }
 
         // Dessiner le joueur avec son image
-        String playerKey = playerImageKeys[playerIndex % playerImageKeys.length];
-        Image playerImg = imageCache.get(playerKey);
+        int playerSprite = SpriteAtlas.PLAYER_1 + playerIndex % 4;
 
-        if (imagesLoaded && playerImg != null) {
-            gc.drawImage(playerImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+        if (hasSprite(playerSprite)) {
+            atlas.draw(gc, playerSprite, pixelX, pixelY);
         } else {
             // Rendu par défaut
             Color playerColor = playerColors[playerIndex % playerColors.length];
@@ -821,19 +1217,17 @@ public class GameRenderer {
         }
 
         // ✅ MODIFIÉ: Affichage spécial pour le bot
-        if (player instanceof BotPlayer) {
-            BotPlayer bot = (BotPlayer) player;
-
+        if (frame.isBot(playerIndex)) {
             // Nom du bot avec indicateur spécial
             gc.setFill(Color.CYAN);
             gc.setStroke(Color.DARKBLUE);
             gc.setLineWidth(1);
             gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 10));
-            gc.strokeText("🤖 " + player.getName(), pixelX + 2, pixelY - 5);
-            gc.fillText("🤖 " + player.getName(), pixelX + 2, pixelY - 5);
+            gc.strokeText("🤖 " + name, pixelX + 2, pixelY - 5);
+            gc.fillText("🤖 " + name, pixelX + 2, pixelY - 5);
 
             // Indicateur de difficulté
-            String difficultyIndicator = getDifficultyStars(bot.getDifficulty());
+            String difficultyIndicator = getDifficultyStars(frame.getDifficulty(playerIndex));
             gc.setFill(Color.GOLD);
             gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 8));
             gc.fillText(difficultyIndicator, pixelX + 2, pixelY + CELL_SIZE + 12);
@@ -843,22 +1237,32 @@ public class GameRenderer {
             gc.setStroke(Color.BLACK);
             gc.setLineWidth(1);
             gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.NORMAL, 10));
-            gc.strokeText(player.getName(), pixelX + 2, pixelY - 5);
-            gc.fillText(player.getName(), pixelX + 2, pixelY - 5);
+            gc.strokeText(name, pixelX + 2, pixelY - 5);
+            gc.fillText(name, pixelX + 2, pixelY - 5);
         }
     }
 
-    private void drawBomb(Bomb bomb) {
-        double pixelX = bomb.getX() * CELL_SIZE;
-        double pixelY = bomb.getY() * CELL_SIZE;
+    private void drawBomb(int bomb) {
+        int x = frame.getBombX(bomb);
+        int y = frame.getBombY(bomb);
+        int timer = frame.getBombTimer(bomb);
+        if (!isCellDirty(x, y)) return;
+        double pixelX = x * CELL_SIZE;
+        double pixelY = y * CELL_SIZE;
+
+        // ✅ NOUVEAU: La bombe se contracte une fois par tour, suivant l'avancement vers le tour suivant
+        double inset = 0;
+        if (interpolation) {
+            double fuse = timer - frame.getTickAlpha(frameNanos);
+            inset = 1.5 * (1 - Math.cos(2 * Math.PI * fuse));
+        }
 
-        Image bombImg = imageCache.get("bomb");
-        if (imagesLoaded && bombImg != null) {
-            gc.drawImage(bombImg, pixelX, pixelY, CELL_SIZE, CELL_SIZE);
+        if (hasSprite(SpriteAtlas.BOMB)) {
+            atlas.draw(gc, SpriteAtlas.BOMB, pixelX + inset, pixelY + inset, CELL_SIZE - 2 * inset);
         } else {
             // Rendu par défaut
             gc.setFill(Color.BLACK);
-            gc.fillOval(pixelX + 5, pixelY + 5, CELL_SIZE - 10, CELL_SIZE - 10);
+            gc.fillOval(pixelX + 5 + inset, pixelY + 5 + inset, CELL_SIZE - 10 - 2 * inset, CELL_SIZE - 10 - 2 * inset);
 
             // Mèche
             gc.setStroke(Color.RED);
@@ -870,7 +1274,7 @@ public class GameRenderer {
         // Afficher le timer de la bombe
         gc.setFill(Color.YELLOW);
         gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 12));
-        String timerText = String.valueOf(bomb.getTimer());
+        String timerText = String.valueOf(timer);
         gc.fillText(timerText, pixelX + CELL_SIZE/2 - 3, pixelY + CELL_SIZE/2 + 4);
     }
 
@@ -878,8 +1282,8 @@ public class GameRenderer {
     /**
      * NOUVELLE MÉTHODE: Affiche un écran de victoire impressionnant
      */
-    private void drawVictoryScreen(Game game) {
-        if (!game.isGameOver()) return;
+    private void drawVictoryScreen() {
+        if (!frame.isGameOver()) return;
 
         // Overlay semi-transparent
         gc.setFill(Color.BLACK);
@@ -887,11 +1291,11 @@ public class GameRenderer {
         gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
         gc.setGlobalAlpha(1.0);
 
-        Player winner = game.getWinner();
+        int winner = frame.getWinner();
         double centerX = canvas.getWidth() / 2;
         double centerY = canvas.getHeight() / 2;
 
-        if (winner != null) {
+        if (winner >= 0) {
             // Couleur du gagnant
             Color winnerColor = getPlayerColor(winner);
 
@@ -915,7 +1319,7 @@ public class GameRenderer {
             gc.setStroke(Color.WHITE);
             gc.setLineWidth(2);
 
-            String winnerText = winner.getName() + " gagne !";
+            String winnerText = frame.getName(winner) + " gagne !";
             double winnerWidth = getTextWidth(winnerText, 36);
             double winnerX = centerX - winnerWidth / 2;
             double winnerY = centerY + 10;
@@ -992,16 +1396,13 @@ public class GameRenderer {
     /**
      * NOUVELLE MÉTHODE: Obtient la couleur associée à un joueur
      */
-    private Color getPlayerColor(Player player) {
-        java.util.List<Player> players = getPlayers(game);
-        int playerIndex = players.indexOf(player);
-
+    private Color getPlayerColor(int playerIndex) {
         Color[] playerColors = {Color.BLUE, Color.GREEN, Color.PURPLE, Color.PINK};
         return playerColors[playerIndex % playerColors.length];
     }
 
-    private void drawControlsInfo(Game game) {
-        if (game.getPlayerCount() <= 2) return; // Seulement pour 4 joueurs
+    private void drawControlsInfo() {
+        if (frame.getPlayerCount() <= 2) return; // Seulement pour 4 joueurs
 
         // Position en haut à droite
         double startX = canvas.getWidth() - 220;
@@ -1029,7 +1430,7 @@ public class GameRenderer {
 
         Color[] colors = {Color.RED, Color.BLUE, Color.YELLOW, Color.GREEN};
 
-        for (int i = 0; i < Math.min(game.getPlayerCount(), 4); i++) {
+        for (int i = 0; i < Math.min(frame.getPlayerCount(), 4); i++) {
             gc.setFill(colors[i]);
             gc.fillText(controls[i], startX, startY + 25 + (i * 15));
         }
@@ -1048,27 +1449,24 @@ public class GameRenderer {
         return text.length() * fontSize * 0.6;
     }
 
-    private void drawCooldownIndicators(Game game) {
-        List<Player> players = game.getPlayers();
-
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            if (player.isEliminated()) continue;
+    private void drawCooldownIndicators() {
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            if (frame.isEliminated(i) || !isCellDirty(frame.getPlayerX(i), frame.getPlayerY(i))) continue;
 
             // Position du joueur
-            double playerPixelX = player.getX() * CELL_SIZE;
-            double playerPixelY = player.getY() * CELL_SIZE;
+            double playerPixelX = renderX(i) * CELL_SIZE;
+            double playerPixelY = renderY(i) * CELL_SIZE;
 
             // Si le joueur est en cooldown, dessiner un indicateur
-            if (player.isOnBombCooldown()) {
-                drawCooldownBar(playerPixelX, playerPixelY, player);
+            if (frame.getRemainingCooldown(i, frameNanos) > 0) {
+                drawCooldownBar(playerPixelX, playerPixelY, i);
             } else {
                 // Optionnel: indicateur "prêt"
-                drawReadyIndicator(playerPixelX, playerPixelY, player);
+                drawReadyIndicator(playerPixelX, playerPixelY, i);
             }
         }
     }
-    private void drawCooldownBar(double x, double y, Player player) {
+    private void drawCooldownBar(double x, double y, int player) {
         GraphicsContext gc = canvas.getGraphicsContext2D();
 
         // Dimensions de la barre
@@ -1082,7 +1480,7 @@ public class GameRenderer {
         gc.fillRect(barX, barY, barWidth, barHeight);
 
         // Barre de progression (rouge -> jaune -> vert)
-        int cooldownPercent = player.getCooldownPercentage();
+        int cooldownPercent = frame.getCooldownPercentage(player, frameNanos);
         double progressWidth = barWidth * (100 - cooldownPercent) / 100.0;
 
         // Couleur selon le pourcentage
@@ -1104,7 +1502,7 @@ public class GameRenderer {
         gc.strokeRect(barX, barY, barWidth, barHeight);
 
         // Texte du temps restant
-        long remainingMs = player.getRemainingCooldown();
+        long remainingMs = frame.getRemainingCooldown(player, frameNanos);
         if (remainingMs > 0) {
             String timeText = String.format("%.1f", remainingMs / 1000.0) + "s";
             gc.setFill(Color.WHITE);
@@ -1118,7 +1516,7 @@ public class GameRenderer {
             gc.fillText(timeText, barX + (barWidth - textWidth) / 2, barY - 2);
         }
     }
-    private void drawReadyIndicator(double x, double y, Player player) {
+    private void drawReadyIndicator(double x, double y, int player) {
         GraphicsContext gc = canvas.getGraphicsContext2D();
 
         // Petit cercle vert avec checkmark
@@ -1141,25 +1539,4 @@ public class GameRenderer {
         gc.strokeLine(circleX + 2, circleY + radius, circleX + radius - 1, circleY + radius + 2);
         gc.strokeLine(circleX + radius - 1, circleY + radius + 2, circleX + radius * 2 - 2, circleY + 2);
     }
-
-    private void drawPlayerWithCooldownEffect(Player player) {
-        // Position du joueur
-        double x = player.getX() * CELL_SIZE;
-        double y = player.getY() * CELL_SIZE;
-
-        GraphicsContext gc = canvas.getGraphicsContext2D();
-
-        if (player.isOnBombCooldown()) {
-            // Effet de pulsation rouge
-            long remaining = player.getRemainingCooldown();
-            double alpha = 0.3 + 0.2 * Math.sin(System.currentTimeMillis() / 200.0);
-
-            gc.setFill(Color.color(1, 0, 0, alpha));
-            gc.fillOval(x - 2, y - 2, CELL_SIZE + 4, CELL_SIZE + 4);
-        }
-
-        // Dessiner le joueur normalement par-dessus
-        drawPlayer(player);
-    }
-
-}
\ No newline at end of file
+}
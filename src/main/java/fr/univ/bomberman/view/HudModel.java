@@ -0,0 +1,320 @@
+package fr.univ.bomberman.view;
+
+import fr.univ.bomberman.model.BotPlayer;
+import fr.univ.bomberman.model.Game;
+import fr.univ.bomberman.model.GameMode;
+import fr.univ.bomberman.model.Player;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * ✅ NOUVEAU: Modèle observable du texte de statut affiché sous le plateau.
+ *
+ * À chaque image, {@link #update(Game)} relève une signature compacte de ce que le statut affiche
+ * (éliminations, état des délais de bombe à la seconde près, bombes et explosions actives, drapeaux,
+ * fin de partie). Le texte n'est recomposé et transmis à l'écouteur que lorsque cette signature
+ * change : le nœud JavaFX ne reçoit plus un {@code setText} (et son passage CSS/mise en page) par image.
+ * Le relevé passe par les accesseurs sans copie de {@link Game} ({@link Game#getPlayer(int)},
+ * {@link Game#getActiveBombCount()}...) : une fois la signature dimensionnée, il n'alloue rien.
+ */
+public class HudModel {
+
+    private static final String[] EMOJIS = {"🔴", "🔵", "🟡", "🟢"};
+
+    // Codes d'état d'un joueur dans la signature
+    private static final int STATE_READY = 0;
+    private static final int STATE_ELIMINATED = -1;
+
+    private static final int HEADER_SIZE = 7;
+    private static final int SLOTS_PER_PLAYER = 2;
+
+    private final GameMode mode;
+    private final StringBuilder builder = new StringBuilder(256);
+    private Consumer<String> listener;
+    private int[] signature = new int[0];
+    private int[] previous = new int[0];
+    private String text = "";
+    private int changeCount;
+
+    /**
+     * @param mode mode de jeu dont le statut reprend la présentation
+     */
+    public HudModel(GameMode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Définit l'écouteur appelé une fois par changement du texte (typiquement {@code Text::setText}).
+     */
+    public void setListener(Consumer<String> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Relève l'état de la partie et notifie l'écouteur si le statut affiché a changé.
+     * @param game partie affichée
+     * @return vrai si le texte a changé
+     */
+    public boolean update(Game game) {
+        if (game == null) {
+            return false;
+        }
+        capture(game);
+        if (changeCount > 0 && Arrays.equals(signature, previous)) {
+            return false;
+        }
+
+        int[] swap = previous;
+        previous = signature;
+        signature = swap;
+
+        text = compose(game);
+        changeCount++;
+        if (listener != null) {
+            listener.accept(text);
+        }
+        return true;
+    }
+
+    /**
+     * Oublie la signature retenue : le prochain {@link #update} notifiera l'écouteur
+     */
+    public void invalidate() {
+        changeCount = 0;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return le nombre de textes transmis à l'écouteur depuis la création
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Remplit la signature sans allouer une fois sa taille atteinte.
+     */
+    private void capture(Game game) {
+        int playerCount = game.getPlayerCount();
+        int size = HEADER_SIZE + playerCount * SLOTS_PER_PLAYER;
+        if (signature.length != size) {
+            signature = new int[size];
+        }
+
+        signature[0] = game.isGameOver() ? 1 : 0;
+        signature[1] = indexOf(game, game.getWinner());
+        signature[2] = game.getActiveBombCount();
+        signature[3] = game.getActiveExplosionCount();
+        signature[4] = game.isInFlagSetupPhase() ? 1 : 0;
+        signature[5] = indexOf(game, game.getCurrentPlayerSettingFlag());
+        signature[6] = mode == GameMode.CAPTURE_THE_FLAG ? game.getCarriedFlagCount() : 0;
+
+        for (int i = 0; i < playerCount; i++) {
+            Player p = game.getPlayer(i);
+            int slot = HEADER_SIZE + i * SLOTS_PER_PLAYER;
+            signature[slot] = playerState(p);
+            signature[slot + 1] = p.getCapturedFlagsCount();
+        }
+    }
+
+    /**
+     * @return l'index du joueur dans la partie, -1 s'il est null ou absent
+     */
+    private static int indexOf(Game game, Player player) {
+        if (player != null) {
+            for (int i = 0; i < game.getPlayerCount(); i++) {
+                if (game.getPlayer(i) == player) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return {@link #STATE_ELIMINATED}, {@link #STATE_READY} ou les secondes restantes du délai
+     *         de bombe, arrondies au supérieur
+     */
+    private static int playerState(Player p) {
+        if (p.isEliminated()) {
+            return STATE_ELIMINATED;
+        }
+        long remaining = p.getRemainingCooldown();
+        return remaining > 0 ? (int) ((remaining + 999) / 1000) : STATE_READY;
+    }
+
+    private String compose(Game game) {
+        builder.setLength(0);
+        switch (mode) {
+            case BATTLE_ROYALE:
+                composeBattleRoyale(game);
+                break;
+            case BOT_GAME:
+                composeBotGame(game);
+                break;
+            case CAPTURE_THE_FLAG:
+                composeCaptureTheFlag(game);
+                break;
+            default:
+                composeDuel(game);
+                break;
+        }
+        return builder.toString();
+    }
+
+    private void composeDuel(Game game) {
+        if (game.isGameOver()) {
+            Player winner = game.getWinner();
+            if (winner != null) {
+                builder.append("🏆 ").append(winner.getName()).append(" A GAGNÉ ! Appuyez sur R pour rejouer, ESC pour le menu.");
+            } else {
+                builder.append("💥 ÉGALITÉ ! Tous éliminés ! Appuyez sur R pour rejouer, ESC pour le menu.");
+            }
+            return;
+        }
+
+        List<Player> players = game.getPlayers();
+        if (!players.isEmpty()) {
+            builder.append("🔵 ").append(players.get(0).getName());
+            appendCooldown(players.get(0), " ");
+        }
+        if (players.size() > 1) {
+            builder.append(" VS 🟢 ").append(players.get(1).getName());
+            appendCooldown(players.get(1), " ");
+        }
+
+        builder.append(" | 💣:").append(game.getActiveBombCount())
+                .append(" | 💥:").append(game.getActiveExplosionCount())
+                .append("\n💨 EXPLOSIONS: 1.5s puis disparition ! VOS BOMBES VOUS TUENT !")
+                .append("\nJ1: ZQSD+ESPACE | J2: ↑↓←→+ENTRÉE | T: Thème | R: Restart");
+    }
+
+    private void composeBattleRoyale(Game game) {
+        if (game.isGameOver()) {
+            Player winner = game.getWinner();
+            if (winner != null) {
+                builder.append("👑 ").append(winner.getName()).append(" REMPORTE LA BATAILLE ROYALE ! 👑 | R: Nouvelle bataille | ESC: Menu");
+            } else {
+                builder.append("💥 TOUS ÉLIMINÉS - AUCUN SURVIVANT ! 💥 | R: Nouvelle bataille | ESC: Menu");
+            }
+            return;
+        }
+
+        builder.append("⚔️ BATAILLE EXPRESS: ");
+        appendPlayersStatus(game.getPlayers(), false);
+        builder.append(" | 💣:").append(game.getActiveBombCount())
+                .append(" | 👥:").append(game.getAlivePlayerCount()).append(" survivants")
+                .append("\n💨 Explosions: 1.5s total ! Cooldown: 10s")
+                .append("\nR:Restart T:Thème");
+    }
+
+    private void composeBotGame(Game game) {
+        if (game.isGameOver()) {
+            Player winner = game.getWinner();
+            if (winner instanceof BotPlayer) {
+                builder.append("🤖 ").append(winner.getName()).append(" A GAGNÉ ! L'IA vous a battu ! R: Revanche | ESC: Menu");
+            } else if (winner != null) {
+                builder.append("🏆 ").append(winner.getName()).append(" A GAGNÉ ! Vous avez battu l'IA ! R: Rejouer | ESC: Menu");
+            } else {
+                builder.append("💥 ÉGALITÉ ! R: Rejouer | ESC: Menu");
+            }
+            return;
+        }
+
+        Player human = game.getHumanPlayer();
+        BotPlayer bot = game.getBot();
+        if (human != null) {
+            builder.append("👤 ").append(human.getName());
+            appendCooldown(human, " ");
+        }
+        if (bot != null) {
+            builder.append(" VS 🤖 ").append(bot.getName());
+            appendCooldown(bot, " ");
+        }
+
+        builder.append(" | 💣:").append(game.getActiveBombCount())
+                .append(" | 💥:").append(game.getActiveExplosionCount())
+                .append("\n🤖 IA ").append(bot != null ? getBotDifficultyText(bot.getDifficulty()) : "")
+                .append(" | Vous: ZQSD+ESPACE | T: Thème | R: Restart");
+    }
+
+    private void composeCaptureTheFlag(Game game) {
+        if (game.isInFlagSetupPhase()) {
+            Player settingFlag = game.getCurrentPlayerSettingFlag();
+            if (settingFlag != null) {
+                builder.append("🏁 PLACEMENT DES DRAPEAUX - ").append(settingFlag.getName())
+                        .append(" : Déplacez-vous avec ZQSD/Flèches puis ESPACE/ENTRÉE pour placer votre drapeau");
+            } else {
+                builder.append("🏁 CAPTURE THE FLAG - Phase de placement des drapeaux");
+            }
+            return;
+        }
+
+        if (game.isGameOver()) {
+            Player winner = game.getWinner();
+            if (winner != null) {
+                builder.append("🏆 ").append(winner.getName()).append(" REMPORTE LE CTF ! R: Nouvelle partie | ESC: Menu");
+            } else {
+                builder.append("💥 MATCH NUL CTF ! R: Nouvelle partie | ESC: Menu");
+            }
+            return;
+        }
+
+        builder.append("🏁 CAPTURE THE FLAG: ");
+        appendPlayersStatus(game.getPlayers(), true);
+        builder.append(" | 💣:").append(game.getActiveBombCount())
+                .append(" | 🏁 portés:").append(game.getCarriedFlagCount())
+                .append("\n🎯 Objectif: Capturez TOUS les drapeaux adverses pour gagner !")
+                .append("\n💀 Joueurs éliminés peuvent encore bombarder | R:Restart T:Thème");
+    }
+
+    private void appendPlayersStatus(List<Player> players, boolean withFlags) {
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            if (i > 0) builder.append(' ');
+            builder.append(EMOJIS[i % EMOJIS.length]).append(p.getName());
+
+            if (p.isEliminated()) {
+                builder.append("💀");
+            } else {
+                appendCooldown(p, "");
+            }
+            if (withFlags && p.getCapturedFlagsCount() > 0) {
+                builder.append("🏁").append(p.getCapturedFlagsCount());
+            }
+        }
+    }
+
+    /**
+     * Ajoute l'état du délai de bombe : secondes restantes ou prêt.
+     */
+    private void appendCooldown(Player p, String separator) {
+        int state = playerState(p);
+        builder.append(separator);
+        if (state > 0) {
+            builder.append("⏱️").append(state).append('s');
+        } else {
+            builder.append("✅");
+        }
+    }
+
+    /**
+     * Retourne le texte descriptif de la difficulté du bot.
+     * @param difficulty niveau de difficulté du bot
+     * @return une chaîne de caractères décrivant la difficulté
+     */
+    public static String getBotDifficultyText(int difficulty) {
+        switch (difficulty) {
+            case 1: return "Facile 😊";
+            case 2: return "Moyen 😐";
+            case 3: return "Difficile 😈";
+            case 4: return "Expert 🧠";
+            default: return "Moyen 😐";
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package fr.univ.bomberman.view;
+
+import fr.univ.bomberman.model.CellType;
+import fr.univ.bomberman.model.FrameState;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * ✅ NOUVEAU: Minicarte du plateau, un pixel par case.
+ *
+ * L'image n'est entièrement peinte qu'au chargement d'un plateau ; ensuite, seules les cases modifiées depuis
+ * la dernière image affichée (journal de {@link FrameState#forEachCellChangedSince}) sont réécrites par le
+ * {@link PixelWriter}, et tout n'est repeint que si ce journal ne remonte plus assez loin.
+ * Joueurs, bombes, drapeaux et cadre de la caméra sont tracés par-dessus à chaque affichage.
+ */
+public class Minimap {
+
+    /** Côté maximal de la minicarte à l'écran, en pixels */
+    public static final double MAX_SIZE = 160;
+    public static final double MARGIN = 8;
+
+    private static final int[] CELL_COLORS = new int[CellType.values().length];
+    static {
+        CELL_COLORS[CellType.EMPTY.ordinal()] = 0xFF6B8E23;
+        CELL_COLORS[CellType.INDESTRUCTIBLE_WALL.ordinal()] = 0xFF404040;
+        CELL_COLORS[CellType.DESTRUCTIBLE_BRICK.ordinal()] = 0xFFA0522D;
+        CELL_COLORS[CellType.FLAG_PLAYER_1.ordinal()] = 0xFFFF0000;
+        CELL_COLORS[CellType.FLAG_PLAYER_2.ordinal()] = 0xFF0000FF;
+        CELL_COLORS[CellType.FLAG_PLAYER_3.ordinal()] = 0xFFFFFF00;
+        CELL_COLORS[CellType.FLAG_PLAYER_4.ordinal()] = 0xFF00FF00;
+    }
+    private static final Color[] PLAYER_COLORS = {Color.BLUE, Color.GREEN, Color.PURPLE, Color.PINK};
+    private static final Color[] FLAG_COLORS = {Color.RED, Color.BLUE, Color.YELLOW, Color.GREEN};
+
+    private WritableImage image;
+    private PixelWriter writer;
+    private int cols;
+    private int rows;
+    private long changeSequence; // Journal des cases de la dernière image peinte
+    private byte[] shown = new byte[0]; // Type affiché de chaque case
+    private int fullRedrawCount;
+    private int cellWriteCount;
+
+    /**
+     * Force une peinture complète à la prochaine mise à jour (nouvelle partie).
+     */
+    public void invalidate() {
+        image = null;
+    }
+
+    /**
+     * Met l'image à jour : complète pour un nouveau plateau, case par case sinon.
+     */
+    public void update(FrameState frame) {
+        if (image == null || frame.getCols() != cols || frame.getRows() != rows) {
+            redrawAll(frame);
+            return;
+        }
+        if (frame.getChangeSequence() == changeSequence) {
+            return;
+        }
+        boolean inLog = frame.forEachCellChangedSince(changeSequence, index -> {
+            if (frame.getCell(index) != shown[index]) {
+                writeCell(frame, index);
+            }
+        });
+        if (!inLog) {
+            redrawAll(frame);
+            return;
+        }
+        changeSequence = frame.getChangeSequence();
+    }
+
+    private void redrawAll(FrameState frame) {
+        if (image == null || frame.getCols() != cols || frame.getRows() != rows) {
+            cols = frame.getCols();
+            rows = frame.getRows();
+            shown = new byte[cols * rows];
+            image = new WritableImage(cols, rows);
+            writer = image.getPixelWriter();
+        }
+        changeSequence = frame.getChangeSequence();
+        for (int index = 0; index < shown.length; index++) {
+            writeCell(frame, index);
+        }
+        fullRedrawCount++;
+        System.out.println("🗺️ Minicarte peinte (" + cols + "x" + rows + ")");
+    }
+
+    private void writeCell(FrameState frame, int index) {
+        int type = frame.getCell(index);
+        shown[index] = (byte) type;
+        writer.setArgb(index % cols, index / cols, CELL_COLORS[type]);
+        cellWriteCount++;
+    }
+
+    /**
+     * @return l'échelle d'affichage (pixels d'écran par case) pour un plateau donné
+     */
+    public static double scaleFor(int cols, int rows) {
+        return Math.max(1, Math.floor(MAX_SIZE / Math.max(cols, rows)));
+    }
+
+    /**
+     * Dessine la minicarte et ses marqueurs en coordonnées d'écran.
+     * @param gc contexte de dessin
+     * @param left bord gauche à l'écran
+     * @param top bord haut à l'écran
+     * @param frame image de la partie affichée
+     * @param camera caméra dont les vues sont encadrées
+     */
+    public void draw(GraphicsContext gc, double left, double top, FrameState frame, Camera camera) {
+        double scale = scaleFor(cols, rows);
+
+        gc.setFill(Color.BLACK);
+        gc.setGlobalAlpha(0.75);
+        gc.fillRect(left - 2, top - 2, cols * scale + 4, rows * scale + 4);
+        gc.setGlobalAlpha(1.0);
+        gc.setImageSmoothing(false);
+        gc.drawImage(image, 0, 0, cols, rows, left, top, cols * scale, rows * scale);
+        gc.setImageSmoothing(true);
+
+        double marker = Math.max(2, scale);
+        gc.setFill(Color.BLACK);
+        for (int b = 0; b < frame.getBombCount(); b++) {
+            gc.fillOval(left + frame.getBombX(b) * scale, top + frame.getBombY(b) * scale, marker, marker);
+        }
+
+        for (int f = 0; f < frame.getFlagCount(); f++) {
+            int owner = Math.max(0, frame.getFlagOwner(f));
+            gc.setFill(FLAG_COLORS[owner % FLAG_COLORS.length]);
+            gc.fillRect(left + frame.getFlagX(f) * scale, top + frame.getFlagY(f) * scale, marker, marker);
+        }
+
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            if (frame.isEliminated(i)) continue;
+            double size = marker + 2;
+            double x = left + frame.getPlayerX(i) * scale - 1;
+            double y = top + frame.getPlayerY(i) * scale - 1;
+            gc.setFill(PLAYER_COLORS[i % PLAYER_COLORS.length]);
+            gc.fillRect(x, y, size, size);
+            gc.setStroke(Color.WHITE);
+            gc.setLineWidth(1);
+            gc.strokeRect(x, y, size, size);
+        }
+
+        // Portion du plateau affichée par chaque vue de la caméra
+        gc.setStroke(Color.WHITE);
+        gc.setLineWidth(1);
+        for (int i = 0; i < camera.getViewportCount(); i++) {
+            Camera.Viewport view = camera.getViewport(i);
+            gc.strokeRect(left + view.getMinCol() * scale, top + view.getMinRow() * scale,
+                    (view.getMaxCol() - view.getMinCol() + 1) * scale,
+                    (view.getMaxRow() - view.getMinRow() + 1) * scale);
+        }
+    }
+
+    /**
+     * @return le nombre de peintures complètes (une par plateau chargé, plus une par débordement du journal)
+     */
+    public int getFullRedrawCount() {
+        return fullRedrawCount;
+    }
+
+    /**
+     * @return le nombre total de cases écrites dans l'image
+     */
+    public int getCellWriteCount() {
+        return cellWriteCount;
+    }
+}
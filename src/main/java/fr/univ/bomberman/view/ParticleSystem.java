@@ -0,0 +1,239 @@
+package fr.univ.bomberman.view;
+
+/**
+ * ✅ NOUVEAU: Particules de feu, de débris et de fumée.
+ *
+ * Les particules sont rangées en colonnes de tableaux primitifs (une case par particule et par
+ * attribut) dans un réservoir de capacité fixe : aucune allocation après la construction, et la
+ * mise à jour parcourt des tableaux contigus. Une particule morte est remplacée par la dernière,
+ * si bien que les particules vivantes occupent toujours les {@link #getCount()} premières cases.
+ *
+ * Deux limites protègent l'image quand les explosions s'enchaînent : un budget d'émission par image,
+ * et une émission réduite à mesure que le réservoir se remplit (au moins une particule par effet
+ * tant que le budget le permet). Les coordonnées sont exprimées en cases.
+ */
+public class ParticleSystem {
+
+    public static final byte FIRE = 0;
+    public static final byte DEBRIS = 1;
+    public static final byte SMOKE = 2;
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_FRAME_BUDGET = 192;
+
+    private static final int FIRE_PER_CELL = 6;
+    private static final int SMOKE_PER_CELL = 2;
+    private static final int DEBRIS_PER_BRICK = 8;
+    private static final float GRAVITY = 9.0f; // cases par seconde²
+
+    private final int capacity;
+    private final int frameBudget;
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] age;
+    private final float[] life;
+    private final float[] size;
+    private final byte[] kind;
+    private int count;
+    private int budgetLeft;
+    private int droppedCount;
+    private long seed = 0x2545F4914F6CDD1DL;
+
+    public ParticleSystem() {
+        this(DEFAULT_CAPACITY, DEFAULT_FRAME_BUDGET);
+    }
+
+    /**
+     * @param capacity nombre maximal de particules vivantes
+     * @param frameBudget nombre maximal de particules créées entre deux mises à jour
+     */
+    public ParticleSystem(int capacity, int frameBudget) {
+        this.capacity = capacity;
+        this.frameBudget = frameBudget;
+        this.budgetLeft = frameBudget;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        age = new float[capacity];
+        life = new float[capacity];
+        size = new float[capacity];
+        kind = new byte[capacity];
+    }
+
+    /**
+     * Flammes et fumée sur une case touchée par une explosion.
+     */
+    public void emitExplosion(int cellX, int cellY) {
+        int fire = scaled(FIRE_PER_CELL);
+        for (int i = 0; i < fire; i++) {
+            double angle = nextFloat() * 2 * Math.PI;
+            float speed = 0.5f + nextFloat() * 1.5f;
+            spawn(FIRE, cellX + 0.5f, cellY + 0.5f,
+                    (float) Math.cos(angle) * speed, (float) Math.sin(angle) * speed,
+                    0.35f + nextFloat() * 0.35f, 0.15f + nextFloat() * 0.15f);
+        }
+        int smoke = scaled(SMOKE_PER_CELL);
+        for (int i = 0; i < smoke; i++) {
+            spawn(SMOKE, cellX + 0.3f + nextFloat() * 0.4f, cellY + 0.3f + nextFloat() * 0.4f,
+                    (nextFloat() - 0.5f) * 0.3f, -0.4f - nextFloat() * 0.3f,
+                    0.9f + nextFloat() * 0.6f, 0.25f + nextFloat() * 0.15f);
+        }
+    }
+
+    /**
+     * Éclats projetés par une brique détruite.
+     */
+    public void emitDebris(int cellX, int cellY) {
+        int debris = scaled(DEBRIS_PER_BRICK);
+        for (int i = 0; i < debris; i++) {
+            spawn(DEBRIS, cellX + 0.2f + nextFloat() * 0.6f, cellY + 0.2f + nextFloat() * 0.6f,
+                    (nextFloat() - 0.5f) * 3.0f, -1.5f - nextFloat() * 2.0f,
+                    0.5f + nextFloat() * 0.3f, 0.08f + nextFloat() * 0.07f);
+        }
+    }
+
+    /**
+     * Fait avancer toutes les particules et rend le budget d'émission de l'image suivante.
+     * @param dt temps écoulé en secondes
+     */
+    public void update(float dt) {
+        budgetLeft = frameBudget;
+        if (dt <= 0) {
+            return;
+        }
+        int n = count;
+        for (int i = 0; i < n; i++) {
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+            age[i] += dt;
+        }
+        // Les débris retombent, la fumée ralentit
+        for (int i = 0; i < n; i++) {
+            if (kind[i] == DEBRIS) {
+                vy[i] += GRAVITY * dt;
+            } else if (kind[i] == SMOKE) {
+                vx[i] *= 1 - dt;
+            }
+        }
+        int i = 0;
+        while (i < n) {
+            if (age[i] >= life[i]) {
+                n--;
+                moveParticle(n, i);
+            } else {
+                i++;
+            }
+        }
+        count = n;
+    }
+
+    /**
+     * Supprime toutes les particules (nouvelle partie)
+     */
+    public void clear() {
+        count = 0;
+        budgetLeft = frameBudget;
+    }
+
+    /**
+     * Nombre de particules à créer pour un effet, réduit quand le réservoir se remplit.
+     */
+    private int scaled(int requested) {
+        int free = capacity - count;
+        int allowed = (int) ((long) requested * free * 2 / capacity);
+        allowed = Math.max(1, Math.min(requested, allowed));
+        allowed = Math.min(allowed, Math.min(budgetLeft, free));
+        droppedCount += requested - allowed;
+        return allowed;
+    }
+
+    private void spawn(byte type, float px, float py, float pvx, float pvy, float lifetime, float radius) {
+        if (count >= capacity || budgetLeft <= 0) {
+            droppedCount++;
+            return;
+        }
+        int i = count++;
+        budgetLeft--;
+        kind[i] = type;
+        x[i] = px;
+        y[i] = py;
+        vx[i] = pvx;
+        vy[i] = pvy;
+        age[i] = 0;
+        life[i] = lifetime;
+        size[i] = radius;
+    }
+
+    private void moveParticle(int from, int to) {
+        kind[to] = kind[from];
+        x[to] = x[from];
+        y[to] = y[from];
+        vx[to] = vx[from];
+        vy[to] = vy[from];
+        age[to] = age[from];
+        life[to] = life[from];
+        size[to] = size[from];
+    }
+
+    /**
+     * Générateur xorshift : pas de Random partagé ni d'objet par tirage.
+     */
+    private float nextFloat() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return (seed >>> 40) / (float) (1 << 24);
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return le nombre de particules non émises (émission réduite, budget épuisé ou réservoir plein)
+     *         depuis la création
+     */
+    public int getDroppedCount() {
+        return droppedCount;
+    }
+
+    public byte getKind(int i) {
+        return kind[i];
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * @return le rayon en cases ; la fumée grossit en vieillissant
+     */
+    public float getSize(int i) {
+        return kind[i] == SMOKE ? size[i] * (1 + age[i] / life[i]) : size[i];
+    }
+
+    /**
+     * @return l'opacité entre 0 et 1, décroissante avec l'âge
+     */
+    public float getAlpha(int i) {
+        return 1 - age[i] / life[i];
+    }
+
+    /**
+     * @return l'âge relatif entre 0 et 1
+     */
+    public float getProgress(int i) {
+        return age[i] / life[i];
+    }
+}
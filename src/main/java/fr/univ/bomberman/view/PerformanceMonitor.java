@@ -0,0 +1,274 @@
+package fr.univ.bomberman.view;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import fr.univ.bomberman.model.Game;
+import fr.univ.bomberman.model.Player;
+import fr.univ.bomberman.utils.LatencyHistogram;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ NOUVEAU: Mesures affichées par le calque de performances (touche F3).
+ *
+ * Temps entre images et temps de rendu (percentiles), temps du tour de jeu et des bots, nombre
+ * d'entités, tas, débit d'allocation du thread d'affichage et pauses du ramasse-miettes (notifications JMX).
+ *
+ * Le texte est recomposé quatre fois par seconde dans des {@link StringBuilder} réutilisés, avec
+ * des nombres ajoutés en entiers : le calque ne fausse pas le débit d'allocation qu'il affiche.
+ */
+public class PerformanceMonitor {
+
+    public static final long REFRESH_NANOS = 250_000_000L;
+    public static final int LINE_COUNT = 6;
+
+    private static PerformanceMonitor instance;
+
+    private final LatencyHistogram frameTimes = new LatencyHistogram();
+    private final LatencyHistogram renderTimes = new LatencyHistogram();
+    private final StringBuilder[] builders = new StringBuilder[LINE_COUNT];
+    private final String[] lines = new String[LINE_COUNT];
+
+    private boolean visible;
+    private long lastFrameStart;
+    private long windowStart;
+    private int lastDirtyCells;
+
+    // Débit d'allocation du thread d'affichage
+    private com.sun.management.ThreadMXBean allocationBean;
+    private long threadId = -1;
+    private long lastAllocatedBytes = -1;
+    private long lastAllocationSample;
+    private long allocationRate = -1;
+
+    // Pauses du ramasse-miettes, rapportées par JMX sur un autre thread
+    private final List<NotificationEmitter> gcEmitters = new ArrayList<>();
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong gcMillis = new AtomicLong();
+    private final AtomicLong gcMaxPause = new AtomicLong();
+    private volatile long gcLastPause;
+    private final NotificationListener gcListener = this::onGarbageCollection;
+
+    private PerformanceMonitor() {
+        for (int i = 0; i < LINE_COUNT; i++) {
+            builders[i] = new StringBuilder(64);
+            lines[i] = "";
+        }
+    }
+
+    /**
+     * Obtient l'instance unique du moniteur
+     */
+    public static synchronized PerformanceMonitor getInstance() {
+        if (instance == null) {
+            instance = new PerformanceMonitor();
+        }
+        return instance;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Affiche ou masque le calque ; les écouteurs JMX ne sont branchés que pendant l'affichage.
+     */
+    public void setVisible(boolean visible) {
+        if (visible == this.visible) {
+            return;
+        }
+        this.visible = visible;
+        if (visible) {
+            attachGcListeners();
+            frameTimes.reset();
+            renderTimes.reset();
+            lastFrameStart = 0;
+            windowStart = 0;
+            lastAllocatedBytes = -1;
+        } else {
+            detachGcListeners();
+        }
+        System.out.println("📊 Calque de performances " + (visible ? "affiché" : "masqué"));
+    }
+
+    public void toggle() {
+        setVisible(!visible);
+    }
+
+    /**
+     * Enregistre une image rendue ; le texte est recomposé au plus tous les {@link #REFRESH_NANOS}.
+     * @param startNanos début du rendu (System.nanoTime)
+     * @param endNanos fin du rendu
+     * @param game partie affichée
+     * @param dirtyCells cellules redessinées pour cette image
+     */
+    public void recordFrame(long startNanos, long endNanos, Game game, int dirtyCells) {
+        if (lastFrameStart != 0) {
+            frameTimes.record(startNanos - lastFrameStart);
+        }
+        lastFrameStart = startNanos;
+        renderTimes.record(endNanos - startNanos);
+        lastDirtyCells = dirtyCells;
+
+        if (windowStart == 0) {
+            windowStart = endNanos;
+            sampleAllocation(endNanos);
+        } else if (endNanos - windowStart >= REFRESH_NANOS) {
+            refresh(game, endNanos);
+        }
+    }
+
+    /**
+     * @return les lignes du calque, recomposées à chaque rafraîchissement
+     */
+    public String[] getLines() {
+        return lines;
+    }
+
+    private void refresh(Game game, long now) {
+        long window = now - windowStart;
+        sampleAllocation(now);
+
+        StringBuilder line = builders[0];
+        line.setLength(0);
+        line.append("FPS ").append(frameTimes.getTotalCount() * 1_000_000_000L / Math.max(1, window));
+        line.append("  image p50 ");
+        appendMillis(line, frameTimes.getValueAtPercentile(50));
+        line.append(" p99 ");
+        appendMillis(line, frameTimes.getValueAtPercentile(99));
+        line.append(" max ");
+        appendMillis(line, frameTimes.getMax());
+        line.append(" ms");
+
+        line = builders[1];
+        line.setLength(0);
+        line.append("rendu p50 ");
+        appendMillis(line, renderTimes.getValueAtPercentile(50));
+        line.append(" p99 ");
+        appendMillis(line, renderTimes.getValueAtPercentile(99));
+        line.append(" ms  cellules ").append(lastDirtyCells);
+
+        line = builders[2];
+        line.setLength(0);
+        line.append("tour ");
+        appendMillis(line, game.getLastUpdateNanos());
+        line.append(" ms  bots ");
+        appendMillis(line, game.getLastBotNanos());
+        line.append(" ms  réflexion ");
+        appendMillis(line, game.getLastPlanNanos());
+        line.append(" ms");
+
+        int alive = 0;
+        List<Player> players = game.getPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            if (!players.get(i).isEliminated()) {
+                alive++;
+            }
+        }
+        line = builders[3];
+        line.setLength(0);
+        line.append("bombes ").append(game.getActiveBombs().size())
+                .append("  explosions ").append(game.getActiveExplosions().size())
+                .append("  joueurs ").append(alive).append('/').append(players.size());
+
+        Runtime runtime = Runtime.getRuntime();
+        line = builders[4];
+        line.setLength(0);
+        line.append("tas ").append((runtime.totalMemory() - runtime.freeMemory()) >> 20)
+                .append('/').append(runtime.maxMemory() >> 20).append(" Mo  alloc ");
+        if (allocationRate < 0) {
+            line.append("n/d");
+        } else {
+            appendTenths(line, allocationRate * 10 >> 20);
+            line.append(" Mo/s");
+        }
+
+        line = builders[5];
+        line.setLength(0);
+        line.append("GC ").append(gcCount.getAndSet(0))
+                .append(" (").append(gcMillis.getAndSet(0)).append(" ms, max ")
+                .append(gcMaxPause.getAndSet(0)).append(" ms)  dernière ")
+                .append(gcLastPause).append(" ms");
+
+        for (int i = 0; i < LINE_COUNT; i++) {
+            lines[i] = builders[i].toString();
+        }
+        frameTimes.reset();
+        renderTimes.reset();
+        windowStart = now;
+    }
+
+    private void sampleAllocation(long now) {
+        if (threadId < 0) {
+            // Premier appel : on est sur le thread d'affichage
+            threadId = Thread.currentThread().getId();
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported()) {
+                    sunBean.setThreadAllocatedMemoryEnabled(true);
+                    allocationBean = sunBean;
+                }
+            }
+        }
+        if (allocationBean == null) {
+            return;
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId);
+        if (lastAllocatedBytes >= 0 && now > lastAllocationSample) {
+            allocationRate = (allocated - lastAllocatedBytes) * 1_000_000_000L / (now - lastAllocationSample);
+        }
+        lastAllocatedBytes = allocated;
+        lastAllocationSample = now;
+    }
+
+    private void attachGcListeners() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter) {
+                NotificationEmitter emitter = (NotificationEmitter) collector;
+                emitter.addNotificationListener(gcListener, null, null);
+                gcEmitters.add(emitter);
+            }
+        }
+    }
+
+    private void detachGcListeners() {
+        for (NotificationEmitter emitter : gcEmitters) {
+            try {
+                emitter.removeNotificationListener(gcListener);
+            } catch (Exception e) {
+                // Déjà retiré
+            }
+        }
+        gcEmitters.clear();
+    }
+
+    private void onGarbageCollection(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long pause = info.getGcInfo().getDuration();
+        gcCount.incrementAndGet();
+        gcMillis.addAndGet(pause);
+        gcMaxPause.accumulateAndGet(pause, Math::max);
+        gcLastPause = pause;
+    }
+
+    private static void appendMillis(StringBuilder line, long nanos) {
+        appendTenths(line, nanos / 100_000L);
+    }
+
+    private static void appendTenths(StringBuilder line, long tenths) {
+        line.append(tenths / 10).append('.').append(tenths % 10);
+    }
+}
@@ -0,0 +1,154 @@
+package fr.univ.bomberman.view;
+
+import fr.univ.bomberman.model.SimulationState;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+
+/**
+ * ✅ NOUVEAU: Rendu logiciel d'un état de partie dans un tableau ARGB, sans JavaFX ni affichage.
+ *
+ * Les sprites du thème sont décodés une fois par {@link ImageIO}, mis à la taille d'une case et
+ * gardés en tableaux d'entiers immuables ; chaque rendu écrit dans son propre {@link FrameBuffer},
+ * si bien qu'une même instance peut servir à plusieurs threads. Un sprite absent est remplacé par
+ * la couleur de secours utilisée par {@link GameRenderer}.
+ */
+public class SoftwareFrameRenderer implements FrameRenderer<FrameBuffer> {
+
+    public static final int DEFAULT_CELL_SIZE = 40;
+
+    // Même ordre que SpriteAtlas
+    private static final int PLAYER_1 = 0;
+    private static final int BOMB = 4;
+    private static final int EXPLOSION = 5;
+    private static final int WALL = 6;
+    private static final int BRICK = 7;
+    private static final int GROUND = 8;
+    private static final int SPRITE_COUNT = 9;
+
+    private static final String[] FILE_NAMES = {
+            "player1", "player2", "player3", "player4",
+            "bomb", "explosion", "wall", "brick", "ground"
+    };
+    private static final String IMAGE_ROOT = "/fr/univ/bomberman/image/";
+
+    // Couleurs de secours (BLUE, GREEN, PURPLE, PINK, bombe, ORANGE, DARKGRAY, BROWN, LIGHTGRAY)
+    private static final int[] FALLBACK_COLORS = {
+            0xFF0000FF, 0xFF008000, 0xFF800080, 0xFFFFC0CB,
+            0xFF202020, 0xFFFFA500, 0xFFA9A9A9, 0xFFA52A2A, 0xFFD3D3D3
+    };
+
+    private final String theme;
+    private final int cellSize;
+    private final int[][] sprites = new int[SPRITE_COUNT][];
+
+    /**
+     * @param theme dossier du thème sous {@code /fr/univ/bomberman/image/}
+     * @param cellSize taille d'une case en pixels
+     */
+    public SoftwareFrameRenderer(String theme, int cellSize) {
+        this.theme = theme;
+        this.cellSize = cellSize;
+        int loaded = 0;
+        for (int sprite = 0; sprite < SPRITE_COUNT; sprite++) {
+            sprites[sprite] = decode(IMAGE_ROOT + theme + "/" + FILE_NAMES[sprite] + ".png", cellSize);
+            if (sprites[sprite] != null) {
+                loaded++;
+            }
+        }
+        System.out.println("🖼️ Rendu logiciel '" + theme + "' : " + loaded + "/" + SPRITE_COUNT + " sprites");
+    }
+
+    public SoftwareFrameRenderer(String theme) {
+        this(theme, DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Décode une image et la met à l'échelle d'une case.
+     * @return les pixels ARGB, ou {@code null} si l'image est absente ou illisible
+     */
+    private static int[] decode(String path, int size) {
+        try (InputStream in = SoftwareFrameRenderer.class.getResourceAsStream(path)) {
+            if (in == null) {
+                System.out.println("Ressource non trouvée: " + path);
+                return null;
+            }
+            BufferedImage source = ImageIO.read(in);
+            if (source == null) {
+                System.out.println("Erreur lors du chargement de l'image: " + path);
+                return null;
+            }
+            BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = scaled.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, size, size, null);
+            g.dispose();
+            return scaled.getRGB(0, 0, size, size, null, 0, size);
+        } catch (Exception e) {
+            System.out.println("Exception lors du chargement de " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public FrameBuffer render(SimulationState frame) {
+        int cols = frame.getCols();
+        int rows = frame.getRows();
+        FrameBuffer buffer = new FrameBuffer(cols * cellSize, rows * cellSize);
+
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                drawSprite(buffer, GROUND, x, y);
+                if (frame.isWall(x, y)) {
+                    drawSprite(buffer, WALL, x, y);
+                } else if (frame.isBrick(x, y)) {
+                    drawSprite(buffer, BRICK, x, y);
+                }
+            }
+        }
+
+        for (int b = 0; b < frame.getBombCount(); b++) {
+            drawSprite(buffer, BOMB, frame.getBombX(b), frame.getBombY(b));
+        }
+
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                if (frame.isOnFire(x, y)) {
+                    drawSprite(buffer, EXPLOSION, x, y);
+                }
+            }
+        }
+
+        for (int p = 0; p < frame.getPlayerCount(); p++) {
+            if (frame.isAlive(p)) {
+                drawSprite(buffer, PLAYER_1 + Math.min(p, 3), frame.getPlayerX(p), frame.getPlayerY(p));
+            }
+        }
+        return buffer;
+    }
+
+    private void drawSprite(FrameBuffer buffer, int sprite, int x, int y) {
+        int[] pixels = sprites[sprite];
+        if (pixels != null) {
+            buffer.blend(pixels, cellSize, x * cellSize, y * cellSize);
+        } else if (sprite == GROUND || sprite == WALL || sprite == BRICK) {
+            buffer.fill(x * cellSize, y * cellSize, cellSize, cellSize, FALLBACK_COLORS[sprite]);
+        } else {
+            // Objets : carré centré, comme les formes de secours de GameRenderer
+            int margin = cellSize / 8;
+            buffer.fill(x * cellSize + margin, y * cellSize + margin,
+                    cellSize - 2 * margin, cellSize - 2 * margin, FALLBACK_COLORS[sprite]);
+        }
+    }
+
+    public String getTheme() {
+        return theme;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,123 @@
+package fr.univ.bomberman.view;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.io.InputStream;
+
+/**
+ * ✅ NOUVEAU: Atlas de textures d'un thème.
+ *
+ * Les 9 images du thème sont décodées directement à la taille d'une case puis recopiées côte à côte
+ * dans une seule {@link WritableImage}. Le dessin d'un sprite est une copie de sous-rectangle
+ * repérée par un indice entier : plus de recherche par clé de texte ni de mise à l'échelle
+ * d'images de plusieurs centaines de pixels à chaque image.
+ *
+ * Le chargement n'utilise ni Canvas ni snapshot : il peut se faire hors du thread JavaFX.
+ */
+public final class SpriteAtlas {
+
+    public static final int PLAYER_1 = 0;
+    public static final int PLAYER_2 = 1;
+    public static final int PLAYER_3 = 2;
+    public static final int PLAYER_4 = 3;
+    public static final int BOMB = 4;
+    public static final int EXPLOSION = 5;
+    public static final int WALL = 6;
+    public static final int BRICK = 7;
+    public static final int GROUND = 8;
+    public static final int SPRITE_COUNT = 9;
+
+    private static final String[] FILE_NAMES = {
+            "player1", "player2", "player3", "player4",
+            "bomb", "explosion", "wall", "brick", "ground"
+    };
+    private static final String IMAGE_ROOT = "/fr/univ/bomberman/image/";
+
+    private final String theme;
+    private final int spriteSize;
+    private final WritableImage image;
+    private final boolean[] present;
+    private final int loadedCount;
+
+    private SpriteAtlas(String theme, int spriteSize, WritableImage image, boolean[] present, int loadedCount) {
+        this.theme = theme;
+        this.spriteSize = spriteSize;
+        this.image = image;
+        this.present = present;
+        this.loadedCount = loadedCount;
+    }
+
+    /**
+     * Décode les images d'un thème et les range dans un atlas.
+     * @param theme nom du dossier du thème
+     * @param spriteSize taille en pixels d'un sprite dans l'atlas
+     * @return l'atlas, éventuellement incomplet (voir {@link #getLoadedCount()})
+     */
+    public static SpriteAtlas load(String theme, int spriteSize) {
+        WritableImage atlas = new WritableImage(SPRITE_COUNT * spriteSize, spriteSize);
+        PixelWriter writer = atlas.getPixelWriter();
+        boolean[] present = new boolean[SPRITE_COUNT];
+        int loaded = 0;
+
+        for (int sprite = 0; sprite < SPRITE_COUNT; sprite++) {
+            String path = IMAGE_ROOT + theme + "/" + FILE_NAMES[sprite] + ".png";
+            Image decoded = decode(path, spriteSize);
+            if (decoded == null) {
+                continue;
+            }
+            int width = Math.min(spriteSize, (int) decoded.getWidth());
+            int height = Math.min(spriteSize, (int) decoded.getHeight());
+            writer.setPixels(sprite * spriteSize, 0, width, height, decoded.getPixelReader(), 0, 0);
+            present[sprite] = true;
+            loaded++;
+        }
+        return new SpriteAtlas(theme, spriteSize, atlas, present, loaded);
+    }
+
+    private static Image decode(String path, int size) {
+        try (InputStream in = SpriteAtlas.class.getResourceAsStream(path)) {
+            if (in == null) {
+                System.out.println("Ressource non trouvée: " + path);
+                return null;
+            }
+            Image image = new Image(in, size, size, false, true);
+            if (image.isError()) {
+                System.out.println("Erreur lors du chargement de l'image: " + path);
+                return null;
+            }
+            return image;
+        } catch (Exception e) {
+            System.out.println("Exception lors du chargement de " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean has(int sprite) {
+        return present[sprite];
+    }
+
+    /**
+     * Dessine un sprite à la taille d'une case.
+     */
+    public void draw(GraphicsContext gc, int sprite, double x, double y) {
+        gc.drawImage(image, sprite * spriteSize, 0, spriteSize, spriteSize, x, y, spriteSize, spriteSize);
+    }
+
+    /**
+     * Dessine un sprite à une taille donnée (animation de pulsation).
+     */
+    public void draw(GraphicsContext gc, int sprite, double x, double y, double size) {
+        gc.drawImage(image, sprite * spriteSize, 0, spriteSize, spriteSize, x, y, size, size);
+    }
+
+    public String getTheme() {
+        return theme;
+    }
+
+    public int getLoadedCount() {
+        return loadedCount;
+    }
+}
@@ -0,0 +1,92 @@
+package fr.univ.bomberman.view;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ✅ NOUVEAU: Bibliothèque des thèmes graphiques, décodés en arrière-plan.
+ *
+ * Les atlas ({@link SpriteAtlas}) sont préparés sur un thread dédié dès le démarrage ; le thread
+ * JavaFX ne fait plus que récupérer un atlas prêt, quel que soit le thème choisi (touche T ou profil).
+ * Le cache garde tous les thèmes de {@link #THEMES} (quelques atlas de 40 px) ; il reste borné :
+ * un nom de thème inconnu de cette liste évince le moins récemment utilisé, redécodé à la demande.
+ */
+public class ThemeLibrary {
+
+    /** Thèmes présents sous {@code /fr/univ/bomberman/image/} */
+    public static final String[] THEMES = {"default", "pokemon", "retro"};
+    public static final int MAX_CACHED_THEMES = THEMES.length;
+    public static final int SPRITE_SIZE = 40;
+
+    private static ThemeLibrary instance;
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "theme-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, CompletableFuture<SpriteAtlas>> cache =
+            new LinkedHashMap<String, CompletableFuture<SpriteAtlas>>(8, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<SpriteAtlas>> eldest) {
+                    return size() > MAX_CACHED_THEMES;
+                }
+            };
+
+    private ThemeLibrary() {
+    }
+
+    /**
+     * Obtient l'instance unique de la bibliothèque
+     */
+    public static synchronized ThemeLibrary getInstance() {
+        if (instance == null) {
+            instance = new ThemeLibrary();
+        }
+        return instance;
+    }
+
+    /**
+     * Lance le décodage de tous les thèmes en arrière-plan
+     */
+    public void preloadAll() {
+        for (String theme : THEMES) {
+            request(theme);
+        }
+    }
+
+    /**
+     * Demande un thème : renvoie le chargement en cours ou terminé, ou le lance.
+     */
+    public synchronized CompletableFuture<SpriteAtlas> request(String theme) {
+        CompletableFuture<SpriteAtlas> future = cache.get(theme);
+        if (future == null) {
+            future = CompletableFuture.supplyAsync(() -> {
+                SpriteAtlas atlas = SpriteAtlas.load(theme, SPRITE_SIZE);
+                System.out.println("🎨 Thème '" + theme + "' préchargé: " + atlas.getLoadedCount() + "/" + SpriteAtlas.SPRITE_COUNT);
+                return atlas;
+            }, loader);
+            cache.put(theme, future);
+        }
+        return future;
+    }
+
+    /**
+     * @return l'atlas du thème s'il est déjà décodé, sinon {@code null} (le décodage est alors lancé)
+     */
+    public SpriteAtlas getIfReady(String theme) {
+        CompletableFuture<SpriteAtlas> future = request(theme);
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Attend l'atlas d'un thème ; réservé à l'initialisation, quand rien n'est encore affiché.
+     */
+    public SpriteAtlas await(String theme) {
+        return request(theme).join();
+    }
+}
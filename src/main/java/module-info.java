@@ -6,6 +6,8 @@ module fr.univ.bomberman {
     requires java.desktop;
     requires org.json;
     requires java.logging;
+    requires java.management;
+    requires jdk.management;
 
     // Exporter les packages vers JavaFX pour permettre l'accès aux contrôleurs
     exports fr.univ.bomberman.controller to javafx.fxml;
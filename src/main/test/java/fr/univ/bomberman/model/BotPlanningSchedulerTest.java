@@ -0,0 +1,78 @@
+// FILE: src/test/java/fr/univ/bomberman/model/BotPlanningSchedulerTest.java
+package fr.univ.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotPlanningSchedulerTest {
+
+    private static final class RecordingPlanner implements AnytimePlanner {
+        final List<Long> slices = new ArrayList<>();
+        final List<Integer> order;
+        final int id;
+        boolean active = true;
+
+        RecordingPlanner(int id, List<Integer> order) {
+            this.id = id;
+            this.order = order;
+        }
+
+        @Override
+        public void think(Game game, long sliceNanos) {
+            slices.add(sliceNanos);
+            order.add(id);
+        }
+
+        @Override
+        public boolean wantsToThink() {
+            return active;
+        }
+    }
+
+    @Test
+    void runSlice_sharesBudgetAndRotatesFirstServed() {
+        long budget = 8_000_000L;
+        BotPlanningScheduler scheduler = new BotPlanningScheduler(budget);
+        List<Integer> order = new ArrayList<>();
+        RecordingPlanner[] planners = new RecordingPlanner[4];
+        for (int i = 0; i < planners.length; i++) {
+            planners[i] = new RecordingPlanner(i, order);
+        }
+        planners[2].active = false;
+
+        scheduler.runSlice(null, planners, planners.length);
+        scheduler.runSlice(null, planners, planners.length);
+
+        assertEquals(List.of(0, 1, 3, 1, 3, 0), order);
+        assertTrue(planners[2].slices.isEmpty(), "Un bot éliminé ne reçoit pas de temps");
+        for (RecordingPlanner planner : planners) {
+            for (long slice : planner.slices) {
+                assertTrue(slice <= budget);
+            }
+        }
+        // Le premier servi reçoit sa part, pas tout le budget
+        assertTrue(planners[0].slices.get(0) <= budget / 3);
+        assertEquals(6, scheduler.getSliceCount());
+    }
+
+    @Test
+    void expertBots_playFromTimeSlicedPlanning() throws Exception {
+        BotSettings[] settings = new BotSettings[8];
+        for (int i = 0; i < settings.length; i++) {
+            settings[i] = BotSettings.expert();
+        }
+        Game game = new Game(settings, "src/main/resources/fr/univ/bomberman/level/default/level.json");
+        game.setClock(new SimulatedClock());
+        game.getPlanningScheduler().setBudgetNanos(2_000_000L);
+
+        game.update();
+
+        assertTrue(game.getPlanningScheduler().getSliceCount() > 0);
+        MctsBotPlayer bot = (MctsBotPlayer) game.getBot(0);
+        assertTrue(bot.getLastIterations() > 0, "La décision s'appuie sur les itérations des tranches");
+    }
+}
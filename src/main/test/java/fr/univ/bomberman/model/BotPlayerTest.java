@@ -27,4 +27,59 @@ class BotPlayerTest {
         // on peut passer null car isEliminated est vérifié en premier
         assertEquals(BotAction.NONE, bot.decideAction(null));
     }
+
+    @Test
+    void botMetrics_recordEveryDecisionWhenEnabled() throws Exception {
+        Game game = new Game(new BotSettings[]{BotSettings.forDifficulty(1), BotSettings.forDifficulty(3)},
+                "src/main/resources/fr/univ/bomberman/level/default/level.json");
+        SimulatedClock clock = new SimulatedClock();
+        game.setClock(clock);
+        assertNull(game.getBotMetrics(), "Les mesures sont désactivées par défaut");
+
+        BotMetrics metrics = game.enableBotMetrics();
+        for (int tick = 0; tick < 5 && !game.isGameOver(); tick++) {
+            clock.advanceMillis(1000);
+            game.update();
+        }
+
+        long decisions = metrics.getLatency(1).getTotalCount();
+        assertTrue(decisions > 0);
+        long actions = 0;
+        for (BotAction action : BotAction.values()) {
+            actions += metrics.getActionCount(1, action);
+        }
+        assertEquals(decisions, actions);
+        assertTrue(metrics.getLatency(3).getTotalCount() > 0);
+    }
+
+    @Test
+    void manyBots_getDistinctStartsAndTeamsDecideTheEnd() throws Exception {
+        String level = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+        BotSettings[] settings = new BotSettings[Game.MAX_BOTS];
+        for (int i = 0; i < settings.length; i++) {
+            settings[i] = BotSettings.forDifficulty(i % 3 + 1);
+        }
+        Game crowded = new Game(settings, level);
+        assertEquals(Game.MAX_BOTS, crowded.getBotCount());
+        java.util.Set<Position> starts = new java.util.HashSet<>();
+        for (int i = 0; i < crowded.getBotCount(); i++) {
+            assertTrue(starts.add(crowded.getBot(i).getPosition()), "Deux bots sur la même case");
+        }
+        assertEquals(Game.MAX_BOTS, crowded.getAliveTeamCount());
+
+        // Deux équipes de deux : la partie continue tant que les deux équipes ont un survivant
+        Game teams = new Game(new BotSettings[]{settings[0], settings[1], settings[2], settings[0]},
+                new int[]{0, 1, 0, 1}, level);
+        assertEquals(2, teams.getAliveTeamCount());
+        teams.getBot(1).setEliminated(true);
+        assertEquals(2, teams.getAliveTeamCount());
+        teams.getBot(3).setEliminated(true);
+        assertEquals(1, teams.getAliveTeamCount());
+
+        // Une seule équipe en jeu : fin de partie dès le premier tour
+        Game allies = new Game(new BotSettings[]{settings[0], settings[1]}, new int[]{7, 7}, level);
+        allies.setClock(new SimulatedClock());
+        allies.update();
+        assertTrue(allies.isGameOver());
+    }
 }
@@ -0,0 +1,91 @@
+// FILE: src/test/java/fr/univ/bomberman/model/BrickIndexTest.java
+package fr.univ.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrickIndexTest {
+
+    private static int bruteForceNearest(boolean[][] bricks, int x, int y) {
+        int best = -1;
+        for (int by = 0; by < bricks.length; by++) {
+            for (int bx = 0; bx < bricks[by].length; bx++) {
+                if (bricks[by][bx]) {
+                    int d = Math.abs(bx - x) + Math.abs(by - y);
+                    if (best < 0 || d < best) {
+                        best = d;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void findNearest_matchesBruteForceOnLargeRandomBoard() {
+        int cols = 200;
+        int rows = 150;
+        Random random = new Random(42);
+        boolean[][] bricks = new boolean[rows][cols];
+        BrickIndex index = new BrickIndex(cols, rows);
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                if (random.nextInt(100) < 2) {
+                    bricks[y][x] = true;
+                    index.set(x, y, true);
+                }
+            }
+        }
+
+        int[] outX = new int[5];
+        int[] outY = new int[5];
+        for (int i = 0; i < 200; i++) {
+            int x = random.nextInt(cols);
+            int y = random.nextInt(rows);
+            int expected = bruteForceNearest(bricks, x, y);
+
+            Position nearest = index.findNearest(x, y);
+            assertEquals(expected, Math.abs(nearest.getX() - x) + Math.abs(nearest.getY() - y));
+
+            int found = index.findNearest(x, y, 5, outX, outY);
+            assertEquals(5, found);
+            assertEquals(expected, Math.abs(outX[0] - x) + Math.abs(outY[0] - y));
+            for (int k = 1; k < found; k++) {
+                assertTrue(Math.abs(outX[k - 1] - x) + Math.abs(outY[k - 1] - y)
+                        <= Math.abs(outX[k] - x) + Math.abs(outY[k] - y));
+                assertTrue(bricks[outY[k]][outX[k]]);
+            }
+
+            // On retire la plus proche : l'index doit suivre
+            bricks[nearest.getY()][nearest.getX()] = false;
+            index.set(nearest.getX(), nearest.getY(), false);
+        }
+    }
+
+    @Test
+    void boardKeepsIndexInSyncWhenBricksAreDestroyed() throws Exception {
+        Board board = new Board(15, 13);
+        BrickIndex index = board.getBrickIndex();
+        int bricks = 0;
+        for (int y = 0; y < board.getRows(); y++) {
+            for (int x = 0; x < board.getCols(); x++) {
+                if (board.getCellTypeAt(x, y) == CellType.DESTRUCTIBLE_BRICK) {
+                    bricks++;
+                    assertTrue(index.contains(x, y));
+                }
+            }
+        }
+        assertEquals(bricks, index.size());
+
+        Position target = index.findNearest(1, 1);
+        if (target != null) {
+            board.setCellType(target, CellType.EMPTY);
+            assertFalse(index.contains(target.getX(), target.getY()));
+            assertEquals(bricks - 1, index.size());
+        }
+        assertNull(new BrickIndex(3, 3).findNearest(1, 1));
+    }
+}
@@ -0,0 +1,85 @@
+// FILE: src/test/java/fr/univ/bomberman/model/FlowFieldTest.java
+package fr.univ.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowFieldTest {
+
+    @Test
+    void incrementalUpdates_matchFullRecompute() {
+        int cols = 40;
+        int rows = 30;
+        Random random = new Random(7);
+        boolean[] blocked = new boolean[cols * rows];
+        for (int i = 0; i < blocked.length; i++) {
+            blocked[i] = random.nextInt(100) < 25;
+        }
+        int target = 15 * cols + 20;
+        blocked[target] = false;
+
+        FlowField incremental = new FlowField(cols, rows, blocked);
+        incremental.retarget(target);
+        FlowField reference = new FlowField(cols, rows, blocked);
+
+        for (int change = 0; change < 500; change++) {
+            int cell = random.nextInt(blocked.length);
+            blocked[cell] = !blocked[cell];
+            if (blocked[cell]) {
+                incremental.cellBlocked(cell);
+            } else {
+                incremental.cellOpened(cell);
+            }
+
+            reference.retarget(target);
+            for (int y = 0; y < rows; y++) {
+                for (int x = 0; x < cols; x++) {
+                    assertEquals(reference.getDistance(x, y), incremental.getDistance(x, y),
+                            "Distance erronée en " + x + "," + y + " après " + (change + 1) + " modifications");
+                }
+            }
+        }
+
+        // La direction mène toujours à une case plus proche d'un pas
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                int d = incremental.getDistance(x, y);
+                if (d == FlowField.UNREACHABLE || d == 0 || blocked[y * cols + x]) {
+                    continue;
+                }
+                BotAction action = incremental.getAction(x, y);
+                int nx = x + (action == BotAction.MOVE_LEFT ? -1 : action == BotAction.MOVE_RIGHT ? 1 : 0);
+                int ny = y + (action == BotAction.MOVE_UP ? -1 : action == BotAction.MOVE_DOWN ? 1 : 0);
+                assertEquals(d - 1, incremental.getDistance(nx, ny));
+            }
+        }
+    }
+
+    @Test
+    void gameFields_followBombsAndBrickDestruction() throws Exception {
+        Game game = new Game(new BotSettings[]{BotSettings.forDifficulty(1), BotSettings.forDifficulty(1)},
+                "src/main/resources/fr/univ/bomberman/level/default/level.json");
+        FlowFieldCache cache = game.getFlowFields();
+        Position target = game.getPlayers().get(1).getPosition();
+        FlowField field = cache.forPlayer(1);
+        assertEquals(0, field.getDistance(target.getX(), target.getY()));
+
+        // Une brique posée sur un chemin puis retirée : le champ suit sans être recalculé entièrement
+        Board board = game.getBoard();
+        Position next = new Position(target.getX() - 1, target.getY());
+        if (board.getCellTypeAt(next.getX(), next.getY()) == CellType.EMPTY) {
+            board.setCellType(next, CellType.DESTRUCTIBLE_BRICK);
+            assertEquals(FlowField.UNREACHABLE, cache.forPlayer(1).getDistance(next.getX(), next.getY()));
+            board.setCellType(next, CellType.EMPTY);
+            assertEquals(1, cache.forPlayer(1).getDistance(next.getX(), next.getY()));
+        }
+
+        // Le joueur 0 pose une bombe sous ses pieds : sa case devient infranchissable pour les autres
+        Position bombCell = game.getPlayers().get(0).getPosition();
+        game.placeBombForPlayer(0);
+        assertEquals(FlowField.UNREACHABLE, cache.forPlayer(1).getDistance(bombCell.getX(), bombCell.getY()));
+    }
+}
@@ -0,0 +1,160 @@
+// FILE: src/test/java/fr/univ/bomberman/model/FrameStateTest.java
+package fr.univ.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameStateTest {
+
+    private static final String LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+
+    @Test
+    void heldFrameIsNeverOverwrittenAndLatestWins() throws Exception {
+        Game game = new Game(LEVEL);
+        SimulatedClock clock = new SimulatedClock();
+        game.setClock(clock);
+        clock.advanceMillis(5000);
+        game.resetAllCooldowns();
+
+        FrameState held = game.getFrames().acquire();
+        assertNotNull(held);
+        int startX = held.getPlayerX(0);
+        long heldSequence = held.getSequence();
+
+        // Trois publications pendant que l'affichage tient son image
+        game.placeBombForPlayer(0);
+        game.movePlayer(0, 1, 0);
+        game.resetAllCooldowns();
+        assertEquals(heldSequence, held.getSequence());
+        assertEquals(0, held.getBombCount());
+        assertEquals(startX, held.getPlayerX(0));
+
+        FrameState latest = game.getFrames().acquire();
+        assertTrue(latest.getSequence() > heldSequence);
+        assertEquals(1, latest.getBombCount());
+        assertEquals(startX + 1, latest.getPlayerX(0));
+        assertSame(latest, game.getFrames().acquire(), "rien de neuf : même image");
+
+        // Le cooldown est une échéance, recalculée pour l'instant affiché
+        game.placeBombForPlayer(0);
+        FrameState frame = game.getFrames().acquire();
+        assertEquals(2000, frame.getRemainingCooldown(0, clock.nanoTime()));
+        clock.advanceMillis(500);
+        assertEquals(1500, frame.getRemainingCooldown(0, clock.nanoTime()));
+        assertEquals(75, frame.getCooldownPercentage(0, clock.nanoTime()));
+    }
+
+    @Test
+    void cellsFollowTheBoardThroughTheJournalAndAfterOverflow() throws Exception {
+        Game game = new Game(LEVEL);
+        Board board = game.getBoard();
+
+        // Quelques modifications, puis plus que n'en garde le journal
+        int[] batches = {1, 1, 3, 1, 300, 1};
+        int flip = 0;
+        for (int batch : batches) {
+            for (int n = 0; n < batch; n++, flip++) {
+                int x = 1 + flip % (board.getCols() - 2);
+                int y = 1 + (flip / (board.getCols() - 2)) % (board.getRows() - 2);
+                Position pos = new Position(x, y);
+                CellType type = board.getCell(pos).getType() == CellType.EMPTY ? CellType.DESTRUCTIBLE_BRICK : CellType.EMPTY;
+                board.setCellType(pos, type);
+            }
+            game.resetAllCooldowns();
+            FrameState frame = game.getFrames().acquire();
+            assertEquals(board.getRevision(), frame.getBoardRevision());
+            for (int y = 0; y < board.getRows(); y++) {
+                for (int x = 0; x < board.getCols(); x++) {
+                    assertEquals(board.getCellTypeAt(x, y).ordinal(), frame.getCell(y * board.getCols() + x),
+                            "case " + x + "," + y + " après " + flip + " modifications");
+                }
+            }
+        }
+    }
+
+    @Test
+    void changedCellsLetTheDisplayRedrawOnlyWhatChanged() throws Exception {
+        Game game = new Game(LEVEL);
+        Board board = game.getBoard();
+        FrameState first = game.getFrames().acquire();
+        byte[] shown = new byte[board.getCols() * board.getRows()];
+        for (int index = 0; index < shown.length; index++) {
+            shown[index] = (byte) first.getCell(index);
+        }
+        long shownSequence = first.getChangeSequence();
+
+        // Des lots qui tiennent dans le journal, puis un qui le déborde
+        int[] batches = {1, 3, 2, 300, 1};
+        int flip = 0;
+        for (int batch : batches) {
+            for (int n = 0; n < batch; n++, flip++) {
+                int x = 1 + flip % (board.getCols() - 2);
+                int y = 1 + (flip / (board.getCols() - 2)) % (board.getRows() - 2);
+                Position pos = new Position(x, y);
+                board.setCellType(pos, board.getCell(pos).getType() == CellType.EMPTY ? CellType.DESTRUCTIBLE_BRICK : CellType.EMPTY);
+            }
+            game.resetAllCooldowns();
+            FrameState frame = game.getFrames().acquire();
+            int[] visited = {0};
+            boolean inLog = frame.forEachCellChangedSince(shownSequence, index -> {
+                shown[index] = (byte) frame.getCell(index);
+                visited[0]++;
+            });
+            assertEquals(batch <= 256, inLog, "lot de " + batch);
+            if (inLog) {
+                assertEquals(batch, visited[0]);
+            } else {
+                for (int index = 0; index < shown.length; index++) {
+                    shown[index] = (byte) frame.getCell(index);
+                }
+            }
+            shownSequence = frame.getChangeSequence();
+            for (int y = 0; y < board.getRows(); y++) {
+                for (int x = 0; x < board.getCols(); x++) {
+                    assertEquals(board.getCellTypeAt(x, y).ordinal(), shown[y * board.getCols() + x],
+                            "case " + x + "," + y + " après " + flip + " modifications");
+                }
+            }
+        }
+    }
+
+    @Test
+    void displayThreadSeesConsistentFramesWhileSimulationPublishes() throws Exception {
+        Game game = new Game(LEVEL);
+        int startX = game.getFrames().acquire().getPlayerX(0);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread simulation = new Thread(() -> {
+            try {
+                for (int i = 0; i < 5000; i++) {
+                    game.movePlayer(0, 1, 0);
+                    game.movePlayer(0, -1, 0);
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        simulation.start();
+
+        long lastSequence = 0;
+        int frames = 0;
+        while (simulation.isAlive() || frames == 0) {
+            FrameState frame = game.getFrames().acquire();
+            long sequence = frame.getSequence();
+            int x = frame.getPlayerX(0);
+            assertTrue(sequence >= lastSequence);
+            assertTrue(x == startX || x == startX + 1, "x = " + x);
+            Thread.yield();
+            assertEquals(sequence, frame.getSequence(), "image modifiée pendant sa lecture");
+            assertEquals(x, frame.getPlayerX(0));
+            lastSequence = sequence;
+            frames++;
+        }
+        simulation.join();
+        assertNull(failure.get());
+        assertEquals(startX, game.getFrames().acquire().getPlayerX(0));
+    }
+}
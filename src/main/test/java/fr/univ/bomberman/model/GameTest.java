@@ -0,0 +1,107 @@
+// FILE: src/test/java/fr/univ/bomberman/model/GameTest.java
+package fr.univ.bomberman.model;
+
+import fr.univ.bomberman.exceptions.BombermanException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTest {
+
+    private static final String LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+    private static final int BOTS = 6; // Au-dessus du seuil de décision parallèle
+    private static final int TICKS = 40;
+
+    private static BotSettings[] mixedBots() {
+        BotSettings[] settings = new BotSettings[BOTS];
+        for (int i = 0; i < BOTS; i++) {
+            settings[i] = BotSettings.forDifficulty(i % 3 + 1);
+        }
+        return settings;
+    }
+
+    @Test
+    void parallelDecisionPhase_everyBotActs() throws Exception {
+        Game game = new Game(mixedBots(), null, new Board(LEVEL), true);
+        SimulatedClock clock = new SimulatedClock();
+        game.setClock(clock);
+
+        Position[] starts = new Position[BOTS];
+        for (int i = 0; i < BOTS; i++) {
+            starts[i] = game.getPlayer(i).getPosition();
+        }
+        boolean[] moved = new boolean[BOTS];
+        for (int tick = 0; tick < TICKS && !game.isGameOver(); tick++) {
+            clock.advanceMillis(1000);
+            game.update();
+            assertFalse(game.isInBotDecisionPhase());
+            for (int i = 0; i < BOTS; i++) {
+                moved[i] |= !game.getPlayer(i).getPosition().equals(starts[i]);
+            }
+        }
+        for (int i = 0; i < BOTS; i++) {
+            assertTrue(moved[i], game.getPlayer(i).getName() + " n'a jamais bougé");
+        }
+    }
+
+    @Test
+    void sameSeed_replaysTheSameGameDespiteParallelDecisions() throws Exception {
+        Board level = new Board(LEVEL); // Briques aléatoires tirées une seule fois pour les deux parties
+        Game first = new Game(mixedBots(), null, level, true);
+        Game second = new Game(mixedBots(), null, level, true);
+        SimulatedClock firstClock = new SimulatedClock();
+        SimulatedClock secondClock = new SimulatedClock();
+        first.setClock(firstClock);
+        second.setClock(secondClock);
+        first.setRandomSeed(42);
+        second.setRandomSeed(42);
+
+        assertEquals(first.getStateHash(), second.getStateHash());
+        for (int tick = 0; tick < TICKS && !first.isGameOver(); tick++) {
+            firstClock.advanceMillis(1000);
+            secondClock.advanceMillis(1000);
+            first.update();
+            second.update();
+            assertEquals(first.getStateHash(), second.getStateHash(), "tour " + tick);
+        }
+    }
+
+    @Test
+    void decisionPhase_rejectsMovesAndBombs() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Game[] holder = new Game[1];
+        // Les bots lisent l'horloge pendant qu'ils décident : on en profite pour tenter de modifier la partie
+        SimulatedClock clock = new SimulatedClock() {
+            @Override
+            public long currentTimeMillis() {
+                Game game = holder[0];
+                if (game != null && game.isInBotDecisionPhase()) {
+                    attempts.incrementAndGet();
+                    try {
+                        game.movePlayer(0, 1, 0);
+                    } catch (BombermanException e) {
+                        rejected.incrementAndGet();
+                    }
+                    try {
+                        game.placeBombForPlayer(0);
+                    } catch (BombermanException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return super.currentTimeMillis();
+            }
+        };
+        Game game = new Game(mixedBots(), null, new Board(LEVEL), true);
+        game.setClock(clock);
+        holder[0] = game;
+
+        clock.advanceMillis(1000);
+        game.update();
+
+        assertTrue(attempts.get() >= BOTS);
+        assertEquals(2 * attempts.get(), rejected.get(), "aucune modification acceptée pendant la décision");
+    }
+}
@@ -0,0 +1,95 @@
+// FILE: src/test/java/fr/univ/bomberman/model/MatchRecordingTest.java
+package fr.univ.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchRecordingTest {
+
+    private static final String LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+
+    @Test
+    void replayFollowsTheRecordedBotMatchTickByTick() throws Exception {
+        Game game = new Game(new BotSettings[]{BotSettings.forDifficulty(3), BotSettings.forDifficulty(2)}, LEVEL);
+        SimulatedClock clock = new SimulatedClock();
+        game.setClock(clock);
+        MatchRecording recording = game.startRecording();
+
+        List<SimulationState> live = new ArrayList<>();
+        SimulationState state = new SimulationState();
+        state.copyFrom(game);
+        live.add(state);
+        for (int tick = 0; tick < 60 && !game.isGameOver(); tick++) {
+            clock.advanceMillis(1000);
+            game.update();
+            state = new SimulationState();
+            state.copyFrom(game);
+            live.add(state);
+        }
+
+        List<SimulationState> replayed = recording.replay();
+        assertEquals(live.size(), replayed.size());
+        assertTrue(recording.getActionCount() > 0);
+        for (int tick = 0; tick < live.size(); tick++) {
+            SimulationState expected = live.get(tick);
+            SimulationState actual = replayed.get(tick);
+            for (int p = 0; p < expected.getPlayerCount(); p++) {
+                assertEquals(expected.getPlayerX(p), actual.getPlayerX(p), "tour " + tick);
+                assertEquals(expected.getPlayerY(p), actual.getPlayerY(p), "tour " + tick);
+                assertEquals(expected.isAlive(p), actual.isAlive(p), "tour " + tick);
+            }
+            assertEquals(expected.getBombCount(), actual.getBombCount(), "tour " + tick);
+            for (int y = 0; y < expected.getRows(); y++) {
+                for (int x = 0; x < expected.getCols(); x++) {
+                    assertEquals(expected.isBrick(x, y), actual.isBrick(x, y), "tour " + tick);
+                }
+            }
+        }
+    }
+
+    @Test
+    void savedRecordingReplaysIdentically() throws Exception {
+        Game game = new Game(LEVEL);
+        MatchRecording recording = game.startRecording();
+        game.placeBombForPlayer(0);
+        game.movePlayer(0, 1, 0);
+        game.update();
+        game.movePlayer(1, -1, 0);
+        game.update();
+        game.update();
+
+        Path file = Files.createTempFile("match", ".json");
+        try {
+            recording.save(file);
+            MatchRecording loaded = MatchRecording.load(file);
+            assertEquals(3, loaded.getTickCount());
+            assertEquals(recording.getActionCount(), loaded.getActionCount());
+            assertEquals(recording.getPlayerName(1), loaded.getPlayerName(1));
+
+            List<SimulationState> expected = recording.replay();
+            List<SimulationState> actual = loaded.replay();
+            for (int tick = 0; tick < expected.size(); tick++) {
+                assertEquals(expected.get(tick).getHash(), actual.get(tick).getHash(), "tour " + tick);
+            }
+            assertEquals(1, actual.get(1).getBombCount());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void replayFailsLoudlyOnARefusedAction() {
+        Game game = new Game(LEVEL);
+        MatchRecording recording = game.startRecording();
+        recording.record(0, BotAction.MOVE_LEFT); // (1, 1) -> (0, 1) : mur de bordure
+        recording.endTick();
+
+        assertThrows(IllegalStateException.class, recording::replay);
+    }
+}
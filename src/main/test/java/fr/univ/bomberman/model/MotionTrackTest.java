@@ -0,0 +1,69 @@
+// FILE: src/test/java/fr/univ/bomberman/model/MotionTrackTest.java
+package fr.univ.bomberman.model;
+
+import fr.univ.bomberman.exceptions.BombermanException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MotionTrackTest {
+
+    private static final String LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+
+    @Test
+    void humanStepGlidesBetweenCellsAndChainsWithoutJump() throws Exception {
+        Game game = new Game(LEVEL);
+        SimulatedClock clock = new SimulatedClock();
+        game.setClock(clock);
+        MotionTrack motion = game.getMotionTrack();
+        Player player = game.getPlayers().get(0);
+        Position start = player.getPosition();
+        assertFalse(motion.isMoving(0, clock.nanoTime()));
+
+        int[][] directions = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+        int[] step = null;
+        for (int[] direction : directions) {
+            try {
+                game.movePlayer(0, direction[0], direction[1]);
+                step = direction;
+                break;
+            } catch (BombermanException e) {
+                // Case bloquée, essayer une autre direction
+            }
+        }
+        assertNotNull(step, "Le joueur doit pouvoir quitter sa case de départ");
+
+        long now = clock.nanoTime();
+        assertEquals(start.getX(), motion.getX(0, now), 1e-9);
+        clock.advanceMillis(MotionTrack.STEP_NANOS / 2_000_000L);
+        now = clock.nanoTime();
+        assertTrue(motion.isMoving(0, now));
+        assertEquals(start.getX() + step[0] * 0.5, motion.getX(0, now), 1e-9);
+        assertEquals(start.getY() + step[1] * 0.5, motion.getY(0, now), 1e-9);
+
+        // Demi-tour en plein glissement : on repart de la position affichée
+        game.movePlayer(0, -step[0], -step[1]);
+        assertEquals(start.getX() + step[0] * 0.5, motion.getX(0, clock.nanoTime()), 1e-9);
+        clock.advanceMillis(MotionTrack.STEP_NANOS / 1_000_000L);
+        assertFalse(motion.isMoving(0, clock.nanoTime()));
+        assertEquals(start.getX(), motion.getX(0, clock.nanoTime()), 1e-9);
+    }
+
+    @Test
+    void tickAlphaFollowsMeasuredInterval() throws Exception {
+        Game game = new Game(LEVEL);
+        SimulatedClock clock = new SimulatedClock();
+        game.setClock(clock);
+        assertEquals(Game.DEFAULT_TICK_NANOS, game.getTickIntervalNanos());
+
+        game.update();
+        clock.advanceMillis(500);
+        game.update();
+        assertEquals(500_000_000L, game.getTickIntervalNanos());
+
+        clock.advanceMillis(125);
+        assertEquals(0.25, game.getTickAlpha(clock.nanoTime()), 1e-9);
+        clock.advanceMillis(1000);
+        assertEquals(1.0, game.getTickAlpha(clock.nanoTime()), 1e-9);
+    }
+}
@@ -0,0 +1,63 @@
+// FILE: src/test/java/fr/univ/bomberman/model/MovementHistoryTest.java
+package fr.univ.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MovementHistoryTest {
+
+    @Test
+    void ringBufferKeepsLatestTicksAndMarkovPredictsHabit() {
+        MovementHistory history = new MovementHistory();
+        Player runner = new Player("Runner", new Position(1, 1));
+        Player idle = new Player("Idle", new Position(5, 5));
+        List<Player> players = List.of(runner, idle);
+
+        // Aller-retour régulier : droite, droite, gauche, gauche...
+        int x = 1;
+        for (int tick = 0; tick < 40; tick++) {
+            history.recordTick(players);
+            x += (tick / 2) % 2 == 0 ? 1 : -1;
+            runner.setPosition(new Position(x, 1));
+        }
+
+        assertEquals(MovementHistory.CAPACITY, history.size(0));
+        assertEquals(x - ((39 / 2) % 2 == 0 ? 1 : -1), history.getX(0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.getX(0, MovementHistory.CAPACITY));
+
+        // Après une action, le joueur la répète ou fait demi-tour avec la même fréquence ;
+        // l'immobile est prédit immobile avec certitude
+        assertEquals(BotAction.NONE, history.predictNextAction(1));
+        assertEquals(1.0, history.getConfidence(1), 1e-9);
+        assertEquals(new Position(5, 5), history.predictPosition(1, 3, new Board(15, 13)));
+
+        history.bombPlaced(1);
+        history.recordTick(players);
+        assertEquals(BotAction.PLACE_BOMB, history.getAction(1, 0));
+        assertNull(new MovementHistory().predictPosition(0, 1, new Board(15, 13)));
+    }
+
+    @Test
+    void predictPosition_followsLearnedDirectionAndStopsAtWalls() throws Exception {
+        MovementHistory history = new MovementHistory();
+        Player walker = new Player("Walker", new Position(1, 1));
+        List<Player> players = List.of(walker);
+        for (int y = 1; y <= 8; y++) {
+            walker.setPosition(new Position(1, y));
+            history.recordTick(players);
+        }
+        assertEquals(BotAction.MOVE_DOWN, history.predictNextAction(0));
+
+        // Colonne dégagée : le résultat ne dépend plus des briques tirées au hasard
+        Board board = new Board(15, 13);
+        for (int y = 1; y < board.getRows() - 1; y++) {
+            board.setCellType(new Position(1, y), CellType.EMPTY);
+        }
+        Position predicted = history.predictPosition(0, 10, board);
+        assertEquals(new Position(1, board.getRows() - 2), predicted,
+                "La prédiction avance vers le bas sans traverser le mur du bord");
+    }
+}
@@ -0,0 +1,124 @@
+// FILE: src/test/java/fr/univ/bomberman/model/PathFinderTest.java
+package fr.univ.bomberman.model;
+
+import fr.univ.bomberman.exceptions.BombermanException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathFinderTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Crée un plateau à partir de lignes de texte :
+     * '#' = mur, 'B' = brique, '.' = vide
+     */
+    private Board boardOf(String... lines) throws IOException, BombermanException {
+        StringBuilder grid = new StringBuilder("[");
+        for (int y = 0; y < lines.length; y++) {
+            if (y > 0) grid.append(',');
+            grid.append('[');
+            for (int x = 0; x < lines[y].length(); x++) {
+                if (x > 0) grid.append(',');
+                char c = lines[y].charAt(x);
+                grid.append(c == '#' ? 1 : c == 'B' ? 2 : 0);
+            }
+            grid.append(']');
+        }
+        grid.append(']');
+        String json = "{ \"width\":" + lines[0].length() + ", \"height\":" + lines.length
+                + ", \"autoFill\":false, \"grid\":" + grid + " }";
+        Path file = tempDir.resolve("level.json");
+        Files.write(file, json.getBytes());
+        return new Board(file.toString());
+    }
+
+    @Test
+    void search_goesAroundWallInsteadOfGettingStuck() throws Exception {
+        Board board = boardOf(
+                "#######",
+                "#..#..#",
+                "#..#..#",
+                "#.....#",
+                "#######");
+        PathFinder finder = new PathFinder();
+
+        assertTrue(finder.search(board, new Position(1, 1), new Position(5, 1)));
+        // Le mur central oblige à descendre jusqu'à la ligne 3
+        assertEquals(8, finder.getPathLength());
+        assertEquals(new Position(5, 1), finder.getPath().get(7));
+        assertFalse(finder.getPath().contains(new Position(3, 1)));
+    }
+
+    @Test
+    void search_prefersDetourOverCheapBrickOnlyWhenShorter() throws Exception {
+        Board board = boardOf(
+                "#####",
+                "#.B.#",
+                "#...#",
+                "#####");
+        PathFinder finder = new PathFinder();
+
+        assertTrue(finder.search(board, new Position(1, 1), new Position(3, 1)));
+        // Détour de 4 pas moins cher que traverser la brique (1 + BRICK_COST)
+        assertEquals(4, finder.getPathLength());
+        assertEquals(4 * PathFinder.EMPTY_COST, finder.getPathCost());
+    }
+
+    @Test
+    void search_goesThroughBrickWhenNoOtherWay() throws Exception {
+        Board board = boardOf(
+                "#####",
+                "#.B.#",
+                "#####");
+        PathFinder finder = new PathFinder();
+
+        assertTrue(finder.search(board, new Position(1, 1), new Position(3, 1)));
+        assertTrue(finder.isFirstStepBrick());
+        assertEquals(PathFinder.BRICK_COST + PathFinder.EMPTY_COST, finder.getPathCost());
+    }
+
+    @Test
+    void search_returnsFalseWhenGoalIsWalledOff() throws Exception {
+        Board board = boardOf(
+                "#####",
+                "#.#.#",
+                "#####");
+        PathFinder finder = new PathFinder();
+
+        assertFalse(finder.search(board, new Position(1, 1), new Position(3, 1)));
+        assertEquals(BotAction.NONE, finder.getFirstStep());
+    }
+
+    @Test
+    void cachedPath_isReusedWhenBotAdvancesAndRecomputedWhenBoardChanges() throws Exception {
+        Board board = boardOf(
+                "#######",
+                "#.....#",
+                "#.###.#",
+                "#.....#",
+                "#######");
+        PathFinder finder = new PathFinder();
+
+        assertTrue(finder.search(board, new Position(1, 1), new Position(5, 1)));
+        List<Position> path = finder.getPath();
+        assertEquals(4, path.size());
+
+        // Le bot avance d'une case : le chemin en cache est simplement décalé
+        assertTrue(finder.search(board, path.get(0), new Position(5, 1)));
+        assertEquals(3, finder.getPathLength());
+
+        // Le chemin est coupé : la révision du plateau change et il faut recalculer
+        board.setCellType(new Position(3, 1), CellType.INDESTRUCTIBLE_WALL);
+        assertTrue(finder.search(board, path.get(0), new Position(5, 1)));
+        assertFalse(finder.getPath().contains(new Position(3, 1)));
+    }
+}
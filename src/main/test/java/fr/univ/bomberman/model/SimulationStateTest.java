@@ -0,0 +1,123 @@
+// FILE: src/test/java/fr/univ/bomberman/model/SimulationStateTest.java
+package fr.univ.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationStateTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Écrit un niveau à partir de lignes de texte :
+     * '#' = mur, 'B' = brique, '.' = vide
+     */
+    private String levelOf(String... lines) throws IOException {
+        StringBuilder grid = new StringBuilder("[");
+        for (int y = 0; y < lines.length; y++) {
+            if (y > 0) grid.append(',');
+            grid.append('[');
+            for (int x = 0; x < lines[y].length(); x++) {
+                if (x > 0) grid.append(',');
+                char c = lines[y].charAt(x);
+                grid.append(c == '#' ? 1 : c == 'B' ? 2 : 0);
+            }
+            grid.append(']');
+        }
+        grid.append(']');
+        String json = "{ \"width\":" + lines[0].length() + ", \"height\":" + lines.length
+                + ", \"autoFill\":false, \"grid\":" + grid + " }";
+        Path file = tempDir.resolve("level.json");
+        Files.write(file, json.getBytes());
+        return file.toString();
+    }
+
+    @Test
+    void copyFrom_capturesBoardPlayersAndBombs() throws Exception {
+        // Joueur 1 en (1,1), joueur 2 en (cols-2, rows-2) = (5,3)
+        Game game = new Game(levelOf(
+                "#######",
+                "#..B..#",
+                "#.#.#.#",
+                "#.....#",
+                "#######"));
+        game.placeBombForPlayer(0);
+
+        SimulationState state = new SimulationState();
+        state.copyFrom(game);
+
+        assertEquals(7, state.getCols());
+        assertTrue(state.isBrick(3, 1));
+        assertTrue(state.isWall(2, 2));
+        assertEquals(2, state.getPlayerCount());
+        assertEquals(5, state.getPlayerX(1));
+        assertEquals(1, state.getBombCount());
+        assertFalse(state.isLegal(0, BotAction.PLACE_BOMB));
+
+        SimulationState copy = new SimulationState();
+        copy.copyFrom(state);
+        copy.apply(1, BotAction.MOVE_LEFT);
+        assertEquals(4, copy.getPlayerX(1));
+        assertEquals(5, state.getPlayerX(1), "La copie ne doit pas partager ses tableaux");
+    }
+
+    @Test
+    void step_explodesAfterFuseDestroysBrickAndKillsPlayerInRange() throws Exception {
+        Game game = new Game(levelOf(
+                "#######",
+                "#..B..#",
+                "#.#.#.#",
+                "#.....#",
+                "#######"));
+        SimulationState state = new SimulationState();
+        state.copyFrom(game);
+
+        assertTrue(state.apply(0, BotAction.MOVE_RIGHT));
+        assertTrue(state.apply(0, BotAction.PLACE_BOMB));
+        assertFalse(state.apply(0, BotAction.MOVE_RIGHT), "La brique bloque le passage");
+
+        for (int i = 1; i < SimulationState.BOMB_FUSE; i++) {
+            state.step();
+            assertTrue(state.isBrick(3, 1));
+        }
+        state.step();
+
+        assertFalse(state.isBrick(3, 1));
+        assertFalse(state.isAlive(0));
+        assertTrue(state.isAlive(1));
+        assertFalse(state.isOnFire(2, 2), "Le souffle ne traverse pas les murs");
+        assertEquals(0, state.getBombCount());
+    }
+
+    @Test
+    void mctsBot_decidesWithinItsTimeBudget() throws Exception {
+        Game game = new Game("Humain", BotPlayer.DIFFICULTY_EXPERT, levelOf(
+                "#########",
+                "#.......#",
+                "#.#B#.#.#",
+                "#...B...#",
+                "#.#.#.#.#",
+                "#.......#",
+                "#########"));
+        BotPlayer bot = game.getBot();
+        assertTrue(bot instanceof MctsBotPlayer);
+        assertEquals(BotPlayer.DIFFICULTY_EXPERT, bot.getDifficulty());
+
+        MctsBotPlayer expert = (MctsBotPlayer) bot;
+        long start = System.nanoTime();
+        BotAction action = expert.decideAction(game);
+        long elapsed = System.nanoTime() - start;
+
+        assertNotNull(action);
+        assertTrue(expert.getLastIterations() > 0);
+        // Marge large pour les machines de CI chargées
+        assertTrue(elapsed < expert.getTimeBudgetNanos() + 200_000_000L);
+    }
+}
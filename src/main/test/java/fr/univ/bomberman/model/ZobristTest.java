@@ -0,0 +1,97 @@
+// FILE: src/test/java/fr/univ/bomberman/model/ZobristTest.java
+package fr.univ.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String writeLevel() throws Exception {
+        String json = "{ \"width\":7, \"height\":5, \"autoFill\":false, \"grid\":["
+                + "[1,1,1,1,1,1,1],"
+                + "[1,0,0,2,0,0,1],"
+                + "[1,0,1,0,1,0,1],"
+                + "[1,0,0,0,0,0,1],"
+                + "[1,1,1,1,1,1,1]] }";
+        Path file = tempDir.resolve("level.json");
+        Files.write(file, json.getBytes());
+        return file.toString();
+    }
+
+    @Test
+    void incrementalHash_matchesRecomputationAfterMovesBombsAndExplosions() throws Exception {
+        Game game = new Game(writeLevel());
+        long initial = game.getStateHash();
+
+        game.movePlayer(0, 1, 0);
+        assertNotEquals(initial, game.getStateHash());
+        game.movePlayer(0, -1, 0);
+        assertEquals(initial, game.getStateHash(), "Revenir à la même position redonne le même hash");
+
+        game.movePlayer(0, 1, 0);
+        game.placeBombForPlayer(0);
+        game.movePlayer(0, -1, 0);
+        game.movePlayer(0, 0, 1);
+        assertTrue(game.verifyStateHash());
+
+        long beforeExplosion = game.getBoard().getZobristHash();
+        for (int i = 0; i < 3; i++) {
+            game.update();
+            assertTrue(game.verifyStateHash());
+        }
+        assertNotEquals(beforeExplosion, game.getBoard().getZobristHash(), "La brique détruite change le hash du plateau");
+    }
+
+    @Test
+    void identicalGames_haveIdenticalHashes() throws Exception {
+        String level = writeLevel();
+        Game first = new Game(level);
+        Game second = new Game(level);
+        assertEquals(first.getStateHash(), second.getStateHash());
+
+        first.movePlayer(1, -1, 0);
+        assertNotEquals(first.getStateHash(), second.getStateHash());
+        second.movePlayer(1, -1, 0);
+        assertEquals(first.getStateHash(), second.getStateHash());
+    }
+
+    @Test
+    void simulationHash_detectsTranspositions() throws Exception {
+        Game game = new Game(writeLevel());
+        SimulationState root = new SimulationState();
+        root.copyFrom(game);
+        assertEquals(game.getStateHash(), root.getHash());
+
+        // Mêmes déplacements joués dans un ordre différent : même état final, même hash
+        SimulationState a = new SimulationState();
+        a.copyFrom(root);
+        a.apply(0, BotAction.MOVE_DOWN);
+        a.apply(1, BotAction.MOVE_LEFT);
+        a.step();
+        a.apply(0, BotAction.MOVE_DOWN);
+        a.apply(1, BotAction.MOVE_LEFT);
+        a.step();
+
+        SimulationState b = new SimulationState();
+        b.copyFrom(root);
+        b.apply(1, BotAction.MOVE_LEFT);
+        b.apply(1, BotAction.MOVE_LEFT);
+        b.step();
+        b.apply(0, BotAction.MOVE_DOWN);
+        b.apply(0, BotAction.MOVE_DOWN);
+        b.step();
+
+        assertEquals(a.getHash(), b.getHash());
+
+        b.apply(0, BotAction.PLACE_BOMB);
+        assertNotEquals(a.getHash(), b.getHash());
+    }
+}
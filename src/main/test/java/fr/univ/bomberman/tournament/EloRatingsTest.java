@@ -0,0 +1,47 @@
+// FILE: src/test/java/fr/univ/bomberman/tournament/EloRatingsTest.java
+package fr.univ.bomberman.tournament;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EloRatingsTest {
+
+    @Test
+    void evenResults_giveBaseRatingForEveryone() {
+        EloRatings ratings = new EloRatings(3);
+        for (int game = 0; game < 10; game++) {
+            ratings.addResult(0, 1, game % 2 == 0 ? 0 : 1);
+            ratings.addResult(1, 2, game % 2 == 0 ? 1 : 2);
+            ratings.addResult(0, 2, -1);
+        }
+        ratings.compute();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(EloRatings.BASE_RATING, ratings.getRating(i), 0.5);
+            assertEquals(0.5, ratings.getScore(i), 1e-9);
+        }
+    }
+
+    @Test
+    void strongerConfiguration_isRankedHigherWithNarrowerIntervalWhenMoreGamesArePlayed() {
+        EloRatings few = new EloRatings(2);
+        EloRatings many = new EloRatings(2);
+        for (int game = 0; game < 400; game++) {
+            // 75 % de victoires pour la configuration 0 : environ +190 Elo d'écart
+            int winner = game % 4 == 3 ? 1 : 0;
+            many.addResult(0, 1, winner);
+            if (game < 40) {
+                few.addResult(0, 1, winner);
+            }
+        }
+        few.compute();
+        many.compute();
+
+        double gap = many.getRating(0) - many.getRating(1);
+        assertTrue(gap > 150 && gap < 230, "écart Elo inattendu : " + gap);
+        assertEquals(300, many.getWins(0));
+        assertEquals(100, many.getLosses(0));
+        assertTrue(many.getConfidence95(0) < few.getConfidence95(0));
+    }
+}
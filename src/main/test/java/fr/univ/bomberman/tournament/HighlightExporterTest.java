@@ -0,0 +1,62 @@
+// FILE: src/test/java/fr/univ/bomberman/tournament/HighlightExporterTest.java
+package fr.univ.bomberman.tournament;
+
+import fr.univ.bomberman.model.Game;
+import fr.univ.bomberman.model.MatchRecording;
+import fr.univ.bomberman.view.SoftwareFrameRenderer;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HighlightExporterTest {
+
+    private static final String LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+
+    @Test
+    void exportsEveryFrameInOrderAcrossChunks() throws Exception {
+        Game game = new Game(LEVEL);
+        MatchRecording recording = game.startRecording();
+        game.placeBombForPlayer(0);
+        for (int tick = 0; tick < 10; tick++) {
+            game.update();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        Path directory = Files.createTempDirectory("highlight");
+        try {
+            HighlightExporter exporter = new HighlightExporter(new SoftwareFrameRenderer("default", 8), pool);
+            exporter.setChunkFrames(4);
+
+            assertEquals(6, exporter.export(recording, 2, 7, directory.resolve("frames")));
+            for (int i = 0; i < 6; i++) {
+                assertTrue(Files.exists(directory.resolve("frames").resolve(String.format("frame-%05d.png", i))));
+            }
+            assertFalse(Files.exists(directory.resolve("frames").resolve("frame-00006.png")));
+
+            Path gif = directory.resolve("clip.gif");
+            assertEquals(11, exporter.export(recording, gif));
+            ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+            try (ImageInputStream input = ImageIO.createImageInputStream(gif.toFile())) {
+                reader.setInput(input);
+                assertEquals(11, reader.getNumImages(true));
+                assertEquals(recording.replay().get(0).getCols() * 8, reader.read(0).getWidth());
+            } finally {
+                reader.dispose();
+            }
+        } finally {
+            pool.shutdown();
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+// FILE: src/test/java/fr/univ/bomberman/utils/LatencyHistogramTest.java
+package fr.univ.bomberman.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentiles_stayWithinRelativePrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000); // 1 µs à 100 ms
+        }
+
+        assertEquals(100_000, histogram.getTotalCount());
+        assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000 * 0.016);
+        assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000 * 0.016);
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(histogram.getMax(), histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void smallValuesAreExactAndResetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);
+        assertEquals(0, histogram.getValueAtPercentile(10));
+        assertEquals(7, histogram.getValueAtPercentile(100));
+        assertEquals(10.0 / 3, histogram.getMean(), 1e-9);
+
+        histogram.reset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.lang.reflect.Field;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -103,5 +104,47 @@ class ProfileManagerTest {
         assertTrue(updated.getLastPlayDate().isAfter(updated.getCreationDate()));
     }
 
+    @Test
+    void index_listsSummariesAfterRestart_andIsRebuiltWhenMissing() throws Exception {
+        PlayerProfile a = new PlayerProfile("Alice Martin");
+        a.setTotalGamesPlayed(4);
+        a.setTotalWins(3);
+        mgr.saveProfile(a);
+        mgr.saveProfile(new PlayerProfile("Bob"));
+        mgr.deleteProfile("Bob");
+        assertTrue(Files.exists(tempDir.resolve("profiles.index")));
+
+        for (int restart = 0; restart < 2; restart++) {
+            setup();
+            List<ProfileManager.ProfileSummary> summaries = mgr.listProfileSummaries();
+            assertEquals(1, summaries.size());
+            ProfileManager.ProfileSummary summary = summaries.get(0);
+            assertEquals("alice_martin", summary.getName());
+            assertEquals("Alice Martin", summary.getPlayerName());
+            assertEquals(4, summary.getGamesPlayed());
+            assertEquals(75.0, summary.getWinRatio(), 1e-9);
+            assertEquals(3, mgr.getGlobalStats().getTotalWins());
+            assertFalse(mgr.profileExists("Bob"));
+
+            // Second passage : sans index, il est reconstruit depuis les fichiers de profil
+            Files.delete(tempDir.resolve("profiles.index"));
+        }
+    }
+
+    @Test
+    void loadProfile_returnsIndependentCopiesOfTheCachedProfile() throws BombermanException {
+        PlayerProfile p = new PlayerProfile("Cached");
+        p.setTotalWins(2);
+        mgr.saveProfile(p);
+
+        PlayerProfile first = mgr.loadProfile("Cached");
+        first.setTotalWins(99);
+        assertEquals(2, mgr.loadProfile("Cached").getTotalWins());
+
+        mgr.saveProfile(first);
+        assertEquals(99, mgr.loadProfile("Cached").getTotalWins());
+        assertEquals(99, mgr.listProfileSummaries().get(0).getWins());
+    }
+
 
 }
@@ -0,0 +1,73 @@
+// FILE: src/test/java/fr/univ/bomberman/view/CameraTest.java
+package fr.univ.bomberman.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CameraTest {
+
+    private static final int CELL = 40;
+
+    @Test
+    void boardThatFitsTheScreenIsShownAsIs() {
+        Camera camera = new Camera(CELL);
+        camera.setFocus(0, 1, 1);
+        camera.update(15 * CELL, 13 * CELL, 15, 13);
+
+        assertTrue(camera.isIdentity());
+        assertEquals(15 * 13, camera.getViewport(0).getVisibleCellCount());
+
+        camera.zoomBy(2);
+        camera.update(15 * CELL, 13 * CELL, 15, 13);
+        assertFalse(camera.isIdentity());
+    }
+
+    @Test
+    void visibleCellsDependOnScreenNotBoardSize() {
+        Camera camera = new Camera(CELL);
+        int[] sizes = {50, 200, 1000};
+        for (int size : sizes) {
+            camera.setFocus(0, size / 2.0, size / 2.0);
+            camera.update(10 * CELL, 8 * CELL, size, size);
+            Camera.Viewport view = camera.getViewport(0);
+            // Une case partiellement visible de plus par axe au maximum
+            assertTrue(view.getVisibleCellCount() <= 11 * 9, "plateau " + size);
+            assertTrue(view.isVisible(size / 2, size / 2));
+            assertFalse(view.isVisible(0, 0));
+        }
+
+        // Au bord du plateau, la vue reste dans le monde
+        camera.setFocus(0, 0, 0);
+        camera.update(10 * CELL, 8 * CELL, 200, 200);
+        assertEquals(0, camera.getViewport(0).getOriginX(), 1e-9);
+        assertEquals(0, camera.getViewport(0).getMinCol());
+        assertEquals(9, camera.getViewport(0).getMaxCol());
+    }
+
+    @Test
+    void splitScreenFollowsTwoPlayersAndFreeViewPans() {
+        Camera camera = new Camera(CELL);
+        camera.setFocus(0, 5, 5);
+        camera.setFocus(1, 90, 90);
+        camera.setMode(Camera.Mode.SPLIT);
+        camera.update(20 * CELL + Camera.SPLIT_GAP, 10 * CELL, 100, 100);
+
+        assertEquals(2, camera.getViewportCount());
+        assertTrue(camera.getViewport(0).isVisible(5, 5));
+        assertTrue(camera.getViewport(1).isVisible(90, 90));
+        assertFalse(camera.getViewport(0).isVisible(90, 90));
+
+        camera.setMode(Camera.Mode.FREE);
+        camera.update(10 * CELL, 10 * CELL, 100, 100);
+        assertTrue(camera.getViewport(0).isVisible(5, 5));
+        camera.pan(40 * CELL, 0);
+        camera.update(10 * CELL, 10 * CELL, 100, 100);
+        assertTrue(camera.getViewport(0).isVisible(45, 5));
+
+        // Impossible de sortir du plateau
+        camera.pan(-1000 * CELL, 0);
+        camera.update(10 * CELL, 10 * CELL, 100, 100);
+        assertEquals(0, camera.getViewport(0).getMinCol());
+    }
+}
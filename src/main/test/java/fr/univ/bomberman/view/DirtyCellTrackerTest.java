@@ -0,0 +1,63 @@
+// FILE: src/test/java/fr/univ/bomberman/view/DirtyCellTrackerTest.java
+package fr.univ.bomberman.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirtyCellTrackerTest {
+
+    @Test
+    void onlyChangedCellsAreDirtyAfterFirstFrame() {
+        DirtyCellTracker tracker = new DirtyCellTracker();
+        int[] board = new int[20 * 10];
+
+        tracker.beginFrame(20, 10, board);
+        assertEquals(200, tracker.finishMarking(), "La première image est complète");
+        tracker.endFrame();
+
+        tracker.beginFrame(20, 10, board);
+        assertEquals(0, tracker.finishMarking(), "Rien n'a changé");
+        tracker.endFrame();
+
+        board[3 * 20 + 4] = 2;
+        tracker.beginFrame(20, 10, board);
+        tracker.addKeyBits(7, 7, 1 << 4);
+        assertEquals(2, tracker.finishMarking());
+        assertTrue(tracker.isDirty(4, 3));
+        assertTrue(tracker.isDirty(7, 7));
+        assertFalse(tracker.isDirty(5, 3));
+        tracker.endFrame();
+
+        tracker.invalidateAll();
+        tracker.beginFrame(20, 10, board);
+        assertEquals(200, tracker.finishMarking());
+    }
+
+    @Test
+    void overlayIsRedrawnOnceMoreAfterItMoves() {
+        DirtyCellTracker tracker = new DirtyCellTracker();
+        int[] board = new int[8 * 8];
+        tracker.beginFrame(8, 8, board);
+        tracker.finishMarking();
+        tracker.endFrame();
+
+        tracker.beginFrame(8, 8, board);
+        tracker.markOverlay(-1, -1, 1, 1);
+        assertEquals(4, tracker.finishMarking(), "Le rectangle est borné au plateau");
+        tracker.endFrame();
+
+        // La surcouche se déplace : l'ancienne zone est effacée, la nouvelle dessinée
+        tracker.beginFrame(8, 8, board);
+        tracker.markOverlay(5, 5, 5, 5);
+        assertEquals(5, tracker.finishMarking());
+        assertTrue(tracker.isDirty(0, 0));
+        assertTrue(tracker.isDirty(5, 5));
+        tracker.endFrame();
+
+        tracker.beginFrame(8, 8, board);
+        assertEquals(1, tracker.finishMarking());
+        assertFalse(tracker.isDirty(0, 0));
+        assertTrue(tracker.isDirty(5, 5));
+    }
+}
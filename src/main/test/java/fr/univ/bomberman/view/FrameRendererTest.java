@@ -0,0 +1,67 @@
+// FILE: src/test/java/fr/univ/bomberman/view/FrameRendererTest.java
+package fr.univ.bomberman.view;
+
+import fr.univ.bomberman.model.BotAction;
+import fr.univ.bomberman.model.Game;
+import fr.univ.bomberman.model.SimulationState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameRendererTest {
+
+    private static final String LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+
+    private static List<SimulationState> replay(int ticks) throws Exception {
+        SimulationState state = new SimulationState();
+        state.copyFrom(new Game(LEVEL));
+        List<SimulationState> frames = new ArrayList<>();
+        for (int t = 0; t < ticks; t++) {
+            SimulationState frame = new SimulationState();
+            frame.copyFrom(state);
+            frames.add(frame);
+            state.apply(0, t == 0 ? BotAction.PLACE_BOMB : BotAction.NONE);
+            state.step();
+        }
+        return frames;
+    }
+
+    @Test
+    void asciiBoardShowsWallsPlayersAndBombTimer() throws Exception {
+        List<SimulationState> frames = replay(3);
+        AsciiFrameRenderer renderer = new AsciiFrameRenderer();
+        String first = renderer.render(frames.get(0));
+        SimulationState start = frames.get(0);
+
+        String[] lines = first.split("\n");
+        assertEquals(start.getRows(), lines.length);
+        assertEquals(start.getCols(), lines[0].length());
+        assertEquals(AsciiFrameRenderer.WALL, lines[0].charAt(0));
+        assertEquals('A', lines[start.getPlayerY(0)].charAt(start.getPlayerX(0)));
+
+        String second = renderer.render(frames.get(1));
+        assertEquals(Arrays.asList(first, second, renderer.render(frames.get(2))), renderer.renderAll(frames));
+    }
+
+    @Test
+    void parallelBatchMatchesSequentialPixels() throws Exception {
+        List<SimulationState> frames = replay(6);
+        SoftwareFrameRenderer renderer = new SoftwareFrameRenderer("default", 8);
+        List<FrameBuffer> batch = renderer.renderAll(frames);
+
+        assertEquals(frames.size(), batch.size());
+        for (int i = 0; i < frames.size(); i++) {
+            FrameBuffer expected = renderer.render(frames.get(i));
+            assertEquals(frames.get(i).getCols() * 8, batch.get(i).getWidth());
+            assertArrayEquals(expected.getPixels(), batch.get(i).getPixels(), "image " + i);
+        }
+        // Rien de transparent : le sol couvre tout le plateau
+        for (int pixel : batch.get(0).getPixels()) {
+            assertEquals(0xFF, pixel >>> 24);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+// FILE: src/test/java/fr/univ/bomberman/view/HudModelTest.java
+package fr.univ.bomberman.view;
+
+import fr.univ.bomberman.model.Game;
+import fr.univ.bomberman.model.GameMode;
+import fr.univ.bomberman.model.SimulatedClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HudModelTest {
+
+    private static final String LEVEL = "src/main/resources/fr/univ/bomberman/level/default/level.json";
+
+    @Test
+    void textIsPublishedOnlyWhenDisplayedStateChanges() throws Exception {
+        Game game = new Game(LEVEL);
+        SimulatedClock clock = new SimulatedClock();
+        game.setClock(clock);
+        clock.advanceMillis(5000);
+
+        List<String> published = new ArrayList<>();
+        HudModel hud = new HudModel(GameMode.REAL_TIME);
+        hud.setListener(published::add);
+
+        assertTrue(hud.update(game));
+        for (int frame = 0; frame < 60; frame++) {
+            assertFalse(hud.update(game));
+        }
+        assertEquals(1, published.size());
+        assertTrue(published.get(0).contains("💣:0"));
+
+        // Pose d'une bombe : compteur et délai changent une seule fois
+        game.placeBombForPlayer(0);
+        assertTrue(hud.update(game));
+        assertFalse(hud.update(game));
+        assertTrue(hud.getText().contains("💣:1"));
+        assertTrue(hud.getText().contains("⏱️2s"));
+
+        // Le décompte ne republie qu'au passage de la seconde
+        clock.advanceMillis(500);
+        assertFalse(hud.update(game));
+        clock.advanceMillis(600);
+        assertTrue(hud.update(game));
+        assertTrue(hud.getText().contains("⏱️1s"));
+        assertEquals(3, published.size());
+    }
+}
@@ -0,0 +1,64 @@
+// FILE: src/test/java/fr/univ/bomberman/view/ParticleSystemTest.java
+package fr.univ.bomberman.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticleSystemTest {
+
+    @Test
+    void particlesMoveAgeAndDisappear() {
+        ParticleSystem particles = new ParticleSystem();
+        particles.emitDebris(3, 4);
+        int emitted = particles.getCount();
+        assertTrue(emitted > 0);
+        float startY = particles.getY(0);
+
+        particles.update(0.1f);
+        assertEquals(emitted, particles.getCount());
+        assertNotEquals(startY, particles.getY(0));
+        assertTrue(particles.getAlpha(0) < 1);
+
+        for (int frame = 0; frame < 20; frame++) {
+            particles.update(0.1f);
+        }
+        assertEquals(0, particles.getCount());
+    }
+
+    @Test
+    void chainExplosionsStayWithinBudgetAndCapacity() {
+        ParticleSystem particles = new ParticleSystem(256, 64);
+
+        // Une réaction en chaîne : 100 cases dans la même image
+        for (int cell = 0; cell < 100; cell++) {
+            particles.emitExplosion(cell % 10, cell / 10);
+        }
+        assertEquals(64, particles.getCount(), "budget d'une image");
+        assertTrue(particles.getDroppedCount() > 0);
+
+        // Plusieurs images de suite : le réservoir se remplit sans déborder
+        for (int frame = 0; frame < 10; frame++) {
+            particles.update(0.001f);
+            for (int cell = 0; cell < 100; cell++) {
+                particles.emitExplosion(cell % 10, cell / 10);
+            }
+            assertTrue(particles.getCount() <= particles.getCapacity());
+        }
+
+        // Réservoir presque plein : un effet isolé reçoit moins de particules, mais au moins une
+        ParticleSystem calm = new ParticleSystem(256, 256);
+        calm.emitExplosion(0, 0);
+        int full = calm.getCount();
+        while (calm.getCount() < 200) {
+            calm.update(0.001f);
+            calm.emitDebris(1, 1);
+        }
+        int before = calm.getCount();
+        calm.update(0.001f);
+        int alive = calm.getCount();
+        calm.emitExplosion(5, 5);
+        int added = calm.getCount() - alive;
+        assertTrue(added >= 1 && added < full, "ajoutées " + added + " sur " + full + " (avant " + before + ")");
+    }
+}